@@ -3,6 +3,8 @@ package com.fmc.starterApp.configuration;
 import com.fmc.starterApp.configuration.security.CustomAccessDeniedHandler;
 import com.fmc.starterApp.configuration.security.JwtAuthConverter;
 import com.fmc.starterApp.configuration.security.JwtAuthenticationEntryPoint;
+import com.fmc.starterApp.configuration.security.StreamingBearerTokenResolver;
+import com.fmc.starterApp.controllers.CarverMatrixController;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +52,8 @@ public class SecurityConfiguration {
         configuration.setAllowCredentials(true);
 //        configuration.setAllowedHeaders(List.of("Uploader-cookie", "*"));
 //        configuration.setExposedHeaders(List.of("Uploader-cookie", "*"));
+        // Cross-origin pages can only read the search cursor if it is exposed.
+        configuration.setExposedHeaders(Collections.singletonList(CarverMatrixController.NEXT_CURSOR_HEADER));
         configuration.setMaxAge(3600L);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -81,6 +85,7 @@ public class SecurityConfiguration {
                 );
 
         http.oauth2ResourceServer(resourceConfig -> resourceConfig
+                .bearerTokenResolver(new StreamingBearerTokenResolver())
                 .jwt(jwtConfigurer -> jwtConfigurer.jwtAuthenticationConverter(jwtAuthConverter)));
 
         return http.build();
@@ -1,21 +1,39 @@
 package com.fmc.starterApp.configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fmc.starterApp.repositories.CarverItemRepository;
 import com.fmc.starterApp.repositories.CarverMatrixRepository;
+import com.fmc.starterApp.repositories.CarverScoreAggregateRepository;
+import com.fmc.starterApp.repositories.CarverScoreRepository;
+import com.fmc.starterApp.repositories.IdempotencyRecordRepository;
 import com.fmc.starterApp.repositories.PostgresRepository;
 import com.fmc.starterApp.repositories.User2Repository;
 import com.fmc.starterApp.repositories.UserLogsRepository;
 import com.fmc.starterApp.repositories.UsersRepository;
 import com.fmc.starterApp.services.AdminService;
 import com.fmc.starterApp.services.CarverMatrixService;
+import com.fmc.starterApp.services.CollaborationHub;
+import com.fmc.starterApp.services.IdempotencyService;
 import com.fmc.starterApp.services.PostGresExampleService;
 import com.fmc.starterApp.services.User2Service;
+import com.fmc.starterApp.repositories.MatrixImageRemovalRepository;
 import com.fmc.starterApp.repositories.MatrixImageRepository;
 import com.fmc.starterApp.services.ImageService;
+import com.fmc.starterApp.services.MatrixEventBroker;
+import com.fmc.starterApp.services.MatrixVersionService;
+import com.fmc.starterApp.services.MatrixVersionTracker;
+import com.fmc.starterApp.services.MatrixViewCache;
+import com.fmc.starterApp.services.PortfolioService;
+import com.fmc.starterApp.services.ScoreWriteBuffer;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
@@ -26,8 +44,72 @@ public class ServiceConfiguration {
         return new User2Service(user2Repository); }
 
     @Bean
-    CarverMatrixService carverMatrixService(final CarverMatrixRepository carverMatrixRepository, final User2Repository user2Repository, final CarverItemRepository carverItemRepository, final ImageService imageService, final MatrixImageRepository matrixImageRepository) {
-        return new CarverMatrixService(carverMatrixRepository, user2Repository, carverItemRepository, imageService, matrixImageRepository); }
+    CarverMatrixService carverMatrixService(final CarverMatrixRepository carverMatrixRepository, final User2Repository user2Repository, final CarverItemRepository carverItemRepository, final ImageService imageService, final MatrixImageRepository matrixImageRepository, final MatrixViewCache matrixViewCache, final ObjectMapper objectMapper, final CarverScoreRepository carverScoreRepository, final TransactionTemplate transactionTemplate, final MatrixEventBroker matrixEventBroker, final MatrixImageRemovalRepository matrixImageRemovalRepository, final CarverScoreAggregateRepository carverScoreAggregateRepository, final MatrixVersionTracker matrixVersionTracker, final MatrixVersionService matrixVersionService) {
+        return new CarverMatrixService(carverMatrixRepository, user2Repository, carverItemRepository, imageService, matrixImageRepository, matrixViewCache, objectMapper, carverScoreRepository, transactionTemplate, matrixEventBroker, matrixImageRemovalRepository, carverScoreAggregateRepository, matrixVersionTracker, matrixVersionService); }
+
+    @Bean
+    MatrixViewCache matrixViewCache(@Value("${carver.matrix-view-cache.max-entries:500}") final int maxEntries,
+                                    @Value("${carver.matrix-view-cache.max-weight-bytes:33554432}") final long maxWeightBytes) {
+        return new MatrixViewCache(maxEntries, maxWeightBytes);
+    }
+
+    @Bean
+    MatrixVersionTracker matrixVersionTracker() {
+        return new MatrixVersionTracker();
+    }
+
+    @Bean
+    MatrixVersionService matrixVersionService(final CarverMatrixRepository carverMatrixRepository,
+                                              final MatrixVersionTracker matrixVersionTracker, final MatrixViewCache matrixViewCache) {
+        return new MatrixVersionService(carverMatrixRepository, matrixVersionTracker, matrixViewCache);
+    }
+
+    @Bean
+    MatrixEventBroker matrixEventBroker(final ObjectMapper objectMapper,
+                                        @Value("${carver.events.max-queued-events:256}") final int maxQueuedEvents,
+                                        @Value("${carver.events.timeout-ms:1800000}") final long timeoutMillis,
+                                        @Value("${carver.events.heartbeat-ms:15000}") final long heartbeatMillis,
+                                        @Value("${carver.events.write-timeout-ms:5000}") final long writeTimeoutMillis,
+                                        @Value("${carver.events.sender-threads:4}") final int senderThreads) {
+        return new MatrixEventBroker(objectMapper, maxQueuedEvents, timeoutMillis, heartbeatMillis, writeTimeoutMillis, senderThreads);
+    }
+
+    @Bean
+    ScoreWriteBuffer scoreWriteBuffer(final CarverMatrixService carverMatrixService,
+                                      @Value("${carver.score-buffer.enabled:false}") final boolean enabled,
+                                      @Value("${carver.score-buffer.flush-interval-ms:250}") final long flushIntervalMillis,
+                                      @Value("${carver.score-buffer.max-pending-items:200}") final int maxPendingItems,
+                                      @Value("${carver.score-buffer.max-write-attempts:10}") final int maxWriteAttempts,
+                                      @Value("${carver.score-buffer.log-path:}") final String logPath) {
+        return new ScoreWriteBuffer(carverMatrixService::writeScorePatches, enabled, flushIntervalMillis, maxPendingItems,
+                maxWriteAttempts, logPath.isEmpty() ? null : Path.of(logPath));
+    }
+
+    @Bean
+    IdempotencyService idempotencyService(final IdempotencyRecordRepository idempotencyRecordRepository, final ObjectMapper objectMapper,
+                                          @Value("${carver.idempotency.max-cached-entries:1000}") final int maxCachedEntries,
+                                          @Value("${carver.idempotency.ttl-hours:24}") final long ttlHours,
+                                          @Value("${carver.idempotency.max-rows:100000}") final int maxRows) {
+        return new IdempotencyService(idempotencyRecordRepository, objectMapper, maxCachedEntries, Duration.ofHours(ttlHours), maxRows);
+    }
+
+    @Bean
+    CollaborationHub collaborationHub(final CarverMatrixService carverMatrixService, final ScoreWriteBuffer scoreWriteBuffer,
+                                      final ObjectMapper objectMapper,
+                                      @Value("${carver.collaboration.tick-ms:100}") final long tickMillis) {
+        return new CollaborationHub(carverMatrixService, scoreWriteBuffer, objectMapper, tickMillis);
+    }
+
+    // Each scoring task holds a pooled connection; keep the parallelism well below the Hikari maximum-pool-size (5)
+    // so portfolio requests cannot starve the rest of the application.
+    @Bean
+    PortfolioService portfolioService(final CarverMatrixRepository carverMatrixRepository, final CarverItemRepository carverItemRepository,
+                                      final TransactionTemplate transactionTemplate,
+                                      @Value("${carver.portfolio.parallelism:2}") final int parallelism,
+                                      @Value("${carver.portfolio.chunk-size:500}") final int chunkSize,
+                                      @Value("${carver.portfolio.top-items:5}") final int topItems) {
+        return new PortfolioService(carverMatrixRepository, carverItemRepository, transactionTemplate, parallelism, chunkSize, topItems);
+    }
 
     @Bean
     AdminService adminService(final UsersRepository usersRepository, final UserLogsRepository userLogsRepository) {
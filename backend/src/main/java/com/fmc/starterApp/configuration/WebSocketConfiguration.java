@@ -0,0 +1,41 @@
+package com.fmc.starterApp.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.fmc.starterApp.controllers.CollaborationWebSocketHandler;
+import com.fmc.starterApp.services.CarverMatrixService;
+import com.fmc.starterApp.services.CollaborationHub;
+
+/**
+ * Registers the collaboration WebSocket endpoint of matrices.
+ *
+ * <p>Handshakes are accepted from the origins in {@code carver.collaboration.allowed-origins} only, so another site
+ * cannot open a session with a visitor's credentials. The handshake is authenticated by the JWT security chain,
+ * which reads the token of this endpoint from the {@code access_token} query parameter as well as the header
+ * (see {@link com.fmc.starterApp.configuration.security.StreamingBearerTokenResolver}).
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfiguration implements WebSocketConfigurer {
+
+    private final CollaborationWebSocketHandler collaborationWebSocketHandler;
+    private final String[] allowedOrigins;
+
+    public WebSocketConfiguration(final CollaborationHub collaborationHub, final CarverMatrixService carverMatrixService,
+                                  @Value("${carver.collaboration.send-time-limit-ms:5000}") final int sendTimeLimitMillis,
+                                  @Value("${carver.collaboration.send-buffer-size-limit:524288}") final int sendBufferSizeLimit,
+                                  @Value("${carver.collaboration.allowed-origins:http://localhost:3000}") final String[] allowedOrigins) {
+        this.collaborationWebSocketHandler = new CollaborationWebSocketHandler(collaborationHub, carverMatrixService,
+                sendTimeLimitMillis, sendBufferSizeLimit);
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(collaborationWebSocketHandler, "/api/carvermatrices/*/ws").setAllowedOrigins(allowedOrigins);
+    }
+}
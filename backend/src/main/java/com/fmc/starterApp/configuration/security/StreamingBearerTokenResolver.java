@@ -0,0 +1,47 @@
+package com.fmc.starterApp.configuration.security;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * Resolves the bearer token of a request from the Authorization header, and for the streaming endpoints also from
+ * an {@code access_token} query parameter.
+ *
+ * <p>Browsers cannot set headers on a WebSocket handshake or an {@code EventSource} request, so the token of those
+ * requests travels in the URL.
+ * The parameter is only read on GET requests to the paths listed in {@link #QUERY_PARAMETER_PATHS}; every other
+ * request must use the header, so tokens do not end up in URLs of regular API calls.
+ */
+public class StreamingBearerTokenResolver implements BearerTokenResolver {
+
+    /** The endpoints that accept the token as a query parameter. */
+    public static final List<String> QUERY_PARAMETER_PATHS = List.of(
+            "/api/carvermatrices/*/ws",
+            "/api/carvermatrices/*/events");
+
+    private final DefaultBearerTokenResolver headerResolver = new DefaultBearerTokenResolver();
+    private final DefaultBearerTokenResolver queryParameterResolver = new DefaultBearerTokenResolver();
+    private final RequestMatcher queryParameterRequests;
+
+    public StreamingBearerTokenResolver() {
+        queryParameterResolver.setAllowUriQueryParameter(true);
+        queryParameterRequests = new OrRequestMatcher(QUERY_PARAMETER_PATHS.stream()
+                .map(path -> (RequestMatcher) new AntPathRequestMatcher(path, HttpMethod.GET.name()))
+                .toList());
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        if (queryParameterRequests.matches(request)) {
+            return queryParameterResolver.resolve(request);
+        }
+        return headerResolver.resolve(request);
+    }
+}
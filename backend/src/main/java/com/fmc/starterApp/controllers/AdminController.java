@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,6 +12,9 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.fmc.starterApp.models.entity.AppUser;
 import com.fmc.starterApp.services.AdminService;
+import com.fmc.starterApp.services.CarverMatrixService;
+import com.fmc.starterApp.services.MatrixViewCache;
+import com.fmc.starterApp.services.ScoreWriteBuffer;
 
 import lombok.AllArgsConstructor;
 
@@ -26,6 +30,10 @@ import lombok.AllArgsConstructor;
  * <ul>
  *   <li>{@link #usersAdminData()} - Retrieves administrative information including a list of users and the total user count.</li>
  *   <li>{@link #addKeyToRoles(AppUser)} - Inserts a new user and associates relevant roles, returning the created user entity.</li>
+ *   <li>{@link #matrixViewCacheStats()} - Retrieves the hit, miss and eviction counters of the matrix view cache.</li>
+ *   <li>{@link #scoreWriteBufferStats()} - Retrieves the counters of the score write buffer.</li>
+ *   <li>{@link #checkScoreAggregates(Long)} - Compares the running score aggregates of a matrix with its score rows.</li>
+ *   <li>{@link #rebuildScoreAggregates(Long)} - Recomputes the running score aggregates of a matrix.</li>
  * </ul>
  */
 @RestController
@@ -36,6 +44,15 @@ public class AdminController {
     @Autowired
     AdminService adminService;
 
+    @Autowired
+    MatrixViewCache matrixViewCache;
+
+    @Autowired
+    ScoreWriteBuffer scoreWriteBuffer;
+
+    @Autowired
+    CarverMatrixService carverMatrixService;
+
     /**
      * Retrieves administrative data for users.
      *
@@ -80,4 +97,70 @@ public class AdminController {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
+
+    /**
+     * Retrieves the counters of the matrix view cache.
+     *
+     * <p>This endpoint handles GET requests to "/api/admin/cache/matrix-views" and returns a snapshot of the
+     * {@link MatrixViewCache} hit, miss and eviction counters along with its current and maximum size.
+     *
+     * @return a {@link ResponseEntity} containing a {@link com.fmc.starterApp.models.dto.MatrixViewCacheStatsDTO}
+     *         and HTTP status OK.
+     */
+    @GetMapping("/cache/matrix-views")
+    public ResponseEntity<?> matrixViewCacheStats() {
+        return new ResponseEntity<>(matrixViewCache.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the counters of the score write buffer.
+     *
+     * <p>This endpoint handles GET requests to "/api/admin/buffer/score-writes" and returns a snapshot of the
+     * {@link ScoreWriteBuffer} submission and batch counters along with the scores still pending.
+     *
+     * @return a {@link ResponseEntity} containing a {@link com.fmc.starterApp.models.dto.ScoreWriteBufferStatsDTO}
+     *         and HTTP status OK.
+     */
+    @GetMapping("/buffer/score-writes")
+    public ResponseEntity<?> scoreWriteBufferStats() {
+        return new ResponseEntity<>(scoreWriteBuffer.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Checks the running score aggregates of a matrix against its score rows.
+     *
+     * <p>This endpoint handles GET requests to "/api/admin/score-aggregates/{matrixId}/check" and returns the
+     * item and category pairs whose aggregate differs from the sums and counts of the submitted scores.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return a {@link ResponseEntity} containing a {@link com.fmc.starterApp.models.dto.ScoreAggregateCheckDTO}
+     *         and HTTP status OK, or NOT_FOUND if the matrix does not exist.
+     */
+    @GetMapping("/score-aggregates/{matrixId}/check")
+    public ResponseEntity<?> checkScoreAggregates(@PathVariable Long matrixId) {
+        try {
+            return new ResponseEntity<>(carverMatrixService.checkScoreAggregates(matrixId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * Recomputes the running score aggregates of a matrix from its score rows.
+     *
+     * <p>This endpoint handles POST requests to "/api/admin/score-aggregates/{matrixId}/rebuild" and returns the
+     * number of aggregates written.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return a {@link ResponseEntity} containing the number of aggregates and HTTP status OK, or NOT_FOUND if
+     *         the matrix does not exist.
+     */
+    @PostMapping("/score-aggregates/{matrixId}/rebuild")
+    public ResponseEntity<?> rebuildScoreAggregates(@PathVariable Long matrixId) {
+        try {
+            return new ResponseEntity<>(carverMatrixService.rebuildScoreAggregates(matrixId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
 }
@@ -4,7 +4,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -14,13 +17,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.fmc.starterApp.models.entity.CarverItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixPageDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryPageDTO;
+import com.fmc.starterApp.models.dto.MatrixViewDTO;
 import com.fmc.starterApp.models.entity.CarverMatrix;
 import com.fmc.starterApp.services.CarverMatrixService;
+import com.fmc.starterApp.services.IdempotencyService;
+import com.fmc.starterApp.services.MatrixEventBroker;
+import com.fmc.starterApp.services.MatrixFieldSelection;
+import com.fmc.starterApp.services.PortfolioService;
+import com.fmc.starterApp.services.ScoreWriteBuffer;
 
 import lombok.AllArgsConstructor;
 
@@ -31,15 +46,33 @@ import lombok.AllArgsConstructor;
  * as well as update CarverItem entities. It delegates business logic to the {@link CarverMatrixService}
  * and handles errors by returning appropriate HTTP status codes and messages.
  *
+ * <p>The read endpoints accept sparse fieldsets: "fields" lists matrix properties, "include" lists associations
+ * ("items", "scores", "images") and "rater" restricts scores to one rater ("me" for the caller). Without these
+ * parameters the complete matrix is returned.
+ *
+ * <p>The write endpoints accept an {@value IdempotencyService#IDEMPOTENCY_KEY_HEADER} header; a retried request
+ * with the same key replays the stored response of the first execution through {@link IdempotencyService}
+ * instead of writing again.
+ *
  * <p><strong>Key Endpoints:</strong>
  * <ul>
- *   <li>{@link #getCarverMatrixByCarverId(Long)} - Retrieves a CarverMatrix by its unique ID.</li>
- *   <li>{@link #getMatricesByHost(Long)} - Retrieves all matrices where a given user is a host.</li>
- *   <li>{@link #getMatricesByParticipant(Long)} - Retrieves all matrices where a given user is a participant.</li>
- *   <li>{@link #createCarverMatrix(CarverMatrix, Long)} - Creates a new CarverMatrix for a specified user.</li>
- *   <li>{@link #updateCarverMatrix(Long, CarverMatrix)} - Updates an existing CarverMatrix.</li>
+ *   <li>{@link #getCarverMatrixByCarverId(Long, String, String, String, String, Jwt)} - Retrieves a CarverMatrix by its unique ID, honoring If-None-Match.</li>
+ *   <li>{@link #getCarverMatricesByIds(List, String, String, String, Jwt)} - Retrieves several matrices by ID, reporting unknown IDs per entry.</li>
+ *   <li>{@link #getMatricesByHost(Long, String, String, String, Jwt)} - Retrieves all matrices where a given user is a host.</li>
+ *   <li>{@link #getMatricesByParticipant(Long, String, String, String, Jwt)} - Retrieves all matrices where a given user is a participant.</li>
+ *   <li>{@link #createCarverMatrix(CarverMatrix, Long, String, Jwt)} - Creates a new CarverMatrix for a specified user.</li>
+ *   <li>{@link #updateCarverMatrix(Long, CarverMatrix, String, Jwt)} - Updates an existing CarverMatrix.</li>
  *   <li>{@link #searchCarverMatrices(Map, Jwt)} - Searches for matrices based on provided parameters and the authenticated user's email.</li>
- *   <li>{@link #updateCarverItems(Long, List, Jwt)} - Updates CarverItem entities for a given matrix based on provided update maps.</li>
+ *   <li>{@link #getMatrixSummaries(Map, Jwt)} - Retrieves lightweight list-view summaries of the authenticated user's matrices.</li>
+ *   <li>{@link #getPortfolio(Jwt)} - Retrieves the top items and scoring completion of all of the authenticated user's matrices.</li>
+ *   <li>{@link #getScoreStats(Long)} - Retrieves score averages and rater completion counts of a matrix.</li>
+ *   <li>{@link #getMatrixScores(Long)} - Retrieves the category means and weighted totals of the items of a matrix.</li>
+ *   <li>{@link #getMatrixRanking(Long, Integer)} - Retrieves the top k items of a matrix by weighted total.</li>
+ *   <li>{@link #getRaterAgreement(Long)} - Retrieves the rater agreement statistics of a matrix.</li>
+ *   <li>{@link #getMatrixChanges(Long, long)} - Retrieves only the parts of a matrix changed after a given version.</li>
+ *   <li>{@link #streamMatrixEvents(Long)} - Streams score deltas and matrix changes as Server-Sent Events.</li>
+ *   <li>{@link #updateCarverItems(Long, List, String, Jwt)} - Updates CarverItem entities for a given matrix based on provided update maps.</li>
+ *   <li>{@link #deleteCarverMatrix(Long, String, Jwt)} - Deletes a CarverMatrix.</li>
  * </ul>
  */
 @RestController
@@ -47,26 +80,172 @@ import lombok.AllArgsConstructor;
 @RequestMapping("/api/carvermatrices")
 public class CarverMatrixController {
 
+    /**
+     * Response header carrying the cursor of the next search page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     CarverMatrixService carverMatrixService;
 
+    @Autowired
+    ScoreWriteBuffer scoreWriteBuffer;
+
+    @Autowired
+    IdempotencyService idempotencyService;
+
+    @Autowired
+    MatrixEventBroker matrixEventBroker;
+
+    @Autowired
+    PortfolioService portfolioService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     /**
      * Retrieves a CarverMatrix by its unique matrix ID.
      *
      * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}".
-     * It delegates to {@link CarverMatrixService#getMatrixById(Long)} to retrieve the matrix.
-     * On success, it returns the matrix with an HTTP status of OK.
+     * It delegates to {@link CarverMatrixService#getMatrixView(Long)}, which serves the serialized matrix
+     * from the matrix view cache and only assembles it from the database on a miss.
+     * On success, it returns the matrix JSON with an HTTP status of OK and a weak ETag derived from the matrix version.
+     * If the request carries an If-None-Match header matching the current version, only the version is read
+     * and a NOT_MODIFIED status is returned without loading items or serializing the matrix.
+     * When "fields", "include" or "rater" is given, only the requested parts of the matrix are loaded and returned
+     * through {@link CarverMatrixService#getSparseMatrix(Long, MatrixFieldSelection)}; such responses carry no ETag.
      * In case of failure, it returns an INTERNAL_SERVER_ERROR status with an error message.
      *
-     * @param matrixId the unique identifier of the CarverMatrix to retrieve.
-     * @return a {@link ResponseEntity} containing the CarverMatrix and HTTP status OK if found;
+     * @param matrixId    the unique identifier of the CarverMatrix to retrieve.
+     * @param ifNoneMatch the entity tags the client already holds, if any.
+     * @param fields      comma-separated matrix properties to return, if any.
+     * @param include     comma-separated associations to return ("items", "scores", "images"), if any.
+     * @param rater       the only rater whose scores are returned, or "me" for the authenticated user, if any.
+     * @param jwt         the JWT token of the authenticated user; used to resolve {@code rater=me}.
+     * @return a {@link ResponseEntity} containing the CarverMatrix and HTTP status OK if found,
+     *         HTTP status NOT_MODIFIED if the client's copy is current, BAD_REQUEST for an invalid field selection;
      *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
      */
     @GetMapping("/{matrixId}")
-    public ResponseEntity<?> getCarverMatrixByCarverId(@PathVariable Long matrixId) {
+    public ResponseEntity<?> getCarverMatrixByCarverId(@PathVariable Long matrixId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                       @RequestParam(required = false) String fields,
+                                                       @RequestParam(required = false) String include,
+                                                       @RequestParam(required = false) String rater,
+                                                       @AuthenticationPrincipal Jwt jwt) {
+        MatrixFieldSelection selection;
+        try {
+            selection = parseFieldSelection(fields, include, rater, jwt);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        try {
+            if (!selection.isFull()) {
+                return ResponseEntity.ok(carverMatrixService.getSparseMatrix(matrixId, selection));
+            }
+            if (ifNoneMatch != null) {
+                String currentETag = matrixETag(carverMatrixService.getMatrixVersion(matrixId));
+                if (eTagMatches(ifNoneMatch, currentETag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(currentETag)
+                            .cacheControl(CacheControl.noCache())
+                            .build();
+                }
+            }
+            MatrixViewDTO view = carverMatrixService.getMatrixView(matrixId);
+            return ResponseEntity.ok()
+                    .eTag(matrixETag(view.getVersion()))
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(view.getJson());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the weak entity tag of a matrix version.
+     *
+     * @param version the matrix version.
+     * @return the entity tag, e.g. {@code W/"7"}.
+     */
+    static String matrixETag(Long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Checks an If-None-Match header against an entity tag using weak comparison.
+     *
+     * @param ifNoneMatch the header value; a comma-separated list of entity tags or {@code *}.
+     * @param eTag        the current entity tag.
+     * @return true if any listed tag matches.
+     */
+    static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses the sparse fieldset parameters of a read endpoint, resolving {@code rater=me} to the caller's email.
+     *
+     * @param fields  the "fields" parameter, if any.
+     * @param include the "include" parameter, if any.
+     * @param rater   the "rater" parameter, if any.
+     * @param jwt     the JWT token of the authenticated user; may be null.
+     * @return the parsed selection.
+     * @throws IllegalArgumentException if the selection is invalid or {@code rater=me} cannot be resolved.
+     */
+    private static MatrixFieldSelection parseFieldSelection(String fields, String include, String rater, Jwt jwt) {
+        if ("me".equalsIgnoreCase(rater)) {
+            rater = jwt == null ? null : jwt.getClaimAsString("email");
+            if (rater == null || rater.isEmpty()) {
+                throw new IllegalArgumentException("User email not found in token");
+            }
+        }
+        return MatrixFieldSelection.parse(fields, include, rater);
+    }
+
+    /**
+     * Retrieves several CarverMatrix objects by ID in one request.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices?ids=1,2,3". It delegates to
+     * {@link CarverMatrixService#getMatricesByIds(List, MatrixFieldSelection)}, which loads the matrices, their items
+     * and their images with a constant number of queries. Each requested ID yields one entry whose status is
+     * FOUND or NOT_FOUND, so unknown IDs do not fail the batch. The "fields", "include" and "rater" parameters
+     * select sparse views; without them every entry carries the matrix with its items, scores and images.
+     *
+     * @param ids     the IDs of the matrices to retrieve.
+     * @param fields  comma-separated matrix properties to return, if any.
+     * @param include comma-separated associations to return, if any.
+     * @param rater   the only rater whose scores are returned, or "me", if any.
+     * @param jwt     the JWT token of the authenticated user; used to resolve {@code rater=me}.
+     * @return a {@link ResponseEntity} containing one entry per requested ID with HTTP status OK if successful;
+     *         BAD_REQUEST for too many IDs or an invalid field selection; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getCarverMatricesByIds(@RequestParam List<Long> ids,
+                                                    @RequestParam(required = false) String fields,
+                                                    @RequestParam(required = false) String include,
+                                                    @RequestParam(required = false) String rater,
+                                                    @AuthenticationPrincipal Jwt jwt) {
         try {
-            CarverMatrix matrix = carverMatrixService.getMatrixById(matrixId);
-            return ResponseEntity.ok(matrix);
+            MatrixFieldSelection selection = parseFieldSelection(fields, include, rater, jwt);
+            return ResponseEntity.ok(carverMatrixService.getMatricesByIds(ids, selection));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
@@ -79,15 +258,32 @@ public class CarverMatrixController {
      * <p>This endpoint handles GET requests to "/api/carvermatrices/host" and accepts a userId as a request parameter.
      * It delegates to {@link CarverMatrixService#getMatricesByHost(Long)} to retrieve the list of matrices.
      *
-     * @param userId the ID of the user who is hosting the matrices.
+     * The "fields", "include" and "rater" parameters select sparse views, as for
+     * {@link #getCarverMatrixByCarverId(Long, String, String, String, String, Jwt)}.
+     *
+     * @param userId  the ID of the user who is hosting the matrices.
+     * @param fields  comma-separated matrix properties to return, if any.
+     * @param include comma-separated associations to return, if any.
+     * @param rater   the only rater whose scores are returned, or "me", if any.
+     * @param jwt     the JWT token of the authenticated user; used to resolve {@code rater=me}.
      * @return a {@link ResponseEntity} containing a list of CarverMatrix objects with HTTP status OK if successful;
-     *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     *         BAD_REQUEST for an invalid field selection; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
      */
     @GetMapping("/host")
-    public ResponseEntity<?> getMatricesByHost(@RequestParam Long userId) {
+    public ResponseEntity<?> getMatricesByHost(@RequestParam Long userId,
+                                               @RequestParam(required = false) String fields,
+                                               @RequestParam(required = false) String include,
+                                               @RequestParam(required = false) String rater,
+                                               @AuthenticationPrincipal Jwt jwt) {
         try {
+            MatrixFieldSelection selection = parseFieldSelection(fields, include, rater, jwt);
+            if (!selection.isFull()) {
+                return ResponseEntity.ok(carverMatrixService.getSparseMatricesByHost(userId, selection));
+            }
             List<CarverMatrix> matrices = carverMatrixService.getMatricesByHost(userId);
             return ResponseEntity.ok(matrices);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
@@ -100,14 +296,31 @@ public class CarverMatrixController {
      * <p>This endpoint handles GET requests to "/api/carvermatrices/participant" and accepts a userId as a request parameter.
      * It delegates to {@link CarverMatrixService#getMatricesByParticipant(Long)} to retrieve the list of matrices.
      *
-     * @param userId the ID of the user who is a participant in the matrices.
+     * The "fields", "include" and "rater" parameters select sparse views, as for
+     * {@link #getCarverMatrixByCarverId(Long, String, String, String, String, Jwt)}.
+     *
+     * @param userId  the ID of the user who is a participant in the matrices.
+     * @param fields  comma-separated matrix properties to return, if any.
+     * @param include comma-separated associations to return, if any.
+     * @param rater   the only rater whose scores are returned, or "me", if any.
+     * @param jwt     the JWT token of the authenticated user; used to resolve {@code rater=me}.
      * @return a {@link ResponseEntity} containing a list of CarverMatrix objects with HTTP status OK if successful;
-     *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     *         BAD_REQUEST for an invalid field selection; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
      */
     @GetMapping("/participant")
-    public ResponseEntity<?> getMatricesByParticipant(@RequestParam Long userId) {
+    public ResponseEntity<?> getMatricesByParticipant(@RequestParam Long userId,
+                                                      @RequestParam(required = false) String fields,
+                                                      @RequestParam(required = false) String include,
+                                                      @RequestParam(required = false) String rater,
+                                                      @AuthenticationPrincipal Jwt jwt) {
         try {
+            MatrixFieldSelection selection = parseFieldSelection(fields, include, rater, jwt);
+            if (!selection.isFull()) {
+                return ResponseEntity.ok(carverMatrixService.getSparseMatricesByParticipant(userId, selection));
+            }
             return ResponseEntity.ok(carverMatrixService.getMatricesByParticipant(userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
@@ -120,20 +333,28 @@ public class CarverMatrixController {
      * of a CarverMatrix in the request body and a userId as a request parameter.
      * The matrix is created by delegating to {@link CarverMatrixService#createCarverMatrix(CarverMatrix, Long)}.
      * On success, it returns the created matrix with an HTTP status of CREATED.
+     * A retry carrying the same {@value IdempotencyService#IDEMPOTENCY_KEY_HEADER} returns the matrix created by the
+     * first request instead of creating a duplicate.
      *
-     * @param carverMatrix the CarverMatrix object to create; must not be null.
-     * @param userId       the ID of the user creating the matrix; must not be null.
+     * @param carverMatrix   the CarverMatrix object to create; must not be null.
+     * @param userId         the ID of the user creating the matrix; must not be null.
+     * @param idempotencyKey the client's idempotency key, if any.
+     * @param jwt            the JWT token of the authenticated user; scopes the idempotency key.
      * @return a {@link ResponseEntity} containing the created CarverMatrix and HTTP status CREATED if successful;
      *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
      */
     @PostMapping("/create")
-    public ResponseEntity<?> createCarverMatrix(@RequestBody CarverMatrix carverMatrix, @RequestParam Long userId) {
-        try {
-            CarverMatrix createdMatrix = carverMatrixService.createCarverMatrix(carverMatrix, userId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdMatrix);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-        }
+    public ResponseEntity<?> createCarverMatrix(@RequestBody CarverMatrix carverMatrix, @RequestParam Long userId,
+                                                @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                @AuthenticationPrincipal Jwt jwt) {
+        return idempotencyService.execute(idempotencyKey, idempotencyScope(jwt, "POST /create?userId=" + userId), matrixRequest(carverMatrix), () -> {
+            try {
+                CarverMatrix createdMatrix = carverMatrixService.createCarverMatrix(carverMatrix, userId);
+                return ResponseEntity.status(HttpStatus.CREATED).body(createdMatrix);
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+            }
+        });
     }
 
     /**
@@ -144,21 +365,29 @@ public class CarverMatrixController {
      * It delegates to {@link CarverMatrixService#updateCarverMatrix(Long, CarverMatrix)} to perform the update.
      * If the matrix is not found, it returns a NOT_FOUND status; for other errors, it returns an INTERNAL_SERVER_ERROR.
      *
-     * @param matrixId      the unique identifier of the CarverMatrix to update.
-     * @param updatedMatrix the CarverMatrix object containing updated values; must not be null.
+     * A retry carrying the same {@value IdempotencyService#IDEMPOTENCY_KEY_HEADER} replays the first response.
+     *
+     * @param matrixId       the unique identifier of the CarverMatrix to update.
+     * @param updatedMatrix  the CarverMatrix object containing updated values; must not be null.
+     * @param idempotencyKey the client's idempotency key, if any.
+     * @param jwt            the JWT token of the authenticated user; scopes the idempotency key.
      * @return a {@link ResponseEntity} containing the updated CarverMatrix and HTTP status OK if successful;
      *         otherwise, an error message with HTTP status NOT_FOUND or INTERNAL_SERVER_ERROR.
      */
     @PutMapping("/{matrixId}/update")
-    public ResponseEntity<?> updateCarverMatrix(@PathVariable Long matrixId, @RequestBody CarverMatrix updatedMatrix) {
-        try {
-            CarverMatrix updated = carverMatrixService.updateCarverMatrix(matrixId, updatedMatrix);
-            return ResponseEntity.ok(updated);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-        }
+    public ResponseEntity<?> updateCarverMatrix(@PathVariable Long matrixId, @RequestBody CarverMatrix updatedMatrix,
+                                                @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                @AuthenticationPrincipal Jwt jwt) {
+        return idempotencyService.execute(idempotencyKey, idempotencyScope(jwt, "PUT /" + matrixId + "/update"), matrixRequest(updatedMatrix), () -> {
+            try {
+                CarverMatrix updated = carverMatrixService.updateCarverMatrix(matrixId, updatedMatrix);
+                return ResponseEntity.ok(updated);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+            }
+        });
     }
 
     /**
@@ -166,12 +395,15 @@ public class CarverMatrixController {
      *
      * <p>This endpoint handles GET requests to "/api/carvermatrices/search". It accepts a map of search parameters as request parameters
      * and extracts the authenticated user's email from the provided JWT token.
-     * The user's email is added to the search parameters before delegating to {@link CarverMatrixService#searchCarverMatrices(Map)}.
+     * The user's email is added to the search parameters before delegating to {@link CarverMatrixService#searchCarverMatrixPage(Map)}.
+     * Results are paginated: "limit" sets the page size and "cursor" requests the page after a previous one.
+     * When more results exist, the cursor for the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.
+     * The "fields", "include" and "rater" parameters select sparse views of the results.
      *
      * @param searchParams a map of search parameters; must not be null.
      * @param jwt          the JWT token containing authenticated user information; must not be null.
      * @return a {@link ResponseEntity} containing a list of CarverMatrix objects matching the search criteria with HTTP status OK if successful;
-     *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     *         BAD_REQUEST for an invalid cursor or limit; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
      */
     @GetMapping("/search")
     public ResponseEntity<?> searchCarverMatrices(@RequestParam Map<String, String> searchParams, @AuthenticationPrincipal Jwt jwt) {
@@ -182,42 +414,79 @@ public class CarverMatrixController {
                 return ResponseEntity.badRequest().body("User email not found in token");
             }
             
+            MatrixFieldSelection selection = parseFieldSelection(searchParams.get("fields"), searchParams.get("include"),
+                    searchParams.get("rater"), jwt);
+
             // Add user's email to search params
             searchParams.put("userEmail", userEmail);
             
-            List<CarverMatrix> results = carverMatrixService.searchCarverMatrices(searchParams);
-            return ResponseEntity.ok(results);
+            CarverMatrixPageDTO page = carverMatrixService.searchCarverMatrixPage(searchParams);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            if (!selection.isFull()) {
+                return response.body(carverMatrixService.toSparseViews(page.getMatrices(), selection));
+            }
+            return response.body(page.getMatrices());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(e.getMessage());
         }
     }
 
     /**
-     * Updates CarverItem objects for a specified CarverMatrix based on provided update maps.
+     * Retrieves lightweight summaries of the matrices the authenticated user hosts or participates in.
      *
-     * <p>This endpoint handles PUT requests to "/api/carvermatrices/{matrixId}/carveritems/update".
-     * It accepts a matrixId as a path variable, a list of update maps in the request body, and extracts the authenticated user's email from the provided JWT token.
-     * It first retrieves the CarverMatrix by ID; if not found, it returns a NOT_FOUND status.
-     * Then, it delegates to {@link CarverMatrixService#updateCarverItemsFromMap(CarverMatrix, List, String)} to update the CarverItems.
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/summaries". It accepts the same parameters as
+     * {@link #searchCarverMatrices(Map, Jwt)} and delegates to {@link CarverMatrixService#getMatrixSummaries(Map)}.
+     * Each summary carries the list columns, the user's role and the item and rater counts, without any items or scores.
+     * When more results exist, the cursor for the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.
      *
-     * @param matrixId the unique identifier of the CarverMatrix whose items are to be updated.
-     * @param updates  a list of maps containing update data for CarverItem objects; must not be null.
-     * @param jwt      the JWT token containing authenticated user information; must not be null.
-     * @return a {@link ResponseEntity} containing the list of updated CarverItem objects with HTTP status OK if successful;
-     *         otherwise, an error message with an appropriate HTTP status.
+     * @param searchParams a map of search parameters; must not be null.
+     * @param jwt          the JWT token containing authenticated user information; must not be null.
+     * @return a {@link ResponseEntity} containing a list of summaries with HTTP status OK if successful;
+     *         BAD_REQUEST for an invalid cursor or limit; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
      */
-    @PutMapping("/{matrixId}/carveritems/update")
-    public ResponseEntity<?> updateCarverItems(@PathVariable Long matrixId, @RequestBody List<Map<String, Object>> updates, @AuthenticationPrincipal Jwt jwt) {
+    @GetMapping("/summaries")
+    public ResponseEntity<?> getMatrixSummaries(@RequestParam Map<String, String> searchParams, @AuthenticationPrincipal Jwt jwt) {
         try {
-            CarverMatrix matrix = carverMatrixService.getMatrixById(matrixId);
-            if (matrix == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("CarverMatrix not found with ID: " + matrixId);
+            String userEmail = jwt.getClaim("email").toString().trim().toLowerCase();
+            if (userEmail.isEmpty()) {
+                return ResponseEntity.badRequest().body("User email not found in token");
             }
+            searchParams.put("userEmail", userEmail);
 
-            String userEmail = jwt.getClaimAsString("email");
-            List<CarverItem> updatedItems = carverMatrixService.updateCarverItemsFromMap(matrix, updates, userEmail);
-            return ResponseEntity.ok(updatedItems);
+            CarverMatrixSummaryPageDTO page = carverMatrixService.getMatrixSummaries(searchParams);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getSummaries());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(e.getMessage());
+        }
+    }
 
+    /**
+     * Retrieves the portfolio of the authenticated user: every matrix they host or participate in, scored.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/portfolio". It delegates to
+     * {@link PortfolioService#getPortfolio(String)}, which scores the matrices in parallel and returns, per matrix,
+     * its top items, the share of item and category pairs scored and the time it took, along with the slowest matrices.
+     *
+     * @param jwt the JWT token containing authenticated user information; must not be null.
+     * @return a {@link ResponseEntity} containing the portfolio with HTTP status OK if successful; BAD_REQUEST if the
+     *         token has no email; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping("/portfolio")
+    public ResponseEntity<?> getPortfolio(@AuthenticationPrincipal Jwt jwt) {
+        try {
+            String userEmail = jwt.getClaim("email").toString().trim().toLowerCase();
+            return ResponseEntity.ok(portfolioService.getPortfolio(userEmail));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -226,28 +495,272 @@ public class CarverMatrixController {
         }
     }
 
+    /**
+     * Retrieves the score statistics of a CarverMatrix.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}/score-stats". It delegates to
+     * {@link CarverMatrixService#getScoreStats(Long)}, which computes the per item and category averages of the
+     * submitted scores and the per rater completion counts with SQL aggregates over the normalized score table.
+     *
+     * @param matrixId the unique identifier of the CarverMatrix.
+     * @return a {@link ResponseEntity} containing the statistics with HTTP status OK if successful;
+     *         NOT_FOUND if the matrix does not exist; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping("/{matrixId}/score-stats")
+    public ResponseEntity<?> getScoreStats(@PathVariable Long matrixId) {
+        try {
+            return ResponseEntity.ok(carverMatrixService.getScoreStats(matrixId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the computed CARVER scores of a CarverMatrix.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}/scores". It delegates to
+     * {@link CarverMatrixService#getMatrixScores(Long)}, which returns per item the mean and number of submitted
+     * scores of each category and the total weighted by the matrix multipliers, so clients do not need the raw
+     * score maps of every rater.
+     *
+     * @param matrixId the unique identifier of the CarverMatrix.
+     * @return a {@link ResponseEntity} containing the scores with HTTP status OK if successful;
+     *         NOT_FOUND if the matrix does not exist; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping("/{matrixId}/scores")
+    public ResponseEntity<?> getMatrixScores(@PathVariable Long matrixId) {
+        try {
+            return ResponseEntity.ok(carverMatrixService.getMatrixScores(matrixId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the rater agreement statistics of a CarverMatrix.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}/agreement". It delegates to
+     * {@link CarverMatrixService#getRaterAgreement(Long)}, which returns per item and category the spread of the
+     * raters' scores (variance, standard deviation, minimum and maximum) and per category Kendall's W, so
+     * contested targets can be spotted.
+     *
+     * @param matrixId the unique identifier of the CarverMatrix.
+     * @return a {@link ResponseEntity} containing the statistics with HTTP status OK if successful;
+     *         NOT_FOUND if the matrix does not exist; otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping("/{matrixId}/agreement")
+    public ResponseEntity<?> getRaterAgreement(@PathVariable Long matrixId) {
+        try {
+            return ResponseEntity.ok(carverMatrixService.getRaterAgreement(matrixId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the top items of a CarverMatrix by weighted CARVER total.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}/ranking?k={k}". It delegates to
+     * {@link CarverMatrixService#getMatrixRanking(Long, Integer)}, which reads the k highest ranked items, plus any
+     * tied with the last of them, from the ranking maintained on score and multiplier changes, so clients do not
+     * need to sort the whole item list.
+     *
+     * @param matrixId the unique identifier of the CarverMatrix.
+     * @param k        the number of items to return; defaults to {@value CarverMatrixService#DEFAULT_RANKING_SIZE}.
+     * @return a {@link ResponseEntity} containing the ranking with HTTP status OK if successful; NOT_FOUND if the
+     *         matrix does not exist; BAD_REQUEST if k is out of range; otherwise, an error message with HTTP status
+     *         INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping("/{matrixId}/ranking")
+    public ResponseEntity<?> getMatrixRanking(@PathVariable Long matrixId, @RequestParam(required = false) Integer k) {
+        try {
+            carverMatrixService.getMatrixVersion(matrixId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+        try {
+            return ResponseEntity.ok(carverMatrixService.getMatrixRanking(matrixId, k));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the changes to a CarverMatrix after a version the client already has.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}/changes?since={version}". It delegates
+     * to {@link CarverMatrixService#getMatrixChanges(Long, long)}, which returns only the items (with scores) and
+     * images written after that version, the IDs of images deleted since, and the settings if they changed. The
+     * client applies the changes and passes the returned version on its next request; the version of a full read
+     * is the matrix's entity tag.
+     *
+     * @param matrixId the unique identifier of the CarverMatrix.
+     * @param since    a matrix version previously returned to the client.
+     * @return a {@link ResponseEntity} containing the changes with HTTP status OK if successful; NOT_FOUND if the
+     *         matrix does not exist; BAD_REQUEST if the version is negative or newer than the matrix; otherwise,
+     *         an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
+    @GetMapping("/{matrixId}/changes")
+    public ResponseEntity<?> getMatrixChanges(@PathVariable Long matrixId, @RequestParam long since) {
+        try {
+            carverMatrixService.getMatrixVersion(matrixId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+        try {
+            return ResponseEntity.ok(carverMatrixService.getMatrixChanges(matrixId, since));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Streams the changes of a CarverMatrix as Server-Sent Events.
+     *
+     * <p>This endpoint handles GET requests to "/api/carvermatrices/{matrixId}/events". Each committed score write
+     * is published as a "{@value MatrixEventBroker#SCORES_EVENT}" event whose data is a list of
+     * {@link com.fmc.starterApp.models.dto.CarverScoreDeltaDTO} (item, category, rater, value); an update of the
+     * matrix itself is published as a "{@value MatrixEventBroker#MATRIX_EVENT}" event, after which clients reload it.
+     * Clients that fall too far behind are disconnected by the {@link MatrixEventBroker} and may reconnect.
+     * Browser clients, whose {@code EventSource} cannot set the Authorization header, pass the token as the
+     * {@code access_token} query parameter.
+     *
+     * @param matrixId the unique identifier of the CarverMatrix to follow.
+     * @return a {@link ResponseEntity} containing the event stream with HTTP status OK if the matrix exists;
+     *         otherwise, HTTP status NOT_FOUND.
+     */
+    @GetMapping(value = "/{matrixId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMatrixEvents(@PathVariable Long matrixId) {
+        try {
+            carverMatrixService.getMatrixVersion(matrixId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok(matrixEventBroker.subscribe(matrixId));
+    }
+
+    /**
+     * Updates CarverItem objects for a specified CarverMatrix based on provided update maps.
+     *
+     * <p>This endpoint handles PUT requests to "/api/carvermatrices/{matrixId}/carveritems/update".
+     * It accepts a matrixId as a path variable, a list of update maps in the request body, and extracts the authenticated user's email from the provided JWT token.
+     * It first checks that the CarverMatrix exists; if not, it returns a NOT_FOUND status.
+     * The updates are then validated by {@link CarverMatrixService#prepareScorePatches(Long, List)} and handed to the
+     * {@link ScoreWriteBuffer}, which writes only the user's score keys in place. By default the scores are written
+     * before the response; with {@code carver.score-buffer.enabled=true} (and a {@code carver.score-buffer.log-path})
+     * rapid submissions of the same user are coalesced and written in batches shortly afterwards.
+     * An ACCEPTED response means the scores are logged and queued, not yet written: until the next flush (every
+     * {@code carver.score-buffer.flush-interval-ms}, 250 ms by default) a GET of the matrix may still return the
+     * previous scores. Clients that must read their own writes should wait for the {@code scores} event of
+     * {@link #streamMatrixEvents(Long)}.
+     * A retry carrying the same {@value IdempotencyService#IDEMPOTENCY_KEY_HEADER} replays the first response.
+     *
+     * @param matrixId       the unique identifier of the CarverMatrix whose items are to be updated.
+     * @param updates        a list of maps containing update data for CarverItem objects; must not be null.
+     * @param idempotencyKey the client's idempotency key, if any.
+     * @param jwt            the JWT token containing authenticated user information; must not be null.
+     * @return a {@link ResponseEntity} containing the list of updated CarverItem objects with HTTP status OK if written
+     *         through (buffering disabled), or the accepted score patches (item ID and the user's submitted scores)
+     *         with HTTP status ACCEPTED if buffered; otherwise, an error message with an appropriate HTTP status.
+     */
+    @PutMapping("/{matrixId}/carveritems/update")
+    public ResponseEntity<?> updateCarverItems(@PathVariable Long matrixId, @RequestBody List<Map<String, Object>> updates,
+                                               @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                               @AuthenticationPrincipal Jwt jwt) {
+        return idempotencyService.execute(idempotencyKey, idempotencyScope(jwt, "PUT /" + matrixId + "/carveritems/update"), updates, () -> {
+            try {
+                try {
+                    carverMatrixService.getMatrixVersion(matrixId);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body("CarverMatrix not found with ID: " + matrixId);
+                }
+
+                String userEmail = jwt.getClaimAsString("email");
+                if (userEmail == null || userEmail.isEmpty()) {
+                    return ResponseEntity.badRequest().body("User email not found in token");
+                }
+                List<CarverItemScorePatchDTO> patches = carverMatrixService.prepareScorePatches(matrixId, updates);
+                if (scoreWriteBuffer.submit(matrixId, userEmail, patches)) {
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(patches);
+                }
+                return ResponseEntity.ok(carverMatrixService.getPatchedItems(patches));
+
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (Exception e) {
+                e.printStackTrace();
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+            }
+        });
+    }
+
     /**
      * DELETE endpoint for deleting a CarverMatrix by its matrixId.
      * <p>
      * On successful deletion, this endpoint returns a 200 OK status with a success message.
      * If the CarverMatrix is not found, a 404 Not Found status is returned.
      * For any other errors, a 500 Internal Server Error status is returned.
+     * A retry carrying the same {@value IdempotencyService#IDEMPOTENCY_KEY_HEADER} replays the first response
+     * instead of reporting the already deleted matrix as not found.
      * </p>
      *
-     * @param matrixId the unique identifier of the CarverMatrix to be deleted
+     * @param matrixId       the unique identifier of the CarverMatrix to be deleted
+     * @param idempotencyKey the client's idempotency key, if any
+     * @param jwt            the JWT token of the authenticated user; scopes the idempotency key
      * @return a ResponseEntity indicating the outcome of the deletion operation
      */
     @DeleteMapping("/{matrixId}")
-    public ResponseEntity<?> deleteCarverMatrix(@PathVariable Long matrixId) {
-        try {
-            carverMatrixService.deleteCarverMatrix(matrixId);
-            return new ResponseEntity("CarverMatrix deleted successfully", HttpStatus.OK);
-        } catch (IllegalArgumentException e) {
-            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+    public ResponseEntity<?> deleteCarverMatrix(@PathVariable Long matrixId,
+                                                @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                @AuthenticationPrincipal Jwt jwt) {
+        return idempotencyService.execute(idempotencyKey, idempotencyScope(jwt, "DELETE /" + matrixId), null, () -> {
+            try {
+                carverMatrixService.deleteCarverMatrix(matrixId);
+                return new ResponseEntity<>("CarverMatrix deleted successfully", HttpStatus.OK);
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+            } catch (Exception e) {
+                e.printStackTrace();
+                return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        });
     }
 
+    /**
+     * Returns the scope of an idempotency key: the authenticated caller and the operation.
+     */
+    private static String idempotencyScope(Jwt jwt, String operation) {
+        return (jwt == null ? "" : jwt.getSubject()) + " " + operation;
+    }
+
+    /**
+     * Returns a matrix request body as compared between idempotent retries. The matrix and its items get the current
+     * time as their creation timestamp when they are deserialized, so two identical requests would never match
+     * unless those timestamps are left out.
+     */
+    private ObjectNode matrixRequest(CarverMatrix matrix) {
+        ObjectNode request = objectMapper.valueToTree(matrix);
+        request.remove("createdAt");
+        request.path("items").forEach(item -> {
+            if (item instanceof ObjectNode itemNode) {
+                itemNode.remove("createdAt");
+            }
+        });
+        return request;
+    }
 }
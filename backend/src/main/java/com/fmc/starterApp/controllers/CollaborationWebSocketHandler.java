@@ -0,0 +1,129 @@
+package com.fmc.starterApp.controllers;
+
+import java.io.IOException;
+import java.security.Principal;
+
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.fmc.starterApp.services.CarverMatrixService;
+import com.fmc.starterApp.services.CollaborationHub;
+
+/**
+ * WebSocket endpoint of the live collaboration session of a matrix, at "/api/carvermatrices/{matrixId}/ws".
+ *
+ * <p>The handshake goes through the regular JWT security chain; browsers, which cannot set the Authorization header
+ * on a handshake, pass the token as the {@code access_token} query parameter. The email claim of the token
+ * identifies the rater.
+ * Messages are handled by the {@link CollaborationHub}. Outgoing frames go through a
+ * {@link ConcurrentWebSocketSessionDecorator}, so a client that stops reading is disconnected once its send buffer
+ * or send time limit is exceeded instead of holding up the broadcast of its session.
+ */
+public class CollaborationWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String MATRIX_ID_ATTRIBUTE = "matrixId";
+    private static final String CONNECTION_ATTRIBUTE = "connection";
+
+    private final CollaborationHub collaborationHub;
+    private final CarverMatrixService carverMatrixService;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+
+    /**
+     * Constructs a CollaborationWebSocketHandler.
+     *
+     * @param collaborationHub    the sessions of all matrices.
+     * @param carverMatrixService checks that the requested matrix exists.
+     * @param sendTimeLimitMillis the longest a single send to a client may take.
+     * @param sendBufferSizeLimit the most bytes buffered for a client that is not keeping up.
+     */
+    public CollaborationWebSocketHandler(CollaborationHub collaborationHub, CarverMatrixService carverMatrixService,
+                                         int sendTimeLimitMillis, int sendBufferSizeLimit) {
+        this.collaborationHub = collaborationHub;
+        this.carverMatrixService = carverMatrixService;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String rater = raterOf(session.getPrincipal());
+        Long matrixId = matrixIdOf(session);
+        if (rater == null || matrixId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Authenticated user and matrix required"));
+            return;
+        }
+        try {
+            carverMatrixService.getMatrixVersion(matrixId);
+        } catch (IllegalArgumentException e) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("CarverMatrix not found with ID: " + matrixId));
+            return;
+        }
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, sendBufferSizeLimit);
+        CollaborationHub.Connection connection = new CollaborationHub.Connection() {
+            @Override
+            public String getId() {
+                return session.getId();
+            }
+
+            @Override
+            public String getRater() {
+                return rater;
+            }
+
+            @Override
+            public void send(String text) throws IOException {
+                outbound.sendMessage(new TextMessage(text));
+            }
+        };
+        session.getAttributes().put(MATRIX_ID_ATTRIBUTE, matrixId);
+        session.getAttributes().put(CONNECTION_ATTRIBUTE, connection);
+        collaborationHub.join(matrixId, connection);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Long matrixId = (Long) session.getAttributes().get(MATRIX_ID_ATTRIBUTE);
+        CollaborationHub.Connection connection = (CollaborationHub.Connection) session.getAttributes().get(CONNECTION_ATTRIBUTE);
+        if (matrixId != null && connection != null) {
+            collaborationHub.receive(matrixId, connection, message.getPayload());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Long matrixId = (Long) session.getAttributes().get(MATRIX_ID_ATTRIBUTE);
+        if (matrixId != null) {
+            collaborationHub.leave(matrixId, session.getId());
+        }
+    }
+
+    private static String raterOf(Principal principal) {
+        if (principal instanceof JwtAuthenticationToken token) {
+            return token.getToken().getClaimAsString("email");
+        }
+        return null;
+    }
+
+    /**
+     * Reads the matrix ID from a path of the form "/api/carvermatrices/{matrixId}/ws".
+     */
+    private static Long matrixIdOf(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        String[] segments = session.getUri().getPath().split("/");
+        if (segments.length < 2) {
+            return null;
+        }
+        try {
+            return Long.valueOf(segments[segments.length - 2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
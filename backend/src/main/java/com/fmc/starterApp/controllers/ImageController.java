@@ -1,7 +1,6 @@
 package com.fmc.starterApp.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fmc.starterApp.models.dto.MatrixImageDTO;
 import com.fmc.starterApp.models.entity.MatrixImage;
 import com.fmc.starterApp.repositories.MatrixImageRepository;
 import com.fmc.starterApp.services.ImageService;
@@ -21,14 +21,13 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
-import software.amazon.awssdk.services.s3.S3Client;
 
 /**
  * REST controller for handling image operations associated with Carver Matrices.
  *
  * <p>This controller provides endpoints to upload images, retrieve image metadata, and delete images.
  * It leverages the {@link ImageService} for handling file uploads to AWS S3 as well as storing image metadata
- * in the database via the {@link MatrixImageRepository}. It also utilizes an AWS S3 client to interact with S3.
+ * in the database via the {@link MatrixImageRepository}.
  *
  * <p><strong>Key Endpoints:</strong>
  * <ul>
@@ -41,15 +40,9 @@ import software.amazon.awssdk.services.s3.S3Client;
 @RequestMapping("/api/images")
 public class ImageController {
 
-    @Autowired
-    private S3Client s3Client;
-
     @Autowired
     private MatrixImageRepository matrixImageRepository;
 
-    @Value("${AWS_S3_BUCKET_NAME}")
-    private String bucketName;
-
     @Autowired
     private ImageService imageService;
 
@@ -114,33 +107,23 @@ public class ImageController {
     /**
      * Deletes an image from AWS S3 and removes its metadata from the database.
      *
-     * <p>This endpoint handles DELETE requests to "/api/images/{id}". It first retrieves the {@link MatrixImage}
-     * entity using the provided image ID. It then extracts the filename from the image URL and uses the AWS S3 client
-     * to delete the file from the S3 bucket. Finally, it removes the image metadata from the database.
-     * If any error occurs during these operations, an INTERNAL_SERVER_ERROR status is returned.
+     * <p>This endpoint handles DELETE requests to "/api/images/{id}" and delegates to
+     * {@link ImageService#deleteImage(Long)}, which removes the file from the S3 bucket and the metadata from
+     * the database. If the image does not exist, a NOT_FOUND status is returned; if any other error occurs,
+     * an INTERNAL_SERVER_ERROR status is returned.
      *
      * @param id the unique identifier of the image to delete.
      * @return a {@link ResponseEntity} with HTTP status OK and a success message if deletion is successful;
-     *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     *         otherwise, an error message with HTTP status NOT_FOUND or INTERNAL_SERVER_ERROR.
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteImageById(@PathVariable Long id) {
         try {
-            MatrixImage matrixImage = matrixImageRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Image not found with ID: " + id));
-
-            String imageUrl = matrixImage.getImageUrl();
-            String fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
-
-            // Delete the file from AWS S3.
-            s3Client.deleteObject(b -> b.bucket(bucketName).key(fileName));
-            System.out.println("Deleted image from S3: " + fileName);
-
-            // Delete the image metadata from the database.
-            matrixImageRepository.delete(matrixImage);
-            System.out.println("Deleted image metadata from database: " + id);
-
+            imageService.deleteImage(id);
             return ResponseEntity.ok("Image deleted successfully.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("Error: " + e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -148,16 +131,20 @@ public class ImageController {
         }
     }
     
+    /**
+     * Retrieves the images associated with a given Carver Matrix.
+     *
+     * <p>This endpoint handles GET requests to "/api/images/matrix/{matrixId}". It delegates to
+     * {@link MatrixImageRepository#findImagesByMatrixId(Long)}, which only reads the images of the requested matrix.
+     *
+     * @param matrixId the ID of the Carver Matrix whose images are requested.
+     * @return a {@link ResponseEntity} containing an "images" list with HTTP status OK;
+     *         otherwise, an error message with HTTP status INTERNAL_SERVER_ERROR.
+     */
     @GetMapping("/matrix/{matrixId}")
     public ResponseEntity<?> getImagesByMatrixId(@PathVariable Long matrixId) {
         try {
-            List<Map<String, Object>> images = matrixImageRepository.findAll().stream().filter(img -> img.getCarverMatrix() != null && img.getCarverMatrix().getMatrixId().equals(matrixId)).map(img -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("imageId", img.getImageId());
-                    map.put("imageUrl", img.getImageUrl());
-                    map.put("itemId", img.getCarverItem() != null ? img.getCarverItem().getItemId() : null);
-                    return map;
-                }).toList();
+            List<MatrixImageDTO> images = matrixImageRepository.findImagesByMatrixId(matrixId);
             Map<String, Object> response = new HashMap<>();
             response.put("images", images);
             return ResponseEntity.ok(response);
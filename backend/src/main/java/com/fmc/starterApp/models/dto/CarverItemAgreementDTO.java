@@ -0,0 +1,26 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How far the raters of one item agree: per category, in the category order of the enclosing
+ * {@link MatrixAgreementDTO}, the number of raters and the mean, sample variance, standard deviation, minimum and
+ * maximum of their submitted scores. Categories nobody scored hold 0.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverItemAgreementDTO {
+    Long itemId;
+    String itemName;
+    long[] raters;
+    double[] means;
+    double[] variances;
+    double[] standardDeviations;
+    int[] min;
+    int[] max;
+}
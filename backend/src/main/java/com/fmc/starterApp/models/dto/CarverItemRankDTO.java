@@ -0,0 +1,22 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An item of a matrix ranking.
+ *
+ * <p>Items with equal totals share a rank, and the next rank skips the tied positions (1, 2, 2, 4).
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverItemRankDTO {
+    int rank;
+    Long itemId;
+    String itemName;
+    double total;
+}
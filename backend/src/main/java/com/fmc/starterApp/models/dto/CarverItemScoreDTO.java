@@ -0,0 +1,22 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The computed scores of one item: the mean and number of submitted scores per category, in the category order of
+ * the enclosing {@link MatrixScoresDTO}, and the total weighted by the matrix multipliers.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverItemScoreDTO {
+    Long itemId;
+    String itemName;
+    double[] means;
+    long[] submissions;
+    double total;
+}
@@ -0,0 +1,23 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One rater's submitted scores for a single CarverItem.
+ *
+ * <p>{@code scores} is keyed by category name ({@code criticality}, {@code accessibility}, {@code recoverability},
+ * {@code vulnerability}, {@code effect}, {@code recognizability}) and holds only the categories the rater changed.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverItemScorePatchDTO {
+    Long itemId;
+    Map<String, Integer> scores;
+}
@@ -0,0 +1,51 @@
+package com.fmc.starterApp.models.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of a {@link com.fmc.starterApp.models.entity.CarverItem} used by sparse matrix reads.
+ *
+ * <p>Built by JPQL constructor expressions. The score maps are only selected when scores are requested;
+ * otherwise they stay {@code null} and are left out of the JSON.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CarverItemViewDTO {
+    @JsonIgnore
+    Long matrixId;
+    Long itemId;
+    String itemName;
+    String[] targetUsers;
+    LocalDateTime createdAt;
+    Map<String, Integer> criticality;
+    Map<String, Integer> accessibility;
+    Map<String, Integer> recoverability;
+    Map<String, Integer> vulnerability;
+    Map<String, Integer> effect;
+    Map<String, Integer> recognizability;
+
+    /**
+     * Constructs an item projection without scores.
+     *
+     * @param matrixId    the owning matrix ID.
+     * @param itemId      the item ID.
+     * @param itemName    the item name.
+     * @param targetUsers the users assigned to the item.
+     * @param createdAt   the item creation time.
+     */
+    public CarverItemViewDTO(Long matrixId, Long itemId, String itemName, String[] targetUsers, LocalDateTime createdAt) {
+        this(matrixId, itemId, itemName, targetUsers, createdAt, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+import com.fmc.starterApp.models.entity.CarverMatrix;
+
+/**
+ * One page of a keyset-paginated {@link CarverMatrix} search.
+ *
+ * <p>{@code nextCursor} is an opaque token identifying the last matrix of this page; it is {@code null}
+ * when there are no further results.
+ */
+@Builder
+@Data
+public class CarverMatrixPageDTO {
+    List<CarverMatrix> matrices;
+    String nextCursor;
+}
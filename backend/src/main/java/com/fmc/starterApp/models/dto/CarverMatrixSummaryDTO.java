@@ -0,0 +1,31 @@
+package com.fmc.starterApp.models.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * List-view summary of a {@link com.fmc.starterApp.models.entity.CarverMatrix} for a specific user.
+ *
+ * <p>Built directly by a JPQL constructor expression, so neither the matrix's items nor its per-rater
+ * score maps are loaded. {@code host} and {@code participant} describe the requesting user's role;
+ * {@code raterCount} is the number of participants assigned to the matrix.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverMatrixSummaryDTO {
+    Long matrixId;
+    String name;
+    String description;
+    LocalDateTime createdAt;
+    Boolean roleBased;
+    Boolean host;
+    Boolean participant;
+    Long itemCount;
+    Integer raterCount;
+}
@@ -0,0 +1,19 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of keyset-paginated {@link CarverMatrixSummaryDTO} results.
+ *
+ * <p>{@code nextCursor} is an opaque token identifying the last summary of this page; it is {@code null}
+ * when there are no further results.
+ */
+@Builder
+@Data
+public class CarverMatrixSummaryPageDTO {
+    List<CarverMatrixSummaryDTO> summaries;
+    String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How much of a matrix one rater has scored.
+ *
+ * <p>{@code scoredItems} counts the items with at least one submitted score from the rater and
+ * {@code submissions} the submitted item/category scores.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverRaterCompletionDTO {
+    String rater;
+    Long scoredItems;
+    Long submissions;
+}
@@ -0,0 +1,22 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregate of the submitted scores of one item in one category.
+ *
+ * <p>Only submitted scores count; the {@code 0} placeholders of assigned but unscored items are excluded.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverScoreAggregateDTO {
+    Long itemId;
+    String category;
+    Double average;
+    Long submissions;
+}
@@ -0,0 +1,23 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One changed score, as published on the event stream of a matrix.
+ *
+ * <p>{@code category} is one of {@code criticality}, {@code accessibility}, {@code recoverability},
+ * {@code vulnerability}, {@code effect} and {@code recognizability}.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverScoreDeltaDTO {
+    Long itemId;
+    String category;
+    String rater;
+    Integer value;
+}
@@ -0,0 +1,21 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Score statistics of a matrix, computed by SQL aggregates over the normalized score table.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverScoreStatsDTO {
+    Long matrixId;
+    List<CarverScoreAggregateDTO> averages;
+    List<CarverRaterCompletionDTO> raters;
+}
@@ -0,0 +1,40 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An event broadcast to the participants of a collaboration session.
+ *
+ * <p>{@code seq} is assigned by the server and increases by one per event of a matrix, so clients can order events
+ * and detect gaps. {@code type} is {@code "score"} (with {@code rater}, {@code itemId} and {@code scores}),
+ * {@code "presence"} (with the current {@code participants}), {@code "welcome"} (sent to a joining client with the
+ * last assigned {@code seq} and the {@code participants}) or {@code "error"} (sent to one client with a
+ * {@code message}).
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CollaborationEventDTO {
+    public static final String SCORE = "score";
+    public static final String PRESENCE = "presence";
+    public static final String WELCOME = "welcome";
+    public static final String ERROR = "error";
+
+    Long seq;
+    String type;
+    String rater;
+    Long itemId;
+    Map<String, Integer> scores;
+    List<CollaborationParticipantDTO> participants;
+    String message;
+}
@@ -0,0 +1,26 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A message sent by a client over the collaboration WebSocket of a matrix.
+ *
+ * <p>{@code type} is {@code "score"} to submit the sender's scores of one item (keyed by category, as in
+ * {@link CarverItemScorePatchDTO}), or {@code "presence"} to report the item the sender is looking at and whether
+ * they are editing it.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollaborationMessageDTO {
+    String type;
+    Long itemId;
+    Map<String, Integer> scores;
+    Boolean editing;
+}
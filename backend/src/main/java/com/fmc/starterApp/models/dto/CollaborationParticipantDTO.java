@@ -0,0 +1,19 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One connected participant of a collaboration session: who they are and which item, if any, they are on.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollaborationParticipantDTO {
+    String rater;
+    Long itemId;
+    boolean editing;
+}
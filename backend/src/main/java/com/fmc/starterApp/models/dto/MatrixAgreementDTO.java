@@ -0,0 +1,28 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The rater agreement statistics of a matrix at a version.
+ *
+ * <p>{@code categories} names the entries of the per-category arrays. {@code kendallW} holds, per category,
+ * Kendall's coefficient of concordance over the {@code rankedRaters} raters who scored every item, or null where
+ * it is undefined.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixAgreementDTO {
+    Long matrixId;
+    Long version;
+    List<String> categories;
+    Double[] kendallW;
+    int[] rankedRaters;
+    List<CarverItemAgreementDTO> items;
+}
@@ -0,0 +1,30 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a batch matrix read, reporting the outcome for a single requested matrix ID.
+ *
+ * <p>{@code status} is {@link #FOUND} with the matrix view in {@code matrix}, or {@link #NOT_FOUND} with no view,
+ * so unknown IDs never fail the whole batch.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MatrixBatchEntryDTO {
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    Long matrixId;
+    String status;
+    Map<String, Object> matrix;
+}
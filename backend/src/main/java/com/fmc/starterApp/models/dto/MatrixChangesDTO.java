@@ -0,0 +1,33 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The changes to a matrix after a version the client already has.
+ *
+ * <p>{@code items} and {@code images} hold only the rows written after {@code since}; {@code settings} is present
+ * only if the matrix settings changed. A client applies the changes and continues from {@code version}. Rows
+ * written while the changes were read may be included a second time by the next request.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MatrixChangesDTO {
+    Long matrixId;
+    Long since;
+    Long version;
+    Map<String, Object> settings;
+    List<CarverItemViewDTO> items;
+    List<MatrixImageDTO> images;
+    List<Long> removedImageIds;
+}
@@ -0,0 +1,30 @@
+package com.fmc.starterApp.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight view of a {@link com.fmc.starterApp.models.entity.MatrixImage} used when listing the images of a matrix.
+ *
+ * <p>Only the columns needed by clients are selected, so neither the owning matrix nor the linked item
+ * is loaded when this projection is built.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixImageDTO {
+    Long imageId;
+    String imageUrl;
+    Long itemId;
+
+    /**
+     * The owning matrix, used to group images loaded for several matrices at once; not serialized.
+     */
+    @JsonIgnore
+    Long matrixId;
+}
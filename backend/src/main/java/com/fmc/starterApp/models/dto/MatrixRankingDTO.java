@@ -0,0 +1,25 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The top items of a matrix by weighted CARVER total at a version.
+ *
+ * <p>{@code items} holds the first {@code k} items in ranking order, followed by any items tied with the last of
+ * them; tied items are ordered by ascending item ID.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixRankingDTO {
+    Long matrixId;
+    Long version;
+    int k;
+    List<CarverItemRankDTO> items;
+}
@@ -0,0 +1,25 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The computed CARVER scores of a matrix at a version.
+ *
+ * <p>{@code categories} names the entries of {@code multipliers} and of the per-category arrays of each item.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixScoresDTO {
+    Long matrixId;
+    Long version;
+    List<String> categories;
+    double[] multipliers;
+    List<CarverItemScoreDTO> items;
+}
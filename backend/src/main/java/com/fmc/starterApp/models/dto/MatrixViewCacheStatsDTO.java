@@ -0,0 +1,23 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Point-in-time counters of the {@link com.fmc.starterApp.services.MatrixViewCache}.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixViewCacheStatsDTO {
+    long hits;
+    long misses;
+    long evictions;
+    int entries;
+    long weightBytes;
+    int maxEntries;
+    long maxWeightBytes;
+}
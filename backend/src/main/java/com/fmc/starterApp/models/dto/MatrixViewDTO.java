@@ -0,0 +1,20 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A serialized matrix together with the matrix version it was serialized from.
+ *
+ * <p>Keeping the version next to the JSON lets the entity tag of a response always describe its body.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixViewDTO {
+    Long version;
+    byte[] json;
+}
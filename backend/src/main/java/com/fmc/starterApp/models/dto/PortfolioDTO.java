@@ -0,0 +1,24 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The scored matrices of a user.
+ *
+ * <p>{@code matrices} is ordered by matrix ID; {@code slowestMatrixIds} names the matrices that took longest to
+ * score, slowest first.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioDTO {
+    List<PortfolioMatrixDTO> matrices;
+    List<Long> slowestMatrixIds;
+    double elapsedMillis;
+}
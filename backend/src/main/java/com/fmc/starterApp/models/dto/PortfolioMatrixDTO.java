@@ -0,0 +1,27 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One matrix of a portfolio: its top items, how complete its scoring is and how long it took to score.
+ *
+ * <p>{@code completion} is the share of item and category pairs with at least one submitted score, from 0 to 1.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioMatrixDTO {
+    Long matrixId;
+    String name;
+    Long version;
+    long itemCount;
+    double completion;
+    List<CarverItemRankDTO> topItems;
+    double elapsedMillis;
+}
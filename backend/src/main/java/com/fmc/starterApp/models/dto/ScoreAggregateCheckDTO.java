@@ -0,0 +1,23 @@
+package com.fmc.starterApp.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The result of checking the running score aggregates of a matrix against its score rows.
+ *
+ * <p>{@code checked} is the number of item and category pairs present on either side.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreAggregateCheckDTO {
+    Long matrixId;
+    int checked;
+    List<ScoreAggregateMismatchDTO> mismatches;
+}
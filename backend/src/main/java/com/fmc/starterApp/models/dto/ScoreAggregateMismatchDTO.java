@@ -0,0 +1,25 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An item and category whose running score aggregate differs from its score rows.
+ *
+ * <p>The expected values are computed from the submitted {@code carver_scores} rows, the actual values are the
+ * stored aggregate; a missing row on either side counts as a sum and count of 0.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreAggregateMismatchDTO {
+    Long itemId;
+    String category;
+    long expectedSum;
+    long expectedCount;
+    long actualSum;
+    long actualCount;
+}
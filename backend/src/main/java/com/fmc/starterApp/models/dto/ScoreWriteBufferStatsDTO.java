@@ -0,0 +1,28 @@
+package com.fmc.starterApp.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counters of the {@link com.fmc.starterApp.services.ScoreWriteBuffer}. {@code droppedItems} counts the items
+ * whose buffered scores were discarded because the item no longer accepted them; {@code deadLetteredItems} counts
+ * the items of batches that failed every write attempt and were moved to the dead-letter file; {@code lastFailure}
+ * describes the most recent failed write, or is {@code null} if none failed.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreWriteBufferStatsDTO {
+    long submissions;
+    long flushedBatches;
+    long failedBatches;
+    long droppedItems;
+    long deadLetteredItems;
+    String lastFailure;
+    int pendingRaters;
+    long pendingItems;
+    boolean durable;
+}
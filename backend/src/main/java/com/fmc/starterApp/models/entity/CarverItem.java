@@ -15,11 +15,14 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -46,7 +49,14 @@ import org.hibernate.type.SqlTypes;
  *       {@code vulnerability}, {@code effect}, and {@code recognizability} describe various attributes of the item.</li>
  *   <li>{@code targetUsers} - An array of target user identifiers associated with the item.</li>
  *   <li>{@code createdAt} - The timestamp when the item was created. Automatically set to the current timestamp.</li>
+ *   <li>{@code version} - The optimistic lock version of the item.</li>
+ *   <li>{@code changedVersion} - The version of the owning matrix at which the item last changed.</li>
+ *   <li>{@code weightedTotal} - The weighted CARVER total of the item, maintained for ranking.</li>
  * </ul>
+ *
+ * <p>The score maps are also stored row by row in {@link CarverScore}; both are written in the same transaction.
+ * The {@code matrix_id} column is indexed so that matrix-scoped score aggregates can join to the items of one matrix,
+ * and together with {@code weighted_total} so that the top items of a matrix are read in ranking order.
  */
 @Getter
 @Setter
@@ -54,14 +64,18 @@ import org.hibernate.type.SqlTypes;
 @AllArgsConstructor
 @ToString
 @Entity
-@Table(name = "carver_items")
+@Table(name = "carver_items", indexes = {
+        @Index(name = "idx_carver_items_matrix_id", columnList = "matrix_id, item_id"),
+        @Index(name = "idx_carver_items_matrix_id_weighted_total", columnList = "matrix_id, weighted_total DESC, item_id")
+})
 public class CarverItem {
 
     /**
-     * The unique identifier for the item.
+     * The unique identifier for the item, allocated in blocks of 50 from {@code carver_items_seq}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carver_items_seq")
+    @SequenceGenerator(name = "carver_items_seq", sequenceName = "carver_items_seq", allocationSize = 50)
     private Long itemId;
 
     /**
@@ -124,4 +138,32 @@ public class CarverItem {
      */
     @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Optimistic lock version, incremented by every write to the item, including in-place score patches.
+     * <p>A writer that read an older version fails on flush instead of overwriting other raters' scores.</p>
+     */
+    @Version
+    @Column(name = "version")
+    private long version;
+
+    /**
+     * The {@link CarverMatrix#getVersion() version} of the owning matrix at which the item was last written.
+     * <p>Stamped by every score write with the matrix version it produced, and compared against by delta sync
+     * requests. Items created with their matrix keep 0, which no request asks for.</p>
+     */
+    @Column(name = "changed_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @JsonIgnore
+    private long changedVersion;
+
+    /**
+     * The weighted CARVER total of the item: the sum over the categories of the mean submitted score times the
+     * category multiplier of the matrix.
+     * <p>Written only by bulk updates of {@link com.fmc.starterApp.repositories.CarverItemRepository} whenever the
+     * scores of the item or the multipliers of its matrix change, never from the entity.</p>
+     */
+    @Column(name = "weighted_total", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DOUBLE PRECISION DEFAULT 0")
+    @JsonIgnore
+    private double weightedTotal;
 }
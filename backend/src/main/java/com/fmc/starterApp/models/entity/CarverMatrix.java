@@ -3,8 +3,8 @@ package com.fmc.starterApp.models.entity;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -14,9 +14,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,7 +27,10 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fmc.starterApp.models.dto.MatrixImageDTO;
 import jakarta.persistence.Transient;
 
 /**
@@ -55,6 +60,8 @@ import jakarta.persistence.Transient;
  *   <li>{@code randomAssignment} - If enabled, participants will be randomly assigned to {@link CarverItem} objects.</li>
  *   <li>{@code roleBased} - If enabled, every user is treated as both a participant and a host.</li>
  *   <li>{@code fivePointScoring} - A toggle that selects a 5-point scoring system; if disabled, a 10-point scoring system is used.</li>
+ *   <li>{@code version} - A counter incremented on every change to the matrix, its items or its images.</li>
+ *   <li>{@code settingsVersion} - The {@code version} at which the matrix settings last changed.</li>
  * </ul>
  *
  * <p><strong>Bidirectional Relationship:</strong>
@@ -68,14 +75,16 @@ import jakarta.persistence.Transient;
 @AllArgsConstructor
 @ToString
 @Entity
-@Table(name = "carver_matrices")
+@Table(name = "carver_matrices", indexes = @Index(name = "idx_carver_matrices_created_at_matrix_id", columnList = "created_at DESC, matrix_id DESC"))
 public class CarverMatrix {
 
     /**
-     * The unique identifier for the matrix.
+     * The unique identifier for the matrix, allocated in blocks of 50 from {@code carver_matrices_seq}
+     * (pooled optimizer) so that new matrices and their items can be inserted in JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carver_matrices_seq")
+    @SequenceGenerator(name = "carver_matrices_seq", sequenceName = "carver_matrices_seq", allocationSize = 50)
     private Long matrixId;
 
     /**
@@ -128,9 +137,12 @@ public class CarverMatrix {
     /**
      * The list of {@link CarverItem} objects associated with this matrix.
      * <p>This one-to-many relationship represents the individual items grouped under this matrix.
-     * Cascade operations and orphan removal are enabled to maintain referential integrity.</p>
+     * Cascade operations and orphan removal are enabled to maintain referential integrity.
+     * When several matrices are loaded without fetching their items, the collections are initialized
+     * in batches instead of one query per matrix.</p>
      */
     @OneToMany(mappedBy = "carverMatrix", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<CarverItem> items = new ArrayList<>();
 
     /**
@@ -184,6 +196,25 @@ public class CarverMatrix {
      */
     private Boolean fivePointScoring;
 
+    /**
+     * A monotonically increasing version of the matrix view.
+     * <p>Incremented by {@link com.fmc.starterApp.repositories.CarverMatrixRepository#incrementVersion(Long)} whenever
+     * the matrix settings, its items or its images change, and used as the matrix's HTTP entity tag. The column is
+     * never written from the entity after insert, so saving a stale instance cannot move it backwards. Reads report
+     * it through {@link com.fmc.starterApp.services.MatrixVersionTracker}, since score writes may commit out of
+     * version order.</p>
+     */
+    @Column(name = "version", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version = 0L;
+
+    /**
+     * The {@link #version} produced by the last change to the matrix settings (name, description, members,
+     * multipliers and flags), used by delta sync requests to tell whether the settings must be sent.
+     */
+    @Column(name = "settings_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @JsonIgnore
+    private Long settingsVersion = 0L;
+
     /**
      * Adds a {@link CarverItem} to the matrix and sets this matrix as the item's parent.
      * This method maintains the bidirectional relationship between {@link CarverMatrix} and {@link CarverItem}.
@@ -210,7 +241,26 @@ public class CarverMatrix {
         }
     }
 
+    /**
+     * The images attached to this matrix, populated on read from {@code matrix_images}.
+     */
     @Transient
     @JsonProperty("images")
-    private List<Map<String, Object>> images;
+    private List<MatrixImageDTO> images;
+
+    /**
+     * Whether the requesting user is a host of this matrix.
+     * <p>Populated only by role-annotated membership queries, such as search; omitted from JSON otherwise.</p>
+     */
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean host;
+
+    /**
+     * Whether the requesting user is a participant of this matrix.
+     * <p>Populated only by role-annotated membership queries, such as search; omitted from JSON otherwise.</p>
+     */
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean participant;
 }
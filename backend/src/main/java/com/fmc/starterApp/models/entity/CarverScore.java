@@ -0,0 +1,88 @@
+package com.fmc.starterApp.models.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * One rater's score for one category of a {@link CarverItem}.
+ *
+ * <p>This entity is mapped to the "carver_scores" table, the normalized form of the six JSON score maps of
+ * {@link CarverItem}. The JSON maps remain the serialized read model of the REST API; every score write updates
+ * both in the same transaction, and this table backs the SQL aggregates (averages, completion counts) and
+ * per-rater views, which its indexes answer without touching the item rows.
+ *
+ * <p><strong>Key Fields:</strong>
+ * <ul>
+ *   <li>{@code itemId}, {@code rater}, {@code category} - The composite key; {@code category} is one of
+ *       {@code criticality}, {@code accessibility}, {@code recoverability}, {@code vulnerability}, {@code effect}
+ *       and {@code recognizability}.</li>
+ *   <li>{@code value} - The submitted score; {@code 0} marks an assigned but not yet scored item.</li>
+ *   <li>{@code updatedAt} - The timestamp of the last write.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@IdClass(CarverScoreId.class)
+@Table(name = "carver_scores", indexes = {
+        @Index(name = "idx_carver_scores_item_category_value", columnList = "item_id, category, value"),
+        @Index(name = "idx_carver_scores_rater_item", columnList = "rater, item_id, category, value")})
+public class CarverScore {
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Id
+    @Column(name = "rater", length = 255)
+    private String rater;
+
+    @Id
+    @Column(name = "category", length = 32)
+    private String category;
+
+    @Column(name = "value", nullable = false)
+    private Integer value;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    /**
+     * The scored item; mapped read-only so that score rows are deleted together with their item.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    @ToString.Exclude
+    private CarverItem item;
+
+    public CarverScore(Long itemId, String rater, String category, Integer value) {
+        this.itemId = itemId;
+        this.rater = rater;
+        this.category = category;
+        this.value = value;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fmc.starterApp.models.entity;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The running sum and count of the submitted scores of one {@link CarverItem} in one category.
+ *
+ * <p>This entity is mapped to the "carver_score_aggregates" table. Every write of {@link CarverScore} rows
+ * adjusts the matching aggregate in the same transaction by the difference between the rater's new and previous
+ * value, so means are read without visiting the raters' scores. Only submitted scores count: the {@code 0}
+ * placeholders of assigned but unscored items add nothing.
+ *
+ * <p><strong>Key Fields:</strong>
+ * <ul>
+ *   <li>{@code itemId}, {@code category} - The composite key.</li>
+ *   <li>{@code scoreSum} - The sum of the submitted scores.</li>
+ *   <li>{@code scoreCount} - The number of submitted scores.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+@Entity
+@IdClass(CarverScoreAggregateId.class)
+@Table(name = "carver_score_aggregates")
+public class CarverScoreAggregate {
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Id
+    @Column(name = "category", length = 32)
+    private String category;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    /**
+     * The aggregated item; mapped read-only so that aggregates are deleted together with their item.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    @ToString.Exclude
+    private CarverItem item;
+
+    public CarverScoreAggregate(Long itemId, String category, long scoreSum, long scoreCount) {
+        this.itemId = itemId;
+        this.category = category;
+        this.scoreSum = scoreSum;
+        this.scoreCount = scoreCount;
+    }
+}
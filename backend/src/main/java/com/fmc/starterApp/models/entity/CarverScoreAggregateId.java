@@ -0,0 +1,20 @@
+package com.fmc.starterApp.models.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key of {@link CarverScoreAggregate}: one aggregate per item and category.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverScoreAggregateId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long itemId;
+    private String category;
+}
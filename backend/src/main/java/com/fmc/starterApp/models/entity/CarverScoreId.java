@@ -0,0 +1,21 @@
+package com.fmc.starterApp.models.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key of {@link CarverScore}: one score per item, rater and category.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarverScoreId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long itemId;
+    private String rater;
+    private String category;
+}
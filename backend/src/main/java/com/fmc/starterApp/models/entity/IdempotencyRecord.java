@@ -0,0 +1,64 @@
+package com.fmc.starterApp.models.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The stored outcome of a write request sent with an {@code Idempotency-Key} header.
+ *
+ * <p>This entity is mapped to the "idempotency_keys" table. A retry carrying the same key replays the stored
+ * status and body instead of executing the write again. Records expire after a configurable time and are
+ * purged, together with the oldest records beyond a row bound, by
+ * {@link com.fmc.starterApp.services.IdempotencyService}.
+ *
+ * <p><strong>Key Fields:</strong>
+ * <ul>
+ *   <li>{@code recordKey} - SHA-256 of the caller, the operation and the client's key.</li>
+ *   <li>{@code requestHash} - SHA-256 of the request body; a key reused with another body is rejected.</li>
+ *   <li>{@code statusCode}, {@code contentType}, {@code responseBody} - The response to replay.</li>
+ *   <li>{@code createdAt}, {@code expiresAt} - When the outcome was stored and when it may be purged.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")})
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "record_key", length = 64)
+    private String recordKey;
+
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name = "status_code", nullable = false)
+    private Integer statusCode;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -10,8 +10,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -33,7 +35,11 @@ import lombok.ToString;
  *   <li>{@code carverMatrix} - The {@link CarverMatrix} to which this image belongs. This field is mandatory.</li>
  *   <li>{@code imageUrl} - The URL of the image. This field is mandatory, should be a valid URL, and is limited to 500 characters.</li>
  *   <li>{@code uploadedAt} - The timestamp when the image was uploaded. Automatically set to the current timestamp.</li>
+ *   <li>{@code changedVersion} - The version of the owning matrix produced by the upload.</li>
  * </ul>
+ *
+ * <p>The {@code matrix_id} column is indexed so that the images of a single matrix can be listed without
+ * scanning the whole table.
  */
 @Getter
 @Setter
@@ -41,14 +47,15 @@ import lombok.ToString;
 @AllArgsConstructor
 @ToString
 @Entity
-@Table(name = "matrix_images")
+@Table(name = "matrix_images", indexes = @Index(name = "idx_matrix_images_matrix_id", columnList = "matrix_id"))
 public class MatrixImage {
 
     /**
-     * The unique identifier for the image.
+     * The unique identifier for the image, allocated in blocks of 50 from {@code matrix_images_seq}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matrix_images_seq")
+    @SequenceGenerator(name = "matrix_images_seq", sequenceName = "matrix_images_seq", allocationSize = 50)
     private Long imageId;
 
     /**
@@ -77,4 +84,11 @@ public class MatrixImage {
      */
     @Column(name = "uploaded_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime uploadedAt = LocalDateTime.now();
+
+    /**
+     * The {@link CarverMatrix#getVersion() version} of the owning matrix produced by the upload of this image.
+     * <p>Images are never modified after upload, so this is also the version at which the image last changed.</p>
+     */
+    @Column(name = "changed_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long changedVersion;
 }
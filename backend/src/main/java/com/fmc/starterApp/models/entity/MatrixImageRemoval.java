@@ -0,0 +1,53 @@
+package com.fmc.starterApp.models.entity;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Records the deletion of a {@link MatrixImage}, so that delta sync requests can report removed images.
+ *
+ * <p>This entity is mapped to the "matrix_image_removals" table. A row is written in the same transaction that
+ * deletes the image and is removed together with its matrix.
+ *
+ * <p><strong>Key Fields:</strong>
+ * <ul>
+ *   <li>{@code imageId} - The ID of the deleted image.</li>
+ *   <li>{@code carverMatrix} - The {@link CarverMatrix} the image belonged to.</li>
+ *   <li>{@code changedVersion} - The version of the matrix produced by the deletion.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "matrix_image_removals",
+        indexes = @Index(name = "idx_matrix_image_removals_matrix_id", columnList = "matrix_id, changed_version"))
+public class MatrixImageRemoval {
+
+    @Id
+    @Column(name = "image_id")
+    private Long imageId;
+
+    @ManyToOne
+    @JoinColumn(name = "matrix_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CarverMatrix carverMatrix;
+
+    @Column(name = "changed_version", nullable = false)
+    private long changedVersion;
+}
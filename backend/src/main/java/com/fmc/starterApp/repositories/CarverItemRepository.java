@@ -1,14 +1,145 @@
 package com.fmc.starterApp.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fmc.starterApp.models.dto.CarverItemViewDTO;
 import com.fmc.starterApp.models.entity.CarverItem;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface CarverItemRepository extends JpaRepository<CarverItem, Long> {
+public interface CarverItemRepository extends JpaRepository<CarverItem, Long>, CarverItemScoreRepository {
+
+    /**
+     * The weighted total of item {@code i} computed from its score aggregates and the multipliers of matrix
+     * {@code m}: the sum over the scored categories of the mean times the multiplier, unset multipliers counting as 1.
+     */
+    String WEIGHTED_TOTAL = "COALESCE((SELECT SUM(CAST(a.scoreSum AS Double) / a.scoreCount * CASE a.category " +
+            "WHEN 'criticality' THEN COALESCE(m.cMulti, 1.0) WHEN 'accessibility' THEN COALESCE(m.aMulti, 1.0) " +
+            "WHEN 'recoverability' THEN COALESCE(m.rMulti, 1.0) WHEN 'vulnerability' THEN COALESCE(m.vMulti, 1.0) " +
+            "WHEN 'effect' THEN COALESCE(m.eMulti, 1.0) ELSE COALESCE(m.r2Multi, 1.0) END) " +
+            "FROM CarverScoreAggregate a, CarverMatrix m " +
+            "WHERE a.itemId = i.itemId AND m.matrixId = :matrixId AND a.scoreCount > 0), 0.0)";
+
     List<CarverItem> findByCarverMatrix_MatrixId(Long matrixId);
-}
 
+    /**
+     * Returns the items of several matrices without their score columns.
+     *
+     * @param matrixIds the IDs of the owning matrices.
+     * @return item projections ordered by item ID, with all score maps {@code null}.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.CarverItemViewDTO(" +
+           "i.carverMatrix.matrixId, i.itemId, i.itemName, i.targetUsers, i.createdAt) " +
+           "FROM CarverItem i WHERE i.carverMatrix.matrixId IN :matrixIds ORDER BY i.itemId")
+    List<CarverItemViewDTO> findItemViewsByMatrixIdIn(@Param("matrixIds") Collection<Long> matrixIds);
+
+    /**
+     * Returns the items of several matrices together with their score columns.
+     *
+     * @param matrixIds the IDs of the owning matrices.
+     * @return item projections ordered by item ID, including every rater's scores.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.CarverItemViewDTO(" +
+           "i.carverMatrix.matrixId, i.itemId, i.itemName, i.targetUsers, i.createdAt, " +
+           "i.criticality, i.accessibility, i.recoverability, i.vulnerability, i.effect, i.recognizability) " +
+           "FROM CarverItem i WHERE i.carverMatrix.matrixId IN :matrixIds ORDER BY i.itemId")
+    List<CarverItemViewDTO> findScoredItemViewsByMatrixIdIn(@Param("matrixIds") Collection<Long> matrixIds);
+
+    /**
+     * Returns the items of a matrix written after a given matrix version, together with their score columns.
+     *
+     * @param matrixId the ID of the owning matrix.
+     * @param since    the matrix version the caller already has.
+     * @return item projections ordered by item ID, including every rater's scores.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.CarverItemViewDTO(" +
+           "i.carverMatrix.matrixId, i.itemId, i.itemName, i.targetUsers, i.createdAt, " +
+           "i.criticality, i.accessibility, i.recoverability, i.vulnerability, i.effect, i.recognizability) " +
+           "FROM CarverItem i WHERE i.carverMatrix.matrixId = :matrixId AND i.changedVersion > :since ORDER BY i.itemId")
+    List<CarverItemViewDTO> findScoredItemViewsChangedSince(@Param("matrixId") Long matrixId, @Param("since") long since);
+
+    /**
+     * Returns the IDs and names of the items of a matrix.
+     *
+     * @param matrixId the ID of the owning matrix.
+     * @return {@code [itemId, itemName]} rows ordered by item ID.
+     */
+    @Query("SELECT i.itemId, i.itemName FROM CarverItem i WHERE i.carverMatrix.matrixId = :matrixId ORDER BY i.itemId")
+    List<Object[]> findItemNamesByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Returns the owning matrix of each existing item.
+     *
+     * @param itemIds the IDs of the items to look up.
+     * @return {@code [itemId, matrixId]} pairs for the items that exist.
+     */
+    @Query("SELECT i.itemId, i.carverMatrix.matrixId FROM CarverItem i WHERE i.itemId IN :itemIds")
+    List<Object[]> findMatrixIdsByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * Recomputes the weighted totals of some items of a matrix from their score aggregates.
+     *
+     * @param matrixId the ID of the owning matrix; items of other matrices are skipped.
+     * @param itemIds  the IDs of the items whose scores changed.
+     * @return the number of items updated.
+     */
+    @Modifying
+    @Query("UPDATE CarverItem i SET i.weightedTotal = " + WEIGHTED_TOTAL +
+           " WHERE i.carverMatrix.matrixId = :matrixId AND i.itemId IN :itemIds")
+    int updateWeightedTotals(@Param("matrixId") Long matrixId, @Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * Recomputes the weighted totals of every item of a matrix, after its multipliers or aggregates changed.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the number of items updated.
+     */
+    @Modifying
+    @Query("UPDATE CarverItem i SET i.weightedTotal = " + WEIGHTED_TOTAL + " WHERE i.carverMatrix.matrixId = :matrixId")
+    int updateWeightedTotalsByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Returns the highest ranked items of a matrix, read in ranking order from the weighted total index.
+     *
+     * @param matrixId the ID of the matrix.
+     * @param pageable the number of items to return.
+     * @return {@code [itemId, itemName, weightedTotal]} rows by descending total, ties by ascending item ID.
+     */
+    @Query("SELECT i.itemId, i.itemName, i.weightedTotal FROM CarverItem i WHERE i.carverMatrix.matrixId = :matrixId " +
+           "ORDER BY i.weightedTotal DESC, i.itemId")
+    List<Object[]> findTopRankedByMatrixId(@Param("matrixId") Long matrixId, Pageable pageable);
+
+    /**
+     * Returns the items of a matrix tied on a weighted total that come after an item in ranking order.
+     *
+     * @param matrixId      the ID of the matrix.
+     * @param weightedTotal the tied total.
+     * @param itemId        the last item already returned with that total.
+     * @return {@code [itemId, itemName, weightedTotal]} rows by ascending item ID.
+     */
+    @Query("SELECT i.itemId, i.itemName, i.weightedTotal FROM CarverItem i WHERE i.carverMatrix.matrixId = :matrixId " +
+           "AND i.weightedTotal = :weightedTotal AND i.itemId > :itemId ORDER BY i.itemId")
+    List<Object[]> findTiedAfter(@Param("matrixId") Long matrixId, @Param("weightedTotal") double weightedTotal,
+                                 @Param("itemId") Long itemId);
+
+    /**
+     * Returns one chunk of the items of a matrix with their weighted totals and scored categories, for reading a
+     * matrix of any size in bounded memory.
+     *
+     * @param matrixId    the ID of the matrix.
+     * @param afterItemId the last item ID of the previous chunk, or 0 for the first chunk.
+     * @param pageable    the chunk size; only the first page is read.
+     * @return {@code [itemId, itemName, weightedTotal, scoredCategories]} rows ordered by item ID.
+     */
+    @Query("SELECT i.itemId, i.itemName, i.weightedTotal, " +
+           "(SELECT COUNT(a) FROM CarverScoreAggregate a WHERE a.itemId = i.itemId AND a.scoreCount > 0) " +
+           "FROM CarverItem i WHERE i.carverMatrix.matrixId = :matrixId AND i.itemId > :afterItemId ORDER BY i.itemId")
+    List<Object[]> findScoredChunk(@Param("matrixId") Long matrixId, @Param("afterItemId") long afterItemId, Pageable pageable);
+}
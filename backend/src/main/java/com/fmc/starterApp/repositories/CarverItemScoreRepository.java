@@ -0,0 +1,50 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.List;
+
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+
+/**
+ * Custom {@link CarverItemRepository} fragment for writing rater scores without loading {@code CarverItem} entities.
+ *
+ * <p>Every write keeps the JSON score maps of the items, the normalized {@code carver_scores} rows and the running
+ * {@code carver_score_aggregates} in step.
+ */
+public interface CarverItemScoreRepository {
+
+    /**
+     * The score categories of an item, which are also the names of its JSON score columns.
+     */
+    List<String> SCORE_CATEGORIES = List.of(
+            "criticality", "accessibility", "recoverability", "vulnerability", "effect", "recognizability");
+
+    /**
+     * Merges one rater's scores into the score columns of several items of a matrix.
+     *
+     * <p>Only the rater's key of each submitted category is written; the other raters' keys and the untouched
+     * categories are left as stored, so concurrent raters never overwrite each other. The matching
+     * {@code carver_scores} rows are upserted, and each aggregate is adjusted by the difference between the
+     * rater's new and previous value. Items that do not exist or belong to another matrix are skipped
+     * and not counted. Every updated item is stamped with {@code changedVersion} for delta sync.
+     *
+     * <p>On PostgreSQL the write holds the matrix row in key share mode until the transaction ends, so it does not
+     * run beside a change holding {@link CarverMatrixRepository#lockVersionByMatrixId(Long)}.
+     *
+     * @param matrixId       the ID of the matrix that must own every item.
+     * @param rater          the rater whose keys are written.
+     * @param changedVersion the matrix version produced by this write.
+     * @param patches        the scores to write, at most one patch per item.
+     * @return the number of items updated.
+     * @throws org.springframework.dao.OptimisticLockingFailureException if, on a database without JSONB operators,
+     *         an item changed concurrently while it was patched; the caller retries in a new transaction.
+     */
+    int patchScores(Long matrixId, String rater, long changedVersion, List<CarverItemScorePatchDTO> patches);
+
+    /**
+     * Inserts the {@code carver_scores} rows and aggregates of newly created items from their JSON score maps.
+     *
+     * @param items persisted items that have no score rows yet.
+     */
+    void insertScores(List<CarverItem> items);
+}
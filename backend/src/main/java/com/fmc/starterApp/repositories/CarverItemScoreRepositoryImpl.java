@@ -0,0 +1,369 @@
+package com.fmc.starterApp.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+import com.fmc.starterApp.models.entity.CarverScore;
+import com.fmc.starterApp.models.entity.CarverScoreAggregate;
+import com.fmc.starterApp.models.entity.CarverScoreAggregateId;
+import com.fmc.starterApp.models.entity.CarverScoreId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Native SQL implementation of {@link CarverItemScoreRepository}.
+ *
+ * <p>On PostgreSQL every chunk of patches is applied with one {@code UPDATE ... FROM (VALUES ...)} statement that
+ * merges a one-key JSON object into each score column with the {@code jsonb ||} operator, so only the rater's keys
+ * change. The merge reads the row it locked, so concurrent writes of the same item by other raters all apply
+ * instead of conflicting. It then reads the rater's previous scores of the patched items, upserts the matching
+ * {@code carver_scores} rows, and adjusts their {@code carver_score_aggregates} by the deltas that the entity
+ * fallback applies too. The update increments the item versions, so entity writers holding an older copy fail with
+ * an {@link OptimisticLockingFailureException}, and stamps the matrix version of the write for delta sync. The
+ * write first locks the matrix row in key share mode, which only conflicts with the exclusive lock of a settings
+ * change or an aggregate rebuild ({@link CarverMatrixRepository#lockVersionByMatrixId(Long)}), so the database
+ * orders those against score writes.
+ * Other databases (the H2 test database) have no JSONB operators and fall back to merging the keys into the loaded
+ * entities, which are written back as versioned JDBC batches on flush; a concurrent write of the same items fails
+ * with an {@link OptimisticLockingFailureException} for the caller to retry.
+ *
+ * <p>Both writes join the caller's transaction, or run in their own when called outside one.
+ */
+class CarverItemScoreRepositoryImpl implements CarverItemScoreRepository {
+
+    /**
+     * Maximum number of items patched by one PostgreSQL statement, keeping the bind parameters well under the
+     * driver limit.
+     */
+    private static final int PATCH_CHUNK_SIZE = 500;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patchScores(Long matrixId, String rater, long changedVersion, List<CarverItemScorePatchDTO> patches) {
+        if (patches.isEmpty()) {
+            return 0;
+        }
+        if (isPostgres()) {
+            // Waits for a settings change or aggregate rebuild holding the matrix row, and holds them off until this
+            // write commits; other score writes take the same lock, so they do not wait for each other.
+            entityManager.createNativeQuery("SELECT matrix_id FROM carver_matrices WHERE matrix_id = ?1 FOR KEY SHARE")
+                    .setParameter(1, matrixId)
+                    .getResultList();
+            int updated = 0;
+            for (int from = 0; from < patches.size(); from += PATCH_CHUNK_SIZE) {
+                List<CarverItemScorePatchDTO> chunk = patches.subList(from, Math.min(from + PATCH_CHUNK_SIZE, patches.size()));
+                List<CarverItemScorePatchDTO> owned = patchChunk(matrixId, rater, changedVersion, chunk);
+                if (!owned.isEmpty()) {
+                    upsertChunk(rater, owned);
+                }
+                updated += owned.size();
+            }
+            return updated;
+        }
+        return patchEntities(matrixId, rater, changedVersion, patches);
+    }
+
+    @Override
+    @Transactional
+    public void insertScores(List<CarverItem> items) {
+        for (CarverItem item : items) {
+            for (String category : SCORE_CATEGORIES) {
+                Map<String, Integer> scores = scoreMap(item, category);
+                long sum = 0;
+                long count = 0;
+                for (Map.Entry<String, Integer> score : scores.entrySet()) {
+                    entityManager.persist(new CarverScore(item.getItemId(), score.getKey(), category, score.getValue()));
+                    sum += submitted(score.getValue());
+                    count += submitted(score.getValue()) > 0 ? 1 : 0;
+                }
+                if (count > 0) {
+                    entityManager.persist(new CarverScoreAggregate(item.getItemId(), category, sum, count));
+                }
+            }
+        }
+    }
+
+    /**
+     * Patches the items of a chunk that belong to the matrix and returns their patches.
+     *
+     * <p>Each score column is merged with {@code jsonb ||} under the row lock of the update, so concurrent writes
+     * of the same item by other raters are applied one after the other instead of failing.
+     */
+    private List<CarverItemScorePatchDTO> patchChunk(Long matrixId, String rater, long changedVersion, List<CarverItemScorePatchDTO> chunk) {
+        // Patched in item order, so two writes of overlapping items rarely lock them in opposite orders.
+        List<CarverItemScorePatchDTO> patches = chunk.stream()
+                .sorted(Comparator.comparing(CarverItemScorePatchDTO::getItemId))
+                .toList();
+        StringBuilder sql = new StringBuilder("UPDATE carver_items AS i SET ");
+        for (int c = 0; c < SCORE_CATEGORIES.size(); c++) {
+            String column = SCORE_CATEGORIES.get(c);
+            sql.append(c == 0 ? "" : ", ")
+               .append(column).append(" = COALESCE(i.").append(column).append(", '{}'::jsonb) || p.").append(column);
+        }
+        sql.append(", version = COALESCE(i.version, 0) + 1, changed_version = ?1 FROM (VALUES ");
+        int parameter = 2;
+        for (int row = 0; row < patches.size(); row++) {
+            sql.append(row == 0 ? "(" : ", (").append("CAST(?").append(parameter++).append(" AS bigint)");
+            for (int c = 0; c < SCORE_CATEGORIES.size(); c++) {
+                sql.append(", CAST(?").append(parameter++).append(" AS jsonb)");
+            }
+            sql.append(')');
+        }
+        sql.append(") AS p(item_id, ").append(String.join(", ", SCORE_CATEGORIES))
+           .append(") WHERE i.item_id = p.item_id AND i.matrix_id = ?").append(parameter)
+           .append(" RETURNING i.item_id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter(1, changedVersion);
+        parameter = 2;
+        for (CarverItemScorePatchDTO patch : patches) {
+            query.setParameter(parameter++, patch.getItemId());
+            for (String category : SCORE_CATEGORIES) {
+                query.setParameter(parameter++, raterPatch(rater, patch.getScores().get(category)));
+            }
+        }
+        query.setParameter(parameter, matrixId);
+        // Items of other matrices are not updated and left out of the result, and so of the count.
+        Set<Long> updated = new HashSet<>();
+        for (Object itemId : query.getResultList()) {
+            updated.add(((Number) itemId).longValue());
+        }
+        return patches.stream().filter(patch -> updated.contains(patch.getItemId())).toList();
+    }
+
+    /**
+     * Upserts the rater's score rows of patched items and adjusts their aggregates by the difference to the rater's
+     * previous values, computed by {@link #aggregateDelta(Integer, Integer)} like the entity fallback. The previous
+     * values are read after the patch locked the item rows, so no other writer changes them in between.
+     */
+    private void upsertChunk(String rater, List<CarverItemScorePatchDTO> patches) {
+        List<Long> itemIds = patches.stream().map(CarverItemScorePatchDTO::getItemId).toList();
+        Map<CarverScoreAggregateId, Integer> previousById = new HashMap<>();
+        for (Object row : entityManager.createNativeQuery(
+                        "SELECT item_id, category, value FROM carver_scores WHERE rater = ?1 AND item_id IN (?2)")
+                .setParameter(1, rater)
+                .setParameter(2, itemIds)
+                .getResultList()) {
+            Object[] columns = (Object[]) row;
+            previousById.put(new CarverScoreAggregateId(((Number) columns[0]).longValue(), (String) columns[1]),
+                    ((Number) columns[2]).intValue());
+        }
+
+        List<Object[]> scores = new ArrayList<>();
+        List<Object[]> deltas = new ArrayList<>();
+        for (CarverItemScorePatchDTO patch : patches) {
+            patch.getScores().forEach((category, value) -> {
+                scores.add(new Object[] { patch.getItemId(), category, value });
+                long[] delta = aggregateDelta(previousById.get(new CarverScoreAggregateId(patch.getItemId(), category)), value);
+                if (delta[0] != 0 || delta[1] != 0) {
+                    deltas.add(new Object[] { patch.getItemId(), category, delta[0], delta[1] });
+                }
+            });
+        }
+        if (!scores.isEmpty()) {
+            executeValues("INSERT INTO carver_scores (item_id, rater, category, value, updated_at) "
+                            + "SELECT v.item_id, ?1, v.category, v.value, CURRENT_TIMESTAMP FROM (VALUES ",
+                    new String[] { "bigint", "varchar", "integer" },
+                    ") AS v(item_id, category, value) ON CONFLICT (item_id, rater, category) "
+                            + "DO UPDATE SET value = EXCLUDED.value, updated_at = EXCLUDED.updated_at",
+                    rater, scores);
+        }
+        if (!deltas.isEmpty()) {
+            executeValues("INSERT INTO carver_score_aggregates AS a (item_id, category, score_sum, score_count) "
+                            + "SELECT v.item_id, v.category, v.score_sum, v.score_count FROM (VALUES ",
+                    new String[] { "bigint", "varchar", "bigint", "bigint" },
+                    ") AS v(item_id, category, score_sum, score_count) ON CONFLICT (item_id, category) "
+                            + "DO UPDATE SET score_sum = a.score_sum + EXCLUDED.score_sum, "
+                            + "score_count = a.score_count + EXCLUDED.score_count",
+                    rater, deltas);
+        }
+    }
+
+    /**
+     * Runs a statement over a {@code VALUES} list of typed rows, with the rater bound as the first parameter.
+     */
+    private void executeValues(String prefix, String[] types, String suffix, String rater, List<Object[]> rows) {
+        StringBuilder sql = new StringBuilder(prefix);
+        int parameter = 2;
+        for (int row = 0; row < rows.size(); row++) {
+            sql.append(row == 0 ? "(" : ", (");
+            for (int c = 0; c < types.length; c++) {
+                sql.append(c == 0 ? "" : ", ").append("CAST(?").append(parameter++).append(" AS ").append(types[c]).append(')');
+            }
+            sql.append(')');
+        }
+        sql.append(suffix);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter(1, rater);
+        parameter = 2;
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                query.setParameter(parameter++, value);
+            }
+        }
+        query.executeUpdate();
+    }
+
+    private int patchEntities(Long matrixId, String rater, long changedVersion, List<CarverItemScorePatchDTO> patches) {
+        List<Long> itemIds = new ArrayList<>(patches.size());
+        patches.forEach(patch -> itemIds.add(patch.getItemId()));
+        Map<Long, CarverItem> itemsById = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT i FROM CarverItem i JOIN FETCH i.carverMatrix m WHERE i.itemId IN :itemIds AND m.matrixId = :matrixId",
+                        CarverItem.class)
+                .setParameter("itemIds", itemIds)
+                .setParameter("matrixId", matrixId)
+                .getResultList()
+                .forEach(item -> itemsById.put(item.getItemId(), item));
+        Map<CarverScoreId, CarverScore> rowsById = new HashMap<>();
+        Map<CarverScoreAggregateId, CarverScoreAggregate> aggregatesById = new HashMap<>();
+        if (!itemsById.isEmpty()) {
+            entityManager.createQuery("SELECT s FROM CarverScore s WHERE s.itemId IN :itemIds AND s.rater = :rater", CarverScore.class)
+                    .setParameter("itemIds", itemsById.keySet())
+                    .setParameter("rater", rater)
+                    .getResultList()
+                    .forEach(row -> rowsById.put(new CarverScoreId(row.getItemId(), row.getRater(), row.getCategory()), row));
+            entityManager.createQuery("SELECT a FROM CarverScoreAggregate a WHERE a.itemId IN :itemIds", CarverScoreAggregate.class)
+                    .setParameter("itemIds", itemsById.keySet())
+                    .getResultList()
+                    .forEach(aggregate -> aggregatesById.put(new CarverScoreAggregateId(aggregate.getItemId(), aggregate.getCategory()), aggregate));
+        }
+
+        for (CarverItemScorePatchDTO patch : patches) {
+            CarverItem item = itemsById.get(patch.getItemId());
+            if (item != null) {
+                item.setChangedVersion(changedVersion);
+                patch.getScores().forEach((category, value) -> scoreMap(item, category).put(rater, value));
+            }
+        }
+        // The versioned item updates go first, so a concurrent write of the same items fails here, before either
+        // inserts their first score rows and aggregates, and the item rows stay locked for the rest of the write.
+        entityManager.flush();
+
+        for (CarverItemScorePatchDTO patch : patches) {
+            CarverItem item = itemsById.get(patch.getItemId());
+            if (item == null) {
+                continue;
+            }
+            patch.getScores().forEach((category, value) -> {
+                CarverScore row = rowsById.get(new CarverScoreId(item.getItemId(), rater, category));
+                int previous = 0;
+                if (row == null) {
+                    entityManager.persist(new CarverScore(item.getItemId(), rater, category, value));
+                } else {
+                    previous = row.getValue();
+                    row.setValue(value);
+                    row.setUpdatedAt(LocalDateTime.now());
+                }
+                adjustAggregate(aggregatesById, item.getItemId(), category, previous, value);
+            });
+        }
+        return itemsById.size();
+    }
+
+    private void adjustAggregate(Map<CarverScoreAggregateId, CarverScoreAggregate> aggregatesById,
+                                 Long itemId, String category, int previous, int value) {
+        long[] delta = aggregateDelta(previous, value);
+        long sumDelta = delta[0];
+        long countDelta = delta[1];
+        if (sumDelta == 0 && countDelta == 0) {
+            return;
+        }
+        CarverScoreAggregateId id = new CarverScoreAggregateId(itemId, category);
+        CarverScoreAggregate aggregate = aggregatesById.get(id);
+        if (aggregate == null) {
+            aggregate = new CarverScoreAggregate(itemId, category, sumDelta, countDelta);
+            entityManager.persist(aggregate);
+            aggregatesById.put(id, aggregate);
+        } else {
+            aggregate.setScoreSum(aggregate.getScoreSum() + sumDelta);
+            aggregate.setScoreCount(aggregate.getScoreCount() + countDelta);
+        }
+    }
+
+    /**
+     * Returns how replacing a rater's previous score with a new one changes the sum and count of its aggregate,
+     * for both the PostgreSQL statements and the entity fallback.
+     *
+     * @param previous the rater's previous score, or null if there was none.
+     * @param value    the new score.
+     * @return the sum delta followed by the count delta.
+     */
+    static long[] aggregateDelta(Integer previous, Integer value) {
+        return new long[] {
+                submitted(value) - submitted(previous),
+                (submitted(value) > 0 ? 1 : 0) - (submitted(previous) > 0 ? 1 : 0)
+        };
+    }
+
+    /**
+     * Returns the part of a score counted by the aggregates: the value if submitted, 0 for a placeholder.
+     */
+    private static int submitted(Integer value) {
+        return value != null && value > 0 ? value : 0;
+    }
+
+    private static Map<String, Integer> scoreMap(CarverItem item, String category) {
+        Map<String, Integer> scores = switch (category) {
+            case "criticality" -> item.getCriticality();
+            case "accessibility" -> item.getAccessibility();
+            case "recoverability" -> item.getRecoverability();
+            case "vulnerability" -> item.getVulnerability();
+            case "effect" -> item.getEffect();
+            case "recognizability" -> item.getRecognizability();
+            default -> throw new IllegalArgumentException("Unknown score category: " + category);
+        };
+        if (scores != null) {
+            return scores;
+        }
+        scores = new HashMap<>();
+        switch (category) {
+            case "criticality" -> item.setCriticality(scores);
+            case "accessibility" -> item.setAccessibility(scores);
+            case "recoverability" -> item.setRecoverability(scores);
+            case "vulnerability" -> item.setVulnerability(scores);
+            case "effect" -> item.setEffect(scores);
+            default -> item.setRecognizability(scores);
+        }
+        return scores;
+    }
+
+    private static String raterPatch(String rater, Integer value) {
+        if (value == null) {
+            return "{}";
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(Map.of(rater, value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize score patch", e);
+        }
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
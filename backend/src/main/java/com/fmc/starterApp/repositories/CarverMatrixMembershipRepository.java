@@ -0,0 +1,46 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryDTO;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+
+/**
+ * Custom {@link CarverMatrixRepository} fragment for membership queries that annotate each matrix with the
+ * caller's role.
+ */
+public interface CarverMatrixMembershipRepository {
+
+    /**
+     * Finds the matrices matching a specification and marks, for each one, whether the user is a host and/or
+     * a participant.
+     *
+     * <p>The role flags are selected by the same SQL statement as the matrices, so each matrix is returned once
+     * with both flags set, whatever combination of roles the user holds.
+     *
+     * @param userId the user whose role is reported (usually an email address).
+     * @param spec   the filter to apply; usually includes {@link CarverMatrixSpecifications#hasMember(String)}.
+     * @param sort   the result ordering.
+     * @param limit  the maximum number of matrices to return.
+     * @return the matching matrices with {@code host} and {@code participant} populated.
+     */
+    List<CarverMatrix> findWithRoles(String userId, Specification<CarverMatrix> spec, Sort sort, int limit);
+
+    /**
+     * Finds list-view summaries of the matrices matching a specification, with the user's role in each.
+     *
+     * <p>Only matrix columns are read; the item count is a SQL aggregate, so {@code carver_items} rows are never
+     * loaded. The statement contains only the predicates of the specification, so PostgreSQL can plan each
+     * combination of filters against its own indexes.
+     *
+     * @param userId the user whose role is reported (usually an email address).
+     * @param spec   the filter to apply; usually includes {@link CarverMatrixSpecifications#hasMember(String)}.
+     * @param sort   the result ordering.
+     * @param limit  the maximum number of summaries to return.
+     * @return the matching summaries.
+     */
+    List<CarverMatrixSummaryDTO> findSummaries(String userId, Specification<CarverMatrix> spec, Sort sort, int limit);
+}
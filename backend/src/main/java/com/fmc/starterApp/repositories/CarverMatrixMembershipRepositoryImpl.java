@@ -0,0 +1,79 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Criteria implementation of {@link CarverMatrixMembershipRepository}.
+ */
+class CarverMatrixMembershipRepositoryImpl implements CarverMatrixMembershipRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CarverMatrix> findWithRoles(String userId, Specification<CarverMatrix> spec, Sort sort, int limit) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<CarverMatrix> root = query.from(CarverMatrix.class);
+
+        query.multiselect(
+                root,
+                cb.arrayContains(root.get("hosts"), userId),
+                cb.arrayContains(root.get("participants"), userId));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(limit).getResultList();
+        List<CarverMatrix> matrices = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            CarverMatrix matrix = row.get(0, CarverMatrix.class);
+            matrix.setHost(Boolean.TRUE.equals(row.get(1)));
+            matrix.setParticipant(Boolean.TRUE.equals(row.get(2)));
+            matrices.add(matrix);
+        }
+        return matrices;
+    }
+
+    @Override
+    public List<CarverMatrixSummaryDTO> findSummaries(String userId, Specification<CarverMatrix> spec, Sort sort, int limit) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<CarverMatrixSummaryDTO> query = cb.createQuery(CarverMatrixSummaryDTO.class);
+        Root<CarverMatrix> root = query.from(CarverMatrix.class);
+
+        Subquery<Long> itemCount = query.subquery(Long.class);
+        Root<CarverItem> item = itemCount.from(CarverItem.class);
+        itemCount.select(cb.count(item)).where(cb.equal(item.get("carverMatrix"), root));
+
+        query.select(cb.construct(CarverMatrixSummaryDTO.class,
+                root.get("matrixId"),
+                root.get("name"),
+                root.get("description"),
+                root.get("createdAt"),
+                root.get("roleBased"),
+                cb.arrayContains(root.get("hosts"), userId),
+                cb.arrayContains(root.get("participants"), userId),
+                itemCount,
+                cb.coalesce(cb.arrayLength(root.get("participants")), 0)));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -1,24 +1,115 @@
 package com.fmc.starterApp.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fmc.starterApp.models.entity.CarverMatrix;
 
 @Repository
-public interface CarverMatrixRepository extends JpaRepository<CarverMatrix, Long>, JpaSpecificationExecutor<CarverMatrix> {
+public interface CarverMatrixRepository extends JpaRepository<CarverMatrix, Long>, JpaSpecificationExecutor<CarverMatrix>,
+        CarverMatrixMembershipRepository {
 
-    @Query(value = "SELECT * FROM carver_matrices WHERE CAST(:userId AS text) = ANY(hosts)", nativeQuery = true)
+    /**
+     * Finds all matrices whose {@code hosts} array contains the given user identifier.
+     *
+     * <p>{@code array_contains} is rendered by the PostgreSQL dialect as {@code hosts @> ARRAY[:userId]},
+     * which is served by the {@code idx_carver_matrices_hosts_gin} index.
+     *
+     * @param userId the host identifier (usually an email address).
+     * @return the matrices hosted by the user.
+     */
+    @Query("SELECT m FROM CarverMatrix m WHERE array_contains(m.hosts, :userId)")
     List<CarverMatrix> findByHost(@Param("userId") String userId);
 
-    @Query(value = "SELECT * FROM carver_matrices WHERE CAST(:userId AS text) = ANY(participants)", nativeQuery = true)
+    /**
+     * Finds all matrices whose {@code participants} array contains the given user identifier.
+     *
+     * <p>{@code array_contains} is rendered by the PostgreSQL dialect as {@code participants @> ARRAY[:userId]},
+     * which is served by the {@code idx_carver_matrices_participants_gin} index.
+     *
+     * @param userId the participant identifier (usually an email address).
+     * @return the matrices the user participates in.
+     */
+    @Query("SELECT m FROM CarverMatrix m WHERE array_contains(m.participants, :userId)")
     List<CarverMatrix> findByParticipant(@Param("userId") String userId);
 
+    /**
+     * Same as {@link #findByHost(String)}, but fetches each matrix's {@code items} in the same query.
+     *
+     * @param userId the host identifier.
+     * @return the matrices hosted by the user, with their items initialized.
+     */
+    @EntityGraph(attributePaths = "items")
+    @Query("SELECT m FROM CarverMatrix m WHERE array_contains(m.hosts, :userId)")
+    List<CarverMatrix> findWithItemsByHost(@Param("userId") String userId);
+
+    /**
+     * Same as {@link #findByParticipant(String)}, but fetches each matrix's {@code items} in the same query.
+     *
+     * @param userId the participant identifier.
+     * @return the matrices the user participates in, with their items initialized.
+     */
+    @EntityGraph(attributePaths = "items")
+    @Query("SELECT m FROM CarverMatrix m WHERE array_contains(m.participants, :userId)")
+    List<CarverMatrix> findWithItemsByParticipant(@Param("userId") String userId);
+
     CarverMatrix findFirstByMatrixId(Long matrixId);
 
-}
\ No newline at end of file
+    /**
+     * Returns the ID, name and version of every matrix a user hosts or participates in.
+     *
+     * @param userId the host/participant identifier.
+     * @return {@code [matrixId, name, version]} rows ordered by matrix ID.
+     */
+    @Query("SELECT m.matrixId, m.name, m.version FROM CarverMatrix m " +
+           "WHERE array_contains(m.hosts, :userId) OR array_contains(m.participants, :userId) ORDER BY m.matrixId")
+    List<Object[]> findPortfolioByMember(@Param("userId") String userId);
+
+    /**
+     * Reads only the version of a matrix, without loading the matrix row into the persistence context.
+     *
+     * @param matrixId the matrix ID.
+     * @return the current version, or empty if the matrix does not exist.
+     */
+    @Query("SELECT m.version FROM CarverMatrix m WHERE m.matrixId = :matrixId")
+    Optional<Long> findVersionByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Reads the version of a matrix and locks its row exclusively until the transaction ends.
+     *
+     * <p>Used by changes that must not run beside score writes: the lock waits for the score writes being applied,
+     * which hold the row in key share mode, and holds off later ones. Score writes only increment the version under
+     * the weaker {@code FOR NO KEY UPDATE} lock, so they do not wait for each other's writes.
+     *
+     * @param matrixId the matrix ID.
+     * @return the current version, or empty if the matrix does not exist.
+     */
+    @Query(value = "SELECT version FROM carver_matrices WHERE matrix_id = :matrixId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockVersionByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Atomically increments the version of a matrix.
+     *
+     * <p>The increment is a single {@code UPDATE ... SET version = version + 1}, so concurrent writers always
+     * produce distinct, increasing versions. It locks the matrix row until the transaction ends; score writes run it
+     * in a short transaction of their own and may then commit out of version order, which
+     * {@link com.fmc.starterApp.services.MatrixVersionTracker} accounts for.
+     *
+     * @param matrixId the matrix ID.
+     * @return the number of updated rows (0 if the matrix does not exist).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CarverMatrix m SET m.version = m.version + 1 WHERE m.matrixId = :matrixId")
+    int incrementVersion(@Param("matrixId") Long matrixId);
+
+}
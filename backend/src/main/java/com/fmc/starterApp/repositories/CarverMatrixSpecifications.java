@@ -0,0 +1,143 @@
+package com.fmc.starterApp.repositories;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fmc.starterApp.models.entity.CarverMatrix;
+
+/**
+ * {@link Specification} factories for querying {@link CarverMatrix} entities through
+ * {@link CarverMatrixRepository}'s {@code JpaSpecificationExecutor} support.
+ *
+ * <p>The predicates are written so that PostgreSQL can serve them from indexes:
+ * <ul>
+ *   <li>Membership uses array containment, backed by GIN indexes on {@code hosts} and {@code participants}.</li>
+ *   <li>Name and description filters use {@code ILIKE}, backed by {@code pg_trgm} GIN indexes; a text filter ORs
+ *       both, which PostgreSQL serves with a bitmap OR of the two indexes.</li>
+ *   <li>Keyset pagination compares {@code (created_at, matrix_id)}, backed by a composite b-tree index.</li>
+ * </ul>
+ */
+public final class CarverMatrixSpecifications {
+
+    /**
+     * The ordering used by keyset-paginated searches: newest first, ties broken by descending matrix ID.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("matrixId"));
+
+    /**
+     * Escape character used in the LIKE patterns built by {@link #containsPattern(String)}.
+     */
+    public static final char LIKE_ESCAPE = '\\';
+
+    private CarverMatrixSpecifications() {
+    }
+
+    /**
+     * Matches matrices where the user is listed as a host or a participant.
+     *
+     * @param userId the host/participant identifier (usually an email address).
+     * @return the membership specification.
+     */
+    public static Specification<CarverMatrix> hasMember(String userId) {
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.or(
+                    hcb.arrayContains(root.get("hosts"), userId),
+                    hcb.arrayContains(root.get("participants"), userId));
+        };
+    }
+
+    /**
+     * Case-insensitive substring match on the matrix name.
+     *
+     * @param fragment the text to look for; LIKE wildcards in it are matched literally.
+     * @return the name specification.
+     */
+    public static Specification<CarverMatrix> nameContains(String fragment) {
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).ilike(root.get("name"), containsPattern(fragment), LIKE_ESCAPE);
+    }
+
+    /**
+     * Case-insensitive substring match on the matrix description. Matrices without a description never match.
+     *
+     * @param fragment the text to look for; LIKE wildcards in it are matched literally.
+     * @return the description specification.
+     */
+    public static Specification<CarverMatrix> descriptionContains(String fragment) {
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).ilike(root.get("description"), containsPattern(fragment), LIKE_ESCAPE);
+    }
+
+    /**
+     * Matches matrices where the user is listed as a host.
+     *
+     * @param userId the host identifier (usually an email address).
+     * @return the host specification.
+     */
+    public static Specification<CarverMatrix> hasHost(String userId) {
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).arrayContains(root.get("hosts"), userId);
+    }
+
+    /**
+     * Matches matrices where the user is listed as a participant.
+     *
+     * @param userId the participant identifier (usually an email address).
+     * @return the participant specification.
+     */
+    public static Specification<CarverMatrix> hasParticipant(String userId) {
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).arrayContains(root.get("participants"), userId);
+    }
+
+    /**
+     * Case-insensitive substring match on either the matrix name or its description.
+     *
+     * @param fragment the text to look for; LIKE wildcards in it are matched literally.
+     * @return the text specification.
+     */
+    public static Specification<CarverMatrix> textContains(String fragment) {
+        return nameContains(fragment).or(descriptionContains(fragment));
+    }
+
+    /**
+     * Matches matrices whose role-based flag has the given value; an unset flag counts as disabled.
+     *
+     * @param roleBased whether role-based matrices are wanted.
+     * @return the role-based specification.
+     */
+    public static Specification<CarverMatrix> isRoleBased(boolean roleBased) {
+        return (root, query, cb) -> roleBased
+                ? cb.isTrue(root.get("roleBased"))
+                : cb.or(cb.isNull(root.get("roleBased")), cb.isFalse(root.get("roleBased")));
+    }
+
+    /**
+     * Matches matrices that come strictly after the given keyset position in {@link #KEYSET_SORT} order.
+     *
+     * @param createdAt the creation timestamp of the last matrix of the previous page.
+     * @param matrixId  the ID of the last matrix of the previous page.
+     * @return the keyset specification.
+     */
+    public static Specification<CarverMatrix> after(LocalDateTime createdAt, Long matrixId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.get("matrixId"), matrixId)));
+    }
+
+    /**
+     * Builds a {@code %fragment%} LIKE pattern in which wildcards from the fragment are escaped with {@link #LIKE_ESCAPE}.
+     *
+     * @param fragment the literal text to search for; must not be null.
+     * @return the escaped pattern.
+     */
+    public static String containsPattern(String fragment) {
+        String escaped = fragment
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,71 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fmc.starterApp.models.dto.CarverScoreAggregateDTO;
+import com.fmc.starterApp.models.entity.CarverScoreAggregate;
+import com.fmc.starterApp.models.entity.CarverScoreAggregateId;
+
+/**
+ * Access to the running per item and category score aggregates.
+ *
+ * <p>Aggregates are maintained by {@link CarverItemScoreRepository} together with the score rows; reads cost one
+ * row per scored item and category, whatever the number of raters.
+ */
+@Repository
+public interface CarverScoreAggregateRepository extends JpaRepository<CarverScoreAggregate, CarverScoreAggregateId> {
+
+    /**
+     * Returns the sum and number of submitted scores of each item and category of a matrix.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return {@code [itemId, category, sum, count]} rows, one per aggregated item and category.
+     */
+    @Query("SELECT a.itemId, a.category, a.scoreSum, a.scoreCount " +
+           "FROM CarverScoreAggregate a JOIN a.item i WHERE i.carverMatrix.matrixId = :matrixId")
+    List<Object[]> findSumsByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Returns the average and number of submitted scores of each item and category of a matrix.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return one aggregate per scored item and category, ordered by item and category.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.CarverScoreAggregateDTO(" +
+           "a.itemId, a.category, CAST(a.scoreSum AS double) / a.scoreCount, a.scoreCount) " +
+           "FROM CarverScoreAggregate a JOIN a.item i WHERE i.carverMatrix.matrixId = :matrixId AND a.scoreCount > 0 " +
+           "ORDER BY a.itemId, a.category")
+    List<CarverScoreAggregateDTO> findAveragesByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Deletes the aggregates of the items of a matrix.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the number of deleted aggregates.
+     */
+    @Modifying
+    @Query("DELETE FROM CarverScoreAggregate a WHERE a.itemId IN " +
+           "(SELECT i.itemId FROM CarverItem i WHERE i.carverMatrix.matrixId = :matrixId)")
+    int deleteByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Recomputes the aggregates of the items of a matrix from its score rows; existing aggregates must have been
+     * deleted first.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the number of inserted aggregates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO carver_score_aggregates (item_id, category, score_sum, score_count) " +
+                   "SELECT s.item_id, s.category, SUM(s.value), COUNT(*) " +
+                   "FROM carver_scores s JOIN carver_items i ON i.item_id = s.item_id " +
+                   "WHERE i.matrix_id = :matrixId AND s.value > 0 GROUP BY s.item_id, s.category",
+           nativeQuery = true)
+    int insertFromScoresByMatrixId(@Param("matrixId") Long matrixId);
+}
@@ -0,0 +1,84 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fmc.starterApp.models.dto.CarverRaterCompletionDTO;
+import com.fmc.starterApp.models.entity.CarverScore;
+import com.fmc.starterApp.models.entity.CarverScoreId;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Read access to the normalized {@link CarverScore} rows.
+ *
+ * <p>Scores are written through {@link CarverItemScoreRepository} together with the JSON score maps of the items.
+ * Aggregates count submitted scores only ({@code value > 0}); the running per item aggregates are read from
+ * {@link CarverScoreAggregateRepository} instead, and the aggregates here serve to check and rebuild them.
+ */
+@Repository
+public interface CarverScoreRepository extends JpaRepository<CarverScore, CarverScoreId> {
+
+    /**
+     * Returns every score of a rater, across all matrices.
+     *
+     * @param rater the rater (usually an email address).
+     * @return the rater's scores ordered by item and category.
+     */
+    List<CarverScore> findByRaterOrderByItemIdAscCategoryAsc(String rater);
+
+    /**
+     * Returns the scores of one rater on the items of several matrices.
+     *
+     * @param matrixIds the IDs of the owning matrices.
+     * @param rater     the rater (usually an email address).
+     * @return the rater's scores, including unscored placeholders.
+     */
+    @Query("SELECT s FROM CarverScore s JOIN s.item i WHERE i.carverMatrix.matrixId IN :matrixIds AND s.rater = :rater")
+    List<CarverScore> findByMatrixIdInAndRater(@Param("matrixIds") Collection<Long> matrixIds, @Param("rater") String rater);
+
+    /**
+     * Returns the sum and number of submitted scores of each item and category of a matrix.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return {@code [itemId, category, sum, count]} rows, one per scored item and category.
+     */
+    @Query("SELECT s.itemId, s.category, SUM(s.value), COUNT(s) " +
+           "FROM CarverScore s JOIN s.item i WHERE i.carverMatrix.matrixId = :matrixId AND s.value > 0 " +
+           "GROUP BY s.itemId, s.category")
+    List<Object[]> findSumsByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Returns how many items and item/category scores each rater has submitted in a matrix.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return one entry per rater with at least one submitted score, ordered by rater.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.CarverRaterCompletionDTO(s.rater, COUNT(DISTINCT s.itemId), COUNT(s)) " +
+           "FROM CarverScore s JOIN s.item i WHERE i.carverMatrix.matrixId = :matrixId AND s.value > 0 " +
+           "GROUP BY s.rater ORDER BY s.rater")
+    List<CarverRaterCompletionDTO> findRaterCompletionByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Streams the submitted scores of a matrix grouped by category and rater, for single-pass statistics.
+     *
+     * <p>Rows are fetched from the cursor in batches and are not managed entities, so memory does not grow with
+     * the matrix. The stream must be consumed inside a transaction and closed.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return {@code [itemId, category, rater, value]} rows ordered by category, rater and item.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.itemId, s.category, s.rater, s.value " +
+           "FROM CarverScore s JOIN s.item i WHERE i.carverMatrix.matrixId = :matrixId AND s.value > 0 " +
+           "ORDER BY s.category, s.rater, s.itemId")
+    Stream<Object[]> streamSubmittedByMatrixId(@Param("matrixId") Long matrixId);
+}
@@ -0,0 +1,53 @@
+package com.fmc.starterApp.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fmc.starterApp.models.entity.IdempotencyRecord;
+
+/**
+ * Access to the stored outcomes of idempotent write requests.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Deletes every record that expired before the given time.
+     *
+     * @param now the current time.
+     * @return the number of deleted records.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Returns creation times, newest first; with a page of size one at offset {@code n} this is the creation time
+     * of the {@code n+1}-th newest record.
+     *
+     * @param pageable the page to read.
+     * @return the creation times of the page.
+     */
+    @Query("SELECT r.createdAt FROM IdempotencyRecord r ORDER BY r.createdAt DESC")
+    List<LocalDateTime> findCreatedAtNewestFirst(Pageable pageable);
+
+    /**
+     * Deletes every record created at or before the given time.
+     *
+     * @param cutoff the latest creation time of the deleted records.
+     * @return the number of deleted records.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt <= :cutoff")
+    int deleteCreatedAtOrBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,25 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fmc.starterApp.models.entity.MatrixImageRemoval;
+
+@Repository
+public interface MatrixImageRemovalRepository extends JpaRepository<MatrixImageRemoval, Long> {
+
+    /**
+     * Returns the IDs of the images of a matrix deleted after a given matrix version.
+     *
+     * @param matrixId the ID of the matrix.
+     * @param since    the matrix version the caller already has.
+     * @return the removed image IDs, in ascending order.
+     */
+    @Query("SELECT r.imageId FROM MatrixImageRemoval r " +
+           "WHERE r.carverMatrix.matrixId = :matrixId AND r.changedVersion > :since ORDER BY r.imageId")
+    List<Long> findImageIdsRemovedSince(@Param("matrixId") Long matrixId, @Param("since") long since);
+}
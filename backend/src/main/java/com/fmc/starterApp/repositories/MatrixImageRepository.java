@@ -1,13 +1,55 @@
 package com.fmc.starterApp.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fmc.starterApp.models.dto.MatrixImageDTO;
 import com.fmc.starterApp.models.entity.MatrixImage;
 
 @Repository
 public interface MatrixImageRepository extends JpaRepository<MatrixImage, Long> {
     Optional<MatrixImage> findByImageId(Long imageId);
+
+    /**
+     * Returns the images of a single matrix as {@link MatrixImageDTO} projections.
+     *
+     * <p>The lookup is served by the {@code idx_matrix_images_matrix_id} index, so its cost depends only on
+     * the number of images in the requested matrix.
+     *
+     * @param matrixId the ID of the matrix whose images are requested.
+     * @return the image projections for the matrix, ordered by image ID.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.MatrixImageDTO(i.imageId, i.imageUrl, ci.itemId, i.carverMatrix.matrixId) " +
+           "FROM MatrixImage i LEFT JOIN i.carverItem ci " +
+           "WHERE i.carverMatrix.matrixId = :matrixId ORDER BY i.imageId")
+    List<MatrixImageDTO> findImagesByMatrixId(@Param("matrixId") Long matrixId);
+
+    /**
+     * Returns the images of several matrices as {@link MatrixImageDTO} projections in a single query.
+     *
+     * @param matrixIds the IDs of the matrices whose images are requested.
+     * @return the image projections, ordered by image ID; {@link MatrixImageDTO#getMatrixId()} identifies the owner.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.MatrixImageDTO(i.imageId, i.imageUrl, ci.itemId, i.carverMatrix.matrixId) " +
+           "FROM MatrixImage i LEFT JOIN i.carverItem ci " +
+           "WHERE i.carverMatrix.matrixId IN :matrixIds ORDER BY i.imageId")
+    List<MatrixImageDTO> findImagesByMatrixIdIn(@Param("matrixIds") Collection<Long> matrixIds);
+
+    /**
+     * Returns the images of a matrix uploaded after a given matrix version.
+     *
+     * @param matrixId the ID of the matrix whose images are requested.
+     * @param since    the matrix version the caller already has.
+     * @return the image projections, ordered by image ID.
+     */
+    @Query("SELECT new com.fmc.starterApp.models.dto.MatrixImageDTO(i.imageId, i.imageUrl, ci.itemId, i.carverMatrix.matrixId) " +
+           "FROM MatrixImage i LEFT JOIN i.carverItem ci " +
+           "WHERE i.carverMatrix.matrixId = :matrixId AND i.changedVersion > :since ORDER BY i.imageId")
+    List<MatrixImageDTO> findImagesChangedSince(@Param("matrixId") Long matrixId, @Param("since") long since);
 }
@@ -1,27 +1,66 @@
 package com.fmc.starterApp.services;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.dto.CarverItemAgreementDTO;
+import com.fmc.starterApp.models.dto.CarverItemRankDTO;
+import com.fmc.starterApp.models.dto.CarverItemScoreDTO;
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.dto.CarverItemViewDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixPageDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryPageDTO;
+import com.fmc.starterApp.models.dto.CarverScoreDeltaDTO;
+import com.fmc.starterApp.models.dto.CarverScoreStatsDTO;
+import com.fmc.starterApp.models.dto.MatrixAgreementDTO;
+import com.fmc.starterApp.models.dto.MatrixBatchEntryDTO;
+import com.fmc.starterApp.models.dto.MatrixChangesDTO;
+import com.fmc.starterApp.models.dto.MatrixImageDTO;
+import com.fmc.starterApp.models.dto.MatrixRankingDTO;
+import com.fmc.starterApp.models.dto.MatrixScoresDTO;
+import com.fmc.starterApp.models.dto.MatrixViewDTO;
+import com.fmc.starterApp.models.dto.ScoreAggregateCheckDTO;
+import com.fmc.starterApp.models.dto.ScoreAggregateMismatchDTO;
 import com.fmc.starterApp.models.entity.CarverItem;
 import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.models.entity.CarverScore;
+import com.fmc.starterApp.models.entity.CarverScoreAggregateId;
 import com.fmc.starterApp.models.entity.User2;
 import com.fmc.starterApp.repositories.CarverItemRepository;
 import com.fmc.starterApp.repositories.CarverMatrixRepository;
+import com.fmc.starterApp.repositories.CarverMatrixSpecifications;
+import com.fmc.starterApp.repositories.CarverScoreAggregateRepository;
+import com.fmc.starterApp.repositories.CarverScoreRepository;
+import com.fmc.starterApp.repositories.MatrixImageRemovalRepository;
 import com.fmc.starterApp.repositories.MatrixImageRepository;
 import com.fmc.starterApp.repositories.User2Repository;
 
@@ -34,10 +73,16 @@ import lombok.AllArgsConstructor;
  * <ul>
  *   <li>Retrieve matrices by host or participant user ID</li>
  *   <li>Retrieve a single matrix by its ID, ensuring its items are initialized</li>
+ *   <li>Serve the JSON view of a single matrix from a bounded cache that write paths invalidate</li>
+ *   <li>Return only the items, settings and images of a matrix changed after a given version</li>
+ *   <li>Build sparse views of matrices that load only the requested fields and associations</li>
+ *   <li>Retrieve a batch of matrices by ID with a constant number of queries</li>
+ *   <li>Compute score averages and rater completion with SQL aggregates over the normalized score table</li>
+ *   <li>Compute per item category means and multiplier-weighted totals</li>
  *   <li>Create a new matrix with proper user assignment and item initialization (including optional random assignment)</li>
  *   <li>Update an existing matrix with new values</li>
  *   <li>Search matrices based on provided search parameters</li>
- *   <li>Update CarverItems based on a list of update maps for a given user</li>
+ *   <li>Update CarverItems based on a list of update maps for a given user, writing only that user's score keys</li>
  * </ul>
  * 
  * <p>Each method contains error handling to capture repository failures and invalid input scenarios.
@@ -46,6 +91,45 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class CarverMatrixService {
 
+    /**
+     * Page size used by {@link #searchCarverMatrixPage(Map)} and {@link #getMatrixSummaries(Map)} when no "limit"
+     * parameter is given.
+     */
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 50;
+
+    /**
+     * Largest page size {@link #searchCarverMatrixPage(Map)} will return, regardless of the requested "limit".
+     */
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    /**
+     * Largest number of distinct matrix IDs accepted by {@link #getMatricesByIds(List, MatrixFieldSelection)}.
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Number of items {@link #getMatrixRanking(Long, Integer)} returns when no k is given.
+     */
+    public static final int DEFAULT_RANKING_SIZE = 10;
+
+    /**
+     * Largest k accepted by {@link #getMatrixRanking(Long, Integer)}.
+     */
+    public static final int MAX_RANKING_SIZE = 1000;
+
+    /**
+     * Attempts made by {@link #updateCarverItemScores(Long, List, String)} before an optimistic locking conflict
+     * is reported to the caller.
+     */
+    public static final int MAX_SCORE_WRITE_ATTEMPTS = 10;
+
+    /**
+     * The matrix settings returned by {@link #getMatrixChanges(Long, long)} when they changed.
+     */
+    private static final MatrixFieldSelection SETTINGS_SELECTION = MatrixFieldSelection.parse(
+            "name,description,hosts,participants,cMulti,aMulti,rMulti,vMulti,eMulti,r2Multi,randomAssignment,roleBased,fivePointScoring",
+            null, null);
+
     @Autowired
     private CarverMatrixRepository carverMatrixRepository;
     
@@ -58,12 +142,30 @@ public class CarverMatrixService {
     private ImageService imageService;
     @Autowired
     private MatrixImageRepository matrixImageRepository;
+    @Autowired
+    private MatrixViewCache matrixViewCache;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CarverScoreRepository carverScoreRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MatrixEventBroker matrixEventBroker;
+    @Autowired
+    private MatrixImageRemovalRepository matrixImageRemovalRepository;
+    @Autowired
+    private CarverScoreAggregateRepository carverScoreAggregateRepository;
+    @Autowired
+    private MatrixVersionTracker matrixVersionTracker;
+    @Autowired
+    private MatrixVersionService matrixVersionService;
 
     /**
      * Retrieves all CarverMatrix objects where the specified user (by userId) is a host.
      *
-     * <p>This method converts the userId to a string and queries the repository using a native query.
-     * It initializes the items of each matrix to ensure that lazy-loaded collections are available.
+     * <p>This method converts the userId to a string and queries the repository with an entity graph,
+     * so the matrices and their items are loaded in a single query.
      *
      * @param userId the ID of the user.
      * @return a list of CarverMatrix objects where the user is a host.
@@ -76,10 +178,8 @@ public class CarverMatrixService {
             throw new IllegalArgumentException("UserId must not be null");
         }
         try {
-            List<CarverMatrix> matrices = carverMatrixRepository.findByHost(String.valueOf(userId));
-            // Ensure that the items collection is initialized for each matrix.
-            matrices.forEach(matrix -> Hibernate.initialize(matrix.getItems()));
-            return matrices;
+            // Items are fetched in the same query, avoiding one extra SELECT per matrix.
+            return carverMatrixRepository.findWithItemsByHost(String.valueOf(userId));
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve matrices by host for userId: " + userId, e);
         }
@@ -88,8 +188,8 @@ public class CarverMatrixService {
     /**
      * Retrieves all CarverMatrix objects where the specified user (by userId) is a participant.
      *
-     * <p>This method converts the userId to a string and queries the repository using a native query.
-     * It initializes the items of each matrix to ensure that lazy-loaded collections are available.
+     * <p>This method converts the userId to a string and queries the repository with an entity graph,
+     * so the matrices and their items are loaded in a single query.
      *
      * @param userId the ID of the user.
      * @return a list of CarverMatrix objects where the user is a participant.
@@ -102,9 +202,7 @@ public class CarverMatrixService {
             throw new IllegalArgumentException("UserId must not be null");
         }
         try {
-            List<CarverMatrix> matrices = carverMatrixRepository.findByParticipant(String.valueOf(userId));
-            matrices.forEach(matrix -> Hibernate.initialize(matrix.getItems()));
-            return matrices;
+            return carverMatrixRepository.findWithItemsByParticipant(String.valueOf(userId));
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve matrices by participant for userId: " + userId, e);
         }
@@ -113,7 +211,8 @@ public class CarverMatrixService {
     /**
      * Retrieves a CarverMatrix by its matrixId.
      *
-     * <p>If the matrix is found, its items are initialized.
+     * <p>If the matrix is found, its items are initialized and its images are attached as
+     * {@link MatrixImageDTO} projections queried by matrix ID.
      *
      * @param matrixId the unique identifier of the matrix.
      * @return the CarverMatrix if found, or null if not.
@@ -130,14 +229,8 @@ public class CarverMatrixService {
           if (matrix != null) {
               Hibernate.initialize(matrix.getItems());
 
-              //Fetch images for matrix
-              List<Map<String, Object>> images = matrixImageRepository.findAll().stream().filter(img -> img.getCarverMatrix() != null && img.getCarverMatrix().getMatrixId().equals(matrixId)).map(img -> {
-                      Map<String, Object> map = new HashMap<>();
-                      map.put("imageId", img.getImageId());
-                      map.put("imageUrl", img.getImageUrl());
-                      map.put("itemId", img.getCarverItem() != null ? img.getCarverItem().getItemId() : null);
-                      return map;
-                  }).toList();
+              // Fetch only this matrix's images through the matrix_id index.
+              List<MatrixImageDTO> images = matrixImageRepository.findImagesByMatrixId(matrixId);
               matrix.setImages(images);
           }else{
              throw new IllegalArgumentException("CarverMatrix must not be null");
@@ -148,6 +241,311 @@ public class CarverMatrixService {
         }
     }
 
+    /**
+     * Returns the JSON view of a CarverMatrix, as served by {@code GET /api/carvermatrices/{matrixId}}.
+     *
+     * <p>Views are served from the {@link MatrixViewCache}; on a miss the matrix is assembled by
+     * {@link #getMatrixById(Long)} and serialized once. Every write path that changes a matrix, its items or its
+     * images invalidates the cached view after commit. The returned version is the one the JSON was built from.
+     * While a write to the matrix is unfinished the view is built without the cache, and carries the version below
+     * that write, so its tag changes again once the write commits. Only a miss opens a read-only transaction, so
+     * a cache hit never takes a database connection.
+     *
+     * @param matrixId the unique identifier of the matrix.
+     * @return the serialized matrix and its version.
+     * @throws IllegalArgumentException if matrixId is null.
+     * @throws RuntimeException if the matrix is not found or cannot be serialized.
+     */
+    public MatrixViewDTO getMatrixView(Long matrixId) {
+        if (matrixId == null) {
+            throw new IllegalArgumentException("MatrixId must not be null");
+        }
+        if (matrixVersionTracker.hasOpen(matrixId)) {
+            return loadMatrixView(matrixId);
+        }
+        return matrixViewCache.get(matrixId, this::loadMatrixView);
+    }
+
+    /**
+     * Assembles and serializes the view of a matrix for {@link #getMatrixView(Long)} in a read-only transaction,
+     * which joins the caller's transaction if there is one.
+     *
+     * @param matrixId the unique identifier of the matrix.
+     * @return the serialized matrix and the version it was built from.
+     */
+    private MatrixViewDTO loadMatrixView(Long matrixId) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        return readOnlyTransaction.execute(status -> {
+            CarverMatrix matrix = getMatrixById(matrixId);
+            try {
+                return new MatrixViewDTO(matrixVersionTracker.visibleVersion(matrixId, matrix.getVersion()),
+                        objectMapper.writeValueAsBytes(matrix));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize CarverMatrix with ID: " + matrixId, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the current version of a CarverMatrix without loading the matrix, its items or its images.
+     *
+     * <p>While score writes to the matrix are unfinished this is the version below the oldest of them (see
+     * {@link MatrixVersionTracker#visibleVersion(Long, long)}), so every change up to the returned version is committed.
+     *
+     * @param matrixId the unique identifier of the matrix.
+     * @return the matrix version.
+     * @throws IllegalArgumentException if matrixId is null or the matrix is not found.
+     */
+    public Long getMatrixVersion(Long matrixId) {
+        if (matrixId == null) {
+            throw new IllegalArgumentException("MatrixId must not be null");
+        }
+        long version = carverMatrixRepository.findVersionByMatrixId(matrixId)
+                .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        return matrixVersionTracker.visibleVersion(matrixId, version);
+    }
+
+    /**
+     * Returns the changes to a CarverMatrix after a version the caller already has.
+     *
+     * <p>Every write stamps the rows it changes with the matrix version it produced, so only the items, images and
+     * image removals stamped after {@code since} are read, and the settings are included only if they changed.
+     * Score writes may commit out of version order, so the returned version is the one below the oldest unfinished
+     * write (see {@link #getMatrixVersion(Long)}), read before the rows: a write that commits while the rows are read
+     * is either included or stamped after the returned version, so it is never missed by the next request, although
+     * it may be sent twice.
+     *
+     * @param matrixId the unique identifier of the matrix.
+     * @param since    a version of the matrix previously returned to the caller.
+     * @return the changes and the version to continue from.
+     * @throws IllegalArgumentException if matrixId is null, since is negative or newer than the matrix, or the
+     *                                  matrix is not found.
+     */
+    @Transactional(readOnly = true)
+    public MatrixChangesDTO getMatrixChanges(Long matrixId, long since) {
+        if (matrixId == null) {
+            throw new IllegalArgumentException("MatrixId must not be null");
+        }
+        if (since < 0) {
+            throw new IllegalArgumentException("Version must not be negative");
+        }
+        CarverMatrix matrix = carverMatrixRepository.findById(matrixId)
+                .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        if (since > matrix.getVersion()) {
+            throw new IllegalArgumentException("Version " + since + " is newer than the matrix version " + matrix.getVersion());
+        }
+        long version = matrixVersionTracker.visibleVersion(matrixId, matrix.getVersion());
+        MatrixChangesDTO changes = MatrixChangesDTO.builder()
+                .matrixId(matrixId)
+                .since(since)
+                .version(version)
+                .build();
+        if (since == version) {
+            changes.setItems(List.of());
+            changes.setImages(List.of());
+            changes.setRemovedImageIds(List.of());
+            return changes;
+        }
+        // A version returned by a write may be above the visible one while older writes finish.
+        long from = Math.min(since, version);
+        if (matrix.getSettingsVersion() > from) {
+            changes.setSettings(SETTINGS_SELECTION.selectFields(matrix));
+        }
+        changes.setItems(carverItemRepository.findScoredItemViewsChangedSince(matrixId, from));
+        changes.setImages(matrixImageRepository.findImagesChangedSince(matrixId, from));
+        changes.setRemovedImageIds(matrixImageRemovalRepository.findImageIdsRemovedSince(matrixId, from));
+        return changes;
+    }
+
+    /**
+     * Returns the requested parts of a CarverMatrix.
+     *
+     * <p>Only the matrix row is always read. Items are loaded by projection, without score columns unless
+     * scores are requested, and images are queried only when requested.
+     *
+     * @param matrixId  the unique identifier of the matrix.
+     * @param selection the requested fields and associations; must not be null.
+     * @return the selected matrix properties and associations, keyed by their JSON names.
+     * @throws IllegalArgumentException if matrixId or selection is null, or if the matrix is not found.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSparseMatrix(Long matrixId, MatrixFieldSelection selection) {
+        if (matrixId == null) {
+            throw new IllegalArgumentException("MatrixId must not be null");
+        }
+        CarverMatrix matrix = carverMatrixRepository.findById(matrixId)
+                .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        return toSparseViews(List.of(matrix), selection).get(0);
+    }
+
+    /**
+     * Returns the requested parts of every CarverMatrix hosted by the user.
+     *
+     * <p>Unlike {@link #getMatricesByHost(Long)}, items are not fetched with the matrices; see
+     * {@link #toSparseViews(List, MatrixFieldSelection)}.
+     *
+     * @param userId    the ID of the user.
+     * @param selection the requested fields and associations; must not be null.
+     * @return one view per matrix.
+     * @throws IllegalArgumentException if userId or selection is null.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getSparseMatricesByHost(Long userId, MatrixFieldSelection selection) {
+        if (userId == null) {
+            throw new IllegalArgumentException("UserId must not be null");
+        }
+        return toSparseViews(carverMatrixRepository.findByHost(String.valueOf(userId)), selection);
+    }
+
+    /**
+     * Returns the requested parts of every CarverMatrix the user participates in.
+     *
+     * @param userId    the ID of the user.
+     * @param selection the requested fields and associations; must not be null.
+     * @return one view per matrix.
+     * @throws IllegalArgumentException if userId or selection is null.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getSparseMatricesByParticipant(Long userId, MatrixFieldSelection selection) {
+        if (userId == null) {
+            throw new IllegalArgumentException("UserId must not be null");
+        }
+        return toSparseViews(carverMatrixRepository.findByParticipant(String.valueOf(userId)), selection);
+    }
+
+    /**
+     * Returns several matrices in one call, reporting unknown IDs per entry instead of failing.
+     *
+     * <p>The matrices are read with one query and their requested associations with one query each
+     * (see {@link #toSparseViews(List, MatrixFieldSelection)}), regardless of how many IDs are requested.
+     * Duplicate IDs are collapsed; entries follow the order of first appearance.
+     *
+     * @param matrixIds the IDs of the requested matrices; must not be null or contain null.
+     * @param selection the requested fields and associations; must not be null.
+     * @return one entry per distinct requested ID.
+     * @throws IllegalArgumentException if matrixIds is null, contains null, or has more than {@value #MAX_BATCH_SIZE} distinct IDs.
+     */
+    @Transactional(readOnly = true)
+    public List<MatrixBatchEntryDTO> getMatricesByIds(List<Long> matrixIds, MatrixFieldSelection selection) {
+        if (matrixIds == null || matrixIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Matrix IDs must not be null");
+        }
+        List<Long> distinctIds = matrixIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " matrix IDs can be requested at once");
+        }
+
+        List<CarverMatrix> matrices = carverMatrixRepository.findAllById(distinctIds);
+        List<Map<String, Object>> views = toSparseViews(matrices, selection);
+        Map<Long, Map<String, Object>> viewsById = new HashMap<>();
+        for (int i = 0; i < matrices.size(); i++) {
+            viewsById.put(matrices.get(i).getMatrixId(), views.get(i));
+        }
+
+        List<MatrixBatchEntryDTO> entries = new ArrayList<>(distinctIds.size());
+        for (Long matrixId : distinctIds) {
+            Map<String, Object> view = viewsById.get(matrixId);
+            entries.add(MatrixBatchEntryDTO.builder()
+                    .matrixId(matrixId)
+                    .status(view == null ? MatrixBatchEntryDTO.NOT_FOUND : MatrixBatchEntryDTO.FOUND)
+                    .matrix(view)
+                    .build());
+        }
+        return entries;
+    }
+
+    /**
+     * Builds sparse views of already loaded matrices.
+     *
+     * <p>Only scalar properties are read from the matrices themselves. Requested associations are loaded for
+     * all matrices at once, so the number of queries does not depend on the number of matrices: one for items
+     * (with score columns only if scores are requested) and one for images. When a rater is selected, the
+     * score columns are not read at all: that rater's scores come from one indexed {@code carver_scores} query.
+     *
+     * @param matrices  the matrices to render; their items are never initialized.
+     * @param selection the requested fields and associations; must not be null.
+     * @return one view per matrix, in the order of {@code matrices}.
+     * @throws IllegalArgumentException if matrices or selection is null.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> toSparseViews(List<CarverMatrix> matrices, MatrixFieldSelection selection) {
+        if (matrices == null) {
+            throw new IllegalArgumentException("Matrices must not be null");
+        }
+        if (selection == null) {
+            throw new IllegalArgumentException("Field selection must not be null");
+        }
+        List<Long> matrixIds = matrices.stream().map(CarverMatrix::getMatrixId).toList();
+
+        Map<Long, List<CarverItemViewDTO>> itemsByMatrix = new HashMap<>();
+        if (selection.isItems() && !matrixIds.isEmpty()) {
+            List<CarverItemViewDTO> items = selection.isScores() && selection.getRater() == null
+                    ? carverItemRepository.findScoredItemViewsByMatrixIdIn(matrixIds)
+                    : carverItemRepository.findItemViewsByMatrixIdIn(matrixIds);
+            if (selection.getRater() != null) {
+                applyRaterScores(items, carverScoreRepository.findByMatrixIdInAndRater(matrixIds, selection.getRater()));
+            }
+            for (CarverItemViewDTO item : items) {
+                itemsByMatrix.computeIfAbsent(item.getMatrixId(), id -> new ArrayList<>()).add(item);
+            }
+        }
+
+        Map<Long, List<MatrixImageDTO>> imagesByMatrix = new HashMap<>();
+        if (selection.isImages() && !matrixIds.isEmpty()) {
+            for (MatrixImageDTO image : matrixImageRepository.findImagesByMatrixIdIn(matrixIds)) {
+                imagesByMatrix.computeIfAbsent(image.getMatrixId(), id -> new ArrayList<>()).add(image);
+            }
+        }
+
+        List<Map<String, Object>> views = new ArrayList<>(matrices.size());
+        for (CarverMatrix matrix : matrices) {
+            Map<String, Object> view = selection.selectFields(matrix);
+            if (selection.isItems()) {
+                view.put("items", itemsByMatrix.getOrDefault(matrix.getMatrixId(), List.of()));
+            }
+            if (selection.isImages()) {
+                view.put("images", imagesByMatrix.getOrDefault(matrix.getMatrixId(), List.of()));
+            }
+            views.add(view);
+        }
+        return views;
+    }
+
+    /**
+     * Fills the score maps of item projections with a single rater's normalized scores.
+     *
+     * @param items  item projections loaded without score columns.
+     * @param scores the rater's score rows for those items.
+     */
+    private static void applyRaterScores(List<CarverItemViewDTO> items, List<CarverScore> scores) {
+        Map<Long, CarverItemViewDTO> itemsById = new HashMap<>();
+        for (CarverItemViewDTO item : items) {
+            item.setCriticality(new HashMap<>());
+            item.setAccessibility(new HashMap<>());
+            item.setRecoverability(new HashMap<>());
+            item.setVulnerability(new HashMap<>());
+            item.setEffect(new HashMap<>());
+            item.setRecognizability(new HashMap<>());
+            itemsById.put(item.getItemId(), item);
+        }
+        for (CarverScore score : scores) {
+            CarverItemViewDTO item = itemsById.get(score.getItemId());
+            if (item == null) {
+                continue;
+            }
+            Map<String, Integer> target = switch (score.getCategory()) {
+                case "criticality" -> item.getCriticality();
+                case "accessibility" -> item.getAccessibility();
+                case "recoverability" -> item.getRecoverability();
+                case "vulnerability" -> item.getVulnerability();
+                case "effect" -> item.getEffect();
+                default -> item.getRecognizability();
+            };
+            target.put(score.getRater(), score.getValue());
+        }
+    }
+
     /**
      * Creates a new CarverMatrix for the specified user.
      *
@@ -155,6 +553,8 @@ public class CarverMatrixService {
      * It then applies multiplier values and boolean settings, and sets up the relationship between
      * the matrix and its items. If random assignment is enabled and participants are provided, it randomly assigns
      * participants to CarverItems. Otherwise, it initializes the items with empty targetUsers arrays and default metric maps.
+     * The matrix, its items, their score rows and ranking totals are written in one transaction, so a failure leaves
+     * nothing behind; images are uploaded after that transaction commits.
      *
      * @param matrix the CarverMatrix to create; must not be null.
      * @param userId the ID of the user creating the matrix; must not be null.
@@ -179,17 +579,8 @@ public class CarverMatrixService {
         matrix.setRoleBased(matrix.getRoleBased());
         matrix.setFivePointScoring(matrix.getFivePointScoring());
 
-        List<String> participantList = new ArrayList<>(Arrays.asList(matrix.getParticipants()));
-        for(int i = 0; i<participantList.size(); i++){
-            participantList.set(i, participantList.get(i).toLowerCase().trim());
-        }
-        matrix.setParticipants(participantList.toArray(new String[0]));
-
-        List<String> hostList = new ArrayList<>(Arrays.asList(matrix.getHosts()));
-        for(int i = 0; i<hostList.size(); i++){
-            hostList.set(i, hostList.get(i).toLowerCase().trim());
-        }
-        matrix.setHosts(hostList.toArray(new String[0]));
+        matrix.setParticipants(normalizeMembers(matrix.getParticipants()));
+        matrix.setHosts(normalizeMembers(matrix.getHosts()));
 
         if (matrix.getItems() != null) {
             for (CarverItem item : matrix.getItems()) {
@@ -274,7 +665,13 @@ public class CarverMatrixService {
             }
         }
 
-        CarverMatrix savedMatrix = carverMatrixRepository.save(matrix);
+        // The matrix, its score rows and its ranking totals commit together; images are uploaded once they have.
+        CarverMatrix savedMatrix = transactionTemplate.execute(status -> {
+            CarverMatrix saved = carverMatrixRepository.save(matrix);
+            carverItemRepository.insertScores(saved.getItems());
+            carverItemRepository.updateWeightedTotalsByMatrixId(saved.getMatrixId());
+            return saved;
+        });
 
         for (CarverItem item : savedMatrix.getItems()) {
             if (item.getBase64Images() != null) {
@@ -299,7 +696,7 @@ public class CarverMatrixService {
      *
      * @param matrixId      the ID of the matrix to update; must not be null.
      * @param updatedMatrix the matrix object containing updated values; must not be null.
-     * @return the updated CarverMatrix.
+     * @return the updated CarverMatrix, at its new version.
      * @throws IllegalArgumentException if matrixId or updatedMatrix is null, or if the matrix is not found.
      * @throws RuntimeException if the repository operation fails.
      */
@@ -314,6 +711,10 @@ public class CarverMatrixService {
         try {
             CarverMatrix existingMatrix = carverMatrixRepository.findById(matrixId)
                     .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+            // The bulk increment bypasses the loaded entity, so the returned matrix carries the new version itself.
+            long version = matrixVersionService.markChangedExclusively(matrixId);
+            existingMatrix.setVersion(version);
+            existingMatrix.setSettingsVersion(version);
 
             // Update basic fields if new values are provided.
             if (updatedMatrix.getName() != null) {
@@ -323,10 +724,10 @@ public class CarverMatrixService {
                 existingMatrix.setDescription(updatedMatrix.getDescription());
             }
             if (updatedMatrix.getHosts() != null) {
-                existingMatrix.setHosts(updatedMatrix.getHosts());
+                existingMatrix.setHosts(normalizeMembers(updatedMatrix.getHosts()));
             }
             if (updatedMatrix.getParticipants() != null) {
-                existingMatrix.setParticipants(updatedMatrix.getParticipants());
+                existingMatrix.setParticipants(normalizeMembers(updatedMatrix.getParticipants()));
             }
 
             // Update multiplier fields if provided.
@@ -363,8 +764,14 @@ public class CarverMatrixService {
             // Ensure that the items collection is initialized.
             Hibernate.initialize(existingMatrix.getItems());
 
-            // Save and return the updated matrix.
-            return carverMatrixRepository.save(existingMatrix);
+            // Save and return the updated matrix; new multipliers re-rank its items.
+            CarverMatrix savedMatrix = carverMatrixRepository.save(existingMatrix);
+            if (updatedMatrix.getCMulti() != null || updatedMatrix.getAMulti() != null || updatedMatrix.getRMulti() != null
+                    || updatedMatrix.getVMulti() != null || updatedMatrix.getEMulti() != null || updatedMatrix.getR2Multi() != null) {
+                carverItemRepository.updateWeightedTotalsByMatrixId(matrixId);
+            }
+            matrixEventBroker.publish(matrixId, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", matrixId));
+            return savedMatrix;
         } catch (Exception e) {
             if (e instanceof IllegalArgumentException) {
                 throw (IllegalArgumentException) e;
@@ -376,136 +783,717 @@ public class CarverMatrixService {
     /**
      * Searches for CarverMatrix objects based on provided search parameters.
      *
-     * <p>This method first extracts a "userEmail" parameter from the search parameters.
-     * If not provided or empty, it returns an empty list. Otherwise, it retrieves all matrices
-     * where the user is either a host or participant, removes duplicates, and then applies additional filters.
+     * <p>This method returns the matrices of one page of {@link #searchCarverMatrixPage(Map)}; see that method
+     * for the supported parameters.
      *
      * @param searchParams a map of search parameters; must not be null.
      * @return a list of CarverMatrix objects matching the search criteria.
-     * @throws IllegalArgumentException if searchParams is null.
+     * @throws IllegalArgumentException if searchParams is null or contains an invalid cursor or limit.
      * @throws RuntimeException if the repository operation fails.
      */
     public List<CarverMatrix> searchCarverMatrices(Map<String, String> searchParams) {
+        return searchCarverMatrixPage(searchParams).getMatrices();
+    }
+
+    /**
+     * Searches for CarverMatrix objects based on provided search parameters, one page at a time.
+     *
+     * <p>This method first extracts a "userEmail" parameter from the search parameters.
+     * If not provided or empty, it returns an empty page. Otherwise, a single query returns the matrices
+     * where the user is either a host or participant, filtered in the database by the optional
+     * "name" and "description" parameters (case-insensitive substring matches), "text" (a substring of the name or
+     * the description), "roleBased" ({@code true} or {@code false}) and "role" (the user's role: {@code host},
+     * {@code participant} or {@code both}). Each matrix appears once,
+     * with its {@code host} and {@code participant} flags describing the user's role.
+     *
+     * <p>Results are ordered newest first and paginated by keyset: "limit" sets the page size
+     * (default {@value #DEFAULT_SEARCH_PAGE_SIZE}, at most {@value #MAX_SEARCH_PAGE_SIZE}) and "cursor" takes the
+     * {@code nextCursor} of the previous page. Every response is bounded; callers that need all matches
+     * follow the cursor until none is returned.
+     *
+     * @param searchParams a map of search parameters; must not be null.
+     * @return the requested page of matching matrices and the cursor of the next page, if any.
+     * @throws IllegalArgumentException if searchParams is null or contains an invalid cursor, limit or filter.
+     * @throws RuntimeException if the repository operation fails.
+     */
+    public CarverMatrixPageDTO searchCarverMatrixPage(Map<String, String> searchParams) {
         if (searchParams == null) {
             throw new IllegalArgumentException("Search parameters must not be null");
         }
         // Extract the user's email from search parameters.
         String userEmail = searchParams.remove("userEmail");
         if (userEmail == null || userEmail.isEmpty()) {
-            return new ArrayList<>();
+            return CarverMatrixPageDTO.builder().matrices(new ArrayList<>()).build();
         }
 
+        int limit = parseSearchLimit(searchParams.get("limit"));
+        Specification<CarverMatrix> spec = memberSearchSpec(userEmail, searchParams);
+
         try {
-            // Retrieve matrices where the user is a host or a participant.
-            Set<CarverMatrix> userMatrices = new HashSet<>();
-            List<CarverMatrix> hostMatrices = carverMatrixRepository.findByHost(userEmail);
-            List<CarverMatrix> participantMatrices = carverMatrixRepository.findByParticipant(userEmail);
-            userMatrices.addAll(hostMatrices);
-            userMatrices.addAll(participantMatrices);
-
-            // Convert the set to a list.
-            List<CarverMatrix> uniqueMatrices = new ArrayList<>(userMatrices);
-
-            // If there are no additional search parameters, return the matrices.
-            if (searchParams.isEmpty()) {
-                return uniqueMatrices;
-            }
-
-            // Apply additional filters (e.g., name and description).
-            return uniqueMatrices.stream()
-                .filter(matrix -> {
-                    if (searchParams.containsKey("name") && !searchParams.get("name").isEmpty()) {
-                        if (!matrix.getName().toLowerCase().contains(searchParams.get("name").toLowerCase())) {
-                            return false;
-                        }
-                    }
-                    if (searchParams.containsKey("description") && !searchParams.get("description").isEmpty()) {
-                        if (matrix.getDescription() == null ||
-                            !matrix.getDescription().toLowerCase().contains(searchParams.get("description").toLowerCase())) {
-                            return false;
-                        }
-                    }
-                    // Additional field filters can be implemented here.
-                    return true;
-                })
-                .collect(Collectors.toList());
+            // Fetch one extra row to learn whether another page follows. Each matrix is returned once,
+            // annotated with whether the user hosts it, participates in it, or both.
+            List<CarverMatrix> matrices = carverMatrixRepository.findWithRoles(userEmail, spec,
+                    CarverMatrixSpecifications.KEYSET_SORT, limit + 1);
+
+            String nextCursor = null;
+            if (matrices.size() > limit) {
+                matrices = new ArrayList<>(matrices.subList(0, limit));
+                CarverMatrix last = matrices.get(limit - 1);
+                nextCursor = encodeSearchCursor(last.getCreatedAt(), last.getMatrixId());
+            }
+            return CarverMatrixPageDTO.builder().matrices(matrices).nextCursor(nextCursor).build();
         } catch (Exception e) {
             throw new RuntimeException("Failed to search CarverMatrices with parameters: " + searchParams, e);
         }
     }
 
     /**
-     * Updates CarverItem objects for a given CarverMatrix based on provided update maps.
+     * Returns list-view summaries of the matrices a user hosts or participates in.
      *
-     * <p>This method iterates over a list of update maps, retrieves each CarverItem by its ID,
-     * verifies that it belongs to the given matrix, applies updates to various metric fields based on the user's email,
-     * and saves the updated items.
+     * <p>Accepts the same "userEmail", "name", "description", "limit" and "cursor" parameters as
+     * {@link #searchCarverMatrixPage(Map)}, but returns {@link CarverMatrixSummaryDTO} projections with the
+     * user's role and item/rater counts instead of full entities, so no {@link CarverItem} is loaded.
      *
-     * @param matrix    the CarverMatrix whose items are to be updated; must not be null.
-     * @param updates   a list of maps containing update data for CarverItems; must not be null.
-     * @param userEmail the email of the user providing the updates; must not be null or empty.
-     * @return a list of updated CarverItem objects.
-     * @throws IllegalArgumentException if matrix, updates, or userEmail is null/empty, or if any CarverItem is not found or does not belong to the matrix.
+     * @param searchParams a map of search parameters; must not be null.
+     * @return the requested page of summaries and the cursor of the next page, if any.
+     * @throws IllegalArgumentException if searchParams is null or contains an invalid cursor or limit.
      * @throws RuntimeException if the repository operation fails.
      */
+    public CarverMatrixSummaryPageDTO getMatrixSummaries(Map<String, String> searchParams) {
+        if (searchParams == null) {
+            throw new IllegalArgumentException("Search parameters must not be null");
+        }
+        String userEmail = searchParams.remove("userEmail");
+        if (userEmail == null || userEmail.isEmpty()) {
+            return CarverMatrixSummaryPageDTO.builder().summaries(new ArrayList<>()).build();
+        }
+
+        int limit = parseSearchLimit(searchParams.get("limit"));
+        Specification<CarverMatrix> spec = memberSearchSpec(userEmail, searchParams);
+
+        try {
+            List<CarverMatrixSummaryDTO> summaries = carverMatrixRepository.findSummaries(userEmail, spec,
+                    CarverMatrixSpecifications.KEYSET_SORT, limit + 1);
+
+            String nextCursor = null;
+            if (summaries.size() > limit) {
+                summaries = new ArrayList<>(summaries.subList(0, limit));
+                CarverMatrixSummaryDTO last = summaries.get(limit - 1);
+                nextCursor = encodeSearchCursor(last.getCreatedAt(), last.getMatrixId());
+            }
+            return CarverMatrixSummaryPageDTO.builder().summaries(summaries).nextCursor(nextCursor).build();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to retrieve CarverMatrix summaries with parameters: " + searchParams, e);
+        }
+    }
+
+    /**
+     * Builds the membership filter of a search with only the "name", "description", "text", "roleBased", "role" and
+     * "cursor" predicates supplied, so each combination of filters gets its own statement and query plan.
+     *
+     * @throws IllegalArgumentException if "roleBased" is not a boolean or "role" is not host, participant or both.
+     */
+    private static Specification<CarverMatrix> memberSearchSpec(String userEmail, Map<String, String> searchParams) {
+        Specification<CarverMatrix> spec = CarverMatrixSpecifications.hasMember(userEmail);
+        String name = searchParams.get("name");
+        if (name != null && !name.isEmpty()) {
+            spec = spec.and(CarverMatrixSpecifications.nameContains(name));
+        }
+        String description = searchParams.get("description");
+        if (description != null && !description.isEmpty()) {
+            spec = spec.and(CarverMatrixSpecifications.descriptionContains(description));
+        }
+        String text = searchParams.get("text");
+        if (text != null && !text.isEmpty()) {
+            spec = spec.and(CarverMatrixSpecifications.textContains(text));
+        }
+        String roleBased = searchParams.get("roleBased");
+        if (roleBased != null && !roleBased.isEmpty()) {
+            if (!"true".equals(roleBased) && !"false".equals(roleBased)) {
+                throw new IllegalArgumentException("Invalid roleBased filter: " + roleBased);
+            }
+            spec = spec.and(CarverMatrixSpecifications.isRoleBased(Boolean.parseBoolean(roleBased)));
+        }
+        String role = searchParams.get("role");
+        if (role != null && !role.isEmpty()) {
+            spec = spec.and(switch (role) {
+                case "host" -> CarverMatrixSpecifications.hasHost(userEmail);
+                case "participant" -> CarverMatrixSpecifications.hasParticipant(userEmail);
+                case "both" -> CarverMatrixSpecifications.hasHost(userEmail).and(CarverMatrixSpecifications.hasParticipant(userEmail));
+                default -> throw new IllegalArgumentException("Invalid role filter: " + role);
+            });
+        }
+        String cursor = searchParams.get("cursor");
+        if (cursor != null && !cursor.isEmpty()) {
+            SearchCursor position = decodeSearchCursor(cursor);
+            spec = spec.and(CarverMatrixSpecifications.after(position.createdAt(), position.matrixId()));
+        }
+        return spec;
+    }
+
+    private static int parseSearchLimit(String limitParam) {
+        if (limitParam == null || limitParam.isEmpty()) {
+            return DEFAULT_SEARCH_PAGE_SIZE;
+        }
+        int limit;
+        try {
+            limit = Integer.parseInt(limitParam);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid search limit: " + limitParam);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+        return Math.min(limit, MAX_SEARCH_PAGE_SIZE);
+    }
+
+    /**
+     * A keyset position in {@link CarverMatrixSpecifications#KEYSET_SORT} order.
+     */
+    private record SearchCursor(LocalDateTime createdAt, Long matrixId) {
+    }
+
+    private static String encodeSearchCursor(LocalDateTime createdAt, Long matrixId) {
+        String position = createdAt + "|" + matrixId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SearchCursor decodeSearchCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            return new SearchCursor(LocalDateTime.parse(position.substring(0, separator)),
+                    Long.valueOf(position.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Returns the score statistics of a matrix: per item and category averages of the submitted scores and, per
+     * rater, how many items and scores they submitted.
+     *
+     * <p>The averages are read from the running {@code carver_score_aggregates}, one row per item and category;
+     * the rater completion is an SQL aggregate over the {@code carver_scores} indexes. Neither the items nor their
+     * JSON score maps are loaded.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the matrix's score statistics.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
+    @Transactional(readOnly = true)
+    public CarverScoreStatsDTO getScoreStats(Long matrixId) {
+        getMatrixVersion(matrixId);
+        return CarverScoreStatsDTO.builder()
+                .matrixId(matrixId)
+                .averages(carverScoreAggregateRepository.findAveragesByMatrixId(matrixId))
+                .raters(carverScoreRepository.findRaterCompletionByMatrixId(matrixId))
+                .build();
+    }
+
+    /**
+     * Computes the CARVER scores of a matrix: per item and category means of the submitted scores and per item
+     * totals weighted by the matrix multipliers.
+     *
+     * <p>The sums and counts of the submitted scores are read from the running {@code carver_score_aggregates},
+     * so the cost grows with the number of items, not of raters; the means and totals are computed from them by
+     * {@link CarverScoringEngine} over primitive arrays. No JSON score map is loaded. Unscored categories have a
+     * mean of 0.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the scores of every item of the matrix, ordered by item ID.
+     * @throws IllegalArgumentException if matrixId is null or the matrix does not exist.
+     */
+    @Transactional(readOnly = true)
+    public MatrixScoresDTO getMatrixScores(Long matrixId) {
+        if (matrixId == null) {
+            throw new IllegalArgumentException("MatrixId must not be null");
+        }
+        CarverMatrix matrix = carverMatrixRepository.findById(matrixId)
+                .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        List<Object[]> items = carverItemRepository.findItemNamesByMatrixId(matrixId);
+        long[] itemIds = new long[items.size()];
+        for (int i = 0; i < itemIds.length; i++) {
+            itemIds[i] = (Long) items.get(i)[0];
+        }
+        CarverScoringEngine engine = new CarverScoringEngine(itemIds);
+        for (Object[] row : carverScoreAggregateRepository.findSumsByMatrixId(matrixId)) {
+            engine.add((Long) row[0], CarverScoringEngine.categoryIndex((String) row[1]),
+                    ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+        }
+
+        double[] multipliers = CarverScoringEngine.multipliers(matrix);
+        double[] means = engine.means();
+        double[] totals = engine.totals(means, multipliers);
+        int categories = CarverScoringEngine.CATEGORY_COUNT;
+        List<CarverItemScoreDTO> scores = new ArrayList<>(itemIds.length);
+        for (int item = 0; item < itemIds.length; item++) {
+            long[] submissions = new long[categories];
+            for (int c = 0; c < categories; c++) {
+                submissions[c] = engine.count(item, c);
+            }
+            scores.add(CarverItemScoreDTO.builder()
+                    .itemId(itemIds[item])
+                    .itemName((String) items.get(item)[1])
+                    .means(Arrays.copyOfRange(means, item * categories, (item + 1) * categories))
+                    .submissions(submissions)
+                    .total(totals[item])
+                    .build());
+        }
+        return MatrixScoresDTO.builder()
+                .matrixId(matrixId)
+                .version(matrixVersionTracker.visibleVersion(matrixId, matrix.getVersion()))
+                .categories(CarverScoringEngine.CATEGORIES)
+                .multipliers(multipliers)
+                .items(scores)
+                .build();
+    }
+
+    /**
+     * Computes how far the raters of a matrix agree, per item and category and per category.
+     *
+     * <p>The submitted scores are streamed from {@code carver_scores} once, grouped by category and rater, into a
+     * {@link RaterAgreementCalculator}: per item and category the Welford accumulators give the mean, variance,
+     * standard deviation, minimum and maximum, and per category the rankings of the raters who scored every item
+     * give Kendall's W. Only primitive arrays sized by the items are kept; neither the items nor their JSON score
+     * maps are loaded.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the agreement statistics of every item of the matrix, ordered by item ID.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
+    @Transactional(readOnly = true)
+    public MatrixAgreementDTO getRaterAgreement(Long matrixId) {
+        Long version = getMatrixVersion(matrixId);
+        List<Object[]> items = carverItemRepository.findItemNamesByMatrixId(matrixId);
+        long[] itemIds = new long[items.size()];
+        for (int i = 0; i < itemIds.length; i++) {
+            itemIds[i] = (Long) items.get(i)[0];
+        }
+        RaterAgreementCalculator calculator = new RaterAgreementCalculator(itemIds);
+        try (Stream<Object[]> scores = carverScoreRepository.streamSubmittedByMatrixId(matrixId)) {
+            scores.forEach(row -> calculator.add((Long) row[0], CarverScoringEngine.categoryIndex((String) row[1]),
+                    (String) row[2], ((Number) row[3]).intValue()));
+        }
+        calculator.finish();
+
+        int categories = CarverScoringEngine.CATEGORY_COUNT;
+        List<CarverItemAgreementDTO> agreements = new ArrayList<>(itemIds.length);
+        for (int item = 0; item < itemIds.length; item++) {
+            CarverItemAgreementDTO agreement = CarverItemAgreementDTO.builder()
+                    .itemId(itemIds[item])
+                    .itemName((String) items.get(item)[1])
+                    .raters(new long[categories])
+                    .means(new double[categories])
+                    .variances(new double[categories])
+                    .standardDeviations(new double[categories])
+                    .min(new int[categories])
+                    .max(new int[categories])
+                    .build();
+            for (int c = 0; c < categories; c++) {
+                agreement.getRaters()[c] = calculator.count(item, c);
+                agreement.getMeans()[c] = calculator.mean(item, c);
+                agreement.getVariances()[c] = calculator.variance(item, c);
+                agreement.getStandardDeviations()[c] = Math.sqrt(calculator.variance(item, c));
+                agreement.getMin()[c] = calculator.min(item, c);
+                agreement.getMax()[c] = calculator.max(item, c);
+            }
+            agreements.add(agreement);
+        }
+        Double[] kendallW = new Double[categories];
+        int[] rankedRaters = new int[categories];
+        for (int c = 0; c < categories; c++) {
+            kendallW[c] = calculator.kendallW(c);
+            rankedRaters[c] = calculator.rankedRaters(c);
+        }
+        return MatrixAgreementDTO.builder()
+                .matrixId(matrixId)
+                .version(version)
+                .categories(CarverScoringEngine.CATEGORIES)
+                .kendallW(kendallW)
+                .rankedRaters(rankedRaters)
+                .items(agreements)
+                .build();
+    }
+
+    /**
+     * Returns the top k items of a matrix by weighted CARVER total.
+     *
+     * <p>The totals are maintained on the items by every score write, multiplier change and aggregate rebuild,
+     * so the ranking is read from the {@code (matrix_id, weighted_total DESC, item_id)} index: the first k rows,
+     * then the rows tied with the k-th, without sorting the matrix. Items with equal totals share a rank and are
+     * ordered by ascending item ID, so repeated reads return the same order; all items tied with the k-th are
+     * returned, so the result may hold more than k items.
+     *
+     * @param matrixId the ID of the matrix.
+     * @param k        the number of items; {@value #DEFAULT_RANKING_SIZE} if null.
+     * @return the ranking, at the current matrix version.
+     * @throws IllegalArgumentException if the matrix does not exist or k is not between 1 and
+     *                                  {@value #MAX_RANKING_SIZE}.
+     */
+    @Transactional(readOnly = true)
+    public MatrixRankingDTO getMatrixRanking(Long matrixId, Integer k) {
+        Long version = getMatrixVersion(matrixId);
+        int size = k == null ? DEFAULT_RANKING_SIZE : k;
+        if (size < 1 || size > MAX_RANKING_SIZE) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_RANKING_SIZE);
+        }
+        List<Object[]> rows = new ArrayList<>(carverItemRepository.findTopRankedByMatrixId(matrixId, PageRequest.of(0, size)));
+        if (rows.size() == size) {
+            Object[] last = rows.get(size - 1);
+            rows.addAll(carverItemRepository.findTiedAfter(matrixId, (Double) last[2], (Long) last[0]));
+        }
+
+        return MatrixRankingDTO.builder()
+                .matrixId(matrixId)
+                .version(version)
+                .k(size)
+                .items(toRanks(rows))
+                .build();
+    }
+
+    /**
+     * Numbers items in ranking order; items with equal totals share a rank and the next rank skips them.
+     *
+     * @param rows {@code [itemId, itemName, weightedTotal]} rows by descending total, ties by ascending item ID.
+     * @return the ranked items.
+     */
+    static List<CarverItemRankDTO> toRanks(List<Object[]> rows) {
+        List<CarverItemRankDTO> items = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            double total = ((Number) rows.get(i)[2]).doubleValue();
+            int rank = i > 0 && total == items.get(i - 1).getTotal() ? items.get(i - 1).getRank() : i + 1;
+            items.add(CarverItemRankDTO.builder()
+                    .rank(rank)
+                    .itemId((Long) rows.get(i)[0])
+                    .itemName((String) rows.get(i)[1])
+                    .total(total)
+                    .build());
+        }
+        return items;
+    }
+
+    /**
+     * Recomputes the running score aggregates of a matrix from its score rows.
+     *
+     * <p>The matrix row is locked first, which waits for the score writes being applied; later score writes wait
+     * for the rebuild and see its aggregates. The weighted totals of the ranking are recomputed as well. Use it
+     * after restoring score rows by hand or when {@link #checkScoreAggregates(Long)} reports mismatches.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the number of aggregates written.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
     @Transactional
-    public List<CarverItem> updateCarverItemsFromMap(CarverMatrix matrix, List<Map<String, Object>> updates, String userEmail) {
-        if (matrix == null) {
-            throw new IllegalArgumentException("CarverMatrix must not be null");
+    public int rebuildScoreAggregates(Long matrixId) {
+        getMatrixVersion(matrixId);
+        matrixVersionService.markChangedExclusively(matrixId);
+        carverScoreAggregateRepository.deleteByMatrixId(matrixId);
+        int rebuilt = carverScoreAggregateRepository.insertFromScoresByMatrixId(matrixId);
+        carverItemRepository.updateWeightedTotalsByMatrixId(matrixId);
+        return rebuilt;
+    }
+
+    /**
+     * Compares the running score aggregates of a matrix with sums and counts computed from its score rows.
+     *
+     * @param matrixId the ID of the matrix.
+     * @return the number of item and category pairs checked and those that differ, ordered by item and category.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
+    @Transactional(readOnly = true)
+    public ScoreAggregateCheckDTO checkScoreAggregates(Long matrixId) {
+        getMatrixVersion(matrixId);
+        Map<CarverScoreAggregateId, long[]> expected = new HashMap<>();
+        for (Object[] row : carverScoreRepository.findSumsByMatrixId(matrixId)) {
+            expected.put(new CarverScoreAggregateId((Long) row[0], (String) row[1]),
+                    new long[] {((Number) row[2]).longValue(), ((Number) row[3]).longValue()});
+        }
+        Map<CarverScoreAggregateId, long[]> actual = new HashMap<>();
+        for (Object[] row : carverScoreAggregateRepository.findSumsByMatrixId(matrixId)) {
+            actual.put(new CarverScoreAggregateId((Long) row[0], (String) row[1]),
+                    new long[] {((Number) row[2]).longValue(), ((Number) row[3]).longValue()});
+        }
+        Set<CarverScoreAggregateId> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        long[] none = {0, 0};
+        List<ScoreAggregateMismatchDTO> mismatches = new ArrayList<>();
+        for (CarverScoreAggregateId key : keys) {
+            long[] want = expected.getOrDefault(key, none);
+            long[] have = actual.getOrDefault(key, none);
+            if (!Arrays.equals(want, have)) {
+                mismatches.add(ScoreAggregateMismatchDTO.builder()
+                        .itemId(key.getItemId())
+                        .category(key.getCategory())
+                        .expectedSum(want[0])
+                        .expectedCount(want[1])
+                        .actualSum(have[0])
+                        .actualCount(have[1])
+                        .build());
+            }
         }
+        mismatches.sort(Comparator.comparing(ScoreAggregateMismatchDTO::getItemId)
+                .thenComparing(ScoreAggregateMismatchDTO::getCategory));
+        return ScoreAggregateCheckDTO.builder()
+                .matrixId(matrixId)
+                .checked(keys.size())
+                .mismatches(mismatches)
+                .build();
+    }
+
+    /**
+     * Writes one rater's scores to items of a matrix without loading the items.
+     *
+     * <p>Each update map carries an {@code itemId} and any of the score categories ({@code criticality} through
+     * {@code recognizability}). Only the rater's key of each submitted category is written, in place, by
+     * {@link CarverItemRepository#patchScores(Long, String, long, List)}: other raters' scores are never read or
+     * rewritten, so concurrent raters cannot overwrite each other. Several maps for the same item are merged,
+     * later values winning. If any item does not exist or belongs to another matrix, nothing is written.
+     *
+     * <p>Every score write takes its matrix version in a short transaction of its own (see
+     * {@link #writeScorePatches(Long, String, List)}), so the matrix row is locked only while the version is
+     * incremented and score writes to one matrix run concurrently.
+     *
+     * <p>On PostgreSQL the in-place update merges this rater's keys into the row it locked, so concurrent raters of
+     * the same item are applied one after the other and never conflict. Elsewhere the loaded entities are written
+     * back as versioned updates: when another rater or an entity writer such as a rename changes an item in between,
+     * the write loses the optimistic lock and is retried in a new transaction, up to
+     * {@value #MAX_SCORE_WRITE_ATTEMPTS} attempts with a short randomized back-off; a deadlock between two writes of
+     * overlapping items is retried the same way. Each attempt re-reads the items and re-applies only this rater's
+     * keys, so no score is lost and no row lock is held between attempts. Retries need a transaction of their own:
+     * when called inside an existing transaction the conflict is propagated to the caller instead.
+     *
+     * @param matrixId  the ID of the matrix whose items are scored; must not be null.
+     * @param updates   a list of maps containing update data for CarverItems; must not be null.
+     * @param userEmail the email of the user providing the updates; must not be null or empty.
+     * @return the applied patches, one per distinct item, in the order of the update maps.
+     * @throws IllegalArgumentException if an argument is null/empty, an update map is malformed, or any CarverItem is not found or does not belong to the matrix.
+     * @throws ConcurrencyFailureException if the items kept changing concurrently through every attempt.
+     */
+    public List<CarverItemScorePatchDTO> updateCarverItemScores(Long matrixId, List<Map<String, Object>> updates, String userEmail) {
         if (updates == null) {
             throw new IllegalArgumentException("Updates list must not be null");
         }
         if (userEmail == null || userEmail.isEmpty()) {
             throw new IllegalArgumentException("User email must not be null or empty");
         }
-        List<CarverItem> updatedItems = new ArrayList<>();
+        if (matrixId == null) {
+            throw new IllegalArgumentException("Matrix ID must not be null");
+        }
+        List<CarverItemScorePatchDTO> patches = toScorePatches(updates);
+        writeScorePatches(matrixId, userEmail, patches);
+        return patches;
+    }
 
-        for (Map<String, Object> update : updates) {
-            Long itemId = ((Number) update.get("itemId")).longValue();
+    /**
+     * Parses score update maps and checks, without writing anything, that every item belongs to the matrix.
+     *
+     * <p>Used to reject invalid submissions up front when the write itself is deferred, e.g. by
+     * {@link ScoreWriteBuffer}. Costs a single read of the item owners.
+     *
+     * @param matrixId the ID of the matrix whose items are scored; must not be null.
+     * @param updates  a list of maps containing update data for CarverItems; must not be null.
+     * @return one patch per distinct item, in the order of the update maps.
+     * @throws IllegalArgumentException if an argument is null, an update map is malformed, or any CarverItem is not found or does not belong to the matrix.
+     */
+    @Transactional(readOnly = true)
+    public List<CarverItemScorePatchDTO> prepareScorePatches(Long matrixId, List<Map<String, Object>> updates) {
+        if (updates == null) {
+            throw new IllegalArgumentException("Updates list must not be null");
+        }
+        if (matrixId == null) {
+            throw new IllegalArgumentException("Matrix ID must not be null");
+        }
+        List<CarverItemScorePatchDTO> patches = toScorePatches(updates);
+        requireItemsInMatrix(matrixId, patches.stream().map(CarverItemScorePatchDTO::getItemId).toList());
+        return patches;
+    }
 
-            CarverItem item = carverItemRepository.findById(itemId).orElseThrow(() -> new IllegalArgumentException("CarverItem not found with ID: " + itemId));
+    /**
+     * Writes already parsed score patches of one rater, retrying concurrency conflicts as described in
+     * {@link #updateCarverItemScores(Long, List, String)}.
+     *
+     * <p>The matrix version is incremented and committed first, in a transaction of its own, and stays open in the
+     * {@link MatrixVersionTracker} until the write commits or fails, so readers do not report it before its rows are
+     * visible. Every attempt stamps the items with the same version and, on PostgreSQL, holds the matrix row in key
+     * share mode while it applies, so it runs beside other score writes but not beside a settings change or an aggregate rebuild.
+     * When called inside an existing transaction the increment joins it and holds the matrix row until that
+     * transaction ends.
+     *
+     * @param matrixId  the ID of the matrix that must own every item.
+     * @param userEmail the rater whose keys are written.
+     * @param patches   one patch per distinct item.
+     * @throws IllegalArgumentException if the matrix does not exist, or any CarverItem is not found or does not belong to the matrix.
+     * @throws ConcurrencyFailureException if the items kept changing concurrently through every attempt.
+     */
+    public void writeScorePatches(Long matrixId, String userEmail, List<CarverItemScorePatchDTO> patches) {
+        long version = transactionTemplate.execute(status -> {
+            long taken = matrixVersionService.openVersion(matrixId);
+            matrixVersionTracker.closeOnRollback(matrixId, taken);
+            return taken;
+        });
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> applyScorePatches(matrixId, userEmail, version, patches));
+                    return;
+                } catch (ConcurrencyFailureException e) {
+                    if (attempt >= MAX_SCORE_WRITE_ATTEMPTS || TransactionSynchronizationManager.isActualTransactionActive()) {
+                        throw e;
+                    }
+                    try {
+                        Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 1));
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            matrixVersionTracker.closeAfterCompletion(matrixId, version);
+            matrixViewCache.invalidate(matrixId);
+        }
+    }
 
-            if (!item.getCarverMatrix().getMatrixId().equals(matrix.getMatrixId())) {
-                throw new IllegalArgumentException("CarverItem " + itemId + " does not belong to matrix " + matrix.getMatrixId());
+    /**
+     * Parses score update maps into one patch per distinct item, merging repeated items.
+     *
+     * @param updates the update maps.
+     * @return the patches in the order of first appearance.
+     * @throws IllegalArgumentException if an update map has no numeric itemId or a non-numeric score.
+     */
+    private static List<CarverItemScorePatchDTO> toScorePatches(List<Map<String, Object>> updates) {
+        Map<Long, CarverItemScorePatchDTO> patchesById = new LinkedHashMap<>();
+        for (Map<String, Object> update : updates) {
+            if (!(update.get("itemId") instanceof Number itemId)) {
+                throw new IllegalArgumentException("Each update must contain a numeric itemId");
             }
+            CarverItemScorePatchDTO patch = patchesById.computeIfAbsent(itemId.longValue(),
+                    id -> new CarverItemScorePatchDTO(id, new LinkedHashMap<>()));
+            for (String category : CarverItemRepository.SCORE_CATEGORIES) {
+                if (!update.containsKey(category)) {
+                    continue;
+                }
+                if (!(update.get(category) instanceof Number value)) {
+                    throw new IllegalArgumentException("Score for " + category + " of CarverItem " + patch.getItemId() + " must be a number");
+                }
+                patch.getScores().put(category, value.intValue());
+            }
+        }
+        return new ArrayList<>(patchesById.values());
+    }
 
+    /**
+     * Applies score patches in the current transaction, stamping the items with the version of the write.
+     *
+     * @param matrixId  the ID of the matrix that must own every item.
+     * @param userEmail the rater whose keys are written.
+     * @param version   the matrix version taken for the write.
+     * @param patches   one patch per distinct item.
+     * @throws IllegalArgumentException if any item is not found or does not belong to the matrix.
+     */
+    private void applyScorePatches(Long matrixId, String userEmail, long version, List<CarverItemScorePatchDTO> patches) {
+        int updated = carverItemRepository.patchScores(matrixId, userEmail, version, patches);
+        List<Long> itemIds = patches.stream().map(CarverItemScorePatchDTO::getItemId).toList();
+        if (updated != patches.size()) {
+            // Rolls back the partial write; the lookup only runs on this failure path.
+            requireItemsInMatrix(matrixId, itemIds);
+        }
+        carverItemRepository.updateWeightedTotals(matrixId, itemIds);
+        matrixEventBroker.publish(matrixId, MatrixEventBroker.SCORES_EVENT, toScoreDeltas(userEmail, patches));
+    }
 
-            // Initialize metric maps if null.
-            if (item.getCriticality() == null) item.setCriticality(new HashMap<>());
-            if (item.getAccessibility() == null) item.setAccessibility(new HashMap<>());
-            if (item.getRecoverability() == null) item.setRecoverability(new HashMap<>());
-            if (item.getVulnerability() == null) item.setVulnerability(new HashMap<>());
-            if (item.getEffect() == null) item.setEffect(new HashMap<>());
-            if (item.getRecognizability() == null) item.setRecognizability(new HashMap<>());
+    /**
+     * Flattens score patches into the per-score deltas published on the matrix event stream.
+     *
+     * @param rater   the rater of the patches.
+     * @param patches one patch per distinct item.
+     * @return one delta per item and category.
+     */
+    private static List<CarverScoreDeltaDTO> toScoreDeltas(String rater, List<CarverItemScorePatchDTO> patches) {
+        List<CarverScoreDeltaDTO> deltas = new ArrayList<>();
+        for (CarverItemScorePatchDTO patch : patches) {
+            patch.getScores().forEach((category, value) ->
+                    deltas.add(new CarverScoreDeltaDTO(patch.getItemId(), category, rater, value)));
+        }
+        return deltas;
+    }
 
-            // Update metrics if present in the update map.
-            if (update.containsKey("criticality")) {
-                item.getCriticality().put(userEmail, ((Number) update.get("criticality")).intValue());
-            }
-            if (update.containsKey("accessibility")) {
-                item.getAccessibility().put(userEmail, ((Number) update.get("accessibility")).intValue());
-            }
-            if (update.containsKey("recoverability")) {
-                item.getRecoverability().put(userEmail, ((Number) update.get("recoverability")).intValue());
-            }
-            if (update.containsKey("vulnerability")) {
-                item.getVulnerability().put(userEmail, ((Number) update.get("vulnerability")).intValue());
-            }
-            if (update.containsKey("effect")) {
-                item.getEffect().put(userEmail, ((Number) update.get("effect")).intValue());
+    /**
+     * Checks that every item exists and belongs to the matrix.
+     *
+     * @param matrixId the ID of the matrix that must own every item.
+     * @param itemIds  the IDs of the items to check.
+     * @throws IllegalArgumentException naming the first item that is not found or belongs to another matrix.
+     */
+    private void requireItemsInMatrix(Long matrixId, List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> owners = new HashMap<>();
+        for (Object[] row : carverItemRepository.findMatrixIdsByItemIdIn(itemIds)) {
+            owners.put((Long) row[0], (Long) row[1]);
+        }
+        for (Long itemId : itemIds) {
+            if (!owners.containsKey(itemId)) {
+                throw new IllegalArgumentException("CarverItem not found with ID: " + itemId);
             }
-            if (update.containsKey("recognizability")) {
-                item.getRecognizability().put(userEmail, ((Number) update.get("recognizability")).intValue());
+            if (!matrixId.equals(owners.get(itemId))) {
+                throw new IllegalArgumentException("CarverItem " + itemId + " does not belong to matrix " + matrixId);
             }
+        }
+    }
 
-            updatedItems.add(item);
+    /**
+     * Updates CarverItem objects for a given CarverMatrix based on provided update maps.
+     *
+     * <p>The scores are written by {@link #updateCarverItemScores(Long, List, String)}; the updated items are then
+     * read back with a single query for callers that need the entities.
+     *
+     * @param matrix    the CarverMatrix whose items are to be updated; must not be null.
+     * @param updates   a list of maps containing update data for CarverItems; must not be null.
+     * @param userEmail the email of the user providing the updates; must not be null or empty.
+     * @return a list of updated CarverItem objects, one per distinct item.
+     * @throws IllegalArgumentException if matrix, updates, or userEmail is null/empty, or if any CarverItem is not found or does not belong to the matrix.
+     * @throws RuntimeException if the repository operation fails.
+     */
+    public List<CarverItem> updateCarverItemsFromMap(CarverMatrix matrix, List<Map<String, Object>> updates, String userEmail) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("CarverMatrix must not be null");
         }
+        return getPatchedItems(updateCarverItemScores(matrix.getMatrixId(), updates, userEmail));
+    }
 
-        // Save all updated items.
-        return carverItemRepository.saveAll(updatedItems);
+    /**
+     * Reads back the items of written score patches, for callers that return the updated entities.
+     *
+     * @param patches written patches, one per distinct item.
+     * @return the updated CarverItem objects, read with a single query.
+     */
+    public List<CarverItem> getPatchedItems(List<CarverItemScorePatchDTO> patches) {
+        return carverItemRepository.findAllById(patches.stream().map(CarverItemScorePatchDTO::getItemId).toList());
     }
-  
+
+    /**
+     * Lower-cases and trims host or participant identifiers, dropping null and blank entries.
+     *
+     * <p>Membership lookups use exact array containment, so every stored entry must be normalized
+     * the same way as the emails they are matched against; null and blank entries can never match one.
+     *
+     * @param members the raw identifiers; may be null or contain null entries.
+     * @return a new array of normalized identifiers, or an empty array if {@code members} is null.
+     */
+    private static String[] normalizeMembers(String[] members) {
+        if (members == null) {
+            return new String[0];
+        }
+        return Arrays.stream(members)
+                .filter(member -> member != null && !member.isBlank())
+                .map(member -> member.toLowerCase().trim())
+                .toArray(String[]::new);
+    }
+
     /**
      * Deletes a CarverMatrix identified by its matrixId.
      * <p>
@@ -522,5 +1510,6 @@ public class CarverMatrixService {
         CarverMatrix matrix = carverMatrixRepository.findById(matrixId)
             .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
         carverMatrixRepository.delete(matrix);
+        matrixViewCache.invalidate(matrixId);
     }   
 }
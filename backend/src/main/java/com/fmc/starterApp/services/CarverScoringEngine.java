@@ -0,0 +1,176 @@
+package com.fmc.starterApp.services;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.repositories.CarverItemScoreRepository;
+
+/**
+ * Computes the CARVER scores of the items of a matrix over primitive arrays.
+ *
+ * <p>The engine holds, for every item and every category of {@link CarverItemScoreRepository#SCORE_CATEGORIES},
+ * the sum and the number of submitted scores in flat arrays indexed by {@code item * CATEGORY_COUNT + category}.
+ * Category means and weighted totals are computed by loops over those arrays; no score map is read. A category
+ * without submitted scores has a mean of 0 and adds nothing to the total, as in the UI.
+ *
+ * <p>The weighted total of an item is the sum over the categories of the category mean times the category
+ * multiplier of the matrix. Instances are not thread-safe.
+ */
+public final class CarverScoringEngine {
+
+    /**
+     * The scored categories, in the order of the per-category arrays.
+     */
+    public static final List<String> CATEGORIES = CarverItemScoreRepository.SCORE_CATEGORIES;
+
+    /**
+     * The number of scored categories.
+     */
+    public static final int CATEGORY_COUNT = CATEGORIES.size();
+
+    private final long[] itemIds;
+    private final long[] sums;
+    private final long[] counts;
+
+    /**
+     * Constructs an engine for the given items, without any scores.
+     *
+     * @param itemIds the IDs of the items, in ascending order.
+     * @throws IllegalArgumentException if the IDs are not strictly ascending.
+     */
+    public CarverScoringEngine(long[] itemIds) {
+        for (int i = 1; i < itemIds.length; i++) {
+            if (itemIds[i] <= itemIds[i - 1]) {
+                throw new IllegalArgumentException("Item IDs must be strictly ascending");
+            }
+        }
+        this.itemIds = itemIds.clone();
+        this.sums = new long[itemIds.length * CATEGORY_COUNT];
+        this.counts = new long[itemIds.length * CATEGORY_COUNT];
+    }
+
+    /**
+     * Returns the index of a category in the per-category arrays.
+     *
+     * @param category the category name.
+     * @return the index of the category.
+     * @throws IllegalArgumentException if the category is unknown.
+     */
+    public static int categoryIndex(String category) {
+        int index = CATEGORIES.indexOf(category);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown score category: " + category);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the category multipliers of a matrix in category order; unset multipliers count as 1.
+     *
+     * @param matrix the matrix.
+     * @return the multipliers, one per category.
+     */
+    public static double[] multipliers(CarverMatrix matrix) {
+        Double[] values = {matrix.getCMulti(), matrix.getAMulti(), matrix.getRMulti(),
+                matrix.getVMulti(), matrix.getEMulti(), matrix.getR2Multi()};
+        double[] multipliers = new double[CATEGORY_COUNT];
+        for (int c = 0; c < CATEGORY_COUNT; c++) {
+            multipliers[c] = values[c] == null ? 1.0 : values[c];
+        }
+        return multipliers;
+    }
+
+    /**
+     * Returns the number of items.
+     */
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    /**
+     * Returns the ID of the item at an index.
+     *
+     * @param item the index of the item.
+     * @return the item ID.
+     */
+    public long itemId(int item) {
+        return itemIds[item];
+    }
+
+    /**
+     * Returns the index of an item.
+     *
+     * @param itemId the item ID.
+     * @return the index of the item, or a negative value if the engine has no such item.
+     */
+    public int indexOf(long itemId) {
+        return Arrays.binarySearch(itemIds, itemId);
+    }
+
+    /**
+     * Adds submitted scores of one item and category.
+     *
+     * @param itemId   the item ID; scores of unknown items are ignored.
+     * @param category the category index.
+     * @param sum      the sum of the scores.
+     * @param count    the number of scores.
+     * @return whether the item is known.
+     */
+    public boolean add(long itemId, int category, long sum, long count) {
+        int item = indexOf(itemId);
+        if (item < 0) {
+            return false;
+        }
+        sums[item * CATEGORY_COUNT + category] += sum;
+        counts[item * CATEGORY_COUNT + category] += count;
+        return true;
+    }
+
+    /**
+     * Returns the number of submitted scores of one item and category.
+     *
+     * @param item     the index of the item.
+     * @param category the category index.
+     * @return the number of scores.
+     */
+    public long count(int item, int category) {
+        return counts[item * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Computes the mean of every item and category.
+     *
+     * @return the means, indexed by {@code item * CATEGORY_COUNT + category}; 0 where nothing was scored.
+     */
+    public double[] means() {
+        double[] means = new double[sums.length];
+        for (int i = 0; i < sums.length; i++) {
+            means[i] = counts[i] == 0 ? 0.0 : (double) sums[i] / counts[i];
+        }
+        return means;
+    }
+
+    /**
+     * Computes the weighted total of every item from precomputed means.
+     *
+     * @param means       the means returned by {@link #means()}.
+     * @param multipliers the category multipliers, one per category.
+     * @return the totals, one per item.
+     * @throws IllegalArgumentException if there is not one multiplier per category.
+     */
+    public double[] totals(double[] means, double[] multipliers) {
+        if (multipliers.length != CATEGORY_COUNT) {
+            throw new IllegalArgumentException("Expected " + CATEGORY_COUNT + " multipliers");
+        }
+        double[] totals = new double[itemIds.length];
+        for (int item = 0, base = 0; item < totals.length; item++, base += CATEGORY_COUNT) {
+            double total = 0.0;
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                total += means[base + c] * multipliers[c];
+            }
+            totals[item] = total;
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,291 @@
+package com.fmc.starterApp.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.dto.CollaborationEventDTO;
+import com.fmc.starterApp.models.dto.CollaborationMessageDTO;
+import com.fmc.starterApp.models.dto.CollaborationParticipantDTO;
+
+/**
+ * Live collaboration sessions of matrices: score edits in both directions, presence and ordered broadcasts.
+ *
+ * <p>Each matrix with at least one connected client has a room. Score edits received from a client are validated
+ * by {@link CarverMatrixService#prepareScorePatches(Long, List)}, persisted through the {@link ScoreWriteBuffer}
+ * (and so by {@link CarverMatrixService#writeScorePatches(Long, String, List)}) and queued for broadcast with the
+ * next server sequence number of the room once the write returns. No lock is held while an edit is persisted, so
+ * the edits of different raters are written concurrently; they change different score keys, so the order of their
+ * sequence numbers does not matter, while the edits of one connection arrive and are numbered one after the other.
+ * An edit that fails to persist is answered with an error and never broadcast. Presence changes only mark the room;
+ * one snapshot of the participants is queued per tick however many changes happened.
+ *
+ * <p>Every tick, the queued events of a room are serialized once into a single frame, a JSON array, and that frame
+ * is sent to every participant. Each client therefore receives at most one frame per tick, and the serialization
+ * cost does not grow with the number of participants. A connection that fails to take a frame is dropped.
+ */
+public class CollaborationHub implements AutoCloseable {
+
+    /**
+     * A client connection of a collaboration session.
+     */
+    public interface Connection {
+        /**
+         * Returns an identifier unique among open connections.
+         */
+        String getId();
+
+        /**
+         * Returns the rater (email) of the connected user.
+         */
+        String getRater();
+
+        /**
+         * Sends one text frame.
+         *
+         * @param text the frame.
+         * @throws IOException if the connection is closed or cannot keep up.
+         */
+        void send(String text) throws IOException;
+    }
+
+    private static final class Room {
+        private final Map<String, Connection> connections = new LinkedHashMap<>();
+        private final Map<String, CollaborationParticipantDTO> participants = new LinkedHashMap<>();
+        private final List<CollaborationEventDTO> outbox = new ArrayList<>();
+        private long lastSeq;
+        private boolean presenceChanged;
+    }
+
+    private final CarverMatrixService carverMatrixService;
+    private final ScoreWriteBuffer scoreWriteBuffer;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService ticker;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a CollaborationHub and starts its broadcast tick.
+     *
+     * @param carverMatrixService validates score edits.
+     * @param scoreWriteBuffer    persists score edits.
+     * @param objectMapper        parses client messages and serializes frames.
+     * @param tickMillis          the broadcast period, in milliseconds; must be positive.
+     * @throws IllegalArgumentException if the tick is not positive.
+     */
+    public CollaborationHub(CarverMatrixService carverMatrixService, ScoreWriteBuffer scoreWriteBuffer,
+                            ObjectMapper objectMapper, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Collaboration tick must be positive");
+        }
+        this.carverMatrixService = carverMatrixService;
+        this.scoreWriteBuffer = scoreWriteBuffer;
+        this.objectMapper = objectMapper;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "collaboration-hub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tickQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a connection to the session of a matrix and sends it the current sequence number and participants.
+     *
+     * @param matrixId   the ID of the matrix; must exist.
+     * @param connection the new connection.
+     */
+    public void join(Long matrixId, Connection connection) {
+        CollaborationEventDTO welcome;
+        synchronized (this) {
+            Room room = rooms.computeIfAbsent(matrixId, id -> new Room());
+            room.connections.put(connection.getId(), connection);
+            room.participants.put(connection.getId(), new CollaborationParticipantDTO(connection.getRater(), null, false));
+            room.presenceChanged = true;
+            welcome = CollaborationEventDTO.builder()
+                    .seq(room.lastSeq)
+                    .type(CollaborationEventDTO.WELCOME)
+                    .participants(new ArrayList<>(room.participants.values()))
+                    .build();
+        }
+        sendDirect(matrixId, connection, welcome);
+    }
+
+    /**
+     * Removes a connection from the session of a matrix.
+     *
+     * @param matrixId     the ID of the matrix.
+     * @param connectionId the ID of the closed connection.
+     */
+    public synchronized void leave(Long matrixId, String connectionId) {
+        Room room = rooms.get(matrixId);
+        if (room == null) {
+            return;
+        }
+        room.connections.remove(connectionId);
+        if (room.participants.remove(connectionId) != null) {
+            room.presenceChanged = true;
+        }
+        if (room.connections.isEmpty()) {
+            rooms.remove(matrixId);
+        }
+    }
+
+    /**
+     * Handles a message from a client; invalid messages and edits that fail to persist are answered with an error
+     * event to that client only, and the connection stays open.
+     *
+     * @param matrixId   the ID of the matrix of the session.
+     * @param connection the sending connection.
+     * @param payload    the JSON text of a {@link CollaborationMessageDTO}.
+     */
+    public void receive(Long matrixId, Connection connection, String payload) {
+        try {
+            CollaborationMessageDTO message = objectMapper.readValue(payload, CollaborationMessageDTO.class);
+            if (CollaborationEventDTO.SCORE.equals(message.getType())) {
+                receiveScores(matrixId, connection, message);
+            } else if (CollaborationEventDTO.PRESENCE.equals(message.getType())) {
+                receivePresence(matrixId, connection, message);
+            } else {
+                throw new IllegalArgumentException("Unknown message type: " + message.getType());
+            }
+        } catch (JsonProcessingException e) {
+            sendError(matrixId, connection, "Malformed message");
+        } catch (IllegalArgumentException e) {
+            sendError(matrixId, connection, e.getMessage());
+        } catch (RuntimeException e) {
+            // With buffering disabled the scores are written on this thread; a failed write must not close the session.
+            sendError(matrixId, connection, "Failed to save scores");
+        }
+    }
+
+    /**
+     * Stops the broadcast tick.
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void receiveScores(Long matrixId, Connection connection, CollaborationMessageDTO message) {
+        if (message.getItemId() == null || message.getScores() == null || message.getScores().isEmpty()) {
+            throw new IllegalArgumentException("A score message needs an itemId and scores");
+        }
+        Map<String, Object> update = new LinkedHashMap<>(message.getScores());
+        update.put("itemId", message.getItemId());
+        List<CarverItemScorePatchDTO> patches = carverMatrixService.prepareScorePatches(matrixId, List.of(update));
+        // A failed write throws here, before anything is queued for broadcast.
+        scoreWriteBuffer.submit(matrixId, connection.getRater(), patches);
+        synchronized (this) {
+            Room room = rooms.get(matrixId);
+            if (room == null) {
+                return;
+            }
+            for (CarverItemScorePatchDTO patch : patches) {
+                room.outbox.add(CollaborationEventDTO.builder()
+                        .seq(++room.lastSeq)
+                        .type(CollaborationEventDTO.SCORE)
+                        .rater(connection.getRater())
+                        .itemId(patch.getItemId())
+                        .scores(patch.getScores())
+                        .build());
+            }
+        }
+    }
+
+    private synchronized void receivePresence(Long matrixId, Connection connection, CollaborationMessageDTO message) {
+        Room room = rooms.get(matrixId);
+        if (room == null || !room.participants.containsKey(connection.getId())) {
+            return;
+        }
+        room.participants.put(connection.getId(), new CollaborationParticipantDTO(
+                connection.getRater(), message.getItemId(), Boolean.TRUE.equals(message.getEditing())));
+        room.presenceChanged = true;
+    }
+
+    /**
+     * Broadcasts the events queued since the previous tick, one frame per room.
+     */
+    void tick() {
+        Map<Long, List<CollaborationEventDTO>> frames = new LinkedHashMap<>();
+        Map<Long, List<Connection>> recipients = new LinkedHashMap<>();
+        synchronized (this) {
+            for (Map.Entry<Long, Room> entry : rooms.entrySet()) {
+                Room room = entry.getValue();
+                if (room.presenceChanged) {
+                    room.outbox.add(CollaborationEventDTO.builder()
+                            .seq(++room.lastSeq)
+                            .type(CollaborationEventDTO.PRESENCE)
+                            .participants(new ArrayList<>(room.participants.values()))
+                            .build());
+                    room.presenceChanged = false;
+                }
+                if (room.outbox.isEmpty()) {
+                    continue;
+                }
+                frames.put(entry.getKey(), new ArrayList<>(room.outbox));
+                recipients.put(entry.getKey(), new ArrayList<>(room.connections.values()));
+                room.outbox.clear();
+            }
+        }
+        frames.forEach((matrixId, events) -> {
+            String frame = toJson(events);
+            for (Connection connection : recipients.get(matrixId)) {
+                send(matrixId, connection, frame);
+            }
+        });
+    }
+
+    private void tickQuietly() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void sendError(Long matrixId, Connection connection, String message) {
+        sendDirect(matrixId, connection, CollaborationEventDTO.builder()
+                .type(CollaborationEventDTO.ERROR)
+                .message(message)
+                .build());
+    }
+
+    private void sendDirect(Long matrixId, Connection connection, CollaborationEventDTO event) {
+        send(matrixId, connection, toJson(List.of(event)));
+    }
+
+    private void send(Long matrixId, Connection connection, String frame) {
+        try {
+            connection.send(frame);
+        } catch (IOException | RuntimeException e) {
+            // Closed, or too slow to take frames; the client reconnects and resynchronizes from the welcome.
+            leave(matrixId, connection.getId());
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize collaboration frame", e);
+        }
+    }
+
+    /**
+     * Returns the participants of the session of a matrix; for tests.
+     */
+    synchronized List<CollaborationParticipantDTO> participants(Long matrixId) {
+        Room room = rooms.get(matrixId);
+        return room == null ? List.of() : new ArrayList<>(room.participants.values());
+    }
+}
@@ -0,0 +1,236 @@
+package com.fmc.starterApp.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.entity.IdempotencyRecord;
+import com.fmc.starterApp.repositories.IdempotencyRecordRepository;
+
+/**
+ * Executes write requests at most once per {@code Idempotency-Key}.
+ *
+ * <p>The outcome of a keyed request (status, content type and body) is stored in the "idempotency_keys" table
+ * and in a bounded, in-process LRU cache in front of it. A retry with the same key, caller and operation gets the
+ * stored response back, marked with the {@value #REPLAYED_HEADER} header, without the write running again.
+ * A key reused with a different request body is rejected with 422, and a retry that arrives while the original
+ * request is still running gets 409.
+ *
+ * <p>Server errors (5xx) are not stored, so they can be retried. Records expire after a configurable time; every
+ * {@value #SWEEP_EVERY} stores, expired records and the oldest records beyond the row bound are deleted.
+ *
+ * <p>The outcome is stored after the write commits, so a crash between the two lets a retry execute again, and
+ * concurrent retries are only detected within one application instance.
+ */
+public class IdempotencyService {
+
+    /** The request header carrying the client's idempotency key. */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /** The response header set on replayed responses. */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /** The maximum length of a client's idempotency key. */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final int SWEEP_EVERY = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxCachedEntries;
+    private final Duration ttl;
+    private final int maxRows;
+
+    private final LinkedHashMap<String, IdempotencyRecord> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger storesSinceSweep = new AtomicInteger();
+
+    /**
+     * Constructs an IdempotencyService with the specified bounds.
+     *
+     * @param idempotencyRecordRepository the table of stored outcomes.
+     * @param objectMapper                serializes request and response bodies.
+     * @param maxCachedEntries            the maximum number of outcomes cached in memory; must be positive.
+     * @param ttl                         how long an outcome is replayed; must be positive.
+     * @param maxRows                     the number of stored outcomes kept by a sweep; must be positive.
+     * @throws IllegalArgumentException if a bound is not positive.
+     */
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper,
+                              int maxCachedEntries, Duration ttl, int maxRows) {
+        if (maxCachedEntries <= 0 || ttl.isNegative() || ttl.isZero() || maxRows <= 0) {
+            throw new IllegalArgumentException("Idempotency bounds must be positive");
+        }
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.maxCachedEntries = maxCachedEntries;
+        this.ttl = ttl;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Runs a write request, or replays its stored outcome if the key was already used.
+     *
+     * @param idempotencyKey the client's key, or {@code null} to run the request without idempotency.
+     * @param scope          the caller and operation the key belongs to, e.g. {@code "user-1 PUT /7/update"}.
+     * @param request        the request body; a key reused with a different body is rejected.
+     * @param action         executes the request.
+     * @return the response of the action, or the stored response of an earlier execution.
+     */
+    public ResponseEntity<?> execute(String idempotencyKey, String scope, Object request, Supplier<ResponseEntity<?>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String recordKey = sha256(scope + "\n" + idempotencyKey);
+        String requestHash = sha256(toJson(request));
+
+        IdempotencyRecord stored = lookup(recordKey);
+        if (stored != null) {
+            return replay(stored, requestHash);
+        }
+        if (inFlight.putIfAbsent(recordKey, requestHash) != null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("A request with this " + IDEMPOTENCY_KEY_HEADER + " is still in progress");
+        }
+        try {
+            // The original request may have completed between the lookup and the claim.
+            stored = lookup(recordKey);
+            if (stored != null) {
+                return replay(stored, requestHash);
+            }
+            ResponseEntity<?> response = action.get();
+            if (!response.getStatusCode().is5xxServerError()) {
+                store(recordKey, requestHash, response);
+            }
+            return response;
+        } finally {
+            inFlight.remove(recordKey);
+        }
+    }
+
+    /**
+     * Deletes expired outcomes and the oldest outcomes beyond the row bound.
+     *
+     * @return the number of deleted outcomes.
+     */
+    public int sweep() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        List<LocalDateTime> firstDropped = idempotencyRecordRepository.findCreatedAtNewestFirst(PageRequest.of(maxRows, 1));
+        if (!firstDropped.isEmpty()) {
+            deleted += idempotencyRecordRepository.deleteCreatedAtOrBefore(firstDropped.get(0));
+        }
+        return deleted;
+    }
+
+    private IdempotencyRecord lookup(String recordKey) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (this) {
+            IdempotencyRecord cached = cache.get(recordKey);
+            if (cached != null) {
+                if (cached.getExpiresAt().isAfter(now)) {
+                    return cached;
+                }
+                cache.remove(recordKey);
+            }
+        }
+        IdempotencyRecord stored = idempotencyRecordRepository.findById(recordKey)
+                .filter(record -> record.getExpiresAt().isAfter(now))
+                .orElse(null);
+        if (stored != null) {
+            cache(stored);
+        }
+        return stored;
+    }
+
+    private ResponseEntity<?> replay(IdempotencyRecord stored, String requestHash) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(IDEMPOTENCY_KEY_HEADER + " was already used with a different request");
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.getStatusCode()).header(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            builder.contentType(MediaType.parseMediaType(stored.getContentType()));
+        }
+        return builder.body(stored.getResponseBody());
+    }
+
+    private void store(String recordKey, String requestHash, ResponseEntity<?> response) {
+        Object body = response.getBody();
+        String contentType = null;
+        String responseBody = null;
+        if (body instanceof String text) {
+            contentType = MediaType.TEXT_PLAIN_VALUE;
+            responseBody = text;
+        } else if (body != null) {
+            contentType = MediaType.APPLICATION_JSON_VALUE;
+            responseBody = toJson(body);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = new IdempotencyRecord(recordKey, requestHash, response.getStatusCode().value(),
+                contentType, responseBody, now, now.plus(ttl));
+        try {
+            idempotencyRecordRepository.save(record);
+            if (storesSinceSweep.incrementAndGet() >= SWEEP_EVERY) {
+                storesSinceSweep.set(0);
+                sweep();
+            }
+        } catch (RuntimeException e) {
+            // The write itself succeeded; losing its stored outcome only costs a re-execution on retry.
+            e.printStackTrace();
+        }
+        cache(record);
+    }
+
+    private synchronized void cache(IdempotencyRecord record) {
+        cache.put(record.getRecordKey(), record);
+        Iterator<String> eldest = cache.keySet().iterator();
+        while (cache.size() > maxCachedEntries) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Drops every cached outcome, as after a restart; for tests.
+     */
+    synchronized void clearCache() {
+        cache.clear();
+    }
+}
@@ -3,8 +3,10 @@ package com.fmc.starterApp.services;
 import com.fmc.starterApp.models.entity.CarverMatrix;
 import com.fmc.starterApp.models.entity.CarverItem;
 import com.fmc.starterApp.models.entity.MatrixImage;
+import com.fmc.starterApp.models.entity.MatrixImageRemoval;
 import com.fmc.starterApp.repositories.CarverMatrixRepository;
 import com.fmc.starterApp.repositories.CarverItemRepository;
+import com.fmc.starterApp.repositories.MatrixImageRemovalRepository;
 import com.fmc.starterApp.repositories.MatrixImageRepository;
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fmc.starterApp.models.entity.CarverMatrix;
@@ -41,7 +44,12 @@ import java.util.UUID;
  * <p><strong>Key Methods:</strong>
  * <ul>
  *   <li>{@link #uploadImage(MultipartFile, Long)}: Uploads an image file, stores its metadata, and returns its URL.</li>
+ *   <li>{@link #deleteImage(Long)}: Deletes an image from S3 and removes its metadata.</li>
  * </ul>
+ *
+ * <p>Every change to a matrix's images increments the matrix version and invalidates its entry in the
+ * {@link MatrixViewCache}, through {@link MatrixVersionService#markChanged(Long)}. Uploaded images are stamped with the version they produced, and deletions are
+ * recorded as {@link MatrixImageRemoval} rows, so that delta sync requests can report both.
  */
 @Service
 public class ImageService {
@@ -58,6 +66,15 @@ public class ImageService {
     @Autowired
     private CarverItemRepository carverItemRepository;
 
+    @Autowired
+    private MatrixImageRemovalRepository matrixImageRemovalRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MatrixVersionService matrixVersionService;
+
     @Value("${AWS_S3_BUCKET_NAME}")
     private String bucketName;
 
@@ -147,8 +164,11 @@ public class ImageService {
         }
 
         try {
-            // Save the MatrixImage metadata to the database.
-            matrixImageRepository.save(matrixImage);
+            // Save the MatrixImage metadata to the database, stamped with the matrix version it produces.
+            transactionTemplate.executeWithoutResult(status -> {
+                matrixImage.setChangedVersion(matrixVersionService.markChanged(matrixId));
+                matrixImageRepository.save(matrixImage);
+            });
         } catch (Exception e) {
             throw new RuntimeException("Failed to persist image metadata in the database", e);
         }
@@ -196,6 +216,42 @@ public class ImageService {
         matrixImage.setCarverMatrix(matrix);
         matrixImage.setCarverItem(item);
 
-        matrixImageRepository.save(matrixImage);
+        transactionTemplate.executeWithoutResult(status -> {
+            matrixImage.setChangedVersion(matrixVersionService.markChanged(matrixId));
+            matrixImageRepository.save(matrixImage);
+        });
+    }
+
+    /**
+     * Deletes an image from AWS S3 and removes its metadata from the database.
+     *
+     * <p>The S3 object key is the last path segment of the stored image URL. The removal is recorded for delta
+     * sync, and the cached view of the owning matrix is invalidated once the metadata has been removed.
+     *
+     * @param imageId the unique identifier of the image to delete.
+     * @throws IllegalArgumentException if no image exists with the given ID.
+     * @throws RuntimeException if the S3 delete or database operation fails.
+     */
+    public void deleteImage(Long imageId) {
+        MatrixImage matrixImage = matrixImageRepository.findById(imageId)
+                .orElseThrow(() -> new IllegalArgumentException("Image not found with ID: " + imageId));
+
+        String imageUrl = matrixImage.getImageUrl();
+        String fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+
+        // Delete the file from AWS S3.
+        s3Client.deleteObject(b -> b.bucket(bucketName).key(fileName));
+
+        // Delete the image metadata from the database.
+        CarverMatrix matrix = matrixImage.getCarverMatrix();
+        if (matrix == null) {
+            matrixImageRepository.delete(matrixImage);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            long version = matrixVersionService.markChanged(matrix.getMatrixId());
+            matrixImageRemovalRepository.save(new MatrixImageRemoval(imageId, matrix, version));
+            matrixImageRepository.delete(matrixImage);
+        });
     }
 }
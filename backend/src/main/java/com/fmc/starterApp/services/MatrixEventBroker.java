@@ -0,0 +1,349 @@
+package com.fmc.starterApp.services;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Fans out change events of matrices to Server-Sent Events subscribers.
+ *
+ * <p>Every subscriber has a bounded queue of serialized events, drained by a small shared pool of sender threads.
+ * Publishing never blocks: an event is serialized once and offered to each subscriber's queue, and a subscriber
+ * whose queue is full, because its connection stalled or it reads too slowly, is evicted and its stream completed.
+ * A stalled browser therefore holds at most {@code maxQueuedEvents} events. A periodic keep-alive comment goes
+ * through the same queues, so idle stalled subscribers are evicted as well and closed connections are noticed.
+ *
+ * <p>A send to a stalled connection blocks its sender thread until the servlet container gives up on the write,
+ * and cannot be interrupted. A watchdog therefore evicts every subscriber whose send has been in flight for longer
+ * than the write timeout, and lends the sender pool one more thread for as long as that send stays blocked, so
+ * stalled browsers never take sender threads away from the others. The evicted stream is completed once its send
+ * returns.
+ *
+ * <p>Events published inside a transaction are dispatched after it commits and dropped if it rolls back.
+ */
+public class MatrixEventBroker implements AutoCloseable {
+
+    /** Event carrying a list of {@link com.fmc.starterApp.models.dto.CarverScoreDeltaDTO}. */
+    public static final String SCORES_EVENT = "scores";
+
+    /** Event signalling that the matrix itself (name, members, multipliers, ...) changed. */
+    public static final String MATRIX_EVENT = "matrix";
+
+    /** {@link Subscriber#sendStartedMillis} of a subscriber without a send in flight. */
+    private static final long IDLE = 0;
+
+    /** {@link Subscriber#sendStartedMillis} of a send in flight whose subscriber was evicted. */
+    private static final long STALLED = -1;
+
+    private static final class Subscriber {
+        private final Long matrixId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicLong sendStartedMillis = new AtomicLong(IDLE);
+
+        private Subscriber(Long matrixId, SseEmitter emitter, int maxQueuedEvents) {
+            this.matrixId = matrixId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(maxQueuedEvents);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int maxQueuedEvents;
+    private final long timeoutMillis;
+    private final long writeTimeoutMillis;
+    private final Executor sender;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructs a MatrixEventBroker with its own sender threads and keep-alive.
+     *
+     * @param objectMapper     serializes event data.
+     * @param maxQueuedEvents  the number of undelivered events after which a subscriber is evicted; must be positive.
+     * @param timeoutMillis    the lifetime of a stream, after which the client reconnects; must be positive.
+     * @param heartbeatMillis     the period of the keep-alive comment; must be positive.
+     * @param writeTimeoutMillis  the time a send may block before its subscriber is evicted; must be positive.
+     *                            The watchdog runs every half of it, so a stalled send is noticed within 1.5 times it.
+     * @param senderThreads       the number of threads writing to subscribers; must be positive.
+     * @throws IllegalArgumentException if a bound is not positive.
+     */
+    public MatrixEventBroker(ObjectMapper objectMapper, int maxQueuedEvents, long timeoutMillis, long heartbeatMillis,
+                             long writeTimeoutMillis, int senderThreads) {
+        this(objectMapper, maxQueuedEvents, timeoutMillis, writeTimeoutMillis, senderThreads > 0
+                ? Executors.newFixedThreadPool(senderThreads, daemon("matrix-events-sender"))
+                : null);
+        heartbeat.scheduleWithFixedDelay(this::sendKeepAlive, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        long watchdogMillis = Math.max(1, writeTimeoutMillis / 2);
+        heartbeat.scheduleWithFixedDelay(this::evictStalledSenders, watchdogMillis, watchdogMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs a MatrixEventBroker that writes to subscribers on the given executor, without a keep-alive or
+     * watchdog; for tests.
+     */
+    MatrixEventBroker(ObjectMapper objectMapper, int maxQueuedEvents, long timeoutMillis, long writeTimeoutMillis, Executor sender) {
+        if (maxQueuedEvents <= 0 || timeoutMillis <= 0 || writeTimeoutMillis <= 0 || sender == null) {
+            throw new IllegalArgumentException("Event stream bounds must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.sender = sender;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("matrix-events-heartbeat"));
+    }
+
+    /**
+     * Opens an event stream of a matrix.
+     *
+     * @param matrixId the ID of the matrix; must not be null.
+     * @return the emitter to return from the controller.
+     */
+    public SseEmitter subscribe(Long matrixId) {
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(matrixId, emitter, maxQueuedEvents);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.compute(matrixId, (id, set) -> {
+            Set<Subscriber> matrixSubscribers = set == null ? ConcurrentHashMap.newKeySet() : set;
+            matrixSubscribers.add(subscriber);
+            return matrixSubscribers;
+        });
+        // Commits the response headers so the client sees the stream open before the first change.
+        enqueue(subscriber, SseEmitter.event().comment("subscribed").build());
+        return emitter;
+    }
+
+    /**
+     * Publishes an event to the subscribers of a matrix, after the current transaction commits if there is one.
+     *
+     * @param matrixId  the ID of the changed matrix.
+     * @param eventName the SSE event name, e.g. {@link #SCORES_EVENT}.
+     * @param data      the event data, serialized as JSON.
+     */
+    public void publish(Long matrixId, String eventName, Object data) {
+        if (matrixId == null || !subscribers.containsKey(matrixId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(matrixId, eventName, data);
+                }
+            });
+        } else {
+            dispatch(matrixId, eventName, data);
+        }
+    }
+
+    /**
+     * Returns the number of subscribers evicted for falling behind.
+     *
+     * @return the eviction count since startup.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Stops the keep-alive and sender threads and completes every open stream.
+     */
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * Evicts every subscriber whose send has been in flight for longer than the write timeout.
+     */
+    void evictStalledSenders() {
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            long started = subscriber.sendStartedMillis.get();
+            if (started > IDLE && now - started >= writeTimeoutMillis) {
+                evict(subscriber);
+            }
+        }));
+    }
+
+    /**
+     * Creates the emitter of a new stream; overridden by tests.
+     */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void dispatch(Long matrixId, String eventName, Object data) {
+        Set<Subscriber> matrixSubscribers = subscribers.get(matrixId);
+        if (matrixSubscribers == null || matrixSubscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + eventName + " event", e);
+        }
+        Set<DataWithMediaType> event = SseEmitter.event().name(eventName).data(json, MediaType.APPLICATION_JSON).build();
+        matrixSubscribers.forEach(subscriber -> enqueue(subscriber, event));
+    }
+
+    private void sendKeepAlive() {
+        Set<DataWithMediaType> keepAlive = SseEmitter.event().comment("keep-alive").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> enqueue(subscriber, keepAlive)));
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RuntimeException rejected) {
+                subscriber.draining.set(false);
+                remove(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        boolean open = true;
+        boolean stalled = false;
+        try {
+            Set<DataWithMediaType> event;
+            while (!stalled && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedMillis.set(System.currentTimeMillis());
+                try {
+                    subscriber.emitter.send(event);
+                } finally {
+                    stalled = subscriber.sendStartedMillis.getAndSet(IDLE) == STALLED;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client disconnected or the stream already completed.
+            remove(subscriber);
+            open = false;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (stalled) {
+            // The subscriber was evicted while this thread was blocked, and the pool was lent a thread meanwhile.
+            returnSenderThread();
+            if (open) {
+                subscriber.emitter.complete();
+            }
+        } else if (open && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictions.incrementAndGet();
+            long started = subscriber.sendStartedMillis.get();
+            if (started > IDLE && subscriber.sendStartedMillis.compareAndSet(started, STALLED)) {
+                // The send in flight holds its thread until the connection gives up; the drain completes the stream.
+                lendSenderThread();
+            } else {
+                // Completing may wait for a send that is blocked on the stalled connection, so do it off the publisher.
+                sender.execute(subscriber.emitter::complete);
+            }
+        }
+    }
+
+    /**
+     * Adds a sender thread to stand in for one blocked on a stalled connection.
+     */
+    private void lendSenderThread() {
+        if (sender instanceof ThreadPoolExecutor pool) {
+            synchronized (pool) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+                pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the sender thread lent for a send that has returned.
+     */
+    private void returnSenderThread() {
+        if (sender instanceof ThreadPoolExecutor pool) {
+            synchronized (pool) {
+                pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+            }
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        subscriber.queue.clear();
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.matrixId, (id, set) -> {
+            removed.set(set.remove(subscriber));
+            return set.isEmpty() ? null : set;
+        });
+        return removed.get();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Returns the number of open streams of a matrix; for tests.
+     */
+    int subscriberCount(Long matrixId) {
+        Set<Subscriber> matrixSubscribers = subscribers.get(matrixId);
+        return matrixSubscribers == null ? 0 : matrixSubscribers.size();
+    }
+
+    /**
+     * Returns the number of undelivered events of every stream of a matrix; for tests.
+     */
+    int queuedEvents(Long matrixId) {
+        Set<Subscriber> matrixSubscribers = subscribers.get(matrixId);
+        return matrixSubscribers == null ? 0 : matrixSubscribers.stream().mapToInt(subscriber -> subscriber.queue.size()).sum();
+    }
+}
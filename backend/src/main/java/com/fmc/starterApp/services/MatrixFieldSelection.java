@@ -0,0 +1,152 @@
+package com.fmc.starterApp.services;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fmc.starterApp.models.entity.CarverMatrix;
+
+import lombok.Getter;
+
+/**
+ * The parts of a {@link CarverMatrix} requested through the {@code fields}, {@code include} and {@code rater}
+ * query parameters of the matrix read endpoints.
+ *
+ * <p>{@code fields} lists the matrix properties to return ({@code matrixId} is always returned);
+ * {@code include} lists the associations to load: {@code items}, {@code scores} (items with their score maps)
+ * and {@code images}; {@code rater} restricts the returned scores to a single rater and implies {@code scores}.
+ * When none of the parameters is given, the selection is {@link #isFull() full} and endpoints keep returning
+ * the complete matrix.
+ */
+@Getter
+public final class MatrixFieldSelection {
+
+    /**
+     * Accessors of the matrix properties that can be requested through {@code fields}, in output order.
+     */
+    private static final Map<String, Function<CarverMatrix, Object>> FIELD_ACCESSORS = new LinkedHashMap<>();
+
+    static {
+        FIELD_ACCESSORS.put("matrixId", CarverMatrix::getMatrixId);
+        FIELD_ACCESSORS.put("name", CarverMatrix::getName);
+        FIELD_ACCESSORS.put("description", CarverMatrix::getDescription);
+        FIELD_ACCESSORS.put("createdAt", CarverMatrix::getCreatedAt);
+        FIELD_ACCESSORS.put("hosts", CarverMatrix::getHosts);
+        FIELD_ACCESSORS.put("participants", CarverMatrix::getParticipants);
+        FIELD_ACCESSORS.put("cMulti", CarverMatrix::getCMulti);
+        FIELD_ACCESSORS.put("aMulti", CarverMatrix::getAMulti);
+        FIELD_ACCESSORS.put("rMulti", CarverMatrix::getRMulti);
+        FIELD_ACCESSORS.put("vMulti", CarverMatrix::getVMulti);
+        FIELD_ACCESSORS.put("eMulti", CarverMatrix::getEMulti);
+        FIELD_ACCESSORS.put("r2Multi", CarverMatrix::getR2Multi);
+        FIELD_ACCESSORS.put("randomAssignment", CarverMatrix::getRandomAssignment);
+        FIELD_ACCESSORS.put("roleBased", CarverMatrix::getRoleBased);
+        FIELD_ACCESSORS.put("fivePointScoring", CarverMatrix::getFivePointScoring);
+        FIELD_ACCESSORS.put("version", CarverMatrix::getVersion);
+        FIELD_ACCESSORS.put("host", CarverMatrix::getHost);
+        FIELD_ACCESSORS.put("participant", CarverMatrix::getParticipant);
+    }
+
+    private static final Set<String> INCLUDES = Set.of("items", "scores", "images");
+
+    private static final MatrixFieldSelection FULL =
+            new MatrixFieldSelection(true, FIELD_ACCESSORS.keySet(), true, true, true, null);
+
+    private final boolean full;
+    private final Set<String> fields;
+    private final boolean items;
+    private final boolean scores;
+    private final boolean images;
+    private final String rater;
+
+    private MatrixFieldSelection(boolean full, Set<String> fields, boolean items, boolean scores, boolean images, String rater) {
+        this.full = full;
+        this.fields = Collections.unmodifiableSet(fields);
+        this.items = items;
+        this.scores = scores;
+        this.images = images;
+        this.rater = rater;
+    }
+
+    /**
+     * Parses the sparse fieldset query parameters.
+     *
+     * @param fields  comma-separated matrix properties, or {@code null} for all of them.
+     * @param include comma-separated associations among {@code items}, {@code scores} and {@code images}, or {@code null}.
+     * @param rater   the only rater whose scores are returned, or {@code null} for every rater.
+     * @return the parsed selection; {@link #isFull()} if all parameters are absent.
+     * @throws IllegalArgumentException if a field or association name is unknown.
+     */
+    public static MatrixFieldSelection parse(String fields, String include, String rater) {
+        if (isBlank(fields) && isBlank(include) && isBlank(rater)) {
+            return FULL;
+        }
+
+        Set<String> selectedFields = new LinkedHashSet<>();
+        if (isBlank(fields)) {
+            selectedFields.addAll(FIELD_ACCESSORS.keySet());
+        } else {
+            Set<String> requested = split(fields);
+            for (String field : requested) {
+                if (!FIELD_ACCESSORS.containsKey(field)) {
+                    throw new IllegalArgumentException("Unknown matrix field: " + field);
+                }
+            }
+            // Keep the canonical order so responses are stable whatever order the client asked in.
+            FIELD_ACCESSORS.keySet().stream()
+                    .filter(field -> field.equals("matrixId") || requested.contains(field))
+                    .forEach(selectedFields::add);
+        }
+
+        Set<String> includes = isBlank(include) ? Set.of() : split(include);
+        for (String association : includes) {
+            if (!INCLUDES.contains(association)) {
+                throw new IllegalArgumentException("Unknown matrix association: " + association);
+            }
+        }
+        String normalizedRater = isBlank(rater) ? null : rater.trim().toLowerCase();
+        boolean scores = includes.contains("scores") || normalizedRater != null;
+        boolean items = scores || includes.contains("items");
+        return new MatrixFieldSelection(false, selectedFields, items, scores, includes.contains("images"), normalizedRater);
+    }
+
+    /**
+     * Returns the selection that represents the complete matrix.
+     *
+     * @return the full selection.
+     */
+    public static MatrixFieldSelection full() {
+        return FULL;
+    }
+
+    /**
+     * Copies the selected matrix properties into a new ordered map.
+     *
+     * @param matrix the matrix to read; its associations are not touched.
+     * @return the selected properties keyed by their JSON names.
+     */
+    public Map<String, Object> selectFields(CarverMatrix matrix) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (String field : fields) {
+            view.put(field, FIELD_ACCESSORS.get(field).apply(matrix));
+        }
+        return view;
+    }
+
+    private static Set<String> split(String value) {
+        Set<String> parts = new LinkedHashSet<>();
+        Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .forEach(parts::add);
+        return parts;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.fmc.starterApp.services;
+
+import com.fmc.starterApp.repositories.CarverMatrixRepository;
+
+/**
+ * Takes new versions of matrices for the services that change them.
+ *
+ * <p>Every change to a matrix, its items or its images increments the matrix version in the transaction that
+ * writes it, records the version as open in the {@link MatrixVersionTracker} so readers do not report it before the
+ * changed rows are committed, and invalidates the cached view of the matrix in the {@link MatrixViewCache}.
+ */
+public class MatrixVersionService {
+
+    private final CarverMatrixRepository carverMatrixRepository;
+    private final MatrixVersionTracker matrixVersionTracker;
+    private final MatrixViewCache matrixViewCache;
+
+    /**
+     * Constructs a MatrixVersionService.
+     *
+     * @param carverMatrixRepository increments and reads matrix versions.
+     * @param matrixVersionTracker   records the versions whose writes have not finished.
+     * @param matrixViewCache        the cached matrix views to invalidate.
+     */
+    public MatrixVersionService(CarverMatrixRepository carverMatrixRepository, MatrixVersionTracker matrixVersionTracker,
+                                MatrixViewCache matrixViewCache) {
+        this.carverMatrixRepository = carverMatrixRepository;
+        this.matrixVersionTracker = matrixVersionTracker;
+        this.matrixViewCache = matrixViewCache;
+    }
+
+    /**
+     * Records a change to a matrix: increments its version in the current transaction, closes the version when the
+     * transaction ends, and invalidates the cached view of the matrix after commit.
+     *
+     * @param matrixId the ID of the changed matrix.
+     * @return the new version, to stamp the changed rows with.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
+    public long markChanged(Long matrixId) {
+        long version = openVersion(matrixId);
+        matrixVersionTracker.closeAfterCompletion(matrixId, version);
+        matrixViewCache.invalidate(matrixId);
+        return version;
+    }
+
+    /**
+     * Records a change to the settings of a matrix or to all of its items, which must not run beside score writes:
+     * locks the matrix row exclusively, then records the change like {@link #markChanged(Long)}.
+     *
+     * <p>Score writes hold the matrix row in key share mode while they apply, so the lock waits in the database for
+     * the writes being applied and holds off later ones until the change commits, on every application instance.
+     * Both lock the matrix row before any item row, so they cannot deadlock.
+     *
+     * @param matrixId the ID of the changed matrix.
+     * @return the new version, to stamp the changed rows with.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
+    public long markChangedExclusively(Long matrixId) {
+        carverMatrixRepository.lockVersionByMatrixId(matrixId)
+                .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        return markChanged(matrixId);
+    }
+
+    /**
+     * Increments the version of a matrix in the current transaction and records it as open in the
+     * {@link MatrixVersionTracker}, for writes that take their version ahead of the rows they write; the caller
+     * closes it.
+     *
+     * @param matrixId the ID of the changed matrix.
+     * @return the new version.
+     * @throws IllegalArgumentException if the matrix does not exist.
+     */
+    public long openVersion(Long matrixId) {
+        long floor = carverMatrixRepository.findVersionByMatrixId(matrixId)
+                .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        return matrixVersionTracker.open(matrixId, floor, () -> {
+            carverMatrixRepository.incrementVersion(matrixId);
+            return carverMatrixRepository.findVersionByMatrixId(matrixId)
+                    .orElseThrow(() -> new IllegalArgumentException("CarverMatrix not found with ID: " + matrixId));
+        });
+    }
+}
@@ -0,0 +1,251 @@
+package com.fmc.starterApp.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process record of the matrix versions whose writes have not finished yet.
+ *
+ * <p>Score writes take their matrix version in a short transaction of its own and write their rows in a later
+ * one, so writes to one matrix run concurrently and may commit out of version order. A version is <em>open</em>
+ * from its increment until its write commits or rolls back. Readers report {@link #visibleVersion(Long, long)},
+ * the highest version below every open one: every row stamped up to it is committed, so a client continuing from
+ * it never skips a write. Versions whose write rolled back are simply never used, so versions have gaps.
+ *
+ * <p>A transaction sees its own writes, so the versions it opened are neither hidden from its reads nor waited for.
+ *
+ * <p>No lock is held while the database is accessed. A version is <em>reserved</em> before its increment with a
+ * floor known to be below it, the matrix version read just before, so a reader that misses the increment still
+ * reports a version below it.
+ *
+ * <p>The record is kept per application instance, like the {@link MatrixViewCache}; open versions do not survive
+ * a restart, and neither do the transactions that opened them.
+ */
+public class MatrixVersionTracker {
+
+    private final ConcurrentHashMap<Long, Versions> versionsByMatrix = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a new version of a matrix and records it as open.
+     *
+     * <p>The increment must run in the transaction that writes the version, or, for writes that take their version
+     * ahead of their transaction, in a transaction that commits before the rows are written. The version stays open
+     * until it is closed, also when that transaction rolls back; see {@link #closeOnRollback(Long, long)}.
+     *
+     * @param matrixId  the matrix ID.
+     * @param floor     a version known to be below the new one, usually the matrix version read before the increment.
+     * @param increment increments the matrix version and returns the new value.
+     * @return the new version.
+     */
+    public long open(Long matrixId, long floor, LongSupplier increment) {
+        Versions versions = reserve(matrixId, floor);
+        long version;
+        try {
+            version = increment.getAsLong();
+        } catch (RuntimeException e) {
+            synchronized (versions) {
+                versions.unreserve(floor);
+                retireIfIdle(matrixId, versions);
+            }
+            throw e;
+        }
+        synchronized (versions) {
+            versions.unreserve(floor);
+            versions.open.add(version);
+        }
+        ownVersions(true).computeIfAbsent(matrixId, id -> new TreeSet<>()).add(version);
+        return version;
+    }
+
+    /**
+     * Records that the write of a version committed or rolled back.
+     *
+     * @param matrixId the matrix ID.
+     * @param version  a version returned by {@link #open(Long, long, LongSupplier)}.
+     */
+    public void close(Long matrixId, long version) {
+        Versions versions = versionsByMatrix.get(matrixId);
+        if (versions == null) {
+            return;
+        }
+        synchronized (versions) {
+            versions.open.remove(version);
+            versions.notifyAll();
+            retireIfIdle(matrixId, versions);
+        }
+    }
+
+    /**
+     * Closes a version once the current transaction completes, committed or not.
+     *
+     * <p>Without transaction synchronization the version is closed immediately.
+     *
+     * @param matrixId the matrix ID.
+     * @param version  the version written by the current transaction.
+     */
+    public void closeAfterCompletion(Long matrixId, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            close(matrixId, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                close(matrixId, version);
+            }
+        });
+    }
+
+    /**
+     * Closes a version if the current transaction rolls back, for versions taken ahead of the write that uses them.
+     *
+     * @param matrixId the matrix ID.
+     * @param version  the version taken by the current transaction.
+     */
+    public void closeOnRollback(Long matrixId, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    close(matrixId, version);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the highest version of a matrix whose writes, and those of every version below it, are finished.
+     *
+     * @param matrixId       the matrix ID.
+     * @param currentVersion the matrix version read from the database before this call.
+     * @return {@code currentVersion}, or a lower version if writes up to it are still open.
+     */
+    public long visibleVersion(Long matrixId, long currentVersion) {
+        Versions versions = versionsByMatrix.get(matrixId);
+        if (versions == null) {
+            return currentVersion;
+        }
+        Set<Long> own = ownVersions(matrixId);
+        synchronized (versions) {
+            long visible = currentVersion;
+            for (long open : versions.open) {
+                if (!own.contains(open)) {
+                    visible = Math.min(visible, open - 1);
+                    break;
+                }
+            }
+            if (!versions.reservedFloors.isEmpty()) {
+                visible = Math.min(visible, versions.reservedFloors.firstKey());
+            }
+            return visible;
+        }
+    }
+
+    /**
+     * Tells whether a matrix has versions that are reserved or open.
+     *
+     * @param matrixId the matrix ID.
+     * @return true if a write to the matrix has not finished.
+     */
+    public boolean hasOpen(Long matrixId) {
+        Versions versions = versionsByMatrix.get(matrixId);
+        if (versions == null) {
+            return false;
+        }
+        synchronized (versions) {
+            return !versions.isIdle();
+        }
+    }
+
+    private Versions reserve(Long matrixId, long floor) {
+        while (true) {
+            Versions versions = versionsByMatrix.computeIfAbsent(matrixId, id -> new Versions());
+            synchronized (versions) {
+                if (!versions.retired) {
+                    versions.reservedFloors.merge(floor, 1, Integer::sum);
+                    return versions;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the versions of a matrix opened by the current transaction.
+     */
+    private Set<Long> ownVersions(Long matrixId) {
+        Map<Long, Set<Long>> own = ownVersions(false);
+        return own == null ? Set.of() : own.getOrDefault(matrixId, Set.of());
+    }
+
+    /**
+     * Returns the versions opened by the current transaction by matrix, binding an empty map to the transaction
+     * if asked to; null outside a transaction.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<Long>> ownVersions(boolean bind) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return bind ? new HashMap<>() : null;
+        }
+        Map<Long, Set<Long>> bound = (Map<Long, Set<Long>>) TransactionSynchronizationManager.getResource(this);
+        if (bound == null && bind) {
+            Map<Long, Set<Long>> own = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, own);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(MatrixVersionTracker.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(MatrixVersionTracker.this, own);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MatrixVersionTracker.this);
+                }
+            });
+            return own;
+        }
+        return bound;
+    }
+
+    /**
+     * Drops the record of a matrix without reserved or open versions; callers hold its monitor.
+     */
+    private void retireIfIdle(Long matrixId, Versions versions) {
+        if (versions.isIdle()) {
+            versions.retired = true;
+            versionsByMatrix.remove(matrixId, versions);
+        }
+    }
+
+    /**
+     * The reserved and open versions of one matrix, guarded by its own monitor.
+     */
+    private static final class Versions {
+        private final TreeMap<Long, Integer> reservedFloors = new TreeMap<>();
+        private final TreeSet<Long> open = new TreeSet<>();
+        private boolean retired;
+
+        private void unreserve(long floor) {
+            reservedFloors.computeIfPresent(floor, (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        private boolean isIdle() {
+            return reservedFloors.isEmpty() && open.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.fmc.starterApp.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fmc.starterApp.models.dto.MatrixViewCacheStatsDTO;
+import com.fmc.starterApp.models.dto.MatrixViewDTO;
+
+/**
+ * Bounded, in-process read-through cache of serialized matrix views, keyed by matrix ID.
+ *
+ * <p>Each entry holds the JSON returned by {@code GET /api/carvermatrices/{matrixId}}, so a hit skips both
+ * the database round trips and the serialization of the matrix, its items and its images. The cache is
+ * bounded by entry count and by the total size of the cached JSON; the least recently used entries are
+ * evicted first.
+ *
+ * <p>Writers call {@link #invalidate(Long)}. Inside a transaction the entry is dropped only after the
+ * transaction commits, and a load that overlaps an invalidation is returned to its caller but not cached,
+ * so a view read before a commit can never be stored after it.
+ */
+public class MatrixViewCache {
+
+    private final int maxEntries;
+    private final long maxWeightBytes;
+
+    private final LinkedHashMap<Long, MatrixViewDTO> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a MatrixViewCache with the specified bounds.
+     *
+     * @param maxEntries     the maximum number of cached matrices; must be positive.
+     * @param maxWeightBytes the maximum total size of the cached JSON, in bytes; must be positive.
+     */
+    public MatrixViewCache(int maxEntries, long maxWeightBytes) {
+        if (maxEntries <= 0 || maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * Returns the cached view of a matrix, loading and caching it on a miss.
+     *
+     * <p>The loader runs outside the cache lock, so a slow load does not block readers of other matrices.
+     * Views larger than the weight bound are returned but not cached.
+     *
+     * @param matrixId the matrix ID; must not be null.
+     * @param loader   builds the serialized view on a miss.
+     * @return the serialized view and the matrix version it was built from.
+     */
+    public MatrixViewDTO get(Long matrixId, Function<Long, MatrixViewDTO> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            MatrixViewDTO cached = entries.get(matrixId);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        MatrixViewDTO view = loader.apply(matrixId);
+
+        synchronized (this) {
+            if (loadGeneration == generation && weightOf(view) <= maxWeightBytes) {
+                MatrixViewDTO previous = entries.put(matrixId, view);
+                if (previous != null) {
+                    weightBytes -= weightOf(previous);
+                }
+                weightBytes += weightOf(view);
+                evictToBounds();
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Drops the cached view of a matrix.
+     *
+     * <p>When called inside a transaction with synchronization active, the entry is dropped after commit.
+     *
+     * @param matrixId the matrix ID; ignored if null.
+     */
+    public void invalidate(Long matrixId) {
+        if (matrixId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(matrixId);
+                }
+            });
+        } else {
+            remove(matrixId);
+        }
+    }
+
+    /**
+     * Drops every cached view.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        weightBytes = 0;
+    }
+
+    /**
+     * Returns the current counters of the cache.
+     *
+     * @return a snapshot of hits, misses, evictions and current size.
+     */
+    public synchronized MatrixViewCacheStatsDTO getStats() {
+        return MatrixViewCacheStatsDTO.builder()
+                .hits(hits)
+                .misses(misses)
+                .evictions(evictions)
+                .entries(entries.size())
+                .weightBytes(weightBytes)
+                .maxEntries(maxEntries)
+                .maxWeightBytes(maxWeightBytes)
+                .build();
+    }
+
+    private synchronized void remove(Long matrixId) {
+        generation++;
+        MatrixViewDTO removed = entries.remove(matrixId);
+        if (removed != null) {
+            weightBytes -= weightOf(removed);
+        }
+    }
+
+    private void evictToBounds() {
+        Iterator<Map.Entry<Long, MatrixViewDTO>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weightBytes > maxWeightBytes) && eldest.hasNext()) {
+            weightBytes -= weightOf(eldest.next().getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long weightOf(MatrixViewDTO view) {
+        return view.getJson().length;
+    }
+}
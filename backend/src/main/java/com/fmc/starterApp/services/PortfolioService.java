@@ -0,0 +1,179 @@
+package com.fmc.starterApp.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fmc.starterApp.models.dto.PortfolioDTO;
+import com.fmc.starterApp.models.dto.PortfolioMatrixDTO;
+import com.fmc.starterApp.repositories.CarverItemRepository;
+import com.fmc.starterApp.repositories.CarverMatrixRepository;
+
+/**
+ * Scores all matrices of a user at once for portfolio dashboards.
+ *
+ * <p>Every matrix is scored by its own task on a fork-join pool of bounded parallelism, shared by all requests,
+ * so a user with hundreds of matrices holds at most that many database connections. Those connections come from
+ * the pool that serves every other request, so the parallelism must stay well below the connection pool size
+ * ({@code spring.datasource.hikari.maximum-pool-size}); {@code carver.portfolio.parallelism} defaults to 2 against a
+ * pool of 5.
+ *
+ * <p>Each task reads its matrix in its own read-only transaction, streaming the items in chunks of item IDs: it
+ * keeps only the current chunk and the top items seen so far, whatever the size of the matrix. The weighted totals
+ * are those maintained for {@link CarverMatrixService#getMatrixRanking(Long, Integer)}.
+ *
+ * <p>The time spent on each matrix is reported with it, and the slowest matrices are listed in the response.
+ */
+public class PortfolioService implements AutoCloseable {
+
+    /**
+     * Number of slowest matrices named by a portfolio.
+     */
+    public static final int SLOWEST_MATRICES = 5;
+
+    /**
+     * Descending total, then ascending item ID: the ranking order of {@code [itemId, itemName, weightedTotal]} rows.
+     */
+    private static final Comparator<Object[]> RANKING_ORDER =
+            Comparator.<Object[]>comparingDouble(row -> -((Number) row[2]).doubleValue())
+                    .thenComparingLong(row -> (Long) row[0]);
+
+    private final CarverMatrixRepository carverMatrixRepository;
+    private final CarverItemRepository carverItemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int topItems;
+
+    /**
+     * Constructs a PortfolioService and its fork-join pool.
+     *
+     * @param carverMatrixRepository lists the matrices of a user.
+     * @param carverItemRepository   streams the items of a matrix.
+     * @param transactionTemplate    provides the transaction manager of the per-matrix transactions.
+     * @param parallelism            the number of matrices scored at the same time, each holding a connection; must be
+     *                               positive and well below the connection pool size.
+     * @param chunkSize              the number of items read per query; must be positive.
+     * @param topItems               the number of top items reported per matrix; must be positive.
+     * @throws IllegalArgumentException if a bound is not positive.
+     */
+    public PortfolioService(CarverMatrixRepository carverMatrixRepository, CarverItemRepository carverItemRepository,
+                            TransactionTemplate transactionTemplate, int parallelism, int chunkSize, int topItems) {
+        if (parallelism <= 0 || chunkSize <= 0 || topItems <= 0) {
+            throw new IllegalArgumentException("Portfolio parallelism, chunk size and top items must be positive");
+        }
+        this.carverMatrixRepository = carverMatrixRepository;
+        this.carverItemRepository = carverItemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.topItems = topItems;
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("portfolio-scoring-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Scores every matrix a user hosts or participates in.
+     *
+     * @param userEmail the email of the user.
+     * @return the scored matrices ordered by matrix ID, with the slowest named.
+     * @throws IllegalArgumentException if userEmail is null or empty.
+     * @throws RuntimeException if scoring a matrix fails.
+     */
+    public PortfolioDTO getPortfolio(String userEmail) {
+        if (userEmail == null || userEmail.isEmpty()) {
+            throw new IllegalArgumentException("User email must not be empty");
+        }
+        long start = System.nanoTime();
+        List<Callable<PortfolioMatrixDTO>> tasks = new ArrayList<>();
+        for (Object[] row : carverMatrixRepository.findPortfolioByMember(userEmail)) {
+            tasks.add(() -> scoreMatrix((Long) row[0], (String) row[1], (Long) row[2]));
+        }
+
+        List<PortfolioMatrixDTO> matrices = new ArrayList<>(tasks.size());
+        try {
+            for (Future<PortfolioMatrixDTO> result : pool.invokeAll(tasks)) {
+                matrices.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while scoring the portfolio of " + userEmail, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to score the portfolio of " + userEmail, e.getCause());
+        }
+
+        List<Long> slowest = matrices.stream()
+                .sorted(Comparator.comparingDouble(PortfolioMatrixDTO::getElapsedMillis).reversed())
+                .limit(SLOWEST_MATRICES)
+                .map(PortfolioMatrixDTO::getMatrixId)
+                .toList();
+        return PortfolioDTO.builder()
+                .matrices(matrices)
+                .slowestMatrixIds(slowest)
+                .elapsedMillis(millisSince(start))
+                .build();
+    }
+
+    /**
+     * Scores one matrix by streaming its items in chunks, keeping the top items in a bounded heap.
+     */
+    private PortfolioMatrixDTO scoreMatrix(Long matrixId, String name, Long version) {
+        long start = System.nanoTime();
+        // The head of the heap is the lowest ranked of the items kept.
+        PriorityQueue<Object[]> top = new PriorityQueue<>(topItems + 1, RANKING_ORDER.reversed());
+        long[] counts = new long[2];
+        readOnlyTransaction.executeWithoutResult(status -> {
+            long afterItemId = 0;
+            List<Object[]> chunk;
+            do {
+                chunk = carverItemRepository.findScoredChunk(matrixId, afterItemId, PageRequest.of(0, chunkSize));
+                for (Object[] row : chunk) {
+                    counts[0]++;
+                    counts[1] += ((Number) row[3]).longValue();
+                    top.add(row);
+                    if (top.size() > topItems) {
+                        top.poll();
+                    }
+                    afterItemId = (Long) row[0];
+                }
+            } while (chunk.size() == chunkSize);
+        });
+
+        List<Object[]> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING_ORDER);
+        long cells = counts[0] * CarverScoringEngine.CATEGORY_COUNT;
+        return PortfolioMatrixDTO.builder()
+                .matrixId(matrixId)
+                .name(name)
+                .version(version)
+                .itemCount(counts[0])
+                .completion(cells == 0 ? 0.0 : (double) counts[1] / cells)
+                .topItems(CarverMatrixService.toRanks(ranked))
+                .elapsedMillis(millisSince(start))
+                .build();
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Shuts the fork-join pool down.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,243 @@
+package com.fmc.starterApp.services;
+
+import java.util.Arrays;
+
+/**
+ * Computes rater agreement statistics of the items of a matrix in one pass over the submitted scores.
+ *
+ * <p>For every item and category, the number of raters, the mean, the sample variance and the minimum and maximum
+ * score are accumulated with Welford's update, which stays numerically stable however many raters there are.
+ * The accumulators are flat primitive arrays indexed by {@code item * CATEGORY_COUNT + category}, as in
+ * {@link CarverScoringEngine}.
+ *
+ * <p>For every category, Kendall's coefficient of concordance W measures how far the raters agree on the order of
+ * the items: 1 when they rank them identically, 0 when their rankings are unrelated. Tied scores get their mean
+ * rank and the usual tie correction. W needs complete rankings, so only the raters who scored every item of the
+ * matrix in a category count towards its W; it is undefined (null) with fewer than two such raters or items.
+ *
+ * <p>Scores must be {@link #add(long, int, String, int) added} grouped by category and then by rater, with values
+ * above 0. The scores of one rater in one category are buffered in reused arrays until the rater changes, then
+ * ranked by sorting a copy of them. Instances are not thread-safe.
+ */
+public final class RaterAgreementCalculator {
+
+    private static final int CATEGORY_COUNT = CarverScoringEngine.CATEGORY_COUNT;
+
+    private final long[] itemIds;
+    private final long[] counts;
+    private final double[] means;
+    private final double[] m2;
+    private final int[] min;
+    private final int[] max;
+
+    private final double[] rankSums;
+    private final int[] rankedRaters;
+    private final double[] tieCorrections;
+
+    private int runCategory = -1;
+    private String runRater;
+    private int runSize;
+    private final int[] runItems;
+    private final int[] runValues;
+    private final int[] sortedValues;
+
+    /**
+     * Constructs a calculator for the given items, without any scores.
+     *
+     * @param itemIds the IDs of the items, in strictly ascending order.
+     * @throws IllegalArgumentException if the IDs are not strictly ascending.
+     */
+    public RaterAgreementCalculator(long[] itemIds) {
+        for (int i = 1; i < itemIds.length; i++) {
+            if (itemIds[i] <= itemIds[i - 1]) {
+                throw new IllegalArgumentException("Item IDs must be strictly ascending");
+            }
+        }
+        this.itemIds = itemIds.clone();
+        int cells = itemIds.length * CATEGORY_COUNT;
+        this.counts = new long[cells];
+        this.means = new double[cells];
+        this.m2 = new double[cells];
+        this.min = new int[cells];
+        this.max = new int[cells];
+        this.rankSums = new double[cells];
+        this.rankedRaters = new int[CATEGORY_COUNT];
+        this.tieCorrections = new double[CATEGORY_COUNT];
+        this.runItems = new int[itemIds.length];
+        this.runValues = new int[itemIds.length];
+        this.sortedValues = new int[itemIds.length];
+    }
+
+    /**
+     * Adds one submitted score.
+     *
+     * @param itemId   the item ID; scores of unknown items are ignored.
+     * @param category the category index.
+     * @param rater    the rater.
+     * @param value    the score, above 0.
+     * @throws IllegalArgumentException if the value is not above 0, or the scores are not grouped by category and
+     *                                  rater so that a rater scores the same item twice in a run.
+     */
+    public void add(long itemId, int category, String rater, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Only submitted scores above 0 can be added");
+        }
+        int item = Arrays.binarySearch(itemIds, itemId);
+        if (item < 0) {
+            return;
+        }
+        if (category != runCategory || !rater.equals(runRater)) {
+            endRun();
+            runCategory = category;
+            runRater = rater;
+        }
+        if (runSize == runItems.length) {
+            throw new IllegalArgumentException("Scores must be grouped by category and rater");
+        }
+        runItems[runSize] = item;
+        runValues[runSize] = value;
+        runSize++;
+
+        int cell = item * CATEGORY_COUNT + category;
+        long n = ++counts[cell];
+        double delta = value - means[cell];
+        means[cell] += delta / n;
+        m2[cell] += delta * (value - means[cell]);
+        min[cell] = n == 1 ? value : Math.min(min[cell], value);
+        max[cell] = n == 1 ? value : Math.max(max[cell], value);
+    }
+
+    /**
+     * Ranks the scores of the current rater if they cover every item, then starts an empty run.
+     */
+    private void endRun() {
+        if (runSize > 0 && runSize == itemIds.length) {
+            System.arraycopy(runValues, 0, sortedValues, 0, runSize);
+            Arrays.sort(sortedValues, 0, runSize);
+            double tieCorrection = 0;
+            for (int from = 0, to; from < runSize; from = to) {
+                to = from + 1;
+                while (to < runSize && sortedValues[to] == sortedValues[from]) {
+                    to++;
+                }
+                double tied = to - from;
+                tieCorrection += tied * tied * tied - tied;
+            }
+            for (int i = 0; i < runSize; i++) {
+                // The mean of the 1-based positions of the value in the sorted scores.
+                int below = countBelow(runValues[i], false);
+                int tied = countBelow(runValues[i], true) - below;
+                rankSums[runItems[i] * CATEGORY_COUNT + runCategory] += below + (tied + 1) / 2.0;
+            }
+            rankedRaters[runCategory]++;
+            tieCorrections[runCategory] += tieCorrection;
+        }
+        runSize = 0;
+    }
+
+    /**
+     * Returns the number of buffered scores below a value, or up to and including it.
+     */
+    private int countBelow(int value, boolean inclusive) {
+        int low = 0;
+        int high = runSize;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedValues[middle] < value || inclusive && sortedValues[middle] == value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Ends the pass; no score may be added afterwards.
+     */
+    public void finish() {
+        endRun();
+        runCategory = -1;
+        runRater = null;
+    }
+
+    /**
+     * Returns the number of items.
+     */
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    /**
+     * Returns the ID of the item at an index.
+     */
+    public long itemId(int item) {
+        return itemIds[item];
+    }
+
+    /**
+     * Returns the number of raters who scored an item in a category.
+     */
+    public long count(int item, int category) {
+        return counts[item * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns the mean score of an item in a category, or 0 if nobody scored it.
+     */
+    public double mean(int item, int category) {
+        return means[item * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns the sample variance of the scores of an item in a category, or 0 with fewer than two raters.
+     */
+    public double variance(int item, int category) {
+        int cell = item * CATEGORY_COUNT + category;
+        return counts[cell] < 2 ? 0.0 : m2[cell] / (counts[cell] - 1);
+    }
+
+    /**
+     * Returns the lowest score of an item in a category, or 0 if nobody scored it.
+     */
+    public int min(int item, int category) {
+        return min[item * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns the highest score of an item in a category, or 0 if nobody scored it.
+     */
+    public int max(int item, int category) {
+        return max[item * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns the number of raters who scored every item in a category and so count towards its W.
+     */
+    public int rankedRaters(int category) {
+        return rankedRaters[category];
+    }
+
+    /**
+     * Returns Kendall's W of a category, corrected for ties.
+     *
+     * @param category the category index.
+     * @return W between 0 and 1, or null with fewer than two ranking raters or items, or if every rater tied
+     *         every item.
+     */
+    public Double kendallW(int category) {
+        int m = rankedRaters[category];
+        int n = itemIds.length;
+        if (m < 2 || n < 2) {
+            return null;
+        }
+        double meanRankSum = m * (n + 1) / 2.0;
+        double s = 0;
+        for (int item = 0; item < n; item++) {
+            double deviation = rankSums[item * CATEGORY_COUNT + category] - meanRankSum;
+            s += deviation * deviation;
+        }
+        double denominator = (double) m * m * ((double) n * n * n - n) - m * tieCorrections[category];
+        return denominator <= 0 ? null : 12 * s / denominator;
+    }
+}
@@ -0,0 +1,570 @@
+package com.fmc.starterApp.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.dto.ScoreWriteBufferStatsDTO;
+
+/**
+ * Per-matrix, per-rater buffer that coalesces rapid score submissions into batched writes.
+ *
+ * <p>Submissions are merged into the pending scores of their (matrix, rater) pair, a later value for the same
+ * item and category replacing the earlier one, and written through a {@link Sink} (normally
+ * {@link CarverMatrixService#writeScorePatches(Long, String, List)}) every flush interval, or immediately once a
+ * pair has {@code maxPendingItems} pending items. A burst of small submissions therefore costs one write
+ * transaction per pair and interval instead of one per request.
+ *
+ * <p>Flushes are serialized, so the writes of one pair are applied in submission order. A pair whose write
+ * fails is re-queued under any newer scores and retried on the next flush, up to {@code maxWriteAttempts} times;
+ * after that the batch is appended to a dead-letter file next to the log and no longer retried. If the sink
+ * rejects a batch as invalid (an item was deleted meanwhile), its items are retried one by one and the invalid
+ * ones are dropped. Failed batches, dropped and dead-lettered items are counted in {@link #getStats()}, together
+ * with the last failure, so that lost scores show up where the buffer is monitored.
+ *
+ * <p>Buffering requires a log: every submission is appended to it and forced to disk before it is acknowledged,
+ * and the log is replayed on startup, so acknowledged scores survive a crash. Concurrent submissions share one
+ * force (group commit), which runs outside the buffer's lock. Each flush renames the log to a
+ * {@value #FLUSHING_SUFFIX} sibling and starts a new one; once the flushed batches are written, the scores still
+ * pending from before the flush are appended to the new log and the sibling is deleted, so the log only ever
+ * holds the scores submitted or left pending since the last flush.
+ */
+public class ScoreWriteBuffer implements AutoCloseable {
+
+    /**
+     * Destination of flushed scores.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Writes one rater's scores to items of a matrix.
+         *
+         * @param matrixId the ID of the matrix.
+         * @param rater    the rater whose scores are written.
+         * @param patches  one patch per distinct item.
+         */
+        void write(Long matrixId, String rater, List<CarverItemScorePatchDTO> patches);
+    }
+
+    /**
+     * One appended submission of the durability log.
+     */
+    record LogEntry(Long matrixId, String rater, List<CarverItemScorePatchDTO> patches) {
+    }
+
+    private record Key(Long matrixId, String rater) {
+    }
+
+    /** The suffix of the log being flushed. */
+    public static final String FLUSHING_SUFFIX = ".flushing";
+
+    /** The suffix of the file receiving batches that exhausted their write attempts. */
+    public static final String DEAD_LETTER_SUFFIX = ".dead";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Sink sink;
+    private final boolean enabled;
+    private final int maxPendingItems;
+    private final int maxWriteAttempts;
+    private final Path logPath;
+    private final Path flushingPath;
+    private final Path deadLetterPath;
+    private final ScheduledExecutorService scheduler;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Map<Key, Map<Long, Map<String, Integer>>> pending = new LinkedHashMap<>();
+    private final Map<Key, Integer> failedAttempts = new LinkedHashMap<>();
+    private FileChannel log;
+    private long appendedEntries;
+
+    /** Serializes forces of the log; {@link #durableEntries} is guarded by it. */
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private long durableEntries;
+
+    private long submissions;
+    private long flushedBatches;
+    private long failedBatches;
+    private long droppedItems;
+    private long deadLetteredItems;
+    private String lastFailure;
+
+    /**
+     * Constructs a ScoreWriteBuffer, replays its log if any and starts the periodic flush.
+     *
+     * @param sink                the destination of flushed scores; must not be null.
+     * @param enabled             whether submissions are buffered; when false every submission is written through
+     *                            synchronously and no log or background thread is used.
+     * @param flushIntervalMillis the period of the background flush, in milliseconds; must be positive.
+     * @param maxPendingItems     the number of pending items of one (matrix, rater) pair that triggers an immediate flush; must be positive.
+     * @param maxWriteAttempts    the number of failed writes after which a batch is dead-lettered; must be positive.
+     * @param logPath             the durability log; required when buffering is enabled.
+     * @throws IllegalArgumentException if a bound is not positive, or buffering is enabled without a log.
+     * @throws IllegalStateException if the log cannot be opened or replayed.
+     */
+    public ScoreWriteBuffer(Sink sink, boolean enabled, long flushIntervalMillis, int maxPendingItems, int maxWriteAttempts,
+                            Path logPath) {
+        if (flushIntervalMillis <= 0 || maxPendingItems <= 0 || maxWriteAttempts <= 0) {
+            throw new IllegalArgumentException("Buffer bounds must be positive");
+        }
+        if (enabled && logPath == null) {
+            throw new IllegalArgumentException("A log path is required when score buffering is enabled");
+        }
+        this.sink = sink;
+        this.enabled = enabled;
+        this.maxPendingItems = maxPendingItems;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.logPath = enabled ? logPath : null;
+        this.flushingPath = enabled ? logPath.resolveSibling(logPath.getFileName() + FLUSHING_SUFFIX) : null;
+        this.deadLetterPath = enabled ? logPath.resolveSibling(logPath.getFileName() + DEAD_LETTER_SUFFIX) : null;
+        if (enabled) {
+            replayAndOpenLog();
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "score-write-buffer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Buffers one rater's scores; they are written by a later flush.
+     *
+     * <p>When buffering is enabled the submission is on disk when this method returns. When buffering is disabled
+     * the scores are written before this method returns.
+     *
+     * @param matrixId the ID of the matrix; must not be null.
+     * @param rater    the rater whose scores are buffered; must not be null.
+     * @param patches  validated patches, e.g. from {@link CarverMatrixService#prepareScorePatches(Long, List)}.
+     * @return {@code true} if the scores were buffered, {@code false} if they were written through.
+     */
+    public boolean submit(Long matrixId, String rater, List<CarverItemScorePatchDTO> patches) {
+        if (!enabled) {
+            sink.write(matrixId, rater, patches);
+            synchronized (this) {
+                submissions++;
+                flushedBatches++;
+            }
+            return false;
+        }
+        Key key = new Key(matrixId, rater);
+        boolean full;
+        long entry;
+        synchronized (this) {
+            entry = appendToLog(new LogEntry(matrixId, rater, patches));
+            merge(key, patches);
+            submissions++;
+            full = pending.get(key).size() >= maxPendingItems;
+        }
+        awaitDurable(entry);
+        if (full) {
+            flush(key);
+        }
+        return true;
+    }
+
+    /**
+     * Writes every pending score now.
+     */
+    public void flush() {
+        flush(null);
+    }
+
+    /**
+     * Returns the current counters of the buffer.
+     *
+     * @return a snapshot of submissions, written and failed batches, dropped, dead-lettered and pending items and the
+     *         last failure.
+     */
+    public synchronized ScoreWriteBufferStatsDTO getStats() {
+        return ScoreWriteBufferStatsDTO.builder()
+                .submissions(submissions)
+                .flushedBatches(flushedBatches)
+                .failedBatches(failedBatches)
+                .droppedItems(droppedItems)
+                .deadLetteredItems(deadLetteredItems)
+                .lastFailure(lastFailure)
+                .pendingRaters(pending.size())
+                .pendingItems(pending.values().stream().mapToLong(Map::size).sum())
+                .durable(logPath != null)
+                .build();
+    }
+
+    /**
+     * Stops the periodic flush and writes every pending score.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flush();
+        syncLock.lock();
+        try {
+            synchronized (this) {
+                if (log != null) {
+                    try {
+                        log.close();
+                    } catch (IOException e) {
+                        lastFailure = e.toString();
+                    }
+                    log = null;
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            recordFailure(e);
+        }
+    }
+
+    /**
+     * Writes the pending scores of one pair, or of every pair when {@code only} is null.
+     */
+    private void flush(Key only) {
+        flushLock.lock();
+        try {
+            Map<Key, Map<Long, Map<String, Integer>>> batches = new LinkedHashMap<>();
+            boolean rotated;
+            syncLock.lock();
+            try {
+                synchronized (this) {
+                    if (only == null) {
+                        batches.putAll(pending);
+                        pending.clear();
+                    } else if (pending.containsKey(only)) {
+                        batches.put(only, pending.remove(only));
+                    }
+                    // The rotated log holds exactly the taken batches and the pairs still pending.
+                    rotated = !batches.isEmpty() && rotateLog(batches);
+                }
+            } finally {
+                syncLock.unlock();
+            }
+
+            for (Map.Entry<Key, Map<Long, Map<String, Integer>>> batch : batches.entrySet()) {
+                Key key = batch.getKey();
+                List<CarverItemScorePatchDTO> patches = toPatches(batch.getValue());
+                try {
+                    sink.write(key.matrixId(), key.rater(), patches);
+                    countFlushed(key);
+                } catch (IllegalArgumentException invalid) {
+                    writeItemByItem(key, patches);
+                } catch (RuntimeException e) {
+                    requeue(key, batch.getValue(), e);
+                }
+            }
+
+            if (rotated) {
+                retireFlushedLog(batches.keySet(), only);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writeItemByItem(Key key, List<CarverItemScorePatchDTO> patches) {
+        Map<Long, Map<String, Integer>> retry = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        for (CarverItemScorePatchDTO patch : patches) {
+            try {
+                sink.write(key.matrixId(), key.rater(), List.of(patch));
+                countFlushed(null);
+            } catch (IllegalArgumentException invalid) {
+                // The item was deleted or moved after the submission was accepted.
+                countDropped(invalid);
+            } catch (RuntimeException e) {
+                retry.put(patch.getItemId(), new LinkedHashMap<>(patch.getScores()));
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            requeue(key, retry, failure);
+        } else {
+            synchronized (this) {
+                failedAttempts.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Puts a failed batch back, keeping any scores submitted since it was taken, or dead-letters it once the pair
+     * has failed {@code maxWriteAttempts} times in a row.
+     */
+    private synchronized void requeue(Key key, Map<Long, Map<String, Integer>> batch, RuntimeException failure) {
+        failedBatches++;
+        lastFailure = failure.toString();
+        int attempts = failedAttempts.merge(key, 1, Integer::sum);
+        if (attempts >= maxWriteAttempts) {
+            failedAttempts.remove(key);
+            deadLetter(key, batch);
+            return;
+        }
+        Map<Long, Map<String, Integer>> newer = pending.remove(key);
+        pending.put(key, batch);
+        if (newer != null) {
+            newer.forEach((itemId, scores) -> batch.computeIfAbsent(itemId, id -> new LinkedHashMap<>()).putAll(scores));
+        }
+    }
+
+    /**
+     * Appends a batch that will not be retried to the dead-letter file, from which it can be inspected or replayed
+     * by hand. Scores submitted since the batch was taken stay pending.
+     */
+    private void deadLetter(Key key, Map<Long, Map<String, Integer>> batch) {
+        deadLetteredItems += batch.size();
+        try (FileChannel deadLetters = FileChannel.open(deadLetterPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeEntry(deadLetters, new LogEntry(key.matrixId(), key.rater(), toPatches(batch)));
+            deadLetters.force(false);
+        } catch (IOException e) {
+            lastFailure = "Failed to dead-letter " + batch.size() + " items of matrix " + key.matrixId() + ": " + e;
+        }
+    }
+
+    private void merge(Key key, List<CarverItemScorePatchDTO> patches) {
+        Map<Long, Map<String, Integer>> items = pending.computeIfAbsent(key, k -> new LinkedHashMap<>());
+        for (CarverItemScorePatchDTO patch : patches) {
+            items.computeIfAbsent(patch.getItemId(), id -> new LinkedHashMap<>()).putAll(patch.getScores());
+        }
+    }
+
+    private static List<CarverItemScorePatchDTO> toPatches(Map<Long, Map<String, Integer>> items) {
+        List<CarverItemScorePatchDTO> patches = new ArrayList<>(items.size());
+        items.forEach((itemId, scores) -> patches.add(new CarverItemScorePatchDTO(itemId, scores)));
+        return patches;
+    }
+
+    private synchronized void countFlushed(Key key) {
+        flushedBatches++;
+        if (key != null) {
+            failedAttempts.remove(key);
+        }
+    }
+
+    private synchronized void countDropped(RuntimeException failure) {
+        failedBatches++;
+        droppedItems++;
+        lastFailure = failure.toString();
+    }
+
+    private synchronized void recordFailure(Exception failure) {
+        lastFailure = failure.toString();
+    }
+
+    private void replayAndOpenLog() {
+        try {
+            // A crash during a flush leaves the rotated log behind; its entries are older than the current log's.
+            replay(flushingPath);
+            replay(logPath);
+            if (logPath.getParent() != null) {
+                Files.createDirectories(logPath.getParent());
+            }
+            log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            // Rewrite the replayed scores compactly so a second crash before the next flush loses nothing.
+            log.truncate(0);
+            for (Map.Entry<Key, Map<Long, Map<String, Integer>>> entry : pending.entrySet()) {
+                appendToLog(new LogEntry(entry.getKey().matrixId(), entry.getKey().rater(), toPatches(entry.getValue())));
+            }
+            log.force(false);
+            durableEntries = appendedEntries;
+            Files.deleteIfExists(flushingPath);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open score write log " + logPath, e);
+        }
+    }
+
+    private void replay(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                LogEntry entry;
+                try {
+                    entry = OBJECT_MAPPER.readValue(line, LogEntry.class);
+                } catch (IOException torn) {
+                    // A crash while appending leaves at most one incomplete, unacknowledged last line.
+                    break;
+                }
+                merge(new Key(entry.matrixId(), entry.rater()), entry.patches());
+            }
+        }
+    }
+
+    /**
+     * Appends an entry to the log without forcing it; the caller must hold the buffer's lock.
+     *
+     * @return the number of the appended entry, to be passed to {@link #awaitDurable(long)}.
+     */
+    private long appendToLog(LogEntry entry) {
+        if (log == null) {
+            throw new IllegalStateException("Score write log " + logPath + " is not open");
+        }
+        try {
+            writeEntry(log, entry);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to append to score write log " + logPath, e);
+        }
+        return ++appendedEntries;
+    }
+
+    private static void writeEntry(FileChannel channel, LogEntry entry) throws IOException {
+        byte[] line = (OBJECT_MAPPER.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns once the given log entry is on disk. The first caller forces every entry appended so far; callers
+     * that queued up behind it find their entries already forced and return without a force of their own.
+     */
+    private void awaitDurable(long entry) {
+        syncLock.lock();
+        try {
+            if (durableEntries >= entry) {
+                return;
+            }
+            FileChannel channel;
+            long appended;
+            synchronized (this) {
+                channel = log;
+                appended = appendedEntries;
+            }
+            if (channel == null) {
+                throw new IllegalStateException("Score write log " + logPath + " is not open");
+            }
+            channel.force(false);
+            durableEntries = appended;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to force score write log " + logPath, e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the log aside for the flush that has just taken its batches and opens an empty one; the caller must hold
+     * the sync lock and the buffer's lock.
+     *
+     * @param batches the batches taken by the flush.
+     * @return true if the log was rotated; false if it is kept, in which case it still holds every pending score.
+     */
+    private boolean rotateLog(Map<Key, Map<Long, Map<String, Integer>>> batches) {
+        if (log == null) {
+            openLog();
+            return false;
+        }
+        try {
+            if (Files.exists(flushingPath)) {
+                // An earlier flush could not retire its rotated log. Everything acknowledged and not yet written is
+                // in the taken batches or still pending, so log that and let the stale rotated log go.
+                for (Map.Entry<Key, Map<Long, Map<String, Integer>>> batch : batches.entrySet()) {
+                    appendToLog(new LogEntry(batch.getKey().matrixId(), batch.getKey().rater(), toPatches(batch.getValue())));
+                }
+                for (Map.Entry<Key, Map<Long, Map<String, Integer>>> entry : pending.entrySet()) {
+                    appendToLog(new LogEntry(entry.getKey().matrixId(), entry.getKey().rater(), toPatches(entry.getValue())));
+                }
+                log.force(false);
+                Files.delete(flushingPath);
+            }
+            log.force(false);
+            durableEntries = appendedEntries;
+            log.close();
+            Files.move(logPath, flushingPath, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            lastFailure = e.toString();
+            return false;
+        } finally {
+            // A new, empty log after a rotation; the unrotated one if it failed.
+            openLog();
+        }
+    }
+
+    /**
+     * Carries the scores that were pending before a flush and still are, because they were not part of it or their
+     * write failed, over to the current log, then deletes the rotated log.
+     */
+    private void retireFlushedLog(Set<Key> flushed, Key only) {
+        syncLock.lock();
+        try {
+            synchronized (this) {
+                for (Map.Entry<Key, Map<Long, Map<String, Integer>>> entry : pending.entrySet()) {
+                    Key key = entry.getKey();
+                    // Pairs left out of a single-pair flush, and re-queued pairs, are only in the rotated log.
+                    if (only != null && !key.equals(only) || flushed.contains(key) && failedAttempts.containsKey(key)) {
+                        appendToLog(new LogEntry(key.matrixId(), key.rater(), toPatches(entry.getValue())));
+                    }
+                }
+                log.force(false);
+                durableEntries = appendedEntries;
+                Files.deleteIfExists(flushingPath);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The rotated log is kept and replayed with the current one on the next start.
+            recordFailure(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void openLog() {
+        try {
+            if (log == null || !log.isOpen()) {
+                log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            // Submissions are refused until a later flush manages to reopen the log.
+            log = null;
+            lastFailure = e.toString();
+        }
+    }
+
+    /**
+     * Returns the pending items of one (matrix, rater) pair; for tests.
+     */
+    synchronized Map<Long, Map<String, Integer>> pendingItems(Long matrixId, String rater) {
+        Map<Long, Map<String, Integer>> items = pending.get(new Key(matrixId, rater));
+        return items == null ? Map.of() : items;
+    }
+
+    /**
+     * Returns whether nothing is pending; for tests.
+     */
+    synchronized boolean isEmpty() {
+        return pending.values().stream().allMatch(Map::isEmpty);
+    }
+}
@@ -0,0 +1,17 @@
+-- Running sum and count of the submitted scores (value > 0) of every item and category, kept in step with
+-- carver_scores by every score write so that score reads cost one row per item and category whatever the
+-- number of raters. POST /api/admin/score-aggregates/{matrixId}/rebuild recomputes them from carver_scores.
+CREATE TABLE IF NOT EXISTS carver_score_aggregates (
+    item_id BIGINT NOT NULL REFERENCES carver_items (item_id) ON DELETE CASCADE,
+    category VARCHAR(32) NOT NULL,
+    score_sum BIGINT NOT NULL,
+    score_count BIGINT NOT NULL,
+    PRIMARY KEY (item_id, category)
+);
+
+INSERT INTO carver_score_aggregates (item_id, category, score_sum, score_count)
+SELECT item_id, category, SUM(value), COUNT(*)
+FROM carver_scores
+WHERE value > 0
+GROUP BY item_id, category
+ON CONFLICT (item_id, category) DO NOTHING;
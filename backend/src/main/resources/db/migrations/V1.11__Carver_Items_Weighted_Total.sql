@@ -0,0 +1,19 @@
+-- Weighted CARVER total of every item, maintained from carver_score_aggregates and the matrix multipliers by
+-- score writes, multiplier changes and aggregate rebuilds, so that GET /api/carvermatrices/{id}/ranking?k= reads
+-- the top items in index order instead of sorting the matrix.
+ALTER TABLE carver_items ADD COLUMN IF NOT EXISTS weighted_total DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+UPDATE carver_items i
+SET weighted_total = COALESCE((
+    SELECT SUM(CAST(a.score_sum AS DOUBLE PRECISION) / a.score_count * COALESCE(CASE a.category
+        WHEN 'criticality' THEN m.c_multi
+        WHEN 'accessibility' THEN m.a_multi
+        WHEN 'recoverability' THEN m.r_multi
+        WHEN 'vulnerability' THEN m.v_multi
+        WHEN 'effect' THEN m.e_multi
+        ELSE m.r2multi END, 1.0))
+    FROM carver_score_aggregates a
+    JOIN carver_matrices m ON m.matrix_id = i.matrix_id
+    WHERE a.item_id = i.item_id AND a.score_count > 0), 0);
+
+CREATE INDEX IF NOT EXISTS idx_carver_items_matrix_id_weighted_total ON carver_items (matrix_id, weighted_total DESC, item_id);
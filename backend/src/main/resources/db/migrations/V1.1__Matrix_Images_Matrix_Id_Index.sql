@@ -0,0 +1,2 @@
+-- Supports matrix-scoped image lookups (MatrixImageRepository.findImagesByMatrixId).
+CREATE INDEX IF NOT EXISTS idx_matrix_images_matrix_id ON matrix_images (matrix_id);
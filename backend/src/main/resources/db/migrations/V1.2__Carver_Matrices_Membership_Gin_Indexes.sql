@@ -0,0 +1,16 @@
+-- Membership lookups (CarverMatrixRepository.findByHost / findByParticipant) use array containment
+-- (hosts @> ARRAY[...]), which can be answered from GIN indexes instead of a sequential scan.
+
+-- Backfill: containment is an exact match, so normalize existing entries the same way the service does.
+UPDATE carver_matrices
+   SET hosts = ARRAY(SELECT lower(trim(h)) FROM unnest(hosts) AS h)
+ WHERE hosts IS NOT NULL
+   AND hosts IS DISTINCT FROM ARRAY(SELECT lower(trim(h)) FROM unnest(hosts) AS h);
+
+UPDATE carver_matrices
+   SET participants = ARRAY(SELECT lower(trim(p)) FROM unnest(participants) AS p)
+ WHERE participants IS NOT NULL
+   AND participants IS DISTINCT FROM ARRAY(SELECT lower(trim(p)) FROM unnest(participants) AS p);
+
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_hosts_gin ON carver_matrices USING GIN (hosts);
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_participants_gin ON carver_matrices USING GIN (participants);
@@ -0,0 +1,7 @@
+-- Search (CarverMatrixService.searchCarverMatrixPage) filters name/description with ILIKE '%...%'
+-- and pages by (created_at, matrix_id) keyset.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_name_trgm ON carver_matrices USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_description_trgm ON carver_matrices USING GIN (description gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_created_at_matrix_id ON carver_matrices (created_at DESC, matrix_id DESC);
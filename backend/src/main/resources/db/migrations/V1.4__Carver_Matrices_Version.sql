@@ -0,0 +1,2 @@
+-- Monotonic matrix version used as the ETag of GET /api/carvermatrices/{matrixId}.
+ALTER TABLE carver_matrices ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
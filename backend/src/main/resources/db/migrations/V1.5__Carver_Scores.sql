@@ -0,0 +1,31 @@
+-- Normalized per-rater scores; carver_items keeps its JSON score maps as the serialized read model.
+CREATE TABLE IF NOT EXISTS carver_scores (
+    item_id    BIGINT       NOT NULL REFERENCES carver_items (item_id) ON DELETE CASCADE,
+    rater      VARCHAR(255) NOT NULL,
+    category   VARCHAR(32)  NOT NULL,
+    value      INTEGER      NOT NULL,
+    updated_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (item_id, rater, category)
+);
+
+-- Index-only item/category aggregates (averages, submission counts).
+CREATE INDEX IF NOT EXISTS idx_carver_scores_item_category_value ON carver_scores (item_id, category) INCLUDE (value);
+-- Index-only per-rater views and completion counts.
+CREATE INDEX IF NOT EXISTS idx_carver_scores_rater_item ON carver_scores (rater, item_id) INCLUDE (category, value);
+-- Matrix-scoped joins from carver_scores to carver_items.
+CREATE INDEX IF NOT EXISTS idx_carver_items_matrix_id ON carver_items (matrix_id, item_id);
+
+-- Backfill from the JSON score maps.
+INSERT INTO carver_scores (item_id, rater, category, value, updated_at)
+SELECT i.item_id, s.key, c.category, s.value::int, CURRENT_TIMESTAMP
+FROM carver_items i
+CROSS JOIN LATERAL (VALUES
+    ('criticality', i.criticality::jsonb),
+    ('accessibility', i.accessibility::jsonb),
+    ('recoverability', i.recoverability::jsonb),
+    ('vulnerability', i.vulnerability::jsonb),
+    ('effect', i.effect::jsonb),
+    ('recognizability', i.recognizability::jsonb)
+) AS c(category, scores)
+CROSS JOIN LATERAL jsonb_each_text(COALESCE(c.scores, '{}'::jsonb)) AS s(key, value)
+ON CONFLICT (item_id, rater, category) DO NOTHING;
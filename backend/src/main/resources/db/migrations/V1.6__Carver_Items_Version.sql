@@ -0,0 +1,2 @@
+-- Optimistic lock version of carver_items (CarverItem.version).
+ALTER TABLE carver_items ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Stored outcomes of write requests sent with an Idempotency-Key header (IdempotencyRecord).
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    record_key    VARCHAR(64)  PRIMARY KEY,
+    request_hash  VARCHAR(64)  NOT NULL,
+    status_code   INTEGER      NOT NULL,
+    content_type  VARCHAR(100),
+    response_body TEXT,
+    created_at    TIMESTAMP    NOT NULL,
+    expires_at    TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
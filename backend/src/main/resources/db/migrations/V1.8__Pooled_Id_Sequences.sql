@@ -0,0 +1,15 @@
+-- Sequence-generated IDs for carver_matrices, carver_items and matrix_images.
+-- Hibernate allocates IDs in blocks of 50 (pooled optimizer), so the increment must match allocationSize.
+-- Each sequence restarts above the highest existing ID; the identity defaults are dropped since Hibernate
+-- now supplies the IDs itself.
+CREATE SEQUENCE IF NOT EXISTS carver_matrices_seq INCREMENT BY 50;
+SELECT setval('carver_matrices_seq', COALESCE((SELECT MAX(matrix_id) FROM carver_matrices), 0) + 50, false);
+ALTER TABLE carver_matrices ALTER COLUMN matrix_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS carver_items_seq INCREMENT BY 50;
+SELECT setval('carver_items_seq', COALESCE((SELECT MAX(item_id) FROM carver_items), 0) + 50, false);
+ALTER TABLE carver_items ALTER COLUMN item_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS matrix_images_seq INCREMENT BY 50;
+SELECT setval('matrix_images_seq', COALESCE((SELECT MAX(image_id) FROM matrix_images), 0) + 50, false);
+ALTER TABLE matrix_images ALTER COLUMN image_id DROP IDENTITY IF EXISTS;
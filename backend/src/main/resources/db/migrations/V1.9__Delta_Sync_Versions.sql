@@ -0,0 +1,14 @@
+-- Per-row change tracking for delta sync (GET /api/carvermatrices/{id}/changes?since=<version>).
+-- Each column holds the carver_matrices.version produced by the write that last changed the row; existing rows
+-- keep 0, which is older than any version a client can hold.
+ALTER TABLE carver_matrices ADD COLUMN IF NOT EXISTS settings_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE carver_items ADD COLUMN IF NOT EXISTS changed_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE matrix_images ADD COLUMN IF NOT EXISTS changed_version BIGINT NOT NULL DEFAULT 0;
+
+-- Deleted images, so that clients learn about removals.
+CREATE TABLE IF NOT EXISTS matrix_image_removals (
+    image_id BIGINT PRIMARY KEY,
+    matrix_id BIGINT NOT NULL REFERENCES carver_matrices (matrix_id) ON DELETE CASCADE,
+    changed_version BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_matrix_image_removals_matrix_id ON matrix_image_removals (matrix_id, changed_version);
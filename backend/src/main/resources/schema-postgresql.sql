@@ -0,0 +1,12 @@
+-- Runs after Hibernate has built the schema (spring.jpa.defer-datasource-initialization).
+-- Only indexes that JPA @Index cannot describe belong here; keep every statement idempotent.
+-- The matching versioned scripts in db/migrations carry the same indexes for databases migrated in place.
+
+-- Membership lookups use array containment (hosts @> ARRAY[...]); see V1.2.
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_hosts_gin ON carver_matrices USING GIN (hosts);
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_participants_gin ON carver_matrices USING GIN (participants);
+
+-- Search filters name/description with ILIKE '%...%'; see V1.3.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_name_trgm ON carver_matrices USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_carver_matrices_description_trgm ON carver_matrices USING GIN (description gin_trgm_ops);
@@ -0,0 +1,35 @@
+package com.fmc.starterApp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.socket.config.annotation.ServletWebSocketHandlerRegistry;
+import org.springframework.web.socket.server.support.OriginHandshakeInterceptor;
+import org.springframework.web.socket.server.support.WebSocketHttpRequestHandler;
+
+/**
+ * Unit tests for {@link WebSocketConfiguration}, verifying that the collaboration endpoint only accepts handshakes
+ * from the configured origins.
+ */
+public class WebSocketConfigurationTest {
+
+    /**
+     * **registerWebSocketHandlers - Allowed Origins Test**
+     * Verify that the handshake of the collaboration endpoint checks the origin against the configured origins only.
+     */
+    @Test
+    void testRegisterWebSocketHandlers_RestrictsOrigins() {
+        WebSocketConfiguration configuration = new WebSocketConfiguration(null, null, 5000, 1024,
+                new String[]{"https://carver.example.com"});
+        ServletWebSocketHandlerRegistry registry = new ServletWebSocketHandlerRegistry();
+        configuration.registerWebSocketHandlers(registry);
+
+        SimpleUrlHandlerMapping mapping = (SimpleUrlHandlerMapping) registry.getHandlerMapping();
+        WebSocketHttpRequestHandler handler = (WebSocketHttpRequestHandler) mapping.getUrlMap().get("/api/carvermatrices/*/ws");
+        assertThat(handler.getHandshakeInterceptors())
+                .filteredOn(OriginHandshakeInterceptor.class::isInstance)
+                .singleElement()
+                .satisfies(interceptor -> assertThat(((OriginHandshakeInterceptor) interceptor).getAllowedOrigins())
+                        .containsExactly("https://carver.example.com"));
+    }
+}
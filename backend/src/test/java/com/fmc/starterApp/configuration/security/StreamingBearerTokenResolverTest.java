@@ -0,0 +1,80 @@
+package com.fmc.starterApp.configuration.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Unit tests for {@link StreamingBearerTokenResolver}, verifying that:
+ * <ul>
+ *   <li>The Authorization header is read on every endpoint.</li>
+ *   <li>The {@code access_token} query parameter is read on the collaboration WebSocket handshake and the score
+ *       event stream only.</li>
+ * </ul>
+ */
+public class StreamingBearerTokenResolverTest {
+
+    private final StreamingBearerTokenResolver resolver = new StreamingBearerTokenResolver();
+
+    // =========================================================================
+    // ✅ 1. resolve's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **resolve - Header Test**
+     * Verify that a token in the Authorization header is resolved on regular and streaming endpoints.
+     */
+    @Test
+    void testResolve_ReadsHeader() {
+        assertEquals("header-token", resolver.resolve(request("/api/carvermatrices/7", "header-token", null)));
+        assertEquals("header-token", resolver.resolve(request("/api/carvermatrices/7/ws", "header-token", null)));
+    }
+
+    /**
+     * **resolve - WebSocket Handshake Test**
+     * Verify that the handshake of the collaboration WebSocket may carry the token as a query parameter.
+     */
+    @Test
+    void testResolve_ReadsQueryParameterOnWebSocketHandshake() {
+        assertEquals("query-token", resolver.resolve(request("/api/carvermatrices/7/ws", null, "query-token")));
+    }
+
+    /**
+     * **resolve - Event Stream Test**
+     * Verify that the Server-Sent Events stream of a matrix may carry the token as a query parameter.
+     */
+    @Test
+    void testResolve_ReadsQueryParameterOnEventStream() {
+        assertEquals("query-token", resolver.resolve(request("/api/carvermatrices/7/events", null, "query-token")));
+    }
+
+    // =========================================================================
+    // ✅ 2. resolve's Scope Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **resolve - Regular Endpoint Test**
+     * Verify that a query parameter token is ignored on every other endpoint, so those requests stay unauthenticated.
+     */
+    @Test
+    void testResolve_IgnoresQueryParameterElsewhere() {
+        assertNull(resolver.resolve(request("/api/carvermatrices/7", null, "query-token")));
+        assertNull(resolver.resolve(request("/api/carvermatrices/search", null, "query-token")));
+        assertNull(resolver.resolve(request("/api/carvermatrices/7/ws/extra", null, "query-token")));
+    }
+
+    private static MockHttpServletRequest request(String path, String headerToken, String queryToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (headerToken != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + headerToken);
+        }
+        if (queryToken != null) {
+            request.setQueryString("access_token=" + queryToken);
+            request.addParameter("access_token", queryToken);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,296 @@
+package com.fmc.starterApp.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.models.entity.User2;
+import com.fmc.starterApp.repositories.CarverItemRepository;
+import com.fmc.starterApp.repositories.CarverMatrixRepository;
+import com.fmc.starterApp.repositories.User2Repository;
+import com.fmc.starterApp.services.CarverMatrixService;
+import com.fmc.starterApp.services.IdempotencyService;
+import com.fmc.starterApp.services.ScoreWriteBuffer;
+
+/**
+ * Tests for {@link CarverMatrixController} that call the controller bean directly, verifying that:
+ * <ul>
+ *   <li>Matrix reads carry an ETag and a matching If-None-Match yields 304 Not Modified.</li>
+ *   <li>A create retried with the same Idempotency-Key replays the first response and creates one matrix.</li>
+ *   <li>Paged searches return the next cursor in a header that cross-origin pages may read.</li>
+ *   <li>Score updates answer 200 OK when written through and 202 Accepted when buffered.</li>
+ * </ul>
+ *
+ * <p>{@link CarverMatrixControllerIntegrationTest} covers the endpoints through MockMvc but is disabled because
+ * the pinned spring-webmvc version breaks the test dispatcher servlet. This class runs against the same
+ * in-memory H2 database without the servlet layer, so request mapping and security are not exercised here.
+ * Matrices created by a test are deleted after it.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class CarverMatrixControllerTest {
+
+    @Autowired
+    private CarverMatrixController carverMatrixController;
+
+    @Autowired
+    private CarverMatrixService carverMatrixService;
+
+    @Autowired
+    private CarverMatrixRepository carverMatrixRepository;
+
+    @Autowired
+    private CarverItemRepository carverItemRepository;
+
+    @Autowired
+    private User2Repository user2Repository;
+
+    @Autowired
+    private CorsConfigurationSource corsConfigurationSource;
+
+    private final List<Long> createdMatrixIds = new ArrayList<>();
+    private final List<User2> createdUsers = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        createdMatrixIds.forEach(carverMatrixService::deleteCarverMatrix);
+        createdMatrixIds.clear();
+        user2Repository.deleteAll(createdUsers);
+        createdUsers.clear();
+    }
+
+    // =========================================================================
+    // ✅ 1. getCarverMatrixByCarverId's Conditional Request Tests
+    // =========================================================================
+
+    /**
+     * **getCarverMatrixByCarverId - Conditional Request Test**
+     * Verify that a matrix read returns an ETag and that repeating the read with If-None-Match set to that ETag
+     * returns 304 Not Modified with an empty body.
+     */
+    @Test
+    void getCarverMatrixByCarverId_withMatchingETag_returnsNotModified() {
+        Long matrixId = createMatrix("ETagMatrix", "etag@x.com");
+
+        ResponseEntity<?> first = carverMatrixController.getCarverMatrixByCarverId(matrixId, null, null, null, null, jwt("etag@x.com"));
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String eTag = first.getHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        ResponseEntity<?> second = carverMatrixController.getCarverMatrixByCarverId(matrixId, eTag, null, null, null, jwt("etag@x.com"));
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(second.getBody()).isNull();
+    }
+
+    /**
+     * **getCarverMatrixByCarverId - Changed Matrix Test**
+     * Verify that an If-None-Match holding the ETag of an earlier version returns the current matrix with a new ETag.
+     */
+    @Test
+    void getCarverMatrixByCarverId_withStaleETag_returnsMatrix() {
+        Long matrixId = createMatrix("StaleETagMatrix", "stale-etag@x.com");
+        String eTag = carverMatrixController.getCarverMatrixByCarverId(matrixId, null, null, null, null, jwt("stale-etag@x.com"))
+                .getHeaders().getETag();
+
+        CarverMatrix update = new CarverMatrix();
+        update.setName("StaleETagMatrix Renamed");
+        carverMatrixService.updateCarverMatrix(matrixId, update);
+
+        ResponseEntity<?> response = carverMatrixController.getCarverMatrixByCarverId(matrixId, eTag, null, null, null, jwt("stale-etag@x.com"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("StaleETagMatrix Renamed");
+    }
+
+    /**
+     * **eTagMatches - Weak Comparison Test**
+     * Verify that If-None-Match matches weak and strong forms of the same tag, lists and the wildcard, and nothing else.
+     */
+    @Test
+    void eTagMatches_usesWeakComparison() {
+        String eTag = CarverMatrixController.matrixETag(7L);
+
+        assertThat(eTag).isEqualTo("W/\"7\"");
+        assertThat(CarverMatrixController.eTagMatches("W/\"7\"", eTag)).isTrue();
+        assertThat(CarverMatrixController.eTagMatches("\"7\"", eTag)).isTrue();
+        assertThat(CarverMatrixController.eTagMatches("W/\"6\", W/\"7\"", eTag)).isTrue();
+        assertThat(CarverMatrixController.eTagMatches("*", eTag)).isTrue();
+        assertThat(CarverMatrixController.eTagMatches("W/\"17\"", eTag)).isFalse();
+    }
+
+    // =========================================================================
+    // ✅ 2. createCarverMatrix's Idempotency Tests
+    // =========================================================================
+
+    /**
+     * **createCarverMatrix - Idempotent Retry Test**
+     * Verify that repeating a create with the same Idempotency-Key replays the first response and creates a single matrix,
+     * although each deserialized request gets its own creation timestamps.
+     */
+    @Test
+    void createCarverMatrix_withIdempotencyKey_createsOnce() {
+        User2 user = user2Repository.save(new User2(null, "kc-idem", "F", "L", "F L", "user-idem", "idem@x.com", null));
+        createdUsers.add(user);
+
+        List<ResponseEntity<?>> responses = new ArrayList<>();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Idempotent");
+            matrix.setHosts(new String[]{"idem@x.com"});
+            CarverItem item = new CarverItem();
+            item.setItemName("Item1");
+            matrix.addItem(item);
+            responses.add(carverMatrixController.createCarverMatrix(matrix, user.getUserId(), "create-1", jwt("idem@x.com")));
+        }
+
+        ResponseEntity<?> first = responses.get(0);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Long matrixId = ((CarverMatrix) first.getBody()).getMatrixId();
+        createdMatrixIds.add(matrixId);
+
+        ResponseEntity<?> retry = responses.get(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat((String) retry.getBody()).contains("\"matrixId\":" + matrixId);
+        assertThat(carverMatrixRepository.findAll()).filteredOn(matrix -> "Idempotent".equals(matrix.getName())).hasSize(1);
+    }
+
+    // =========================================================================
+    // ✅ 3. searchCarverMatrices's Paging Tests
+    // =========================================================================
+
+    /**
+     * **searchCarverMatrices - Cross-Origin Paging Test**
+     * Verify that a paged search returns the next cursor in the {@value CarverMatrixController#NEXT_CURSOR_HEADER}
+     * header, that the CORS configuration exposes that header, and that the last page carries no cursor.
+     */
+    @Test
+    void searchCarverMatrices_withLimit_exposesNextCursor() {
+        createMatrix("PagedA", "paged@x.com");
+        createMatrix("PagedB", "paged@x.com");
+
+        ResponseEntity<?> firstPage = carverMatrixController.searchCarverMatrices(new HashMap<>(Map.of("limit", "1")), jwt("paged@x.com"));
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) firstPage.getBody()).hasSize(1);
+        String cursor = firstPage.getHeaders().getFirst(CarverMatrixController.NEXT_CURSOR_HEADER);
+        assertThat(cursor).isNotNull();
+
+        ResponseEntity<?> lastPage = carverMatrixController.searchCarverMatrices(
+                new HashMap<>(Map.of("limit", "1", "cursor", cursor)), jwt("paged@x.com"));
+        assertThat((List<?>) lastPage.getBody()).hasSize(1);
+        assertThat(lastPage.getHeaders().containsKey(CarverMatrixController.NEXT_CURSOR_HEADER)).isFalse();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/carvermatrices/search");
+        request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        assertThat(corsConfigurationSource.getCorsConfiguration(request).getExposedHeaders())
+                .contains(CarverMatrixController.NEXT_CURSOR_HEADER);
+    }
+
+    // =========================================================================
+    // ✅ 4. updateCarverItems's Write Mode Tests
+    // =========================================================================
+
+    /**
+     * **updateCarverItems - Write-Through Test**
+     * Verify that with buffering disabled, the default, scores are written before the response and answered with 200 OK
+     * and the updated items, as before buffering existed.
+     */
+    @Test
+    void updateCarverItems_writeThrough_returnsOk() {
+        Long matrixId = createMatrixWithItem("WriteThrough", "write-through@x.com");
+        Long itemId = carverItemRepository.findByCarverMatrix_MatrixId(matrixId).get(0).getItemId();
+
+        ResponseEntity<?> response = carverMatrixController.updateCarverItems(matrixId,
+                List.of(Map.of("itemId", itemId, "criticality", 7)), null, jwt("write-through@x.com"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) response.getBody()).singleElement().isInstanceOfSatisfying(CarverItem.class, item -> {
+            assertThat(item.getItemId()).isEqualTo(itemId);
+            assertThat(item.getCriticality()).containsEntry("write-through@x.com", 7);
+        });
+        assertThat(carverItemRepository.findById(itemId).orElseThrow().getCriticality()).containsEntry("write-through@x.com", 7);
+    }
+
+    /**
+     * **updateCarverItems - Buffered Test**
+     * Verify that with buffering enabled, scores are answered with 202 Accepted and the accepted patches, and written by
+     * the next flush.
+     */
+    @Test
+    void updateCarverItems_buffered_returnsAccepted(@TempDir Path logDirectory) {
+        Long matrixId = createMatrixWithItem("Buffered", "buffered@x.com");
+        Long itemId = carverItemRepository.findByCarverMatrix_MatrixId(matrixId).get(0).getItemId();
+        ScoreWriteBuffer writeThrough = carverMatrixController.scoreWriteBuffer;
+        ScoreWriteBuffer buffered = new ScoreWriteBuffer(carverMatrixService::writeScorePatches, true, 60_000, 1000, 3,
+                logDirectory.resolve("scores.log"));
+        carverMatrixController.scoreWriteBuffer = buffered;
+        try {
+            ResponseEntity<?> response = carverMatrixController.updateCarverItems(matrixId,
+                    List.of(Map.of("itemId", itemId, "criticality", 5)), null, jwt("buffered@x.com"));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(((List<?>) response.getBody()).get(0)).isInstanceOf(CarverItemScorePatchDTO.class);
+            assertThat(carverItemRepository.findById(itemId).orElseThrow().getCriticality()).doesNotContainKey("buffered@x.com");
+
+            buffered.flush();
+            assertThat(carverItemRepository.findById(itemId).orElseThrow().getCriticality()).containsEntry("buffered@x.com", 5);
+        } finally {
+            carverMatrixController.scoreWriteBuffer = writeThrough;
+            buffered.close();
+        }
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private Long createMatrix(String name, String hostEmail) {
+        User2 user = user2Repository.save(new User2(null, "kc-" + name, "F", "L", "F L", "user-" + name, name.toLowerCase() + "@creator.com", null));
+        createdUsers.add(user);
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName(name);
+        matrix.setHosts(new String[]{hostEmail});
+        Long matrixId = carverMatrixService.createCarverMatrix(matrix, user.getUserId()).getMatrixId();
+        createdMatrixIds.add(matrixId);
+        return matrixId;
+    }
+
+    private Long createMatrixWithItem(String name, String hostEmail) {
+        User2 user = user2Repository.save(new User2(null, "kc-" + name, "F", "L", "F L", "user-" + name, name.toLowerCase() + "@creator.com", null));
+        createdUsers.add(user);
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName(name);
+        matrix.setHosts(new String[]{hostEmail});
+        CarverItem item = new CarverItem();
+        item.setItemName(name + " Item");
+        matrix.addItem(item);
+        Long matrixId = carverMatrixService.createCarverMatrix(matrix, user.getUserId()).getMatrixId();
+        createdMatrixIds.add(matrixId);
+        return matrixId;
+    }
+
+    private static Jwt jwt(String email) {
+        return Jwt.withTokenValue("token").header("alg", "none").claim("email", email).subject(email).build();
+    }
+}
@@ -122,7 +122,7 @@ public class CarverItemUnitTest {
         recog.put("score", 6);
         ArrayList<String> images = new ArrayList<String>();
 
-        CarverItem item = new CarverItem(10L, matrix, "AllArgsItem", crit, acc, recov, vul, eff, recog, targets, images, now);
+        CarverItem item = new CarverItem(10L, matrix, "AllArgsItem", crit, acc, recov, vul, eff, recog, targets, images, now, 0L, 0L, 0.0);
 
         assertEquals(10L, item.getItemId());
         assertEquals(matrix, item.getCarverMatrix());
@@ -170,7 +170,7 @@ public class CarverItemUnitTest {
 
         // Passing null for itemName should trigger a NullPointerException.
         NullPointerException ex = assertThrows(NullPointerException.class, () ->
-            new CarverItem(1L, matrix, null, new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), targets, new ArrayList<String>(),now));
+            new CarverItem(1L, matrix, null, new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), targets, new ArrayList<String>(),now, 0L, 0L, 0.0));
         assertTrue(ex.getMessage().contains("itemName"));
     }
 
@@ -238,7 +238,7 @@ public class CarverItemUnitTest {
         recog.put("score", 2);
         ArrayList<String> images = new ArrayList<String>();
 
-        CarverItem item = new CarverItem(20L, matrix, "ToStringItem", crit, acc, recov, vul, eff, recog, targets, images, now);
+        CarverItem item = new CarverItem(20L, matrix, "ToStringItem", crit, acc, recov, vul, eff, recog, targets, images, now, 0L, 0L, 0.0);
         String str = item.toString();
         assertNotNull(str);
         assertTrue(str.contains("ToStringItem"), "toString() should include the itemName");
@@ -63,7 +63,7 @@ public class MatrixImageUnitTest {
         matrix.setName("Matrix2");
 
         LocalDateTime now = LocalDateTime.now();
-        MatrixImage image = new MatrixImage(10L, matrix, null, "http://example.com/image.png", now);
+        MatrixImage image = new MatrixImage(10L, matrix, null, "http://example.com/image.png", now, 0L);
 
         assertEquals(10L, image.getImageId());
         assertEquals(matrix, image.getCarverMatrix());
@@ -97,7 +97,7 @@ public class MatrixImageUnitTest {
 
         // Passing null for imageUrl should trigger a NullPointerException.
         NullPointerException ex = assertThrows(NullPointerException.class, () ->
-            new MatrixImage(1L, matrix, null, null, now));
+            new MatrixImage(1L, matrix, null, null, now, 0L));
         assertTrue(ex.getMessage().contains("imageUrl"));
     }
 
@@ -158,7 +158,7 @@ public class MatrixImageUnitTest {
         matrix.setMatrixId(5L);
         matrix.setName("MatrixTest");
         LocalDateTime now = LocalDateTime.now();
-        MatrixImage image = new MatrixImage(20L, matrix, null, "http://example.com/image.png", now);
+        MatrixImage image = new MatrixImage(20L, matrix, null, "http://example.com/image.png", now, 0L);
         String str = image.toString();
         assertNotNull(str, "toString() should not return null");
         assertTrue(str.contains("http://example.com/image.png"), "toString() should include the imageUrl");
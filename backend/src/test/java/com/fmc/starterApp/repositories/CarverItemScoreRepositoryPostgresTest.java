@@ -0,0 +1,207 @@
+package com.fmc.starterApp.repositories;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.models.entity.CarverScore;
+import com.fmc.starterApp.models.entity.CarverScoreAggregate;
+import com.fmc.starterApp.models.entity.CarverScoreAggregateId;
+import com.fmc.starterApp.models.entity.CarverScoreId;
+import com.fmc.starterApp.models.entity.User2;
+
+/**
+ * Integration tests for the PostgreSQL statements of {@link CarverItemScoreRepository#patchScores}, verifying that
+ * the {@code jsonb ||} patch and the score and aggregate upserts:
+ * <ul>
+ *   <li>Merge a rater's keys without touching the other raters' keys.</li>
+ *   <li>Skip items of other matrices and leave them out of the returned count.</li>
+ *   <li>Replace a rater's previous value and adjust the aggregate by the difference.</li>
+ *   <li>Store placeholder zeros without counting them in the aggregates.</li>
+ * </ul>
+ *
+ * <p>The H2 test database has no JSONB operators and runs the entity fallback instead, so these tests run against a
+ * throwaway PostgreSQL container. They are skipped when Docker is not available, except with the {@code postgres}
+ * Maven profile used by CI, which sets {@code carver.test.require-postgres} so that a missing Docker fails them.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Testcontainers
+@DisabledIf("dockerUnavailableAndNotRequired")
+public class CarverItemScoreRepositoryPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static boolean dockerUnavailableAndNotRequired() {
+        return !Boolean.getBoolean("carver.test.require-postgres") && !DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private CarverItemRepository carverItemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // Helper method: Create and persist a matrix with one unscored item per name.
+    private List<CarverItem> createItems(String... names) {
+        User2 user = new User2();
+        user.setKeycloakId("user-" + System.nanoTime());
+        user.setUsername("testuser-" + System.nanoTime());
+        user.setEmail("testuser-" + System.nanoTime() + "@example.com");
+        entityManager.persist(user);
+
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setUser(user);
+        matrix.setName("Postgres Matrix");
+        matrix.setDescription("Matrix for PostgreSQL score patch tests");
+        entityManager.persist(matrix);
+
+        List<CarverItem> items = new ArrayList<>();
+        for (String name : names) {
+            CarverItem item = new CarverItem();
+            item.setCarverMatrix(matrix);
+            item.setItemName(name);
+            items.add(entityManager.persist(item));
+        }
+        entityManager.flush();
+        return items;
+    }
+
+    // Helper method: Patch one item of a matrix and clear the persistence context for re-reading.
+    private int patch(CarverItem item, String rater, long changedVersion, Map<String, Integer> scores) {
+        int updated = carverItemRepository.patchScores(item.getCarverMatrix().getMatrixId(), rater, changedVersion,
+                List.of(new CarverItemScorePatchDTO(item.getItemId(), new HashMap<>(scores))));
+        entityManager.clear();
+        return updated;
+    }
+
+    private CarverScoreAggregate aggregate(CarverItem item, String category) {
+        return entityManager.find(CarverScoreAggregate.class, new CarverScoreAggregateId(item.getItemId(), category));
+    }
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Integration Test)
+    // =========================================================================
+
+    /**
+     * **patchScores - Merge Keys Test**
+     * Verify that two raters' keys are merged into the same score column, and that both are counted.
+     */
+    @Test
+    void testPatchScores_MergesRaterKeys() {
+        CarverItem item = createItems("Item A").get(0);
+
+        assertEquals(1, patch(item, "a@example.com", 1, Map.of("criticality", 4)));
+        assertEquals(1, patch(item, "b@example.com", 2, Map.of("criticality", 2, "effect", 5)));
+
+        CarverItem stored = entityManager.find(CarverItem.class, item.getItemId());
+        assertThat(stored.getCriticality()).containsExactlyInAnyOrderEntriesOf(Map.of("a@example.com", 4, "b@example.com", 2));
+        assertThat(stored.getEffect()).containsExactlyInAnyOrderEntriesOf(Map.of("b@example.com", 5));
+        assertEquals(2, stored.getChangedVersion());
+        assertEquals(6, aggregate(item, "criticality").getScoreSum());
+        assertEquals(2, aggregate(item, "criticality").getScoreCount());
+        assertEquals(5, aggregate(item, "effect").getScoreSum());
+        assertEquals(1, aggregate(item, "effect").getScoreCount());
+    }
+
+    /**
+     * **patchScores - Replace Previous Value Test**
+     * Verify that a rater's new value replaces their previous one in the score row and the aggregate.
+     */
+    @Test
+    void testPatchScores_ReplacesPreviousValue() {
+        CarverItem item = createItems("Item A").get(0);
+        patch(item, "a@example.com", 1, Map.of("criticality", 4));
+        patch(item, "b@example.com", 2, Map.of("criticality", 2));
+
+        assertEquals(1, patch(item, "a@example.com", 3, Map.of("criticality", 1)));
+
+        CarverItem stored = entityManager.find(CarverItem.class, item.getItemId());
+        assertThat(stored.getCriticality()).containsExactlyInAnyOrderEntriesOf(Map.of("a@example.com", 1, "b@example.com", 2));
+        assertEquals(1, entityManager.find(CarverScore.class,
+                new CarverScoreId(item.getItemId(), "a@example.com", "criticality")).getValue());
+        assertEquals(3, aggregate(item, "criticality").getScoreSum());
+        assertEquals(2, aggregate(item, "criticality").getScoreCount());
+    }
+
+    // =========================================================================
+    // ✅ 2. Edge Case and Exception Handling Tests (Integration Test)
+    // =========================================================================
+
+    /**
+     * **patchScores - Foreign Item Test**
+     * Verify that an item of another matrix is neither patched nor counted, while the owned item is.
+     */
+    @Test
+    void testPatchScores_SkipsItemsOfOtherMatrices() {
+        CarverItem owned = createItems("Owned").get(0);
+        CarverItem foreign = createItems("Foreign").get(0);
+
+        int updated = carverItemRepository.patchScores(owned.getCarverMatrix().getMatrixId(), "a@example.com", 1, List.of(
+                new CarverItemScorePatchDTO(owned.getItemId(), Map.of("criticality", 3)),
+                new CarverItemScorePatchDTO(foreign.getItemId(), Map.of("criticality", 5))));
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        assertThat(entityManager.find(CarverItem.class, foreign.getItemId()).getCriticality()).isEmpty();
+        assertThat(entityManager.find(CarverScore.class,
+                new CarverScoreId(foreign.getItemId(), "a@example.com", "criticality"))).isNull();
+        assertThat(aggregate(foreign, "criticality")).isNull();
+        assertEquals(3, aggregate(owned, "criticality").getScoreSum());
+    }
+
+    /**
+     * **patchScores - Placeholder Zero Test**
+     * Verify that a placeholder zero is stored but not counted, and that replacing a submitted score with a zero
+     * removes it from the aggregate.
+     */
+    @Test
+    void testPatchScores_PlaceholderZerosAreNotCounted() {
+        CarverItem item = createItems("Item A").get(0);
+
+        patch(item, "a@example.com", 1, Map.of("criticality", 0));
+        assertEquals(0, entityManager.find(CarverScore.class,
+                new CarverScoreId(item.getItemId(), "a@example.com", "criticality")).getValue());
+        assertThat(aggregate(item, "criticality")).isNull();
+
+        patch(item, "a@example.com", 2, Map.of("criticality", 4));
+        patch(item, "b@example.com", 3, Map.of("criticality", 2));
+        patch(item, "a@example.com", 4, Map.of("criticality", 0));
+
+        CarverItem stored = entityManager.find(CarverItem.class, item.getItemId());
+        assertThat(stored.getCriticality()).containsExactlyInAnyOrderEntriesOf(Map.of("a@example.com", 0, "b@example.com", 2));
+        assertEquals(2, aggregate(item, "criticality").getScoreSum());
+        assertEquals(1, aggregate(item, "criticality").getScoreCount());
+    }
+}
@@ -31,6 +31,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fmc.starterApp.models.dto.MatrixImageDTO;
 import com.fmc.starterApp.models.entity.CarverMatrix;
 import com.fmc.starterApp.models.entity.MatrixImage;
 import com.fmc.starterApp.models.entity.User2;
@@ -130,6 +131,43 @@ public class MatrixImageRepositoryDataAccessTest {
         assertThat(foundImage).isNotPresent();
     }
 
+    /**
+     * **Find by matrix (positive case)**
+     * Confirm that findImagesByMatrixId returns only the images of the requested matrix as projections.
+     */
+    @Test
+    void testFindImagesByMatrixIdPositive() {
+        User2 user = createAndPersistUser();
+        CarverMatrix matrix = createAndPersistMatrix(user);
+        CarverMatrix otherMatrix = createAndPersistMatrix(user);
+
+        MatrixImage image = new MatrixImage();
+        image.setCarverMatrix(matrix);
+        image.setImageUrl("https://example.com/mine.png");
+        MatrixImage savedImage = matrixImageRepository.save(image);
+
+        MatrixImage otherImage = new MatrixImage();
+        otherImage.setCarverMatrix(otherMatrix);
+        otherImage.setImageUrl("https://example.com/other.png");
+        matrixImageRepository.save(otherImage);
+
+        List<MatrixImageDTO> images = matrixImageRepository.findImagesByMatrixId(matrix.getMatrixId());
+        assertEquals(1, images.size(), "Only the requested matrix's images should be returned.");
+        assertEquals(savedImage.getImageId(), images.get(0).getImageId());
+        assertEquals("https://example.com/mine.png", images.get(0).getImageUrl());
+        assertNull(images.get(0).getItemId(), "Images without an item should project a null itemId.");
+    }
+
+    /**
+     * **Find by matrix (negative case)**
+     * Confirm that findImagesByMatrixId returns an empty list for a matrix without images.
+     */
+    @Test
+    void testFindImagesByMatrixIdNegative() {
+        List<MatrixImageDTO> images = matrixImageRepository.findImagesByMatrixId(-1L);
+        assertTrue(images.isEmpty(), "A matrix without images should yield an empty list.");
+    }
+
     // ---------- Update Operation Tests ----------
     /**
      * **Update existing entity**  
@@ -1,29 +1,70 @@
 package com.fmc.starterApp.services;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fmc.starterApp.models.dto.CarverItemAgreementDTO;
+import com.fmc.starterApp.models.dto.CarverItemRankDTO;
+import com.fmc.starterApp.models.dto.CarverItemScoreDTO;
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.dto.CarverItemViewDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixPageDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryDTO;
+import com.fmc.starterApp.models.dto.CarverMatrixSummaryPageDTO;
+import com.fmc.starterApp.models.dto.CarverRaterCompletionDTO;
+import com.fmc.starterApp.models.dto.CarverScoreAggregateDTO;
+import com.fmc.starterApp.models.dto.CarverScoreStatsDTO;
+import com.fmc.starterApp.models.dto.MatrixAgreementDTO;
+import com.fmc.starterApp.models.dto.MatrixBatchEntryDTO;
+import com.fmc.starterApp.models.dto.MatrixChangesDTO;
+import com.fmc.starterApp.models.dto.MatrixRankingDTO;
+import com.fmc.starterApp.models.dto.MatrixScoresDTO;
+import com.fmc.starterApp.models.dto.MatrixViewDTO;
+import com.fmc.starterApp.models.dto.ScoreAggregateCheckDTO;
+import com.fmc.starterApp.models.dto.ScoreAggregateMismatchDTO;
 import com.fmc.starterApp.models.entity.CarverItem;
 import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.models.entity.CarverScoreAggregate;
+import com.fmc.starterApp.models.entity.CarverScoreAggregateId;
 import com.fmc.starterApp.models.entity.User2;
 import com.fmc.starterApp.repositories.CarverItemRepository;
 import com.fmc.starterApp.repositories.CarverMatrixRepository;
+import com.fmc.starterApp.repositories.CarverScoreAggregateRepository;
+import com.fmc.starterApp.repositories.CarverScoreRepository;
 import com.fmc.starterApp.repositories.User2Repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 /**
  * Integration tests for {@link CarverMatrixService}, verifying that the service layer:
  * <ul>
@@ -49,9 +90,24 @@ public class CarverMatrixServiceTest {
     @Autowired
     private CarverItemRepository carverItemRepository;
 
+    @Autowired
+    private CarverScoreRepository carverScoreRepository;
+
+    @Autowired
+    private CarverScoreAggregateRepository carverScoreAggregateRepository;
+
     @Autowired
     private User2Repository user2Repository;
 
+    @Autowired
+    private MatrixViewCache matrixViewCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     // -------------------------------------------------------------------------
     // Tests for getMatricesByHost Function
     // -------------------------------------------------------------------------
@@ -112,7 +168,50 @@ public class CarverMatrixServiceTest {
     // =========================================================================
     // ✅ 5. getMatricesByHost's Caching and Performance Tests (if applicable)
     // =========================================================================
-    // (Not applicable unless caching is implemented.)
+
+    /**
+     * **getMatricesByHost - Statement Count Test**
+     * Verify that loading many hosted matrices with their items does not issue one query per matrix.
+     */
+    @Test
+    @Transactional
+    void testGetMatricesByHost_NoNPlusOneQueries() {
+        User2 user = new User2(null, "host-batch-001", "Batch", "Host", "Batch Host", "batchhost", "batchhost@example.com", null);
+        user = user2Repository.save(user);
+        String hostId = String.valueOf(user.getUserId());
+
+        int matrixCount = 10;
+        for (int i = 0; i < matrixCount; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Batch Matrix " + i);
+            matrix.setUser(user);
+            matrix.setHosts(new String[]{hostId});
+            for (int j = 0; j < 3; j++) {
+                CarverItem item = new CarverItem();
+                item.setItemName("Item " + i + "-" + j);
+                matrix.addItem(item);
+            }
+            carverMatrixRepository.save(matrix);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<CarverMatrix> matrices = carverMatrixService.getMatricesByHost(user.getUserId());
+            assertThat(matrices).hasSize(matrixCount);
+            matrices.forEach(matrix -> {
+                assertTrue(Hibernate.isInitialized(matrix.getItems()), "Items should be fetched with the matrix");
+                assertThat(matrix.getItems()).hasSize(3);
+            });
+            // One query for the matrices and their items, plus at most one for the shared owning user.
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
 
     // -------------------------------------------------------------------------
     // Tests for getMatricesByParticipant Function
@@ -202,6 +301,233 @@ public class CarverMatrixServiceTest {
         assertThat(ex.getMessage()).contains("MatrixId must not be null");
     }
 
+    // -------------------------------------------------------------------------
+    // Tests for getSparseMatrix Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getSparseMatrix's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getSparseMatrix - Single Rater Scores Test**
+     * Verify that only the requested fields are returned and that scores are restricted to the requested rater.
+     */
+    @Test
+    @Transactional
+    void testGetSparseMatrix_SingleRaterScores() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Sparse Matrix");
+        matrix.setDescription("Not requested");
+        CarverItem item = new CarverItem();
+        item.setItemName("Sparse Item");
+        matrix.addItem(item);
+        matrix = carverMatrixRepository.save(matrix);
+        Long itemId = matrix.getItems().get(0).getItemId();
+        carverMatrixService.updateCarverItemScores(matrix.getMatrixId(), List.of(Map.of("itemId", itemId, "criticality", 7)), "rater-a@example.com");
+        carverMatrixService.updateCarverItemScores(matrix.getMatrixId(), List.of(Map.of("itemId", itemId, "criticality", 3)), "rater-b@example.com");
+
+        MatrixFieldSelection selection = MatrixFieldSelection.parse("name", "scores", "Rater-A@example.com");
+        Map<String, Object> view = carverMatrixService.getSparseMatrix(matrix.getMatrixId(), selection);
+
+        assertThat(view).containsOnlyKeys("matrixId", "name", "items");
+        assertEquals("Sparse Matrix", view.get("name"));
+        @SuppressWarnings("unchecked")
+        List<CarverItemViewDTO> items = (List<CarverItemViewDTO>) view.get("items");
+        assertThat(items).hasSize(1);
+        assertEquals(Map.of("rater-a@example.com", 7), items.get(0).getCriticality());
+    }
+
+    /**
+     * **getSparseMatrix - Items Without Scores Test**
+     * Verify that items requested without scores carry no score maps and that images are left out.
+     */
+    @Test
+    @Transactional
+    void testGetSparseMatrix_ItemsWithoutScores() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Sparse Items Matrix");
+        CarverItem item = new CarverItem();
+        item.setItemName("Unscored Item");
+        item.getCriticality().put("rater@example.com", 5);
+        matrix.addItem(item);
+        matrix = carverMatrixRepository.save(matrix);
+
+        Map<String, Object> view = carverMatrixService.getSparseMatrix(matrix.getMatrixId(),
+                MatrixFieldSelection.parse(null, "items", null));
+
+        assertThat(view).containsKeys("name", "cMulti", "items").doesNotContainKey("images");
+        @SuppressWarnings("unchecked")
+        List<CarverItemViewDTO> items = (List<CarverItemViewDTO>) view.get("items");
+        assertEquals("Unscored Item", items.get(0).getItemName());
+        assertNull(items.get(0).getCriticality(), "Scores should not be loaded unless requested");
+    }
+
+    // =========================================================================
+    // ✅ 2. getSparseMatrix's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getSparseMatrix - Invalid Selection Test**
+     * Verify that unknown fields and associations are rejected with an IllegalArgumentException.
+     */
+    @Test
+    void testGetSparseMatrix_InvalidSelection() {
+        IllegalArgumentException fieldEx = assertThrows(IllegalArgumentException.class,
+                () -> MatrixFieldSelection.parse("name,password", null, null));
+        assertThat(fieldEx.getMessage()).contains("Unknown matrix field: password");
+        IllegalArgumentException includeEx = assertThrows(IllegalArgumentException.class,
+                () -> MatrixFieldSelection.parse(null, "items,user", null));
+        assertThat(includeEx.getMessage()).contains("Unknown matrix association: user");
+        assertTrue(MatrixFieldSelection.parse(null, " ", null).isFull());
+    }
+
+    // =========================================================================
+    // ✅ 3. getSparseMatrix's Caching and Performance Tests (if applicable)
+    // =========================================================================
+
+    /**
+     * **getSparseMatricesByHost - Constant Query Count Test**
+     * Verify that sparse views of many matrices load items and images with one query each.
+     */
+    @Test
+    @Transactional
+    void testGetSparseMatricesByHost_ConstantQueries() {
+        User2 user = user2Repository.save(new User2(null, "sparse-001", "Sparse", "Host", "Sparse Host", "sparsehost", "sparsehost@example.com", null));
+        String hostId = String.valueOf(user.getUserId());
+        for (int i = 0; i < 10; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Sparse Batch " + i);
+            matrix.setUser(user);
+            matrix.setHosts(new String[]{hostId});
+            for (int j = 0; j < 3; j++) {
+                CarverItem item = new CarverItem();
+                item.setItemName("Sparse Item " + i + "-" + j);
+                matrix.addItem(item);
+            }
+            carverMatrixRepository.save(matrix);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<Map<String, Object>> views = carverMatrixService.getSparseMatricesByHost(user.getUserId(),
+                    MatrixFieldSelection.parse("name", "scores,images", null));
+            assertThat(views).hasSize(10);
+            views.forEach(view -> assertThat((List<?>) view.get("items")).hasSize(3));
+            // Matrices, the shared owning user, items and images.
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getMatricesByIds Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getMatricesByIds's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatricesByIds - Found and Unknown IDs Test**
+     * Verify that each distinct requested ID yields one entry, in request order, and that unknown IDs are reported per entry.
+     */
+    @Test
+    @Transactional
+    void testGetMatricesByIds_ReportsUnknownIds() {
+        User2 user = user2Repository.save(new User2(null, "batch-001", "Batch", "Reader", "Batch Reader", "batchreader", "batchreader@example.com", null));
+        CarverMatrix first = new CarverMatrix();
+        first.setName("Batch First");
+        first.setUser(user);
+        CarverItem item = new CarverItem();
+        item.setItemName("Batch Item");
+        first.addItem(item);
+        first = carverMatrixRepository.save(first);
+        CarverMatrix second = new CarverMatrix();
+        second.setName("Batch Second");
+        second.setUser(user);
+        second = carverMatrixRepository.save(second);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MatrixBatchEntryDTO> entries = carverMatrixService.getMatricesByIds(
+                List.of(second.getMatrixId(), -1L, first.getMatrixId(), second.getMatrixId()), MatrixFieldSelection.full());
+
+        assertThat(entries).extracting(MatrixBatchEntryDTO::getMatrixId)
+                .containsExactly(second.getMatrixId(), -1L, first.getMatrixId());
+        assertThat(entries).extracting(MatrixBatchEntryDTO::getStatus)
+                .containsExactly(MatrixBatchEntryDTO.FOUND, MatrixBatchEntryDTO.NOT_FOUND, MatrixBatchEntryDTO.FOUND);
+        assertNull(entries.get(1).getMatrix());
+        assertEquals("Batch First", entries.get(2).getMatrix().get("name"));
+        assertThat((List<?>) entries.get(2).getMatrix().get("items")).hasSize(1);
+        assertThat((List<?>) entries.get(0).getMatrix().get("items")).isEmpty();
+    }
+
+    // =========================================================================
+    // ✅ 2. getMatricesByIds's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatricesByIds - Invalid ID List Test**
+     * Verify that null IDs and batches over the size limit are rejected.
+     */
+    @Test
+    void testGetMatricesByIds_InvalidIds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.getMatricesByIds(null, MatrixFieldSelection.full()));
+        assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.getMatricesByIds(Arrays.asList(1L, null), MatrixFieldSelection.full()));
+        List<Long> tooMany = LongStream.rangeClosed(1, CarverMatrixService.MAX_BATCH_SIZE + 1).boxed().toList();
+        assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.getMatricesByIds(tooMany, MatrixFieldSelection.full()));
+    }
+
+    // =========================================================================
+    // ✅ 3. getMatricesByIds's Caching and Performance Tests (if applicable)
+    // =========================================================================
+
+    /**
+     * **getMatricesByIds - Constant Query Count Test**
+     * Verify that a batch of matrices loads with its items and images using a constant number of queries.
+     */
+    @Test
+    @Transactional
+    void testGetMatricesByIds_ConstantQueries() {
+        User2 user = user2Repository.save(new User2(null, "batch-002", "Batch", "Owner", "Batch Owner", "batchowner", "batchowner@example.com", null));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Batch Matrix " + i);
+            matrix.setUser(user);
+            for (int j = 0; j < 3; j++) {
+                CarverItem item = new CarverItem();
+                item.setItemName("Batch Item " + i + "-" + j);
+                matrix.addItem(item);
+            }
+            ids.add(carverMatrixRepository.save(matrix).getMatrixId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<MatrixBatchEntryDTO> entries = carverMatrixService.getMatricesByIds(ids, MatrixFieldSelection.full());
+            assertThat(entries).hasSize(10);
+            entries.forEach(entry -> assertThat((List<?>) entry.getMatrix().get("items")).hasSize(3));
+            // Matrices, the shared owning user, items and images.
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Tests for createCarverMatrix Function
     // -------------------------------------------------------------------------
@@ -240,6 +566,70 @@ public class CarverMatrixServiceTest {
         assertEquals(createdMatrix, createdMatrix.getItems().get(0).getCarverMatrix());
     }
 
+    /**
+     * **createCarverMatrix - Batched Inserts Test**
+     * Verify that creating a large matrix inserts its items in JDBC batches with pooled sequence IDs,
+     * instead of one insert statement per item.
+     */
+    @Test
+    @Transactional
+    void testCreateCarverMatrix_BatchedInserts() {
+        User2 user = user2Repository.save(new User2(null, "create-batch", "Create", "User", "Create User", "createbatch", "createbatch@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Large Matrix");
+        matrix.setHosts(new String[]{"createbatch@example.com"});
+        List<CarverItem> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Item " + i);
+            items.add(item);
+        }
+        matrix.setItems(items);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            CarverMatrix createdMatrix = carverMatrixService.createCarverMatrix(matrix, user.getUserId());
+            entityManager.flush();
+
+            assertThat(createdMatrix.getItems()).hasSize(500).allMatch(item -> item.getItemId() != null);
+            // The user, one sequence call per 50 IDs and the batched matrix and item inserts;
+            // IDENTITY generation needed a separate insert per item.
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(20);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    /**
+     * **createCarverMatrix - Committed Ranking Test**
+     * Verify that a matrix created outside any caller transaction commits with its items ranked. Runs without a
+     * test transaction so that the service's own transaction boundary is exercised.
+     */
+    @Test
+    void testCreateCarverMatrix_CommitsRankingTotals() {
+        User2 user = user2Repository.save(new User2(null, "create-ranked", "Create", "User", "Create User", "createranked", "createranked@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Committed Ranking Matrix");
+        for (int i = 0; i < 2; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Committed Item " + i);
+            matrix.addItem(item);
+        }
+
+        Long matrixId = carverMatrixService.createCarverMatrix(matrix, user.getUserId()).getMatrixId();
+        try {
+            MatrixRankingDTO ranking = carverMatrixService.getMatrixRanking(matrixId, 5);
+            assertThat(ranking.getItems()).extracting(CarverItemRankDTO::getItemName)
+                    .containsExactly("Committed Item 0", "Committed Item 1");
+            assertThat(ranking.getItems()).extracting(CarverItemRankDTO::getTotal).containsExactly(0.0, 0.0);
+        } finally {
+            carverMatrixService.deleteCarverMatrix(matrixId);
+            user2Repository.delete(user);
+        }
+    }
+
     // =========================================================================
     // ✅ 2. createCarverMatrix's Input Validation Tests (Unit Test)
     // =========================================================================
@@ -297,6 +687,25 @@ public class CarverMatrixServiceTest {
         assertThat(ex.getMessage()).contains("User not found with ID");
     }
 
+    /**
+     * **createCarverMatrix - Null and Blank Members Test**
+     * Verify that null and blank host or participant entries are dropped instead of failing the creation.
+     */
+    @Test
+    @Transactional
+    void testCreateCarverMatrix_DropsNullAndBlankMembers() {
+        User2 user = user2Repository.save(new User2(null, "create-members", "Create", "User", "Create User", "createmembers", "createmembers@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Sparse Members Matrix");
+        matrix.setHosts(new String[]{null, " Host@Example.com ", "  "});
+        matrix.setParticipants(new String[]{"", null});
+
+        CarverMatrix createdMatrix = carverMatrixService.createCarverMatrix(matrix, user.getUserId());
+
+        assertThat(createdMatrix.getHosts()).containsExactly("host@example.com");
+        assertThat(createdMatrix.getParticipants()).isEmpty();
+    }
+
     // =========================================================================
     // ✅ 5. createCarverMatrix's Caching and Performance Tests (if applicable)
     // =========================================================================
@@ -312,7 +721,7 @@ public class CarverMatrixServiceTest {
 
     /**
      * **updateCarverMatrix - Valid Update Test**
-     * Verify that updateCarverMatrix successfully updates an existing matrix with new values.
+     * Verify that updateCarverMatrix successfully updates an existing matrix with new values and returns its new version.
      */
     @Test
     @Transactional
@@ -327,9 +736,35 @@ public class CarverMatrixServiceTest {
         updatedMatrix.setName("Updated Name");
         updatedMatrix.setDescription("Updated Description");
 
+        Long version = carverMatrixService.getMatrixVersion(matrix.getMatrixId());
         CarverMatrix updated = carverMatrixService.updateCarverMatrix(matrix.getMatrixId(), updatedMatrix);
         assertEquals("Updated Name", updated.getName());
         assertEquals("Updated Description", updated.getDescription());
+        assertEquals(version + 1, updated.getVersion());
+        assertEquals(updated.getVersion(), carverMatrixService.getMatrixVersion(matrix.getMatrixId()));
+    }
+
+    /**
+     * **updateCarverMatrix - Membership Normalization Test**
+     * Verify that updated hosts and participants are normalized so membership lookups can find them.
+     */
+    @Test
+    @Transactional
+    void testUpdateCarverMatrix_NormalizesMembers() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Membership Matrix");
+        matrix = carverMatrixRepository.save(matrix);
+
+        CarverMatrix updatedMatrix = new CarverMatrix();
+        updatedMatrix.setHosts(new String[]{" Host.Member@Example.com "});
+        updatedMatrix.setParticipants(new String[]{"PARTICIPANT.member@example.com"});
+        carverMatrixService.updateCarverMatrix(matrix.getMatrixId(), updatedMatrix);
+        carverMatrixRepository.flush();
+
+        assertThat(carverMatrixRepository.findByHost("host.member@example.com"))
+                .extracting(CarverMatrix::getMatrixId).contains(matrix.getMatrixId());
+        assertThat(carverMatrixRepository.findByParticipant("participant.member@example.com"))
+                .extracting(CarverMatrix::getMatrixId).contains(matrix.getMatrixId());
     }
 
     // =========================================================================
@@ -387,6 +822,26 @@ public class CarverMatrixServiceTest {
         assertThat(ex.getMessage()).contains("CarverMatrix not found");
     }
 
+    /**
+     * **updateCarverMatrix - Null and Blank Members Test**
+     * Verify that null and blank host or participant entries are dropped instead of failing the update.
+     */
+    @Test
+    @Transactional
+    void testUpdateCarverMatrix_DropsNullAndBlankMembers() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Sparse Members Matrix");
+        matrix = carverMatrixRepository.save(matrix);
+
+        CarverMatrix updatedMatrix = new CarverMatrix();
+        updatedMatrix.setHosts(new String[]{"host@example.com", null});
+        updatedMatrix.setParticipants(new String[]{" ", null, "Participant@Example.com"});
+        CarverMatrix updated = carverMatrixService.updateCarverMatrix(matrix.getMatrixId(), updatedMatrix);
+
+        assertThat(updated.getHosts()).containsExactly("host@example.com");
+        assertThat(updated.getParticipants()).containsExactly("participant@example.com");
+    }
+
     // -------------------------------------------------------------------------
     // Tests for searchCarverMatrices Function
     // -------------------------------------------------------------------------
@@ -428,6 +883,90 @@ public class CarverMatrixServiceTest {
     }
 
 
+    /**
+     * **searchCarverMatrices - Role Annotation Test**
+     * Verify that each matrix is returned once, with host and participant flags describing the user's role.
+     */
+    @Test
+    @Transactional
+    void testSearchCarverMatrices_RoleFlags() {
+        String email = "roles@example.com";
+
+        CarverMatrix both = new CarverMatrix();
+        both.setName("Roles Both");
+        both.setHosts(new String[]{ email });
+        both.setParticipants(new String[]{ email });
+        both = carverMatrixRepository.save(both);
+
+        CarverMatrix hostOnly = new CarverMatrix();
+        hostOnly.setName("Roles Host");
+        hostOnly.setHosts(new String[]{ email });
+        hostOnly = carverMatrixRepository.save(hostOnly);
+
+        CarverMatrix participantOnly = new CarverMatrix();
+        participantOnly.setName("Roles Participant");
+        participantOnly.setParticipants(new String[]{ email });
+        participantOnly = carverMatrixRepository.save(participantOnly);
+
+        Map<String, String> searchParams = new HashMap<>();
+        searchParams.put("userEmail", email);
+        List<CarverMatrix> results = carverMatrixService.searchCarverMatrices(searchParams);
+
+        assertEquals(3, results.size(), "Each matrix should be returned exactly once");
+        Map<Long, CarverMatrix> byId = new HashMap<>();
+        results.forEach(m -> byId.put(m.getMatrixId(), m));
+        assertTrue(byId.get(both.getMatrixId()).getHost());
+        assertTrue(byId.get(both.getMatrixId()).getParticipant());
+        assertTrue(byId.get(hostOnly.getMatrixId()).getHost());
+        assertFalse(byId.get(hostOnly.getMatrixId()).getParticipant());
+        assertFalse(byId.get(participantOnly.getMatrixId()).getHost());
+        assertTrue(byId.get(participantOnly.getMatrixId()).getParticipant());
+    }
+
+    /**
+     * **searchCarverMatrices - Server-Side Filters Test**
+     * Verify that the "text", "roleBased" and "role" filters are applied in the query.
+     */
+    @Test
+    @Transactional
+    void testSearchCarverMatrices_TextRoleBasedAndRoleFilters() {
+        String email = "filters@example.com";
+
+        CarverMatrix hosted = new CarverMatrix();
+        hosted.setName("Filters Hosted");
+        hosted.setDescription("bridge survey");
+        hosted.setRoleBased(true);
+        hosted.setHosts(new String[]{ email });
+        carverMatrixRepository.save(hosted);
+
+        CarverMatrix joined = new CarverMatrix();
+        joined.setName("Bridge Filters Joined");
+        joined.setRoleBased(true);
+        joined.setParticipants(new String[]{ email });
+        carverMatrixRepository.save(joined);
+
+        CarverMatrix plain = new CarverMatrix();
+        plain.setName("Filters Plain");
+        plain.setHosts(new String[]{ email });
+        plain.setParticipants(new String[]{ email });
+        carverMatrixRepository.save(plain);
+
+        assertThat(search(email, Map.of("text", "BRIDGE"))).extracting(CarverMatrix::getName)
+                .containsExactlyInAnyOrder("Filters Hosted", "Bridge Filters Joined");
+        assertThat(search(email, Map.of("roleBased", "false"))).extracting(CarverMatrix::getName)
+                .containsExactly("Filters Plain");
+        assertThat(search(email, Map.of("roleBased", "true", "role", "participant"))).extracting(CarverMatrix::getName)
+                .containsExactly("Bridge Filters Joined");
+        assertThat(search(email, Map.of("role", "both"))).extracting(CarverMatrix::getName)
+                .containsExactly("Filters Plain");
+    }
+
+    private List<CarverMatrix> search(String email, Map<String, String> filters) {
+        Map<String, String> searchParams = new HashMap<>(filters);
+        searchParams.put("userEmail", email);
+        return carverMatrixService.searchCarverMatrices(searchParams);
+    }
+
     // =========================================================================
     // ✅ 2. searchCarverMatrices's Input Validation Tests (Unit Test)
     // =========================================================================
@@ -447,7 +986,916 @@ public class CarverMatrixServiceTest {
     // =========================================================================
     // ✅ 3. searchCarverMatrices's Edge Case and Exception Handling Tests (Unit Test)
     // =========================================================================
-    // (Additional exception handling tests can be added if necessary.)
+
+    /**
+     * **searchCarverMatrices - Literal Wildcard Test**
+     * Verify that LIKE wildcards in a name filter are matched literally.
+     */
+    @Test
+    @Transactional
+    void testSearchCarverMatrices_WildcardsMatchedLiterally() {
+        String email = "wildcard-search@example.com";
+        CarverMatrix percentMatrix = new CarverMatrix();
+        percentMatrix.setName("100% Coverage");
+        percentMatrix.setHosts(new String[]{ email });
+        carverMatrixRepository.save(percentMatrix);
+
+        CarverMatrix plainMatrix = new CarverMatrix();
+        plainMatrix.setName("100 Coverage");
+        plainMatrix.setHosts(new String[]{ email });
+        carverMatrixRepository.save(plainMatrix);
+
+        Map<String, String> searchParams = new HashMap<>();
+        searchParams.put("name", "0% c");
+        searchParams.put("userEmail", email);
+
+        List<CarverMatrix> results = carverMatrixService.searchCarverMatrices(searchParams);
+        assertThat(results).extracting(CarverMatrix::getName).containsExactly("100% Coverage");
+    }
+
+    /**
+     * **searchCarverMatrices - Invalid Cursor Test**
+     * Verify that a malformed cursor is rejected with an IllegalArgumentException.
+     */
+    @Test
+    void testSearchCarverMatrices_InvalidCursor() {
+        Map<String, String> searchParams = new HashMap<>();
+        searchParams.put("userEmail", "cursor@example.com");
+        searchParams.put("cursor", "not-a-cursor");
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.searchCarverMatrixPage(searchParams),
+                "Expected searchCarverMatrixPage to throw IllegalArgumentException for a malformed cursor");
+        assertThat(ex.getMessage()).contains("Invalid search cursor");
+    }
+
+    /**
+     * **searchCarverMatrices - Invalid Filter Test**
+     * Verify that an unknown role or a non-boolean roleBased filter is rejected with an IllegalArgumentException.
+     */
+    @Test
+    void testSearchCarverMatrices_InvalidFilters() {
+        assertThrows(IllegalArgumentException.class, () -> search("filters@example.com", Map.of("role", "owner")));
+        assertThrows(IllegalArgumentException.class, () -> search("filters@example.com", Map.of("roleBased", "yes")));
+    }
+
+    // =========================================================================
+    // ✅ 4. searchCarverMatrices's Caching and Performance Tests (if applicable)
+    // =========================================================================
+
+    /**
+     * **searchCarverMatrixPage - Keyset Pagination Test**
+     * Verify that pages are bounded by the limit and that following the cursor returns the remaining matrices
+     * without duplicates, newest first.
+     */
+    @Test
+    @Transactional
+    void testSearchCarverMatrixPage_KeysetPagination() {
+        String email = "paged-search@example.com";
+        List<Long> createdIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Paged Matrix " + i);
+            matrix.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i / 2));
+            if (i % 2 == 0) {
+                matrix.setHosts(new String[]{ email });
+            } else {
+                matrix.setParticipants(new String[]{ email });
+            }
+            createdIds.add(carverMatrixRepository.save(matrix).getMatrixId());
+        }
+
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Map<String, String> searchParams = new HashMap<>();
+            searchParams.put("userEmail", email);
+            searchParams.put("limit", "2");
+            if (cursor != null) {
+                searchParams.put("cursor", cursor);
+            }
+            CarverMatrixPageDTO page = carverMatrixService.searchCarverMatrixPage(searchParams);
+            assertThat(page.getMatrices().size()).isLessThanOrEqualTo(2);
+            page.getMatrices().forEach(matrix -> seenIds.add(matrix.getMatrixId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages, "Five matrices with a limit of two should span three pages");
+        List<Long> expectedOrder = Arrays.asList(createdIds.get(4), createdIds.get(3), createdIds.get(2),
+                createdIds.get(1), createdIds.get(0));
+        assertEquals(expectedOrder, seenIds, "Matrices should be returned newest first, ties by descending ID");
+    }
+
+    /**
+     * **searchCarverMatrices - Default Page Size Test**
+     * Verify that a search without "limit" returns at most the default page size with a cursor for the rest, and
+     * that a larger "limit" is capped at the maximum page size.
+     */
+    @Test
+    @Transactional
+    void testSearchCarverMatrices_BoundedWithoutLimit() {
+        String email = "bounded-search@example.com";
+        for (int i = 0; i <= CarverMatrixService.MAX_SEARCH_PAGE_SIZE; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Bounded Matrix " + i);
+            matrix.setHosts(new String[]{ email });
+            carverMatrixRepository.save(matrix);
+        }
+
+        Map<String, String> searchParams = new HashMap<>();
+        searchParams.put("userEmail", email);
+        CarverMatrixPageDTO page = carverMatrixService.searchCarverMatrixPage(searchParams);
+        assertThat(page.getMatrices()).hasSize(CarverMatrixService.DEFAULT_SEARCH_PAGE_SIZE);
+        assertNotNull(page.getNextCursor());
+
+        searchParams.put("userEmail", email);
+        searchParams.put("limit", "1000");
+        page = carverMatrixService.searchCarverMatrixPage(searchParams);
+        assertThat(page.getMatrices()).hasSize(CarverMatrixService.MAX_SEARCH_PAGE_SIZE);
+        assertNotNull(page.getNextCursor());
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getMatrixSummaries Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getMatrixSummaries's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixSummaries - Valid Input Test**
+     * Verify that summaries carry the user's role and the item and rater counts.
+     */
+    @Test
+    @Transactional
+    void testGetMatrixSummaries_BasicFunctionality() {
+        String email = "summary@example.com";
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Summary Matrix");
+        matrix.setDescription("Summarized");
+        matrix.setHosts(new String[]{ email });
+        matrix.setParticipants(new String[]{ email, "other@example.com" });
+        for (int i = 0; i < 3; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Summary Item " + i);
+            matrix.addItem(item);
+        }
+        matrix = carverMatrixRepository.save(matrix);
+
+        CarverMatrix unrelated = new CarverMatrix();
+        unrelated.setName("Summary Matrix Unrelated");
+        unrelated.setHosts(new String[]{ "someone-else@example.com" });
+        carverMatrixRepository.save(unrelated);
+
+        Map<String, String> searchParams = new HashMap<>();
+        searchParams.put("userEmail", email);
+        searchParams.put("name", "summary");
+        CarverMatrixSummaryPageDTO page = carverMatrixService.getMatrixSummaries(searchParams);
+
+        assertThat(page.getSummaries()).hasSize(1);
+        assertNull(page.getNextCursor());
+        CarverMatrixSummaryDTO summary = page.getSummaries().get(0);
+        assertEquals(matrix.getMatrixId(), summary.getMatrixId());
+        assertEquals("Summary Matrix", summary.getName());
+        assertEquals("Summarized", summary.getDescription());
+        assertTrue(summary.getHost());
+        assertTrue(summary.getParticipant());
+        assertEquals(3L, summary.getItemCount());
+        assertEquals(2, summary.getRaterCount());
+    }
+
+    /**
+     * **getMatrixSummaries - Keyset Pagination Test**
+     * Verify that summaries are paged newest first and that the cursor of a page continues after its last summary.
+     */
+    @Test
+    @Transactional
+    void testGetMatrixSummaries_KeysetPagination() {
+        String email = "summary-pages@example.com";
+        for (int i = 0; i < 3; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Paged Summary " + i);
+            matrix.setParticipants(new String[]{ email });
+            carverMatrixRepository.save(matrix);
+        }
+
+        Map<String, String> searchParams = new HashMap<>();
+        searchParams.put("userEmail", email);
+        searchParams.put("limit", "2");
+        CarverMatrixSummaryPageDTO first = carverMatrixService.getMatrixSummaries(searchParams);
+        assertThat(first.getSummaries()).extracting(CarverMatrixSummaryDTO::getName)
+                .containsExactly("Paged Summary 2", "Paged Summary 1");
+        assertNotNull(first.getNextCursor());
+
+        searchParams.put("userEmail", email);
+        searchParams.put("cursor", first.getNextCursor());
+        CarverMatrixSummaryPageDTO second = carverMatrixService.getMatrixSummaries(searchParams);
+        assertThat(second.getSummaries()).extracting(CarverMatrixSummaryDTO::getName).containsExactly("Paged Summary 0");
+        assertFalse(second.getSummaries().get(0).getHost());
+        assertNull(second.getNextCursor());
+    }
+
+    // =========================================================================
+    // ✅ 2. getMatrixSummaries's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixSummaries - Null Input Exception Test**
+     * Verify that passing a null searchParams map to getMatrixSummaries throws an IllegalArgumentException.
+     */
+    @Test
+    void testGetMatrixSummaries_NullInput() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.getMatrixSummaries(null),
+                "Expected getMatrixSummaries to throw IllegalArgumentException for null search parameters");
+        assertThat(ex.getMessage()).contains("Search parameters must not be null");
+    }
+
+    // =========================================================================
+    // ✅ 3. getMatrixSummaries's Edge Case and Exception Handling Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixSummaries - Pagination Test**
+     * Verify that summaries are paginated by the limit and that the cursor resumes after the last summary.
+     */
+    @Test
+    @Transactional
+    void testGetMatrixSummaries_Pagination() {
+        String email = "summary-pages@example.com";
+        for (int i = 0; i < 3; i++) {
+            CarverMatrix matrix = new CarverMatrix();
+            matrix.setName("Summary Page " + i);
+            matrix.setParticipants(new String[]{ email });
+            carverMatrixRepository.save(matrix);
+        }
+
+        Map<String, String> firstParams = new HashMap<>();
+        firstParams.put("userEmail", email);
+        firstParams.put("limit", "2");
+        CarverMatrixSummaryPageDTO first = carverMatrixService.getMatrixSummaries(firstParams);
+        assertThat(first.getSummaries()).hasSize(2);
+        assertNotNull(first.getNextCursor());
+        assertFalse(first.getSummaries().get(0).getHost());
+
+        Map<String, String> secondParams = new HashMap<>();
+        secondParams.put("userEmail", email);
+        secondParams.put("limit", "2");
+        secondParams.put("cursor", first.getNextCursor());
+        CarverMatrixSummaryPageDTO second = carverMatrixService.getMatrixSummaries(secondParams);
+        assertThat(second.getSummaries()).hasSize(1);
+        assertNull(second.getNextCursor());
+        assertThat(second.getSummaries()).extracting(CarverMatrixSummaryDTO::getMatrixId)
+                .doesNotContainAnyElementsOf(first.getSummaries().stream().map(CarverMatrixSummaryDTO::getMatrixId).toList());
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for updateCarverItemScores Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. updateCarverItemScores's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **updateCarverItemScores - Rater Key Patch Test**
+     * Verify that only the submitting rater's keys of the submitted categories change, and that several
+     * updates for one item are merged into a single patch.
+     */
+    @Test
+    @Transactional
+    void testUpdateCarverItemScores_PatchesOnlyRaterKeys() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Patch Matrix");
+        CarverItem item = new CarverItem();
+        item.setItemName("Patch Item");
+        item.setCriticality(new HashMap<>(Map.of("other@example.com", 2)));
+        item.setEffect(new HashMap<>(Map.of("other@example.com", 1, "rater@example.com", 1)));
+        matrix.addItem(item);
+        matrix = carverMatrixRepository.save(matrix);
+        Long itemId = matrix.getItems().get(0).getItemId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Map<String, Object>> updates = List.of(
+                Map.of("itemId", itemId, "criticality", 5),
+                Map.of("itemId", itemId, "effect", 4));
+        List<CarverItemScorePatchDTO> patches = carverMatrixService.updateCarverItemScores(matrix.getMatrixId(), updates, "rater@example.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(patches).hasSize(1);
+        assertEquals(Map.of("criticality", 5, "effect", 4), patches.get(0).getScores());
+        CarverItem stored = carverItemRepository.findById(itemId).orElseThrow();
+        assertEquals(Map.of("other@example.com", 2, "rater@example.com", 5), stored.getCriticality());
+        assertEquals(Map.of("other@example.com", 1, "rater@example.com", 4), stored.getEffect());
+        assertThat(stored.getAccessibility()).isEmpty();
+        assertEquals(1L, carverMatrixService.getMatrixVersion(matrix.getMatrixId()));
+    }
+
+    // =========================================================================
+    // ✅ 2. updateCarverItemScores's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **updateCarverItemScores - Malformed Update Test**
+     * Verify that updates without a numeric itemId or with a non-numeric score are rejected.
+     */
+    @Test
+    void testUpdateCarverItemScores_MalformedUpdate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.updateCarverItemScores(1L, List.of(Map.of("criticality", 3)), "rater@example.com"));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.updateCarverItemScores(1L, List.of(Map.of("itemId", 1, "criticality", "high")), "rater@example.com"));
+        assertThat(ex.getMessage()).contains("must be a number");
+    }
+
+    // =========================================================================
+    // ✅ 3. updateCarverItemScores's Edge Case and Exception Handling Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **updateCarverItemScores - Unknown Item Test**
+     * Verify that an unknown item ID is reported as not found.
+     */
+    @Test
+    @Transactional
+    void testUpdateCarverItemScores_UnknownItem() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Unknown Item Matrix");
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", -1L, "effect", 3)), "rater@example.com"));
+        assertThat(ex.getMessage()).contains("CarverItem not found with ID: -1");
+    }
+
+    // =========================================================================
+    // ✅ 4. updateCarverItemScores's Transactional and Integration Tests
+    // =========================================================================
+
+    /**
+     * **updateCarverItemScores - Concurrent Raters Test**
+     * Verify that raters submitting on the same item at the same time never lose each other's scores:
+     * a write that finds the item changed since it read it is retried over the other rater's write.
+     * Runs without a test transaction so that every submission commits on its own.
+     */
+    @Test
+    void testUpdateCarverItemScores_ConcurrentRatersKeepAllScores() throws Exception {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Concurrent Matrix");
+        CarverItem item = new CarverItem();
+        item.setItemName("Contended Item");
+        matrix.addItem(item);
+        matrix = carverMatrixRepository.save(matrix);
+        Long matrixId = matrix.getMatrixId();
+        Long itemId = matrix.getItems().get(0).getItemId();
+
+        int raters = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(raters);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int r = 0; r < raters; r++) {
+                String rater = "concurrent-" + r + "@example.com";
+                int score = r + 1;
+                submissions.add(executor.submit(() -> {
+                    start.await();
+                    return carverMatrixService.updateCarverItemScores(matrixId,
+                            List.of(Map.of("itemId", itemId, "criticality", score)), rater);
+                }));
+            }
+            start.countDown();
+            for (Future<?> submission : submissions) {
+                submission.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CarverItem stored = carverItemRepository.findById(itemId).orElseThrow();
+        assertThat(stored.getCriticality()).hasSize(raters);
+        for (int r = 0; r < raters; r++) {
+            assertEquals(r + 1, stored.getCriticality().get("concurrent-" + r + "@example.com"));
+        }
+        assertEquals(raters, stored.getVersion());
+        assertEquals(raters, carverMatrixService.getMatrixVersion(matrixId));
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
+
+    /**
+     * **updateCarverItemScores - Conflicting Item Save Test**
+     * Verify that a score write whose items are saved concurrently by an entity writer, e.g. a rename, loses the
+     * optimistic lock and is retried with the saved item instead of failing.
+     * Runs without a test transaction so that both writers commit on their own.
+     */
+    @Test
+    void testUpdateCarverItemScores_RetriesAfterConflictingItemSave() throws Exception {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Conflict Matrix");
+        CarverItem item = new CarverItem();
+        item.setItemName("Conflict Item");
+        matrix.addItem(item);
+        matrix = carverMatrixRepository.save(matrix);
+        Long matrixId = matrix.getMatrixId();
+        Long itemId = matrix.getItems().get(0).getItemId();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The rename holds the item row until it commits; the score write reads the committed item meanwhile
+            // and blocks on its versioned update, which then finds the renamed version and fails the first attempt.
+            Future<?> submission = transactionTemplate.execute(status -> {
+                carverItemRepository.findById(itemId).orElseThrow().setItemName("Renamed Item");
+                carverItemRepository.flush();
+                Future<?> write = executor.submit(() -> carverMatrixService.updateCarverItemScores(matrixId,
+                        List.of(Map.of("itemId", itemId, "criticality", 4)), "conflict@example.com"));
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                assertFalse(write.isDone(), "The score write should wait for the rename");
+                return write;
+            });
+            submission.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CarverItem stored = carverItemRepository.findById(itemId).orElseThrow();
+        assertEquals("Renamed Item", stored.getItemName());
+        assertEquals(4, stored.getCriticality().get("conflict@example.com"));
+        assertEquals(2, stored.getVersion());
+        assertEquals(1, carverMatrixService.getMatrixVersion(matrixId));
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
+
+    /**
+     * **updateCarverItemScores - No Matrix Lock Test**
+     * Verify that a score write does not wait for an unfinished score write to another item of the same matrix,
+     * and that the matrix version stays below the unfinished write until it commits, so delta sync never skips it.
+     * Runs without a test transaction so that every writer commits on its own.
+     */
+    @Test
+    void testUpdateCarverItemScores_DoesNotWaitForUnfinishedWrite() throws Exception {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Unlocked Matrix");
+        for (int i = 0; i < 2; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Unlocked Item " + i);
+            matrix.addItem(item);
+        }
+        matrix = carverMatrixRepository.save(matrix);
+        Long matrixId = matrix.getMatrixId();
+        Long blockedId = matrix.getItems().get(0).getItemId();
+        Long freeId = matrix.getItems().get(1).getItemId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // The rename holds the first item, so the first score write takes version 1 and then waits for it.
+            Future<?> blocked = transactionTemplate.execute(status -> {
+                carverItemRepository.findById(blockedId).orElseThrow().setItemName("Renamed Unlocked Item");
+                carverItemRepository.flush();
+                Future<?> write = executor.submit(() -> carverMatrixService.updateCarverItemScores(matrixId,
+                        List.of(Map.of("itemId", blockedId, "criticality", 2)), "blocked@example.com"));
+                try {
+                    Thread.sleep(200);
+                    assertFalse(write.isDone(), "The first score write should wait for the rename");
+
+                    executor.submit(() -> carverMatrixService.updateCarverItemScores(matrixId,
+                            List.of(Map.of("itemId", freeId, "criticality", 3)), "free@example.com")).get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                assertEquals(0L, carverMatrixService.getMatrixVersion(matrixId));
+                MatrixChangesDTO changes = carverMatrixService.getMatrixChanges(matrixId, 0L);
+                assertEquals(0L, changes.getVersion());
+                assertThat(changes.getItems()).isEmpty();
+                return write;
+            });
+            blocked.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2L, carverMatrixService.getMatrixVersion(matrixId));
+        assertEquals(2, carverItemRepository.findById(blockedId).orElseThrow().getCriticality().get("blocked@example.com"));
+        assertEquals(3, carverItemRepository.findById(freeId).orElseThrow().getCriticality().get("free@example.com"));
+        assertThat(carverMatrixService.getMatrixChanges(matrixId, 0L).getItems()).hasSize(2);
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getScoreStats Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getScoreStats's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getScoreStats - SQL Aggregates Test**
+     * Verify that averages and rater completion are computed from the normalized scores, that placeholder
+     * zeros of random assignment are stored but not counted, and that a rater's later score replaces the earlier one.
+     */
+    @Test
+    @Transactional
+    void testGetScoreStats_Aggregates() {
+        User2 user = user2Repository.save(new User2(null, "stats-001", "Stats", "Host", "Stats Host", "statshost", "statshost@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Stats Matrix");
+        matrix.setRandomAssignment(true);
+        matrix.setParticipants(new String[]{"a@example.com"});
+        CarverItem first = new CarverItem();
+        first.setItemName("Stats First");
+        matrix.addItem(first);
+        CarverItem second = new CarverItem();
+        second.setItemName("Stats Second");
+        matrix.addItem(second);
+        matrix = carverMatrixService.createCarverMatrix(matrix, user.getUserId());
+        Long matrixId = matrix.getMatrixId();
+        Long firstId = matrix.getItems().get(0).getItemId();
+        Long secondId = matrix.getItems().get(1).getItemId();
+
+        assertThat(carverScoreRepository.findByRaterOrderByItemIdAscCategoryAsc("a@example.com")).hasSize(12);
+        assertThat(carverMatrixService.getScoreStats(matrixId).getAverages()).isEmpty();
+
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", firstId, "criticality", 2)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", firstId, "criticality", 4)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(
+                Map.of("itemId", firstId, "criticality", 2),
+                Map.of("itemId", secondId, "effect", 5)), "b@example.com");
+        entityManager.flush();
+
+        CarverScoreStatsDTO stats = carverMatrixService.getScoreStats(matrixId);
+        assertThat(stats.getAverages()).containsExactly(
+                new CarverScoreAggregateDTO(firstId, "criticality", 3.0, 2L),
+                new CarverScoreAggregateDTO(secondId, "effect", 5.0, 1L));
+        assertThat(stats.getRaters()).containsExactly(
+                new CarverRaterCompletionDTO("a@example.com", 1L, 1L),
+                new CarverRaterCompletionDTO("b@example.com", 2L, 2L));
+    }
+
+    /**
+     * **getScoreStats - Committed Placeholder Rows Test**
+     * Verify that a randomly assigned matrix created outside any caller transaction commits the placeholder score
+     * rows of its participants. Runs without a test transaction so that the repository's own boundary is exercised.
+     */
+    @Test
+    void testGetScoreStats_RandomAssignmentWithoutTransaction() {
+        User2 user = user2Repository.save(new User2(null, "stats-002", "Stats", "Host", "Stats Host", "statshost2", "statshost2@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Committed Stats Matrix");
+        matrix.setRandomAssignment(true);
+        matrix.setParticipants(new String[]{"committed@example.com"});
+        CarverItem item = new CarverItem();
+        item.setItemName("Committed Stats Item");
+        matrix.addItem(item);
+
+        Long matrixId = carverMatrixService.createCarverMatrix(matrix, user.getUserId()).getMatrixId();
+        try {
+            assertThat(carverScoreRepository.findByRaterOrderByItemIdAscCategoryAsc("committed@example.com")).hasSize(6);
+            assertThat(carverMatrixService.getScoreStats(matrixId).getAverages()).isEmpty();
+        } finally {
+            carverMatrixService.deleteCarverMatrix(matrixId);
+            user2Repository.delete(user);
+        }
+        assertThat(carverScoreRepository.findByRaterOrderByItemIdAscCategoryAsc("committed@example.com")).isEmpty();
+    }
+
+    // =========================================================================
+    // ✅ 2. getScoreStats's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getScoreStats - Unknown Matrix Test**
+     * Verify that statistics of an unknown matrix are rejected.
+     */
+    @Test
+    void testGetScoreStats_UnknownMatrix() {
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getScoreStats(-1L));
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getMatrixScores Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getMatrixScores's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixScores - Weighted Totals Test**
+     * Verify that category means count only submitted scores, that a rater's later score replaces the earlier one,
+     * and that totals are weighted by the matrix multipliers, with unscored items totalling 0.
+     */
+    @Test
+    @Transactional
+    void testGetMatrixScores_WeightedTotals() {
+        User2 user = user2Repository.save(new User2(null, "scores-001", "Scores", "Host", "Scores Host", "scoreshost", "scoreshost@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Scores Matrix");
+        matrix.setCMulti(2.0);
+        matrix.setEMulti(0.5);
+        matrix.setRandomAssignment(true);
+        matrix.setParticipants(new String[]{"a@example.com"});
+        CarverItem first = new CarverItem();
+        first.setItemName("Scores First");
+        matrix.addItem(first);
+        CarverItem second = new CarverItem();
+        second.setItemName("Scores Second");
+        matrix.addItem(second);
+        matrix = carverMatrixService.createCarverMatrix(matrix, user.getUserId());
+        Long matrixId = matrix.getMatrixId();
+        Long firstId = matrix.getItems().get(0).getItemId();
+
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", firstId, "criticality", 1)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", firstId, "criticality", 4, "effect", 3)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", firstId, "criticality", 2, "effect", 5)), "b@example.com");
+        entityManager.flush();
+
+        MatrixScoresDTO scores = carverMatrixService.getMatrixScores(matrixId);
+        assertEquals(CarverScoringEngine.CATEGORIES, scores.getCategories());
+        assertEquals(2.0, scores.getMultipliers()[0]);
+        assertEquals(1.0, scores.getMultipliers()[1]);
+        assertThat(scores.getItems()).extracting(CarverItemScoreDTO::getItemName).containsExactly("Scores First", "Scores Second");
+
+        CarverItemScoreDTO scored = scores.getItems().get(0);
+        assertEquals(3.0, scored.getMeans()[CarverScoringEngine.categoryIndex("criticality")]);
+        assertEquals(4.0, scored.getMeans()[CarverScoringEngine.categoryIndex("effect")]);
+        assertEquals(2L, scored.getSubmissions()[CarverScoringEngine.categoryIndex("criticality")]);
+        assertEquals(0L, scored.getSubmissions()[CarverScoringEngine.categoryIndex("accessibility")]);
+        assertEquals(3.0 * 2.0 + 4.0 * 0.5, scored.getTotal());
+        assertEquals(0.0, scores.getItems().get(1).getTotal());
+    }
+
+    // =========================================================================
+    // ✅ 2. getMatrixScores's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixScores - Unknown Matrix Test**
+     * Verify that scores of an unknown matrix are rejected.
+     */
+    @Test
+    void testGetMatrixScores_UnknownMatrix() {
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixScores(-1L));
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixScores(null));
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getRaterAgreement Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getRaterAgreement's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getRaterAgreement - Agreement Statistics Test**
+     * Verify the spread of the submitted scores per item and category and Kendall's W per category, with the
+     * placeholders of random assignment left out.
+     */
+    @Test
+    @Transactional
+    void testGetRaterAgreement_Statistics() {
+        User2 user = user2Repository.save(new User2(null, "agreement-001", "Agreement", "Host", "Agreement Host", "agreementhost", "agreementhost@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Agreement Matrix");
+        matrix.setRandomAssignment(true);
+        matrix.setParticipants(new String[]{"a@example.com", "b@example.com"});
+        for (int i = 0; i < 2; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Agreement Item " + i);
+            matrix.addItem(item);
+        }
+        matrix = carverMatrixService.createCarverMatrix(matrix, user.getUserId());
+        Long matrixId = matrix.getMatrixId();
+        List<Long> ids = matrix.getItems().stream().map(CarverItem::getItemId).sorted().toList();
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(
+                Map.of("itemId", ids.get(0), "criticality", 2, "effect", 5),
+                Map.of("itemId", ids.get(1), "criticality", 4, "effect", 1)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(
+                Map.of("itemId", ids.get(0), "criticality", 6),
+                Map.of("itemId", ids.get(1), "criticality", 8, "effect", 3)), "b@example.com");
+        entityManager.flush();
+
+        MatrixAgreementDTO agreement = carverMatrixService.getRaterAgreement(matrixId);
+        int criticality = CarverScoringEngine.categoryIndex("criticality");
+        int effect = CarverScoringEngine.categoryIndex("effect");
+        assertThat(agreement.getItems()).extracting(CarverItemAgreementDTO::getItemId).containsExactlyElementsOf(ids);
+
+        CarverItemAgreementDTO first = agreement.getItems().get(0);
+        assertEquals(2L, first.getRaters()[criticality]);
+        assertEquals(4.0, first.getMeans()[criticality]);
+        assertEquals(8.0, first.getVariances()[criticality], 1e-9);
+        assertEquals(Math.sqrt(8.0), first.getStandardDeviations()[criticality], 1e-9);
+        assertEquals(2, first.getMin()[criticality]);
+        assertEquals(6, first.getMax()[criticality]);
+        assertEquals(1L, first.getRaters()[effect]);
+
+        assertEquals(1.0, agreement.getKendallW()[criticality], 1e-9);
+        assertEquals(2, agreement.getRankedRaters()[criticality]);
+        assertNull(agreement.getKendallW()[effect]);
+        assertEquals(1, agreement.getRankedRaters()[effect]);
+    }
+
+    // =========================================================================
+    // ✅ 2. getRaterAgreement's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getRaterAgreement - Unknown Matrix Test**
+     * Verify that agreement statistics of an unknown matrix are rejected.
+     */
+    @Test
+    void testGetRaterAgreement_UnknownMatrix() {
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getRaterAgreement(-1L));
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getMatrixRanking Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getMatrixRanking's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixRanking - Top-K with Ties Test**
+     * Verify that the ranking follows score writes and multiplier changes, that tied items share a rank in item
+     * ID order, and that items tied with the k-th are included.
+     */
+    @Test
+    @Transactional
+    void testGetMatrixRanking_TopKWithTies() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Ranking Matrix");
+        for (int i = 0; i < 5; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Ranking Item " + i);
+            matrix.addItem(item);
+        }
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+        List<Long> ids = matrix.getItems().stream().map(CarverItem::getItemId).sorted().toList();
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(
+                Map.of("itemId", ids.get(0), "criticality", 2),
+                Map.of("itemId", ids.get(1), "criticality", 5),
+                Map.of("itemId", ids.get(2), "effect", 3),
+                Map.of("itemId", ids.get(3), "criticality", 3),
+                Map.of("itemId", ids.get(4), "criticality", 1)), "a@example.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        MatrixRankingDTO ranking = carverMatrixService.getMatrixRanking(matrixId, 2);
+        assertEquals(2, ranking.getK());
+        assertThat(ranking.getItems()).extracting(CarverItemRankDTO::getItemId).containsExactly(ids.get(1), ids.get(2), ids.get(3));
+        assertThat(ranking.getItems()).extracting(CarverItemRankDTO::getRank).containsExactly(1, 2, 2);
+        assertEquals(3.0, ranking.getItems().get(2).getTotal());
+
+        CarverMatrix weights = new CarverMatrix();
+        weights.setEMulti(2.0);
+        carverMatrixService.updateCarverMatrix(matrixId, weights);
+        entityManager.flush();
+        entityManager.clear();
+
+        ranking = carverMatrixService.getMatrixRanking(matrixId, null);
+        assertThat(ranking.getItems()).extracting(CarverItemRankDTO::getItemId)
+                .containsExactly(ids.get(2), ids.get(1), ids.get(3), ids.get(0), ids.get(4));
+        assertEquals(6.0, ranking.getItems().get(0).getTotal());
+        assertEquals(ranking.getVersion(), carverMatrixService.getMatrixVersion(matrixId));
+    }
+
+    // =========================================================================
+    // ✅ 2. getMatrixRanking's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixRanking - Invalid Input Test**
+     * Verify that an unknown matrix and an out-of-range k are rejected.
+     */
+    @Test
+    void testGetMatrixRanking_InvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixRanking(-1L, 10));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Ranking Bounds Matrix");
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixRanking(matrixId, 0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> carverMatrixService.getMatrixRanking(matrixId, CarverMatrixService.MAX_RANKING_SIZE + 1));
+            assertThat(carverMatrixService.getMatrixRanking(matrixId, 5).getItems()).isEmpty();
+        } finally {
+            carverMatrixRepository.deleteById(matrixId);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for checkScoreAggregates and rebuildScoreAggregates Functions
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. Score Aggregate Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **updateCarverItemScores - Running Aggregates Test**
+     * Verify that the aggregates count the initial scores, follow a rater replacing a score and ignore the
+     * placeholders of random assignment until they are scored.
+     */
+    @Test
+    @Transactional
+    void testUpdateCarverItemScores_MaintainsAggregates() {
+        User2 user = user2Repository.save(new User2(null, "aggregates-001", "Aggregates", "Host", "Aggregates Host", "aggregateshost", "aggregateshost@example.com", null));
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Aggregates Matrix");
+        matrix.setRandomAssignment(true);
+        matrix.setParticipants(new String[]{"a@example.com"});
+        CarverItem item = new CarverItem();
+        item.setItemName("Aggregates Item");
+        item.setEffect(new HashMap<>(Map.of("seed@example.com", 4)));
+        matrix.addItem(item);
+        matrix = carverMatrixService.createCarverMatrix(matrix, user.getUserId());
+        Long matrixId = matrix.getMatrixId();
+        Long itemId = matrix.getItems().get(0).getItemId();
+        entityManager.flush();
+
+        assertThat(carverScoreAggregateRepository.findById(new CarverScoreAggregateId(itemId, "criticality"))).isEmpty();
+        assertAggregate(itemId, "effect", 4, 1);
+
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", itemId, "criticality", 5, "effect", 2)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", itemId, "criticality", 3)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", itemId, "criticality", 1)), "b@example.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertAggregate(itemId, "criticality", 4, 2);
+        assertAggregate(itemId, "effect", 6, 2);
+        assertThat(carverMatrixService.checkScoreAggregates(matrixId).getMismatches()).isEmpty();
+    }
+
+    /**
+     * **checkScoreAggregates - Mismatch and Rebuild Test**
+     * Verify that a corrupted aggregate is reported with its expected values and repaired by a rebuild.
+     */
+    @Test
+    @Transactional
+    void testCheckScoreAggregates_ReportsAndRebuilds() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Aggregate Check Matrix");
+        CarverItem item = new CarverItem();
+        item.setItemName("Aggregate Check Item");
+        matrix.addItem(item);
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+        Long itemId = matrix.getItems().get(0).getItemId();
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", itemId, "criticality", 5, "effect", 2)), "a@example.com");
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", itemId, "criticality", 3)), "b@example.com");
+        entityManager.flush();
+
+        ScoreAggregateCheckDTO clean = carverMatrixService.checkScoreAggregates(matrixId);
+        assertEquals(2, clean.getChecked());
+        assertThat(clean.getMismatches()).isEmpty();
+
+        CarverScoreAggregate corrupted = carverScoreAggregateRepository.findById(new CarverScoreAggregateId(itemId, "criticality")).orElseThrow();
+        corrupted.setScoreSum(1);
+        carverScoreAggregateRepository.delete(carverScoreAggregateRepository.findById(new CarverScoreAggregateId(itemId, "effect")).orElseThrow());
+        entityManager.flush();
+
+        List<ScoreAggregateMismatchDTO> mismatches = carverMatrixService.checkScoreAggregates(matrixId).getMismatches();
+        assertThat(mismatches).extracting(ScoreAggregateMismatchDTO::getCategory).containsExactly("criticality", "effect");
+        assertEquals(8, mismatches.get(0).getExpectedSum());
+        assertEquals(1, mismatches.get(0).getActualSum());
+        assertEquals(1, mismatches.get(1).getExpectedCount());
+        assertEquals(0, mismatches.get(1).getActualCount());
+
+        entityManager.clear();
+        assertEquals(2, carverMatrixService.rebuildScoreAggregates(matrixId));
+        assertThat(carverMatrixService.checkScoreAggregates(matrixId).getMismatches()).isEmpty();
+        assertEquals(4.0, carverMatrixService.getMatrixScores(matrixId).getItems().get(0)
+                .getMeans()[CarverScoringEngine.categoryIndex("criticality")]);
+    }
+
+    // =========================================================================
+    // ✅ 2. Score Aggregate Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **checkScoreAggregates - Unknown Matrix Test**
+     * Verify that checking or rebuilding the aggregates of an unknown matrix is rejected.
+     */
+    @Test
+    void testCheckScoreAggregates_UnknownMatrix() {
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.checkScoreAggregates(-1L));
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.rebuildScoreAggregates(-1L));
+    }
+
+    private void assertAggregate(Long itemId, String category, long sum, long count) {
+        CarverScoreAggregate aggregate = carverScoreAggregateRepository.findById(new CarverScoreAggregateId(itemId, category)).orElseThrow();
+        assertEquals(sum, aggregate.getScoreSum());
+        assertEquals(count, aggregate.getScoreCount());
+    }
 
     // -------------------------------------------------------------------------
     // Tests for updateCarverItemsFromMap Function
@@ -586,5 +2034,186 @@ public class CarverMatrixServiceTest {
     // =========================================================================
     // ✅ 5. updateCarverItemsFromMap's Caching and Performance Tests (if applicable)
     // =========================================================================
-    // (Not applicable unless caching is implemented.)
+
+    /**
+     * **updateCarverItemScores - Batched Write Test**
+     * Verify that a submission for many items is written with a constant number of statements.
+     */
+    @Test
+    @Transactional
+    void testUpdateCarverItemScores_BatchedStatements() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Batched Submission Matrix");
+        for (int i = 0; i < 30; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Batched Item " + i);
+            matrix.addItem(item);
+        }
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+        entityManager.flush();
+        entityManager.clear();
+
+        CarverMatrix loaded = carverMatrixRepository.findById(matrixId).orElseThrow();
+        List<Map<String, Object>> updates = new ArrayList<>();
+        for (CarverItem item : loaded.getItems()) {
+            Map<String, Object> update = new HashMap<>();
+            update.put("itemId", item.getItemId());
+            update.put("criticality", 3);
+            update.put("effect", 5);
+            updates.add(update);
+        }
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<CarverItemScorePatchDTO> updated = carverMatrixService.updateCarverItemScores(matrixId, updates, "batch@example.com");
+            entityManager.flush();
+            assertThat(updated).hasSize(30);
+            // The version read, increment and read back, then on PostgreSQL the item version lookup, a jsonb patch and
+            // a score and aggregate upsert; on H2 the item, score and aggregate lookups, one batched item update and
+            // the batched score and aggregate inserts. Both end with the weighted total update.
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        entityManager.clear();
+        assertThat(carverItemRepository.findAllById(updates.stream().map(u -> (Long) u.get("itemId")).toList()))
+                .allSatisfy(item -> assertEquals(5, item.getEffect().get("batch@example.com")));
+    }
+
+    /**
+     * **getMatrixView - Read-Through Cache, Versioning and Write Invalidation Test**
+     * Verify that repeated reads are served from the matrix view cache and that item updates, matrix updates
+     * and deletion invalidate the cached view, with every update incrementing the matrix version. A cache hit
+     * opens no transaction. Runs without a test transaction so that invalidation is applied on commit.
+     */
+    @Test
+    void testGetMatrixView_CachedUntilWrite() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Cached Matrix");
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+
+        CarverItem item = new CarverItem();
+        item.setItemName("Cached Item");
+        item.setCarverMatrix(carverMatrixRepository.findById(matrixId).orElseThrow());
+        Long itemId = carverItemRepository.save(item).getItemId();
+
+        // A second read is a cache hit returning the same serialized view, without opening a transaction.
+        MatrixViewDTO first = carverMatrixService.getMatrixView(matrixId);
+        long hitsBefore = matrixViewCache.getStats().getHits();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            assertSame(first, carverMatrixService.getMatrixView(matrixId));
+            assertEquals(0, statistics.getTransactionCount());
+            assertEquals(0, statistics.getConnectCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        assertEquals(hitsBefore + 1, matrixViewCache.getStats().getHits());
+        assertEquals(0L, first.getVersion());
+        assertEquals(0L, carverMatrixService.getMatrixVersion(matrixId));
+
+        // Item updates invalidate the view.
+        Map<String, Object> updateMap = new HashMap<>();
+        updateMap.put("itemId", itemId);
+        updateMap.put("criticality", 4);
+        carverMatrixService.updateCarverItemsFromMap(carverMatrixService.getMatrixById(matrixId), List.of(updateMap), "cache-rater@example.com");
+        assertThat(new String(carverMatrixService.getMatrixView(matrixId).getJson(), StandardCharsets.UTF_8))
+                .contains("cache-rater@example.com");
+        assertEquals(1L, carverMatrixService.getMatrixVersion(matrixId));
+        assertEquals(1L, carverMatrixService.getMatrixView(matrixId).getVersion());
+
+        // Matrix setting updates invalidate the view.
+        CarverMatrix rename = new CarverMatrix();
+        rename.setName("Renamed Cached Matrix");
+        carverMatrixService.updateCarverMatrix(matrixId, rename);
+        assertThat(new String(carverMatrixService.getMatrixView(matrixId).getJson(), StandardCharsets.UTF_8))
+                .contains("Renamed Cached Matrix");
+        assertEquals(2L, carverMatrixService.getMatrixVersion(matrixId));
+
+        // Deletion invalidates the view.
+        carverMatrixService.deleteCarverMatrix(matrixId);
+        assertThrows(RuntimeException.class, () -> carverMatrixService.getMatrixView(matrixId));
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixVersion(matrixId));
+    }
+
+    // -------------------------------------------------------------------------
+    // Tests for getMatrixChanges Function
+    // -------------------------------------------------------------------------
+
+    // =========================================================================
+    // ✅ 1. getMatrixChanges's Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixChanges - Changed Rows Only Test**
+     * Verify that only the items scored after the requested version are returned with their scores, that the
+     * settings are included only when they changed, and that a current client receives no rows.
+     * Runs without a test transaction so that every write commits like a request.
+     */
+    @Test
+    void testGetMatrixChanges_ReturnsOnlyChangedRows() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Delta Matrix");
+        for (int i = 0; i < 3; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName("Delta Item " + i);
+            matrix.addItem(item);
+        }
+        matrix = carverMatrixRepository.save(matrix);
+        Long matrixId = matrix.getMatrixId();
+        Long scoredId = matrix.getItems().get(1).getItemId();
+
+        carverMatrixService.updateCarverItemScores(matrixId, List.of(Map.of("itemId", scoredId, "criticality", 4)), "delta@example.com");
+
+        MatrixChangesDTO scores = carverMatrixService.getMatrixChanges(matrixId, 0L);
+        assertEquals(0L, scores.getSince());
+        assertEquals(1L, scores.getVersion());
+        assertNull(scores.getSettings());
+        assertThat(scores.getItems()).extracting(CarverItemViewDTO::getItemId).containsExactly(scoredId);
+        assertEquals(4, scores.getItems().get(0).getCriticality().get("delta@example.com"));
+        assertThat(scores.getImages()).isEmpty();
+        assertThat(scores.getRemovedImageIds()).isEmpty();
+
+        CarverMatrix rename = new CarverMatrix();
+        rename.setName("Renamed Delta Matrix");
+        carverMatrixService.updateCarverMatrix(matrixId, rename);
+
+        MatrixChangesDTO settings = carverMatrixService.getMatrixChanges(matrixId, 1L);
+        assertEquals(2L, settings.getVersion());
+        assertEquals("Renamed Delta Matrix", settings.getSettings().get("name"));
+        assertThat(settings.getItems()).isEmpty();
+        assertThat(carverMatrixService.getMatrixChanges(matrixId, 0L).getItems()).hasSize(1);
+
+        MatrixChangesDTO current = carverMatrixService.getMatrixChanges(matrixId, 2L);
+        assertNull(current.getSettings());
+        assertThat(current.getItems()).isEmpty();
+
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
+
+    // =========================================================================
+    // ✅ 2. getMatrixChanges's Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **getMatrixChanges - Invalid Version Test**
+     * Verify that negative versions, versions newer than the matrix and unknown matrices are rejected.
+     */
+    @Test
+    @Transactional
+    void testGetMatrixChanges_InvalidVersion() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Delta Validation Matrix");
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixChanges(matrixId, -1L));
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixChanges(matrixId, 1L));
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixChanges(-1L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> carverMatrixService.getMatrixChanges(null, 0L));
+    }
 }
@@ -0,0 +1,79 @@
+package com.fmc.starterApp.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.fmc.starterApp.models.entity.CarverMatrix;
+
+/**
+ * Unit tests for {@link CarverScoringEngine}, verifying that the engine:
+ * <ul>
+ *   <li>Computes category means from sums and counts, with 0 for unscored categories.</li>
+ *   <li>Weights the means with the matrix multipliers, counting unset multipliers as 1.</li>
+ *   <li>Rejects malformed input.</li>
+ * </ul>
+ */
+public class CarverScoringEngineTest {
+
+    private static final double DELTA = 1e-9;
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **means/totals - Weighted Totals Test**
+     * Verify that means are sums over counts and that totals weight each category mean by its multiplier.
+     */
+    @Test
+    void testTotals_WeightedCategoryMeans() {
+        CarverScoringEngine engine = new CarverScoringEngine(new long[]{10L, 20L});
+        engine.add(10L, CarverScoringEngine.categoryIndex("criticality"), 7, 2);
+        engine.add(10L, CarverScoringEngine.categoryIndex("effect"), 5, 1);
+        engine.add(20L, CarverScoringEngine.categoryIndex("criticality"), 2, 1);
+
+        double[] means = engine.means();
+        double[] totals = engine.totals(means, new double[]{2.0, 1.0, 1.0, 1.0, 0.5, 1.0});
+
+        assertEquals(3.5, means[0], DELTA);
+        assertEquals(0.0, means[1], DELTA);
+        assertEquals(5.0, means[4], DELTA);
+        assertEquals(2, engine.count(0, 0));
+        assertArrayEquals(new double[]{3.5 * 2.0 + 5.0 * 0.5, 2.0 * 2.0}, totals, DELTA);
+    }
+
+    /**
+     * **multipliers - Defaults Test**
+     * Verify that unset multipliers of a matrix count as 1.
+     */
+    @Test
+    void testMultipliers_UnsetCountAsOne() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setCMulti(2.0);
+        matrix.setR2Multi(0.5);
+
+        assertArrayEquals(new double[]{2.0, 1.0, 1.0, 1.0, 1.0, 0.5}, CarverScoringEngine.multipliers(matrix), DELTA);
+    }
+
+    // =========================================================================
+    // ✅ 2. Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **CarverScoringEngine - Invalid Input Test**
+     * Verify that unordered items, unknown categories and a wrong number of multipliers are rejected, and that
+     * scores of unknown items are ignored.
+     */
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new CarverScoringEngine(new long[]{2L, 1L}));
+        assertThrows(IllegalArgumentException.class, () -> CarverScoringEngine.categoryIndex("speed"));
+
+        CarverScoringEngine engine = new CarverScoringEngine(new long[]{1L});
+        assertFalse(engine.add(99L, 0, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.totals(engine.means(), new double[]{1.0}));
+    }
+}
@@ -0,0 +1,311 @@
+package com.fmc.starterApp.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.dto.CollaborationEventDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.repositories.CarverItemRepository;
+import com.fmc.starterApp.repositories.CarverMatrixRepository;
+
+/**
+ * Integration tests for {@link CollaborationHub}, verifying that the hub:
+ * <ul>
+ *   <li>Welcomes joining clients and broadcasts presence once per tick.</li>
+ *   <li>Persists score edits through the service write path and broadcasts them with increasing sequence numbers.</li>
+ *   <li>Answers invalid messages and failed writes to their sender only and drops connections that cannot take frames.</li>
+ *   <li>Persists the edits of different raters concurrently.</li>
+ * </ul>
+ *
+ * <p>Ticks are driven by the tests; the hub's own tick is too slow to interfere. The tests run without a test
+ * transaction because buffered scores are written in their own transactions.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class CollaborationHubTest {
+
+    private static final long NO_BACKGROUND_TICK = 60_000;
+
+    @Autowired
+    private CarverMatrixService carverMatrixService;
+
+    @Autowired
+    private ScoreWriteBuffer scoreWriteBuffer;
+
+    @Autowired
+    private CarverMatrixRepository carverMatrixRepository;
+
+    @Autowired
+    private CarverItemRepository carverItemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private CollaborationHub hub;
+    private Long matrixId;
+    private Long itemId;
+
+    /** Records the frames sent to one client. */
+    private final class FakeConnection implements CollaborationHub.Connection {
+        private final String id;
+        private final String rater;
+        private final List<List<CollaborationEventDTO>> frames = new ArrayList<>();
+        private boolean broken;
+
+        private FakeConnection(String id, String rater) {
+            this.id = id;
+            this.rater = rater;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getRater() {
+            return rater;
+        }
+
+        @Override
+        public void send(String text) throws IOException {
+            if (broken) {
+                throw new IOException("connection reset");
+            }
+            frames.add(objectMapper.readValue(text, new TypeReference<List<CollaborationEventDTO>>() { }));
+        }
+
+        private List<CollaborationEventDTO> lastFrame() {
+            return frames.get(frames.size() - 1);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Live Session");
+        CarverItem item = new CarverItem();
+        item.setItemName("Shared Item");
+        matrix.addItem(item);
+        matrix = carverMatrixRepository.save(matrix);
+        matrixId = matrix.getMatrixId();
+        itemId = matrix.getItems().get(0).getItemId();
+        hub = new CollaborationHub(carverMatrixService, scoreWriteBuffer, objectMapper, NO_BACKGROUND_TICK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.close();
+        scoreWriteBuffer.flush();
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
+
+    // =========================================================================
+    // ✅ 1. join and Presence Tests
+    // =========================================================================
+
+    /**
+     * **join - Welcome and Presence Test**
+     * Verify that a joining client is welcomed and that presence changes are broadcast as one snapshot per tick.
+     */
+    @Test
+    void testJoin_WelcomeAndCoalescedPresence() throws Exception {
+        FakeConnection alice = new FakeConnection("1", "alice@example.com");
+        FakeConnection bob = new FakeConnection("2", "bob@example.com");
+
+        hub.join(matrixId, alice);
+        hub.join(matrixId, bob);
+        hub.receive(matrixId, bob, "{\"type\":\"presence\",\"itemId\":" + itemId + ",\"editing\":true}");
+
+        assertEquals(CollaborationEventDTO.WELCOME, alice.lastFrame().get(0).getType());
+        assertThat(bob.lastFrame().get(0).getParticipants()).hasSize(2);
+
+        hub.tick();
+
+        assertEquals(2, alice.frames.size());
+        List<CollaborationEventDTO> frame = alice.lastFrame();
+        assertThat(frame).hasSize(1);
+        assertEquals(CollaborationEventDTO.PRESENCE, frame.get(0).getType());
+        assertEquals(1L, frame.get(0).getSeq());
+        assertThat(frame.get(0).getParticipants()).anySatisfy(participant -> {
+            assertEquals("bob@example.com", participant.getRater());
+            assertEquals(itemId, participant.getItemId());
+            assertThat(participant.isEditing()).isTrue();
+        });
+        assertEquals(frame, bob.lastFrame());
+    }
+
+    // =========================================================================
+    // ✅ 2. receive's Score Tests
+    // =========================================================================
+
+    /**
+     * **receive - Score Broadcast Test**
+     * Verify that score edits are persisted through the write buffer and broadcast in one frame per tick
+     * with consecutive sequence numbers.
+     */
+    @Test
+    void testReceive_ScoresPersistedAndBroadcast() {
+        FakeConnection alice = new FakeConnection("1", "alice@example.com");
+        FakeConnection bob = new FakeConnection("2", "bob@example.com");
+        hub.join(matrixId, alice);
+        hub.join(matrixId, bob);
+        hub.tick();
+
+        hub.receive(matrixId, alice, "{\"type\":\"score\",\"itemId\":" + itemId + ",\"scores\":{\"criticality\":4}}");
+        hub.receive(matrixId, bob, "{\"type\":\"score\",\"itemId\":" + itemId + ",\"scores\":{\"criticality\":2,\"effect\":5}}");
+        hub.tick();
+
+        List<CollaborationEventDTO> frame = bob.lastFrame();
+        assertThat(frame).extracting(CollaborationEventDTO::getType).containsExactly(CollaborationEventDTO.SCORE, CollaborationEventDTO.SCORE);
+        assertThat(frame).extracting(CollaborationEventDTO::getSeq).containsExactly(2L, 3L);
+        assertEquals("alice@example.com", frame.get(0).getRater());
+        assertEquals(frame, alice.lastFrame());
+
+        scoreWriteBuffer.flush();
+        CarverItem stored = carverItemRepository.findById(itemId).orElseThrow();
+        assertEquals(4, stored.getCriticality().get("alice@example.com"));
+        assertEquals(5, stored.getEffect().get("bob@example.com"));
+    }
+
+    /**
+     * **receive - Invalid Message Test**
+     * Verify that an invalid edit is answered with an error to its sender only and is not broadcast.
+     */
+    @Test
+    void testReceive_InvalidMessageAnsweredToSender() {
+        FakeConnection alice = new FakeConnection("1", "alice@example.com");
+        FakeConnection bob = new FakeConnection("2", "bob@example.com");
+        hub.join(matrixId, alice);
+        hub.join(matrixId, bob);
+        hub.tick();
+        int bobFrames = bob.frames.size();
+
+        hub.receive(matrixId, alice, "{\"type\":\"score\",\"itemId\":-1,\"scores\":{\"criticality\":4}}");
+        hub.receive(matrixId, alice, "not json");
+        hub.tick();
+
+        assertThat(alice.frames.subList(alice.frames.size() - 2, alice.frames.size()))
+                .allSatisfy(frame -> assertEquals(CollaborationEventDTO.ERROR, frame.get(0).getType()));
+        assertEquals(bobFrames, bob.frames.size());
+    }
+
+    /**
+     * **receive - Failed Write Test**
+     * Verify that an edit whose write fails is answered with an error to its sender, is not broadcast and does not
+     * take a sequence number.
+     */
+    @Test
+    void testReceive_FailedWriteAnsweredAndNotBroadcast() {
+        ScoreWriteBuffer failing = new ScoreWriteBuffer((id, rater, patches) -> {
+            throw new IllegalStateException("database unavailable");
+        }, false, 1000, 10, 1, null);
+        hub.close();
+        hub = new CollaborationHub(carverMatrixService, failing, objectMapper, NO_BACKGROUND_TICK);
+        FakeConnection alice = new FakeConnection("1", "alice@example.com");
+        FakeConnection bob = new FakeConnection("2", "bob@example.com");
+        hub.join(matrixId, alice);
+        hub.join(matrixId, bob);
+        hub.tick();
+        int bobFrames = bob.frames.size();
+
+        hub.receive(matrixId, alice, "{\"type\":\"score\",\"itemId\":" + itemId + ",\"scores\":{\"criticality\":4}}");
+        hub.tick();
+
+        assertEquals(CollaborationEventDTO.ERROR, alice.lastFrame().get(0).getType());
+        assertEquals(bobFrames, bob.frames.size());
+        assertThat(hub.participants(matrixId)).hasSize(2);
+
+        FakeConnection carol = new FakeConnection("3", "carol@example.com");
+        hub.join(matrixId, carol);
+        assertEquals(1L, carol.lastFrame().get(0).getSeq());
+    }
+
+    /**
+     * **receive - Concurrent Writes Test**
+     * Verify that an edit is persisted and broadcast while another rater's write of the same room is still running.
+     */
+    @Test
+    void testReceive_SlowWriteDoesNotBlockOtherRaters() throws Exception {
+        CountDownLatch aliceWriting = new CountDownLatch(1);
+        CountDownLatch releaseAlice = new CountDownLatch(1);
+        ScoreWriteBuffer slow = new ScoreWriteBuffer((id, rater, patches) -> {
+            if (rater.equals("alice@example.com")) {
+                aliceWriting.countDown();
+                try {
+                    releaseAlice.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, false, 1000, 10, 1, null);
+        hub.close();
+        hub = new CollaborationHub(carverMatrixService, slow, objectMapper, NO_BACKGROUND_TICK);
+        FakeConnection alice = new FakeConnection("1", "alice@example.com");
+        FakeConnection bob = new FakeConnection("2", "bob@example.com");
+        hub.join(matrixId, alice);
+        hub.join(matrixId, bob);
+        hub.tick();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> aliceEdit = executor.submit(() -> hub.receive(matrixId, alice,
+                    "{\"type\":\"score\",\"itemId\":" + itemId + ",\"scores\":{\"criticality\":4}}"));
+            assertTrue(aliceWriting.await(5, TimeUnit.SECONDS));
+
+            hub.receive(matrixId, bob, "{\"type\":\"score\",\"itemId\":" + itemId + ",\"scores\":{\"effect\":2}}");
+            hub.tick();
+            assertThat(alice.lastFrame()).extracting("rater").containsExactly("bob@example.com");
+
+            releaseAlice.countDown();
+            aliceEdit.get(5, TimeUnit.SECONDS);
+            hub.tick();
+            assertThat(bob.lastFrame()).extracting("rater").containsExactly("alice@example.com");
+        } finally {
+            releaseAlice.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    // =========================================================================
+    // ✅ 3. tick's Edge Case Tests
+    // =========================================================================
+
+    /**
+     * **tick - Broken Connection Test**
+     * Verify that a connection that fails to take a frame leaves the session and is reported in the next presence.
+     */
+    @Test
+    void testTick_DropsBrokenConnection() {
+        FakeConnection alice = new FakeConnection("1", "alice@example.com");
+        FakeConnection bob = new FakeConnection("2", "bob@example.com");
+        hub.join(matrixId, alice);
+        hub.join(matrixId, bob);
+        bob.broken = true;
+
+        hub.tick();
+        assertThat(hub.participants(matrixId)).extracting("rater").containsExactly("alice@example.com");
+
+        hub.tick();
+        assertThat(alice.lastFrame().get(0).getParticipants()).hasSize(1);
+    }
+}
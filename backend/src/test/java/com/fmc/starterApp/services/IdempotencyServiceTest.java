@@ -0,0 +1,244 @@
+package com.fmc.starterApp.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.entity.IdempotencyRecord;
+import com.fmc.starterApp.repositories.IdempotencyRecordRepository;
+
+/**
+ * Integration tests for {@link IdempotencyService}, verifying that the service:
+ * <ul>
+ *   <li>Executes a keyed request once and replays its stored response on retries, also after a restart.</li>
+ *   <li>Rejects a key reused with a different request and does not store server errors.</li>
+ *   <li>Stops replaying expired outcomes and keeps the table within its row bound.</li>
+ * </ul>
+ *
+ * <p>This test class uses an in-memory H2 database and the real {@link IdempotencyRecordRepository}.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyRecordRepository.deleteAll();
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, objectMapper, 10, Duration.ofHours(1), 1000);
+    }
+
+    // =========================================================================
+    // ✅ 1. execute's Basic Functionality Tests
+    // =========================================================================
+
+    /**
+     * **execute - Replay Test**
+     * Verify that a retry with the same key returns the stored response without running the action again.
+     */
+    @Test
+    void testExecute_ReplaysStoredResponse() {
+        AtomicInteger executions = new AtomicInteger();
+        Map<String, Object> request = Map.of("name", "Matrix1");
+
+        ResponseEntity<?> first = idempotencyService.execute("key-1", "user-1 POST /create", request, () ->
+                ResponseEntity.status(HttpStatus.CREATED).body(Map.of("matrixId", executions.incrementAndGet())));
+        ResponseEntity<?> retry = idempotencyService.execute("key-1", "user-1 POST /create", request, () ->
+                ResponseEntity.status(HttpStatus.CREATED).body(Map.of("matrixId", executions.incrementAndGet())));
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(MediaType.APPLICATION_JSON, retry.getHeaders().getContentType());
+        assertEquals("{\"matrixId\":1}", retry.getBody());
+    }
+
+    /**
+     * **execute - Replay After Restart Test**
+     * Verify that stored outcomes are read from the table when they are no longer cached.
+     */
+    @Test
+    void testExecute_ReplaysFromTable() {
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyService.execute("key-1", "user-1 DELETE /7", null, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.ok("CarverMatrix deleted successfully");
+        });
+        idempotencyService.clearCache();
+
+        ResponseEntity<?> retry = idempotencyService.execute("key-1", "user-1 DELETE /7", null, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("CarverMatrix not found");
+        });
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+        assertEquals(MediaType.TEXT_PLAIN, retry.getHeaders().getContentType());
+        assertEquals("CarverMatrix deleted successfully", retry.getBody());
+    }
+
+    /**
+     * **execute - Scope Test**
+     * Verify that the same key is independent across callers and operations, and that requests without a key always run.
+     */
+    @Test
+    void testExecute_KeysAreScoped() {
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyService.execute("key-1", "user-1 DELETE /7", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+        idempotencyService.execute("key-1", "user-2 DELETE /7", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+        idempotencyService.execute("key-1", "user-1 DELETE /8", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+        idempotencyService.execute(null, "user-1 DELETE /7", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+        idempotencyService.execute(null, "user-1 DELETE /7", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        assertEquals(5, executions.get());
+        assertEquals(3, idempotencyRecordRepository.count());
+    }
+
+    // =========================================================================
+    // ✅ 2. execute's Input Validation Tests
+    // =========================================================================
+
+    /**
+     * **execute - Key Reuse Test**
+     * Verify that a key reused with a different request body is rejected without running the action.
+     */
+    @Test
+    void testExecute_KeyReusedWithDifferentRequest() {
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyService.execute("key-1", "user-1 POST /create", Map.of("name", "A"), () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        ResponseEntity<?> reused = idempotencyService.execute("key-1", "user-1 POST /create", Map.of("name", "B"),
+                () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+    }
+
+    /**
+     * **execute - Invalid Key Test**
+     * Verify that blank and overlong keys are rejected without running the action.
+     */
+    @Test
+    void testExecute_InvalidKey() {
+        AtomicInteger executions = new AtomicInteger();
+
+        assertEquals(HttpStatus.BAD_REQUEST, idempotencyService.execute(" ", "scope", null,
+                () -> ResponseEntity.ok(executions.incrementAndGet())).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, idempotencyService.execute("k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1), "scope", null,
+                () -> ResponseEntity.ok(executions.incrementAndGet())).getStatusCode());
+        assertEquals(0, executions.get());
+    }
+
+    /**
+     * **IdempotencyService - Invalid Bounds Test**
+     * Verify that non-positive bounds are rejected.
+     */
+    @Test
+    void testConstructor_InvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdempotencyService(idempotencyRecordRepository, objectMapper, 0, Duration.ofHours(1), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdempotencyService(idempotencyRecordRepository, objectMapper, 10, Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdempotencyService(idempotencyRecordRepository, objectMapper, 10, Duration.ofHours(1), 0));
+    }
+
+    // =========================================================================
+    // ✅ 3. execute's Edge Case and Exception Handling Tests
+    // =========================================================================
+
+    /**
+     * **execute - Server Error Test**
+     * Verify that server errors are not stored, so a retry executes again.
+     */
+    @Test
+    void testExecute_ServerErrorIsNotStored() {
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyService.execute("key-1", "scope", null, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("database unavailable");
+        });
+
+        ResponseEntity<?> retry = idempotencyService.execute("key-1", "scope", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        assertEquals(2, executions.get());
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+    }
+
+    /**
+     * **execute - Expiry Test**
+     * Verify that an expired outcome is not replayed.
+     */
+    @Test
+    void testExecute_ExpiredOutcomeIsNotReplayed() {
+        IdempotencyService shortLived = new IdempotencyService(idempotencyRecordRepository, objectMapper, 10, Duration.ofMillis(1), 1000);
+        AtomicInteger executions = new AtomicInteger();
+        shortLived.execute("key-1", "scope", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        await(Duration.ofMillis(20));
+        shortLived.execute("key-1", "scope", null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        assertEquals(2, executions.get());
+    }
+
+    // =========================================================================
+    // ✅ 4. sweep's Basic Functionality Tests
+    // =========================================================================
+
+    /**
+     * **sweep - Bounded Table Test**
+     * Verify that a sweep deletes expired outcomes and the oldest outcomes beyond the row bound.
+     */
+    @Test
+    void testSweep_DeletesExpiredAndOldest() {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.saveAll(List.of(
+                record("expired", now.minusHours(2), now.minusHours(1)),
+                record("oldest", now.minusMinutes(30), now.plusHours(1)),
+                record("older", now.minusMinutes(20), now.plusHours(1)),
+                record("newer", now.minusMinutes(10), now.plusHours(1)),
+                record("newest", now.minusMinutes(5), now.plusHours(1))));
+        IdempotencyService bounded = new IdempotencyService(idempotencyRecordRepository, objectMapper, 10, Duration.ofHours(1), 2);
+
+        assertEquals(3, bounded.sweep());
+
+        assertEquals(List.of("newer", "newest"), idempotencyRecordRepository.findAll().stream()
+                .map(IdempotencyRecord::getRecordKey).sorted().toList());
+    }
+
+    private static IdempotencyRecord record(String key, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(key, "hash", 200, null, null, createdAt, expiresAt);
+    }
+
+    private static void await(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fmc.starterApp.services;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +21,8 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fmc.starterApp.models.dto.MatrixChangesDTO;
+import com.fmc.starterApp.models.dto.MatrixImageDTO;
 import com.fmc.starterApp.models.entity.CarverMatrix;
 import com.fmc.starterApp.models.entity.MatrixImage;
 import com.fmc.starterApp.repositories.CarverMatrixRepository;
@@ -60,6 +63,9 @@ public class ImageServiceTest {
     @Autowired
     private CarverMatrixRepository carverMatrixRepository;
 
+    @Autowired
+    private CarverMatrixService carverMatrixService;
+
     @MockBean
     private S3Client s3Client;
 
@@ -284,8 +290,83 @@ public class ImageServiceTest {
         assertThat(ex.getMessage()).contains("Failed to upload file to S3");
     }
 
+    /**
+     * **deleteImage - Unknown Image Test**
+     * Verify that deleting a non-existent image throws an IllegalArgumentException.
+     */
+    @Test
+    void testDeleteImage_UnknownImage() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> imageService.deleteImage(Long.MAX_VALUE),
+                "Expected deleteImage to throw IllegalArgumentException for an unknown image");
+        assertThat(ex.getMessage()).contains("Image not found with ID");
+    }
+
     // =========================================================================
     // ✅ 5. Caching and Performance Tests (if applicable)
     // =========================================================================
-    // (Not applicable unless caching is implemented in the service layer.)
+
+    /**
+     * **uploadImage/deleteImage - Matrix View Invalidation Test**
+     * Verify that uploading and deleting an image increments the matrix version and invalidates its cached view.
+     * Runs without a test transaction so that invalidation is applied on commit.
+     */
+    @Test
+    void testUploadAndDeleteImage_InvalidateMatrixView() throws IOException {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Image Cache Matrix");
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+
+        // Populate the cache before any image exists.
+        assertThat(new String(carverMatrixService.getMatrixView(matrixId).getJson(), StandardCharsets.UTF_8))
+                .doesNotContain("cache-image.jpg");
+
+        MockMultipartFile file = new MockMultipartFile("file", "cache-image.jpg",
+                MediaType.IMAGE_JPEG_VALUE, "image content".getBytes());
+        String url = imageService.uploadImage(file, matrixId, null);
+        assertThat(new String(carverMatrixService.getMatrixView(matrixId).getJson(), StandardCharsets.UTF_8))
+                .contains(url);
+        assertEquals(1L, carverMatrixService.getMatrixVersion(matrixId));
+
+        Long imageId = matrixImageRepository.findImagesByMatrixId(matrixId).get(0).getImageId();
+        imageService.deleteImage(imageId);
+        assertFalse(matrixImageRepository.existsById(imageId), "Expected the image metadata to be removed");
+        assertThat(new String(carverMatrixService.getMatrixView(matrixId).getJson(), StandardCharsets.UTF_8))
+                .doesNotContain(url);
+        assertEquals(2L, carverMatrixService.getMatrixVersion(matrixId));
+
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
+
+    /**
+     * **uploadImage/deleteImage - Delta Sync Test**
+     * Verify that an uploaded image is reported by the changes after the version before the upload only, and that
+     * a deleted image is reported as removed.
+     */
+    @Test
+    void testUploadAndDeleteImage_ReportedAsChanges() throws IOException {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Image Changes Matrix");
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+
+        MockMultipartFile file = new MockMultipartFile("file", "changes-image.jpg",
+                MediaType.IMAGE_JPEG_VALUE, "image content".getBytes());
+        String url = imageService.uploadImage(file, matrixId, null);
+
+        MatrixChangesDTO afterUpload = carverMatrixService.getMatrixChanges(matrixId, 0L);
+        assertEquals(1L, afterUpload.getVersion());
+        assertThat(afterUpload.getImages()).extracting(MatrixImageDTO::getImageUrl).containsExactly(url);
+        assertThat(afterUpload.getItems()).isEmpty();
+        assertThat(carverMatrixService.getMatrixChanges(matrixId, 1L).getImages()).isEmpty();
+
+        Long imageId = afterUpload.getImages().get(0).getImageId();
+        imageService.deleteImage(imageId);
+
+        MatrixChangesDTO afterDelete = carverMatrixService.getMatrixChanges(matrixId, 1L);
+        assertEquals(2L, afterDelete.getVersion());
+        assertThat(afterDelete.getImages()).isEmpty();
+        assertThat(afterDelete.getRemovedImageIds()).containsExactly(imageId);
+
+        carverMatrixService.deleteCarverMatrix(matrixId);
+    }
 }
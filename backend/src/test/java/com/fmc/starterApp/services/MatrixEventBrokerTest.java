@@ -0,0 +1,250 @@
+package com.fmc.starterApp.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fmc.starterApp.models.dto.CarverScoreDeltaDTO;
+
+/**
+ * Unit tests for {@link MatrixEventBroker}, verifying that the broker:
+ * <ul>
+ *   <li>Delivers events only to the subscribers of the changed matrix.</li>
+ *   <li>Bounds the events queued for a subscriber and evicts subscribers that fall behind.</li>
+ *   <li>Evicts subscribers whose send blocks past the write timeout without starving the others of sender threads.</li>
+ *   <li>Publishes events of a transaction only after it commits.</li>
+ * </ul>
+ */
+public class MatrixEventBrokerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Emitter whose sends block until released, like a browser that stopped reading. */
+    private static final class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private BlockingEmitter() {
+            super(60_000L);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    /** Emitter that counts its sends. */
+    private static final class CountingEmitter extends SseEmitter {
+        private final CountDownLatch sends;
+
+        private CountingEmitter(int expectedSends) {
+            super(60_000L);
+            this.sends = new CountDownLatch(expectedSends);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sends.countDown();
+        }
+    }
+
+    /** Collects sender tasks without running them, like sender threads stuck on stalled connections. */
+    private static final class StalledExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **publish - Fan-Out Test**
+     * Verify that an event is queued for every subscriber of its matrix only, and drained by the sender.
+     */
+    @Test
+    void testPublish_QueuesPerMatrix() {
+        StalledExecutor sender = new StalledExecutor();
+        try (MatrixEventBroker broker = new MatrixEventBroker(MAPPER, 10, 60_000, 60_000, sender)) {
+            broker.subscribe(1L);
+            broker.subscribe(1L);
+            broker.subscribe(2L);
+            sender.runAll();
+
+            broker.publish(1L, MatrixEventBroker.SCORES_EVENT, List.of(new CarverScoreDeltaDTO(10L, "criticality", "a@example.com", 7)));
+
+            assertEquals(2, broker.subscriberCount(1L));
+            assertEquals(2, broker.queuedEvents(1L));
+            assertEquals(0, broker.queuedEvents(2L));
+
+            sender.runAll();
+            assertEquals(0, broker.queuedEvents(1L));
+            assertEquals(2, broker.subscriberCount(1L));
+        }
+    }
+
+    /**
+     * **publish - No Subscribers Test**
+     * Verify that publishing to a matrix nobody follows is a no-op.
+     */
+    @Test
+    void testPublish_NoSubscribers() {
+        StalledExecutor sender = new StalledExecutor();
+        try (MatrixEventBroker broker = new MatrixEventBroker(MAPPER, 10, 60_000, 60_000, sender)) {
+            broker.publish(1L, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", 1L));
+
+            assertEquals(0, broker.subscriberCount(1L));
+            assertEquals(0, sender.tasks.size());
+        }
+    }
+
+    // =========================================================================
+    // ✅ 2. Slow Consumer Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **publish - Slow Consumer Eviction Test**
+     * Verify that a subscriber whose queue is full is evicted and its queued events released,
+     * while other matrices are unaffected.
+     */
+    @Test
+    void testPublish_EvictsSlowConsumer() {
+        StalledExecutor sender = new StalledExecutor();
+        try (MatrixEventBroker broker = new MatrixEventBroker(MAPPER, 3, 60_000, 60_000, sender)) {
+            broker.subscribe(1L);
+            broker.subscribe(2L);
+
+            // The "subscribed" comment plus two events fill the queue of three.
+            broker.publish(1L, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", 1L));
+            broker.publish(1L, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", 1L));
+            assertEquals(1, broker.subscriberCount(1L));
+            assertEquals(0, broker.getEvictions());
+
+            broker.publish(1L, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", 1L));
+
+            assertEquals(0, broker.subscriberCount(1L));
+            assertEquals(0, broker.queuedEvents(1L));
+            assertEquals(1, broker.getEvictions());
+            assertEquals(1, broker.subscriberCount(2L));
+        }
+    }
+
+    /**
+     * **evictStalledSenders - Blocked Send Test**
+     * Verify that a subscriber whose send blocks past the write timeout is evicted, that the other subscribers are
+     * served meanwhile although the blocked send holds the only sender thread, and that the lent thread is returned
+     * and the stream completed once the send gives up.
+     */
+    @Test
+    void testEvictStalledSenders_BlockedSend() throws InterruptedException {
+        ThreadPoolExecutor sender = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        BlockingEmitter stalled = new BlockingEmitter();
+        CountingEmitter healthy = new CountingEmitter(2);
+        Queue<SseEmitter> emitters = new ArrayDeque<>(List.of(stalled, healthy));
+        try (MatrixEventBroker broker = new MatrixEventBroker(MAPPER, 10, 60_000, 50, sender) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return emitters.remove();
+            }
+        }) {
+            broker.subscribe(1L);
+            broker.subscribe(2L);
+            broker.publish(2L, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", 2L));
+            Thread.sleep(100);
+            assertEquals(2, healthy.sends.getCount(), "The only sender thread should be blocked on the stalled stream");
+
+            broker.evictStalledSenders();
+            assertEquals(0, broker.subscriberCount(1L));
+            assertEquals(1, broker.getEvictions());
+            assertTrue(healthy.sends.await(5, TimeUnit.SECONDS), "A lent thread should serve the healthy stream");
+            assertEquals(1, broker.subscriberCount(2L));
+            assertEquals(2, sender.getMaximumPoolSize());
+
+            stalled.release.countDown();
+            assertTrue(stalled.completed.await(5, TimeUnit.SECONDS), "The evicted stream should be completed");
+            assertEquals(1, sender.getMaximumPoolSize());
+        }
+    }
+
+    // =========================================================================
+    // ✅ 3. Transactional Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **publish - After Commit Test**
+     * Verify that events published inside a transaction are queued only once it commits.
+     */
+    @Test
+    void testPublish_AfterCommit() {
+        StalledExecutor sender = new StalledExecutor();
+        try (MatrixEventBroker broker = new MatrixEventBroker(MAPPER, 10, 60_000, 60_000, sender)) {
+            broker.subscribe(1L);
+            sender.runAll();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                broker.publish(1L, MatrixEventBroker.MATRIX_EVENT, Map.of("matrixId", 1L));
+                assertEquals(0, broker.queuedEvents(1L));
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            assertEquals(1, broker.queuedEvents(1L));
+        }
+    }
+
+    // =========================================================================
+    // ✅ 4. Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **MatrixEventBroker - Invalid Bounds Test**
+     * Verify that non-positive bounds are rejected.
+     */
+    @Test
+    void testConstructor_InvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new MatrixEventBroker(MAPPER, 0, 60_000, 60_000, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixEventBroker(MAPPER, 10, 0, 60_000, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixEventBroker(MAPPER, 10, 60_000, 0, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixEventBroker(MAPPER, 10, 60_000, 15_000, 5_000, 0));
+    }
+}
@@ -0,0 +1,102 @@
+package com.fmc.starterApp.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fmc.starterApp.models.dto.MatrixViewDTO;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.repositories.CarverMatrixRepository;
+
+/**
+ * Integration tests for {@link MatrixVersionService}, verifying that the service:
+ * <ul>
+ *   <li>Increments the matrix version, closes it with the transaction and invalidates the cached view.</li>
+ *   <li>Records exclusive changes the same way.</li>
+ *   <li>Rejects unknown matrices without leaving a version open.</li>
+ * </ul>
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class MatrixVersionServiceTest {
+
+    @Autowired
+    private MatrixVersionService matrixVersionService;
+
+    @Autowired
+    private MatrixVersionTracker matrixVersionTracker;
+
+    @Autowired
+    private MatrixViewCache matrixViewCache;
+
+    @Autowired
+    private CarverMatrixRepository carverMatrixRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long matrixId;
+
+    @BeforeEach
+    void setUp() {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName("Versioned Matrix");
+        matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        carverMatrixRepository.deleteById(matrixId);
+    }
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Integration Test)
+    // =========================================================================
+
+    /**
+     * **markChanged - Version and Cache Test**
+     * Verify that each change returns the next version, leaves no version open after commit and drops the cached view.
+     */
+    @Test
+    void testMarkChanged_IncrementsVersionAndInvalidatesView() {
+        long before = carverMatrixRepository.findVersionByMatrixId(matrixId).orElseThrow();
+        matrixViewCache.get(matrixId, id -> new MatrixViewDTO(before, new byte[] {1}));
+
+        long changed = transactionTemplate.execute(status -> matrixVersionService.markChanged(matrixId));
+        long exclusive = transactionTemplate.execute(status -> matrixVersionService.markChangedExclusively(matrixId));
+
+        assertEquals(before + 1, changed);
+        assertEquals(before + 2, exclusive);
+        assertEquals(exclusive, carverMatrixRepository.findVersionByMatrixId(matrixId).orElseThrow());
+        assertFalse(matrixVersionTracker.hasOpen(matrixId));
+        AtomicInteger loads = new AtomicInteger();
+        matrixViewCache.get(matrixId, id -> { loads.incrementAndGet(); return new MatrixViewDTO(exclusive, new byte[] {2}); });
+        assertEquals(1, loads.get());
+    }
+
+    // =========================================================================
+    // ✅ 2. Edge Case and Exception Handling Tests (Integration Test)
+    // =========================================================================
+
+    /**
+     * **markChanged - Unknown Matrix Test**
+     * Verify that changes to a matrix that does not exist are rejected and leave nothing open.
+     */
+    @Test
+    void testMarkChanged_UnknownMatrix() {
+        assertThrows(IllegalArgumentException.class,
+                () -> transactionTemplate.execute(status -> matrixVersionService.markChanged(-1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> transactionTemplate.execute(status -> matrixVersionService.markChangedExclusively(-1L)));
+        assertFalse(matrixVersionTracker.hasOpen(-1L));
+    }
+}
@@ -0,0 +1,95 @@
+package com.fmc.starterApp.services;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MatrixVersionTracker}, verifying that the tracker:
+ * <ul>
+ *   <li>Reports the version below the oldest unfinished write of a matrix.</li>
+ *   <li>Reports a version below a write whose increment is still running.</li>
+ * </ul>
+ */
+public class MatrixVersionTrackerTest {
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **visibleVersion - Out of Order Commit Test**
+     * Verify that a write finishing before an older one does not make the matrix version move past the older one.
+     */
+    @Test
+    void testVisibleVersion_StaysBelowOldestOpenVersion() {
+        MatrixVersionTracker tracker = new MatrixVersionTracker();
+        long first = tracker.open(1L, 4, () -> 5);
+        long second = tracker.open(1L, 5, () -> 6);
+
+        assertEquals(4, tracker.visibleVersion(1L, 6));
+        tracker.close(1L, second);
+        assertEquals(4, tracker.visibleVersion(1L, 6));
+        assertTrue(tracker.hasOpen(1L));
+        tracker.close(1L, first);
+        assertEquals(6, tracker.visibleVersion(1L, 6));
+        assertFalse(tracker.hasOpen(1L));
+        assertEquals(9, tracker.visibleVersion(2L, 9));
+    }
+
+    // =========================================================================
+    // ✅ 2. Edge Case and Exception Handling Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **visibleVersion - Running Increment Test**
+     * Verify that while a version is being taken, readers report its floor even if they already read the new version.
+     */
+    @Test
+    void testVisibleVersion_ReservedFloorDuringIncrement() throws Exception {
+        MatrixVersionTracker tracker = new MatrixVersionTracker();
+        CountDownLatch incrementing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> opened = executor.submit(() -> tracker.open(1L, 3, () -> {
+                incrementing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 4;
+            }));
+            assertTrue(incrementing.await(5, TimeUnit.SECONDS));
+            assertEquals(3, tracker.visibleVersion(1L, 4));
+            release.countDown();
+            assertEquals(4L, opened.get(5, TimeUnit.SECONDS));
+            assertEquals(3, tracker.visibleVersion(1L, 4));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * **open - Failed Increment Test**
+     * Verify that a failed increment leaves nothing reserved.
+     */
+    @Test
+    void testOpen_FailedIncrementReleasesReservation() {
+        MatrixVersionTracker tracker = new MatrixVersionTracker();
+        assertThrows(IllegalArgumentException.class, () -> tracker.open(1L, 3, () -> {
+            throw new IllegalArgumentException("CarverMatrix not found");
+        }));
+        assertFalse(tracker.hasOpen(1L));
+        assertEquals(3, tracker.visibleVersion(1L, 3));
+    }
+}
@@ -0,0 +1,130 @@
+package com.fmc.starterApp.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.fmc.starterApp.models.dto.MatrixViewCacheStatsDTO;
+import com.fmc.starterApp.models.dto.MatrixViewDTO;
+
+/**
+ * Unit tests for {@link MatrixViewCache}, verifying that the cache:
+ * <ul>
+ *   <li>Loads views on a miss and serves them on subsequent hits.</li>
+ *   <li>Stays within its entry and weight bounds by evicting least recently used views.</li>
+ *   <li>Drops views on invalidation and never caches a load that overlapped an invalidation.</li>
+ * </ul>
+ */
+public class MatrixViewCacheTest {
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **get - Read-Through Test**
+     * Verify that the loader runs once per matrix and that later reads are counted as hits.
+     */
+    @Test
+    void testGet_ReadThrough() {
+        MatrixViewCache cache = new MatrixViewCache(10, 1024);
+        AtomicInteger loads = new AtomicInteger();
+
+        MatrixViewDTO first = cache.get(1L, id -> { loads.incrementAndGet(); return view(1); });
+        MatrixViewDTO second = cache.get(1L, id -> { loads.incrementAndGet(); return view(2); });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        MatrixViewCacheStatsDTO stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getEntries());
+        assertEquals(1, stats.getWeightBytes());
+    }
+
+    // =========================================================================
+    // ✅ 2. Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **MatrixViewCache - Invalid Bounds Test**
+     * Verify that non-positive bounds are rejected.
+     */
+    @Test
+    void testConstructor_InvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new MatrixViewCache(0, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixViewCache(10, 0));
+    }
+
+    // =========================================================================
+    // ✅ 3. Edge Case and Exception Handling Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **get - Entry Bound Eviction Test**
+     * Verify that the least recently used view is evicted once the entry bound is exceeded.
+     */
+    @Test
+    void testGet_EvictsLeastRecentlyUsedByEntries() {
+        MatrixViewCache cache = new MatrixViewCache(2, 1024);
+        cache.get(1L, id -> view(1));
+        cache.get(2L, id -> view(2));
+        cache.get(1L, id -> view(1));
+        cache.get(3L, id -> view(3));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> { loads.incrementAndGet(); return view(1); });
+        cache.get(2L, id -> { loads.incrementAndGet(); return view(2); });
+
+        assertEquals(1, loads.get(), "Only the least recently used matrix should have been evicted");
+        assertThat(cache.getStats().getEvictions()).isGreaterThanOrEqualTo(1);
+        assertThat(cache.getStats().getEntries()).isLessThanOrEqualTo(2);
+    }
+
+    /**
+     * **get - Weight Bound Eviction Test**
+     * Verify that views are evicted to stay within the weight bound and that oversized views are not cached.
+     */
+    @Test
+    void testGet_EvictsByWeight() {
+        MatrixViewCache cache = new MatrixViewCache(10, 10);
+        cache.get(1L, id -> sized(6));
+        cache.get(2L, id -> sized(6));
+        assertEquals(1, cache.getStats().getEntries());
+        assertEquals(6, cache.getStats().getWeightBytes());
+        assertEquals(1, cache.getStats().getEvictions());
+
+        cache.get(3L, id -> sized(11));
+        assertEquals(1, cache.getStats().getEntries(), "Views larger than the weight bound should not be cached");
+    }
+
+    /**
+     * **invalidate - Drop and Stale Load Test**
+     * Verify that invalidation drops the view and that a load overlapping an invalidation is not cached.
+     */
+    @Test
+    void testInvalidate_DropsViewAndDiscardsOverlappingLoad() {
+        MatrixViewCache cache = new MatrixViewCache(10, 1024);
+        cache.get(1L, id -> view(1));
+        cache.invalidate(1L);
+        assertEquals(0, cache.getStats().getEntries());
+        assertEquals(0, cache.getStats().getWeightBytes());
+
+        // Simulate a write committing while a load is in flight.
+        MatrixViewDTO stale = cache.get(1L, id -> { cache.invalidate(1L); return view(9); });
+        assertEquals(9L, stale.getVersion(), "The overlapping load is still returned to its caller");
+        assertEquals(0, cache.getStats().getEntries(), "The overlapping load must not be cached");
+    }
+
+    private static MatrixViewDTO view(long version) {
+        return new MatrixViewDTO(version, new byte[]{1});
+    }
+
+    private static MatrixViewDTO sized(int bytes) {
+        return new MatrixViewDTO(0L, new byte[bytes]);
+    }
+}
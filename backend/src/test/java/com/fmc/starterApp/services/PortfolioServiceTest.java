@@ -0,0 +1,135 @@
+package com.fmc.starterApp.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fmc.starterApp.models.dto.CarverItemRankDTO;
+import com.fmc.starterApp.models.dto.PortfolioDTO;
+import com.fmc.starterApp.models.dto.PortfolioMatrixDTO;
+import com.fmc.starterApp.models.entity.CarverItem;
+import com.fmc.starterApp.models.entity.CarverMatrix;
+import com.fmc.starterApp.repositories.CarverItemRepository;
+import com.fmc.starterApp.repositories.CarverMatrixRepository;
+
+/**
+ * Integration tests for {@link PortfolioService}, verifying that the service:
+ * <ul>
+ *   <li>Scores every matrix the user hosts or participates in, and only those.</li>
+ *   <li>Reports the top items and completion of matrices larger than one chunk.</li>
+ *   <li>Times every matrix and names the slowest.</li>
+ * </ul>
+ *
+ * <p>The service under test reads chunks of two items so that every matrix spans several chunks. The tests run
+ * without a test transaction because each matrix is read in its own transaction on a pool thread.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class PortfolioServiceTest {
+
+    private static final String ANALYST = "portfolio.analyst@example.com";
+
+    @Autowired
+    private CarverMatrixService carverMatrixService;
+
+    @Autowired
+    private CarverMatrixRepository carverMatrixRepository;
+
+    @Autowired
+    private CarverItemRepository carverItemRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private PortfolioService portfolioService;
+    private final List<Long> matrixIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        portfolioService = new PortfolioService(carverMatrixRepository, carverItemRepository, transactionTemplate, 2, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioService.close();
+        matrixIds.forEach(carverMatrixService::deleteCarverMatrix);
+    }
+
+    // =========================================================================
+    // ✅ 1. getPortfolio's Basic Functionality Tests
+    // =========================================================================
+
+    /**
+     * **getPortfolio - Scored Matrices Test**
+     * Verify that every matrix of the user is scored across chunks with its top items and completion, in matrix
+     * ID order, and that matrices of other users are left out.
+     */
+    @Test
+    void testGetPortfolio_ScoresEveryMatrix() {
+        Long hosted = createMatrix("Portfolio Hosted", new String[]{ANALYST}, new String[0], 5);
+        Long joined = createMatrix("Portfolio Joined", new String[]{"someone@example.com"}, new String[]{ANALYST}, 1);
+        createMatrix("Portfolio Other", new String[]{"someone@example.com"}, new String[0], 1);
+        List<Long> items = carverMatrixService.getMatrixScores(hosted).getItems().stream().map(item -> item.getItemId()).toList();
+        carverMatrixService.updateCarverItemScores(hosted, List.of(
+                Map.of("itemId", items.get(0), "criticality", 2),
+                Map.of("itemId", items.get(2), "criticality", 5, "effect", 1),
+                Map.of("itemId", items.get(4), "criticality", 4)), "a@example.com");
+
+        PortfolioDTO portfolio = portfolioService.getPortfolio(ANALYST);
+
+        assertThat(portfolio.getMatrices()).extracting(PortfolioMatrixDTO::getMatrixId).containsExactly(hosted, joined);
+        PortfolioMatrixDTO scored = portfolio.getMatrices().get(0);
+        assertEquals(5, scored.getItemCount());
+        assertEquals(4.0 / (5 * CarverScoringEngine.CATEGORY_COUNT), scored.getCompletion(), 1e-9);
+        assertThat(scored.getTopItems()).extracting(CarverItemRankDTO::getItemId).containsExactly(items.get(2), items.get(4));
+        assertEquals(6.0, scored.getTopItems().get(0).getTotal());
+        assertEquals(0.0, portfolio.getMatrices().get(1).getCompletion());
+        assertThat(portfolio.getSlowestMatrixIds()).containsExactlyInAnyOrder(hosted, joined);
+        assertThat(portfolio.getMatrices()).allSatisfy(matrix -> assertThat(matrix.getElapsedMillis()).isPositive());
+    }
+
+    // =========================================================================
+    // ✅ 2. getPortfolio's Input Validation Tests
+    // =========================================================================
+
+    /**
+     * **getPortfolio - Invalid Input Test**
+     * Verify that a missing email and non-positive bounds are rejected, and that a user without matrices gets
+     * an empty portfolio.
+     */
+    @Test
+    void testGetPortfolio_InvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> portfolioService.getPortfolio(""));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PortfolioService(carverMatrixRepository, carverItemRepository, transactionTemplate, 0, 2, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PortfolioService(carverMatrixRepository, carverItemRepository, transactionTemplate, 2, 0, 2));
+        assertThat(portfolioService.getPortfolio("nobody@example.com").getMatrices()).isEmpty();
+    }
+
+    private Long createMatrix(String name, String[] hosts, String[] participants, int itemCount) {
+        CarverMatrix matrix = new CarverMatrix();
+        matrix.setName(name);
+        matrix.setHosts(hosts);
+        matrix.setParticipants(participants);
+        for (int i = 0; i < itemCount; i++) {
+            CarverItem item = new CarverItem();
+            item.setItemName(name + " Item " + i);
+            matrix.addItem(item);
+        }
+        Long matrixId = carverMatrixRepository.save(matrix).getMatrixId();
+        matrixIds.add(matrixId);
+        return matrixId;
+    }
+}
@@ -0,0 +1,108 @@
+package com.fmc.starterApp.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RaterAgreementCalculator}, verifying that the calculator:
+ * <ul>
+ *   <li>Computes the mean, sample variance, minimum and maximum of every item and category in one pass.</li>
+ *   <li>Computes Kendall's W over the raters who scored every item, corrected for ties.</li>
+ *   <li>Stays accurate for large scores and many raters, and rejects malformed input.</li>
+ * </ul>
+ */
+public class RaterAgreementCalculatorTest {
+
+    private static final double DELTA = 1e-9;
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **add/finish - Spread Statistics Test**
+     * Verify the per item and category statistics, including raters who did not score every item.
+     */
+    @Test
+    void testAdd_SpreadStatistics() {
+        RaterAgreementCalculator calculator = new RaterAgreementCalculator(new long[]{1L, 2L, 3L});
+        addRanking(calculator, 0, "a", 1, 2, 3);
+        addRanking(calculator, 0, "b", 2, 3, 4);
+        calculator.add(1L, 0, "c", 5);
+        calculator.finish();
+
+        assertEquals(3, calculator.count(0, 0));
+        assertEquals(8.0 / 3, calculator.mean(0, 0), DELTA);
+        assertEquals(13.0 / 3, calculator.variance(0, 0), DELTA);
+        assertEquals(1, calculator.min(0, 0));
+        assertEquals(5, calculator.max(0, 0));
+        assertEquals(0.0, calculator.variance(0, 1), DELTA);
+        assertEquals(0, calculator.max(0, 1));
+    }
+
+    /**
+     * **kendallW - Concordance Test**
+     * Verify W for identical, opposite and tied rankings, counting only raters who scored every item.
+     */
+    @Test
+    void testKendallW_IdenticalOppositeAndTiedRankings() {
+        RaterAgreementCalculator calculator = new RaterAgreementCalculator(new long[]{1L, 2L, 3L});
+        addRanking(calculator, 0, "a", 1, 2, 3);
+        addRanking(calculator, 0, "b", 2, 3, 4);
+        calculator.add(1L, 0, "c", 5);
+        addRanking(calculator, 1, "a", 1, 2, 3);
+        addRanking(calculator, 1, "b", 3, 2, 1);
+        addRanking(calculator, 2, "a", 1, 1, 2);
+        addRanking(calculator, 2, "b", 1, 1, 2);
+        calculator.add(1L, 3, "a", 4);
+        calculator.finish();
+
+        assertEquals(2, calculator.rankedRaters(0));
+        assertEquals(1.0, calculator.kendallW(0), DELTA);
+        assertEquals(0.0, calculator.kendallW(1), DELTA);
+        assertEquals(1.0, calculator.kendallW(2), DELTA);
+        assertNull(calculator.kendallW(3));
+    }
+
+    // =========================================================================
+    // ✅ 2. Edge Case and Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **variance - Numerical Stability Test**
+     * Verify that the variance of many large, nearly equal scores is exact, where a sum of squares would cancel.
+     */
+    @Test
+    void testVariance_StableForLargeScores() {
+        RaterAgreementCalculator calculator = new RaterAgreementCalculator(new long[]{1L});
+        int raters = 10_000;
+        for (int r = 0; r < raters; r++) {
+            calculator.add(1L, 0, "rater" + r, 1_000_000_000 + r % 2);
+        }
+        calculator.finish();
+
+        assertEquals(1_000_000_000.5, calculator.mean(0, 0), DELTA);
+        assertEquals(0.25 * raters / (raters - 1), calculator.variance(0, 0), 1e-6);
+    }
+
+    /**
+     * **add - Invalid Input Test**
+     * Verify that placeholders, ungrouped scores and unsorted item IDs are rejected.
+     */
+    @Test
+    void testAdd_InvalidInput() {
+        RaterAgreementCalculator calculator = new RaterAgreementCalculator(new long[]{1L});
+        assertThrows(IllegalArgumentException.class, () -> calculator.add(1L, 0, "a", 0));
+        calculator.add(1L, 0, "a", 3);
+        assertThrows(IllegalArgumentException.class, () -> calculator.add(1L, 0, "a", 4));
+        assertThrows(IllegalArgumentException.class, () -> new RaterAgreementCalculator(new long[]{2L, 1L}));
+    }
+
+    private static void addRanking(RaterAgreementCalculator calculator, int category, String rater, int... values) {
+        for (int item = 0; item < values.length; item++) {
+            calculator.add(item + 1, category, rater, values[item]);
+        }
+    }
+}
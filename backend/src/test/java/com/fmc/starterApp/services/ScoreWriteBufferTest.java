@@ -0,0 +1,348 @@
+package com.fmc.starterApp.services;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fmc.starterApp.models.dto.CarverItemScorePatchDTO;
+import com.fmc.starterApp.models.dto.ScoreWriteBufferStatsDTO;
+
+/**
+ * Unit tests for {@link ScoreWriteBuffer}, verifying that the buffer:
+ * <ul>
+ *   <li>Coalesces submissions of the same rater into one write, later values winning.</li>
+ *   <li>Flushes a pair as soon as it reaches its pending item bound.</li>
+ *   <li>Re-queues failed writes, dead-letters them after the attempt limit, and drops only the items the sink
+ *       rejects as invalid.</li>
+ *   <li>Replays acknowledged submissions from its log after a crash, and keeps only unwritten scores in the log.</li>
+ * </ul>
+ */
+public class ScoreWriteBufferTest {
+
+    /** Long enough that the background flush never runs during a test. */
+    private static final long NO_BACKGROUND_FLUSH = 60_000;
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private record Write(Long matrixId, String rater, List<CarverItemScorePatchDTO> patches) {
+    }
+
+    // =========================================================================
+    // ✅ 1. Basic Functionality Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **submit - Coalescing Test**
+     * Verify that several submissions of one rater are written as a single batch holding the latest values.
+     */
+    @Test
+    void testSubmit_CoalescesPerRater() {
+        List<Write> writes = new ArrayList<>();
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> writes.add(new Write(m, r, p)),
+                true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, tempDir.resolve("scores.log"))) {
+            assertTrue(buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3))));
+            buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 7), patch(11L, "effect", 2)));
+            buffer.submit(1L, "b@example.com", List.of(patch(10L, "criticality", 1)));
+
+            assertTrue(writes.isEmpty());
+            buffer.flush();
+        }
+
+        assertEquals(2, writes.size());
+        Write first = writes.get(0);
+        assertEquals("a@example.com", first.rater());
+        assertThat(first.patches()).containsExactly(patch(10L, "criticality", 7), patch(11L, "effect", 2));
+        assertEquals("b@example.com", writes.get(1).rater());
+    }
+
+    /**
+     * **submit - Size Threshold Test**
+     * Verify that a pair is flushed immediately once it has the maximum number of pending items.
+     */
+    @Test
+    void testSubmit_FlushesAtThreshold() {
+        List<Write> writes = new ArrayList<>();
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> writes.add(new Write(m, r, p)),
+                true, NO_BACKGROUND_FLUSH, 2, MAX_WRITE_ATTEMPTS, tempDir.resolve("scores.log"))) {
+            buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3)));
+            assertTrue(writes.isEmpty());
+
+            buffer.submit(1L, "a@example.com", List.of(patch(11L, "criticality", 4)));
+            assertEquals(1, writes.size());
+            assertTrue(buffer.isEmpty());
+
+            ScoreWriteBufferStatsDTO stats = buffer.getStats();
+            assertEquals(2, stats.getSubmissions());
+            assertEquals(1, stats.getFlushedBatches());
+            assertTrue(stats.isDurable());
+        }
+    }
+
+    /**
+     * **submit - Write-Through Test**
+     * Verify that a disabled buffer writes every submission before returning.
+     */
+    @Test
+    void testSubmit_DisabledWritesThrough() {
+        List<Write> writes = new ArrayList<>();
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> writes.add(new Write(m, r, p)),
+                false, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, null)) {
+            assertFalse(buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3))));
+            assertEquals(1, writes.size());
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    // =========================================================================
+    // ✅ 2. Failure Handling Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **flush - Requeue Test**
+     * Verify that a failed write is retried on the next flush without overriding newer scores.
+     */
+    @Test
+    void testFlush_RequeuesFailedWrite() {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        List<Write> writes = new ArrayList<>();
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> {
+            if (failing.get()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            writes.add(new Write(m, r, p));
+        }, true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, tempDir.resolve("scores.log"))) {
+            buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3), patch(11L, "effect", 5)));
+            buffer.flush();
+            assertEquals(Map.of("criticality", 3), buffer.pendingItems(1L, "a@example.com").get(10L));
+            assertEquals(1, buffer.getStats().getFailedBatches());
+            assertEquals(0, buffer.getStats().getDroppedItems());
+            assertThat(buffer.getStats().getLastFailure()).contains("database unavailable");
+
+            buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 9)));
+            failing.set(false);
+            buffer.flush();
+        }
+
+        assertEquals(1, writes.size());
+        assertThat(writes.get(0).patches()).containsExactly(patch(10L, "criticality", 9), patch(11L, "effect", 5));
+    }
+
+    /**
+     * **flush - Invalid Item Test**
+     * Verify that when the sink rejects a batch as invalid only the offending item is dropped, and that it is counted.
+     */
+    @Test
+    void testFlush_DropsInvalidItems() {
+        List<Write> writes = new ArrayList<>();
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> {
+            if (p.stream().anyMatch(patch -> patch.getItemId().equals(99L))) {
+                throw new IllegalArgumentException("CarverItem not found with ID: 99");
+            }
+            writes.add(new Write(m, r, p));
+        }, true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, tempDir.resolve("scores.log"))) {
+            buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3), patch(99L, "criticality", 4)));
+            buffer.flush();
+
+            assertTrue(buffer.isEmpty());
+            assertEquals(1, buffer.getStats().getFailedBatches());
+            assertEquals(1, buffer.getStats().getDroppedItems());
+            assertThat(buffer.getStats().getLastFailure()).contains("CarverItem not found with ID: 99");
+        }
+
+        assertEquals(1, writes.size());
+        assertThat(writes.get(0).patches()).containsExactly(patch(10L, "criticality", 3));
+    }
+
+    /**
+     * **flush - Dead Letter Test**
+     * Verify that a batch failing every attempt is moved to the dead-letter file and counted, while scores submitted
+     * after it stay pending.
+     */
+    @Test
+    void testFlush_DeadLettersAfterMaxAttempts() throws Exception {
+        Path logPath = tempDir.resolve("scores.log");
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> {
+            throw new IllegalStateException("database unavailable");
+        }, true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, logPath)) {
+            buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3)));
+            for (int attempt = 1; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+                buffer.flush();
+                assertFalse(buffer.isEmpty());
+            }
+            buffer.flush();
+
+            assertTrue(buffer.isEmpty());
+            ScoreWriteBufferStatsDTO stats = buffer.getStats();
+            assertEquals(MAX_WRITE_ATTEMPTS, stats.getFailedBatches());
+            assertEquals(1, stats.getDeadLetteredItems());
+            assertEquals(0, Files.size(logPath));
+            assertThat(Files.readString(tempDir.resolve("scores.log" + ScoreWriteBuffer.DEAD_LETTER_SUFFIX)))
+                    .contains("\"matrixId\":1").contains("\"criticality\":3");
+
+            buffer.submit(1L, "a@example.com", List.of(patch(11L, "effect", 5)));
+            buffer.flush();
+            assertEquals(Map.of("effect", 5), buffer.pendingItems(1L, "a@example.com").get(11L));
+        }
+    }
+
+    // =========================================================================
+    // ✅ 3. Durability Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **ScoreWriteBuffer - Log Replay Test**
+     * Verify that submissions acknowledged before a crash are replayed from the log, ignoring a torn last line.
+     */
+    @Test
+    void testConstructor_ReplaysLog(@TempDir Path dir) throws Exception {
+        Path logPath = dir.resolve("scores.log");
+        ScoreWriteBuffer crashed = new ScoreWriteBuffer((m, r, p) -> {
+            throw new IllegalStateException("database unavailable");
+        }, true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, logPath);
+        crashed.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3)));
+        crashed.submit(1L, "a@example.com", List.of(patch(10L, "effect", 6)));
+        assertTrue(crashed.getStats().isDurable());
+        // Simulate a crash in the middle of the next append.
+        Files.writeString(logPath, "{\"matrixId\":1,\"rater\":", java.nio.file.StandardOpenOption.APPEND);
+
+        List<Write> writes = new ArrayList<>();
+        try (ScoreWriteBuffer restarted = new ScoreWriteBuffer((m, r, p) -> writes.add(new Write(m, r, p)),
+                true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, logPath)) {
+            assertEquals(Map.of("criticality", 3, "effect", 6), restarted.pendingItems(1L, "a@example.com").get(10L));
+            restarted.flush();
+            assertEquals(0, Files.size(logPath));
+        }
+
+        assertEquals(1, writes.size());
+        assertEquals(1L, writes.get(0).matrixId());
+    }
+
+    /**
+     * **flush - Log Rotation Test**
+     * Verify that each flush drops its written scores from the log even when new submissions keep arriving, so that
+     * the log holds only what was submitted since, and that a failed pair is carried over to the new log.
+     */
+    @Test
+    void testFlush_RotatesLogUnderContinuousLoad() throws Exception {
+        Path logPath = tempDir.resolve("scores.log");
+        AtomicInteger writes = new AtomicInteger();
+        ScoreWriteBuffer[] self = new ScoreWriteBuffer[1];
+        ScoreWriteBuffer buffer = new ScoreWriteBuffer((m, r, p) -> {
+            if (m.equals(2L)) {
+                throw new IllegalStateException("database unavailable");
+            }
+            // Another rater submits while every flush is writing.
+            int write = writes.incrementAndGet();
+            self[0].submit(1L, "b@example.com", List.of(patch(20L + write, "criticality", write)));
+        }, true, NO_BACKGROUND_FLUSH, 100, MAX_WRITE_ATTEMPTS, logPath);
+        self[0] = buffer;
+
+        buffer.submit(1L, "a@example.com", List.of(patch(10L, "criticality", 3)));
+        buffer.submit(2L, "a@example.com", List.of(patch(30L, "effect", 4)));
+        // Two flushes, staying below the attempt limit of the failing pair.
+        buffer.flush();
+        buffer.flush();
+
+        assertFalse(Files.exists(tempDir.resolve("scores.log" + ScoreWriteBuffer.FLUSHING_SUFFIX)));
+        List<String> lines = Files.readAllLines(logPath);
+        // The last flush's concurrent submission and the carried-over failed pair, nothing older.
+        assertEquals(2, lines.size());
+        assertThat(lines).noneMatch(line -> line.contains("\"itemId\":10,"));
+
+        // Simulate a crash: the log alone restores every acknowledged score not yet written.
+        try (ScoreWriteBuffer restarted = new ScoreWriteBuffer((m, r, p) -> { }, true, NO_BACKGROUND_FLUSH, 100,
+                MAX_WRITE_ATTEMPTS, logPath)) {
+            assertEquals(Map.of(22L, Map.of("criticality", 2)), restarted.pendingItems(1L, "b@example.com"));
+            assertEquals(Map.of(30L, Map.of("effect", 4)), restarted.pendingItems(2L, "a@example.com"));
+            assertThat(restarted.pendingItems(1L, "a@example.com")).isEmpty();
+        }
+    }
+
+    /**
+     * **submit - Concurrent Durability Test**
+     * Verify that submissions acknowledged concurrently, sharing forces of the log, are all replayed after a crash.
+     */
+    @Test
+    void testSubmit_ConcurrentSubmissionsAreDurable() throws Exception {
+        Path logPath = tempDir.resolve("scores.log");
+        ScoreWriteBuffer crashed = new ScoreWriteBuffer((m, r, p) -> { }, true, NO_BACKGROUND_FLUSH, 1000,
+                MAX_WRITE_ATTEMPTS, logPath);
+        ExecutorService raters = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int rater = 0; rater < 8; rater++) {
+                String email = "rater" + rater + "@example.com";
+                submissions.add(raters.submit(() -> {
+                    for (long item = 0; item < 50; item++) {
+                        crashed.submit(1L, email, List.of(patch(item, "criticality", (int) item % 10)));
+                    }
+                }));
+            }
+            for (Future<?> submission : submissions) {
+                submission.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            raters.shutdownNow();
+        }
+
+        try (ScoreWriteBuffer restarted = new ScoreWriteBuffer((m, r, p) -> { }, true, NO_BACKGROUND_FLUSH, 1000,
+                MAX_WRITE_ATTEMPTS, logPath)) {
+            for (int rater = 0; rater < 8; rater++) {
+                assertEquals(50, restarted.pendingItems(1L, "rater" + rater + "@example.com").size());
+            }
+        }
+    }
+
+    // =========================================================================
+    // ✅ 4. Input Validation Tests (Unit Test)
+    // =========================================================================
+
+    /**
+     * **ScoreWriteBuffer - Missing Log Test**
+     * Verify that buffering cannot be enabled without a log, so that no acknowledged score lives only in memory.
+     */
+    @Test
+    void testConstructor_RequiresLogWhenEnabled() {
+        ScoreWriteBuffer.Sink sink = (m, r, p) -> { };
+        assertThrows(IllegalArgumentException.class, () -> new ScoreWriteBuffer(sink, true, 100, 10, 3, null));
+        try (ScoreWriteBuffer writeThrough = new ScoreWriteBuffer(sink, false, 100, 10, 3, null)) {
+            assertFalse(writeThrough.getStats().isDurable());
+        }
+    }
+
+    /**
+     * **ScoreWriteBuffer - Invalid Bounds Test**
+     * Verify that non-positive bounds are rejected.
+     */
+    @Test
+    void testConstructor_InvalidBounds() {
+        ScoreWriteBuffer.Sink sink = (m, r, p) -> { };
+        Path logPath = tempDir.resolve("scores.log");
+        assertThrows(IllegalArgumentException.class, () -> new ScoreWriteBuffer(sink, true, 0, 10, 3, logPath));
+        assertThrows(IllegalArgumentException.class, () -> new ScoreWriteBuffer(sink, true, 100, 0, 3, logPath));
+        assertThrows(IllegalArgumentException.class, () -> new ScoreWriteBuffer(sink, true, 100, 10, 0, logPath));
+    }
+
+    private static CarverItemScorePatchDTO patch(Long itemId, String category, int value) {
+        return new CarverItemScorePatchDTO(itemId, Map.of(category, value));
+    }
+}
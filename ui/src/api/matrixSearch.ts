@@ -0,0 +1,143 @@
+import axios from "axios";
+import { useCallback, useEffect, useRef, useState } from "react";
+
+// The search endpoint returns one page at a time and the cursor of the next page in this header.
+const NEXT_CURSOR_HEADER = "x-next-cursor";
+const SEARCH_PAGE_SIZE = 50;
+// Typing in the search box waits this long before asking the server again.
+const SEARCH_DEBOUNCE_MS = 300;
+
+export type MatrixRoleFilters = {
+  host: boolean;
+  participant: boolean;
+  both: boolean;
+};
+
+export type RoleBasedFilter = "all" | "enabled" | "disabled";
+
+/** Filters applied by the server, in the search endpoint's parameter names. */
+export interface MatrixSearchFilters {
+  text?: string;
+  roleBased?: boolean;
+  role?: "host" | "participant" | "both";
+}
+
+export interface MatrixSearchPage<T> {
+  matrices: T[];
+  nextCursor?: string;
+}
+
+/**
+ * Translates the explorer's filter controls into server filters, or null when they cannot match anything.
+ *
+ * The text matches the name or the description. Role filters only apply to role-based matrices; host and
+ * participant together match either role, and "both" requires the user to hold both.
+ */
+export const toSearchFilters = (
+  searchTerm: string,
+  roleFilters: MatrixRoleFilters,
+  roleBasedFilter: RoleBasedFilter
+): MatrixSearchFilters | null => {
+  const filters: MatrixSearchFilters = {};
+  const text = searchTerm.trim();
+  if (text) {
+    filters.text = text;
+  }
+  if (roleBasedFilter !== "all") {
+    filters.roleBased = roleBasedFilter === "enabled";
+  }
+  if (roleFilters.host || roleFilters.participant || roleFilters.both) {
+    if (filters.roleBased === false) {
+      return null;
+    }
+    filters.roleBased = true;
+    if (roleFilters.both) {
+      filters.role = "both";
+    } else if (roleFilters.host !== roleFilters.participant) {
+      filters.role = roleFilters.host ? "host" : "participant";
+    }
+  }
+  return filters;
+};
+
+/**
+ * Loads one page of the matrices the current user hosts or participates in, newest first.
+ */
+export const fetchMatrixPage = async <T>(
+  filters: MatrixSearchFilters,
+  cursor?: string
+): Promise<MatrixSearchPage<T>> => {
+  const response = await axios.get<T[]>("/api/carvermatrices/search", {
+    withCredentials: true,
+    params: { ...filters, limit: SEARCH_PAGE_SIZE, cursor },
+  });
+  const next = response.headers[NEXT_CURSOR_HEADER];
+  return {
+    matrices: response.data,
+    nextCursor: typeof next === "string" && next ? next : undefined,
+  };
+};
+
+/**
+ * Searches matrices with server-side filters, loading the first page whenever the filters change and further
+ * pages on demand through `loadMore`.
+ */
+export const useMatrixSearch = <T>(filters: MatrixSearchFilters | null) => {
+  const [matrices, setMatrices] = useState<T[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [isLoading, setIsLoading] = useState(true);
+  // Identifies the current search, so responses of superseded searches are ignored.
+  const searchId = useRef(0);
+  const key = JSON.stringify(filters);
+
+  useEffect(() => {
+    const id = ++searchId.current;
+    const current: MatrixSearchFilters | null = JSON.parse(key);
+    if (current === null) {
+      setMatrices([]);
+      setNextCursor(undefined);
+      setIsLoading(false);
+      return;
+    }
+    setIsLoading(true);
+    const timer = setTimeout(async () => {
+      try {
+        const page = await fetchMatrixPage<T>(current);
+        if (id === searchId.current) {
+          setMatrices(page.matrices);
+          setNextCursor(page.nextCursor);
+        }
+      } catch (error) {
+        console.error("Error fetching matrices:", error);
+      } finally {
+        if (id === searchId.current) {
+          setIsLoading(false);
+        }
+      }
+    }, SEARCH_DEBOUNCE_MS);
+    return () => clearTimeout(timer);
+  }, [key]);
+
+  const loadMore = useCallback(async () => {
+    if (!nextCursor || isLoading) {
+      return;
+    }
+    const id = searchId.current;
+    setIsLoading(true);
+    try {
+      const page = await fetchMatrixPage<T>(JSON.parse(key), nextCursor);
+      if (id === searchId.current) {
+        setMatrices((prev) => [...prev, ...page.matrices]);
+        setNextCursor(page.nextCursor);
+      }
+    } catch (error) {
+      console.error("Error fetching more matrices:", error);
+    } finally {
+      if (id === searchId.current) {
+        setIsLoading(false);
+      }
+    }
+  }, [key, nextCursor, isLoading]);
+
+  return { matrices, setMatrices, hasMore: nextCursor !== undefined, isLoading, loadMore };
+};
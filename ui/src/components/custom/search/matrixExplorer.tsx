@@ -11,10 +11,12 @@ import {
   IconButton,
   FormGroup,
   Checkbox,
-  Paper
+  Paper,
+  Button
 } from '@mui/material';
 import axios from 'axios';
 import MiniMatrixCard from './miniMatrixCard';
+import { toSearchFilters, useMatrixSearch } from '../../../api/matrixSearch';
 import SearchIcon from '@mui/icons-material/Search';
 import FilterListIcon from '@mui/icons-material/FilterList';
 import ExpandMoreIcon from '@mui/icons-material/ExpandMore';
@@ -28,12 +30,20 @@ interface CarverMatrix {
   participants: string[];
   roleBased: boolean;
   createdAt: string;
+  host?: boolean;
+  participant?: boolean;
 }
 
+// Search results carry the caller's role flags; fall back to the member arrays for older responses.
+const hasRole = (flag: boolean | undefined, members: string[] | undefined, userEmail: string | null): boolean => {
+  if (flag !== undefined && flag !== null) {
+    return flag;
+  }
+  return userEmail ? members?.includes(userEmail) || false : false;
+};
+
 const MatrixExplorer: React.FC = () => {
-  const [matrices, setMatrices] = useState<CarverMatrix[]>([]);
   const [searchTerm, setSearchTerm] = useState('');
-  const [isLoading, setIsLoading] = useState(true);
   const [roleBasedFilter, setRoleBasedFilter] = useState<'all' | 'enabled' | 'disabled'>('all');
   const [userEmail, setUserEmail] = useState<string | null>(null);
   const [filtersOpen, setFiltersOpen] = useState(false);
@@ -42,6 +52,10 @@ const MatrixExplorer: React.FC = () => {
     participant: false,
     both: false,
   });
+  // Filtering and ordering (newest first) happen on the server; further pages are loaded on demand.
+  const { matrices, hasMore, isLoading, loadMore } = useMatrixSearch<CarverMatrix>(
+    toSearchFilters(searchTerm, roleFilters, roleBasedFilter)
+  );
 
   useEffect(() => {
     const fetchUserEmail = async () => {
@@ -56,25 +70,7 @@ const MatrixExplorer: React.FC = () => {
       }
     };
 
-    const fetchMatrices = async () => {
-      try {
-        setIsLoading(true);
-        const response = await axios.get('/api/carvermatrices/search', { withCredentials: true });
-        let matrixData;
-        if (response.data.includes('[')) {
-          const parts = response.data.split(']{');
-          matrixData = JSON.parse(parts[0] + ']');
-          setMatrices(matrixData);
-        }
-      } catch (error) {
-        console.error('Error fetching matrices:', error);
-      } finally {
-        setIsLoading(false);
-      }
-    };
-
     fetchUserEmail();
-    fetchMatrices();
   }, []);
 
   const handleRoleFilterChange = (role: keyof typeof roleFilters) => {
@@ -84,84 +80,15 @@ const MatrixExplorer: React.FC = () => {
     }));
   };
 
-  const filteredMatrices = matrices.filter((matrix) => {
-    // Text search filter
-    const term = searchTerm.toLowerCase();
-    const matchesSearch =
-      matrix.name.toLowerCase().includes(term) ||
-      matrix.description.toLowerCase().includes(term);
-
-    // Role-based matrix filter
-    if (roleBasedFilter !== "all") {
-      if (roleBasedFilter === "enabled" && !matrix.roleBased) {
-        return false;
-      }
-      if (roleBasedFilter === "disabled" && matrix.roleBased) {
-        return false;
-      }
-    }
-
-    // If no role filters are selected, only apply text search and role-based filter
-    if (!roleFilters.host && !roleFilters.participant && !roleFilters.both) {
-      return matchesSearch;
-    }
-
-    // If role filters are selected but matrix is not role-based, hide it
-    if (!matrix.roleBased) {
-      return false;
-    }
-
-    // Role-based filtering
-    if (!userEmail) {
-      console.log("No user email available");
-      return false;
-    }
-
-    const isHost = matrix.hosts?.includes(userEmail) || false;
-    const isParticipant = matrix.participants?.includes(userEmail) || false;
-    const isBoth = isHost && isParticipant;
-
-    // Modified role filtering to prevent duplicates
-    let matchesRole = false;
-    if (roleFilters.both) {
-      matchesRole = isBoth;
-    } else {
-      if (roleFilters.host) {
-        matchesRole = isHost; // Show all matrices where user is a host, including those where they are both
-      }
-      if (roleFilters.participant) {
-        matchesRole = matchesRole || isParticipant; // Show all matrices where user is a participant, including those where they are both
-      }
-      if (!roleFilters.host && !roleFilters.participant) {
-        matchesRole = true; // No role filters selected
-      }
-    }
-
-    return matchesSearch && matchesRole;
-  });
-
-  // Sort matrices by timestamp (newest first)
-  const sortedMatrices = [...filteredMatrices].sort((a, b) => {
-    return new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime();
-  });
-
   // Helper functions to check if user is host or participant
-  const isHost = (matrix: CarverMatrix): boolean => {
-    return userEmail ? matrix.hosts?.includes(userEmail) || false : false;
-  };
+  const isHost = (matrix: CarverMatrix): boolean => hasRole(matrix.host, matrix.hosts, userEmail);
 
-  const isParticipant = (matrix: CarverMatrix): boolean => {
-    return userEmail ? matrix.participants?.includes(userEmail) || false : false;
-  };
+  const isParticipant = (matrix: CarverMatrix): boolean => hasRole(matrix.participant, matrix.participants, userEmail);
 
   const handleMatrixSelect = (matrixId: number) => {
     window.location.href = `/EditMatrix?matrixId=${matrixId}`;
   };
 
-  if (isLoading) {
-    return null;
-  }
-
   return (
     <Box
       sx={{
@@ -413,8 +340,8 @@ const MatrixExplorer: React.FC = () => {
           },
         }}
       >
-        {sortedMatrices.length > 0 ? (
-          sortedMatrices.map((matrix) => (
+        {matrices.length > 0 ? (
+          matrices.map((matrix) => (
             <MiniMatrixCard
               key={matrix.matrixId}
               title={matrix.name}
@@ -423,11 +350,16 @@ const MatrixExplorer: React.FC = () => {
               isParticipant={isParticipant(matrix)}
             />
           ))
-        ) : (
+        ) : !isLoading && (
           <Typography variant="body2" color="text.secondary" align="center">
             No matrices found
           </Typography>
         )}
+        {hasMore && (
+          <Button size="small" onClick={loadMore} disabled={isLoading} sx={{ color: 'rgba(255, 255, 255, 0.7)' }}>
+            Load more
+          </Button>
+        )}
       </Box>
     </Box>
   );
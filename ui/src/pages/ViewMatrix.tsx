@@ -18,6 +18,7 @@ import {
 import { useNavigate } from "react-router-dom";
 import axios from "axios";
 import { ROUTES } from "../helpers/helpers";
+import { toSearchFilters, useMatrixSearch } from "../api/matrixSearch";
 import SearchIcon from "@mui/icons-material/Search";
 import AddIcon from "@mui/icons-material/Add";
 import FilterListIcon from "@mui/icons-material/FilterList";
@@ -58,7 +59,6 @@ interface CarverMatrix {
 }
 
 const ViewMatrix: React.FC = () => {
-  const [matrices, setMatrices] = useState<CarverMatrix[]>([]);
   const [searchTerm, setSearchTerm] = useState("");
   const navigate = useNavigate();
   const [roleFilters, setRoleFilters] = useState({
@@ -74,6 +74,12 @@ const ViewMatrix: React.FC = () => {
   const [matrixToDelete, setMatrixToDelete] = useState<CarverMatrix | null>(
     null
   );
+  // Matrices are filtered by name, description, or role and ordered newest first on the server;
+  // further pages are loaded on demand.
+  const { matrices, setMatrices, hasMore, isLoading, loadMore } =
+    useMatrixSearch<CarverMatrix>(
+      toSearchFilters(searchTerm, roleFilters, roleBasedFilter)
+    );
 
   useEffect(() => {
     const fetchUserEmail = async () => {
@@ -90,23 +96,7 @@ const ViewMatrix: React.FC = () => {
       }
     };
 
-    const fetchMatrices = async () => {
-      const url = "/api/carvermatrices/search";
-      try {
-        const response = await axios.get(url, { withCredentials: true });
-        let matrixData;
-        if (response.data.includes("[")) {
-          const parts = response.data.split("]{");
-          matrixData = JSON.parse(parts[0] + "]");
-          setMatrices(matrixData);
-        }
-      } catch (error) {
-        console.error("Error fetching matrices:", error);
-      }
-    };
-
     fetchUserEmail();
-    fetchMatrices();
   }, []);
 
   const handleRoleFilterChange = (role: keyof typeof roleFilters) => {
@@ -116,76 +106,6 @@ const ViewMatrix: React.FC = () => {
     }));
   };
 
-  // Matrices can be filtered by name, description, or role
-  const filteredMatrices = matrices.filter((matrix) => {
-    // Text search filter
-    const term = searchTerm.toLowerCase();
-    const matchesSearch =
-      matrix.name.toLowerCase().includes(term) ||
-      matrix.description.toLowerCase().includes(term);
-
-    // Role-based matrix filter
-    if (roleBasedFilter !== "all") {
-      if (roleBasedFilter === "enabled" && !matrix.roleBased) {
-        return false;
-      }
-      if (roleBasedFilter === "disabled" && matrix.roleBased) {
-        return false;
-      }
-    }
-
-    // If no role filters are selected, only apply text search and role-based filter
-    if (!roleFilters.host && !roleFilters.participant && !roleFilters.both) {
-      return matchesSearch;
-    }
-
-    // If role filters are selected but matrix is not role-based, hide it
-    if (!matrix.roleBased) {
-      return false;
-    }
-
-    // Role-based filtering
-    if (!userEmail) {
-      console.log("No user email available");
-      return false;
-    }
-
-    const isHost = matrix.hosts?.includes(userEmail) || false;
-    const isParticipant = matrix.participants?.includes(userEmail) || false;
-    const isBoth = isHost && isParticipant;
-
-    // Modified role filtering to prevent duplicates
-    let matchesRole = false;
-    if (roleFilters.both) {
-      matchesRole = isBoth;
-    } else {
-      if (roleFilters.host) {
-        matchesRole = isHost; // Show all matrices where user is a host, including those where they are both
-      }
-      if (roleFilters.participant) {
-        matchesRole = matchesRole || isParticipant; // Show all matrices where user is a participant, including those where they are both
-      }
-      if (!roleFilters.host && !roleFilters.participant) {
-        matchesRole = true; // No role filters selected
-      }
-    }
-
-    console.log("Matrix:", matrix.name);
-    console.log("Current user email:", userEmail);
-    console.log("Hosts:", matrix.hosts);
-    console.log("Is host:", isHost);
-    console.log("Is participant:", isParticipant);
-    console.log("Is both:", isBoth);
-    console.log("Matches role:", matchesRole);
-
-    return matchesSearch && matchesRole;
-  });
-
-  // Sort matrices by timestamp (newest first)
-  const sortedMatrices = [...filteredMatrices].sort((a, b) => {
-    return new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime();
-  });
-
   const transformItemsForPdf = (items: CarverMatrix["items"]) => {
     return items.map((item) => {
       const getAverageScore = (scores: number | Record<string, number | undefined | null>) => {
@@ -527,8 +447,8 @@ const ViewMatrix: React.FC = () => {
               width: "100%",
             }}
           >
-            {sortedMatrices.length > 0 ? (
-              sortedMatrices.map((matrix) => (
+            {matrices.length > 0 ? (
+              matrices.map((matrix) => (
                 <Paper
                   key={matrix.matrixId}
                   sx={{
@@ -762,17 +682,28 @@ const ViewMatrix: React.FC = () => {
                 </Paper>
               ))
             ) : (
-              <Typography
-                sx={{
-                  color: "rgba(255, 255, 255, 0.7)",
-                  textAlign: "center",
-                  gridColumn: "1 / -1",
-                }}
-              >
-                No matrices found.
-              </Typography>
+              !isLoading && (
+                <Typography
+                  sx={{
+                    color: "rgba(255, 255, 255, 0.7)",
+                    textAlign: "center",
+                    gridColumn: "1 / -1",
+                  }}
+                >
+                  No matrices found.
+                </Typography>
+              )
             )}
           </Box>
+          {hasMore && (
+            <Button
+              onClick={loadMore}
+              disabled={isLoading}
+              sx={{ mt: 2, alignSelf: "center", color: "rgba(255, 255, 255, 0.7)" }}
+            >
+              Load more
+            </Button>
+          )}
         </Box>
       </Box>
       <Dialog open={deleteDialogOpen} onClose={handleCloseDeleteDialog}>